@@ -108,6 +108,15 @@ public interface Memory {
         return this.getIteration() == 0;
     }
 
+    /**
+     * Requests that every vertex be executed in the next iteration of a {@link VertexProgram} that is
+     * {@link VertexProgram.Features#isFrontierDriven()} rather than only those that received messages or were kept
+     * active. This is typically called in terminate() when the master has state that any vertex may need to act on.
+     * A {@link GraphComputer} that does not track a frontier executes every vertex anyway and may ignore the request.
+     */
+    public default void activateAllVertices() {
+    }
+
     /**
      * The Admin interface is used by the {@link GraphComputer} to update the Memory.
      * The developer should never need to type-cast the provided Memory to Memory.Admin.
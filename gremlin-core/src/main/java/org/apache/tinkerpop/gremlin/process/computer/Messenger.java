@@ -46,4 +46,13 @@ public interface Messenger<M> {
      */
     public void sendMessage(final MessageScope messageScope, final M message);
 
+    /**
+     * The currently executing vertex asks to be executed in the next iteration even if it receives no messages. This
+     * is only meaningful to a {@link VertexProgram} that is {@link VertexProgram.Features#isFrontierDriven()} as all
+     * other programs execute every vertex in every iteration. A {@link GraphComputer} that does not track a frontier
+     * may ignore the request.
+     */
+    public default void keepActive() {
+    }
+
 }
@@ -289,5 +289,25 @@ public interface VertexProgram<M> extends Cloneable {
         public default boolean requiresEdgePropertyRemoval() {
             return false;
         }
+
+        /**
+         * Whether the program only needs to execute, after the initial iteration, the vertices that received
+         * messages or asked to be {@link Messenger#keepActive() kept active} in the previous iteration. A
+         * {@link GraphComputer} may use this to skip dormant vertices and the program may still request a full
+         * iteration with {@link Memory#activateAllVertices()}.
+         */
+        public default boolean isFrontierDriven() {
+            return false;
+        }
+
+        /**
+         * Whether the program yields correct results when a {@link GraphComputer} executes it without a message
+         * barrier, where a vertex may receive the messages that were sent earlier in the same iteration and the
+         * latest message of each sender over a {@link MessageScope.Local} rather than that of the previous iteration.
+         * A {@link GraphComputer} must only execute a program asynchronously if it declares this.
+         */
+        public default boolean supportsAsynchronousExecution() {
+            return false;
+        }
     }
 }
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.clustering.connected;
+
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+
+import java.util.Optional;
+
+/**
+ * Keeps the smallest of the component labels sent to a vertex, as only that one can change its component.
+ */
+public class ConnectedComponentMessageCombiner implements MessageCombiner<String> {
+
+    private static final Optional<ConnectedComponentMessageCombiner> INSTANCE = Optional.of(new ConnectedComponentMessageCombiner());
+
+    private ConnectedComponentMessageCombiner() {
+
+    }
+
+    @Override
+    public String combine(final String messageA, final String messageB) {
+        return messageA.compareTo(messageB) <= 0 ? messageA : messageB;
+    }
+
+    public static Optional<ConnectedComponentMessageCombiner> instance() {
+        return INSTANCE;
+    }
+}
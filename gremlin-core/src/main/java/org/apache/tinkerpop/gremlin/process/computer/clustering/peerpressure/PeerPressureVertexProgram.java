@@ -276,6 +276,11 @@ public class PeerPressureVertexProgram extends StaticVertexProgram<Pair<Serializ
             public boolean requiresVertexPropertyAddition() {
                 return true;
             }
+
+            @Override
+            public boolean supportsAsynchronousExecution() {
+                return true;
+            }
         };
     }
 }
@@ -21,12 +21,14 @@ package org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank;
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
 import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
 import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
 import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.util.AbstractVertexProgramBuilder;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
@@ -41,11 +43,19 @@ import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 
 /**
+ * Computes the PageRank of every vertex. By default the ranks start uniform and the program runs a fixed number of
+ * {@link Builder#iterations(int)}. When an {@link Builder#epsilon(double)} is configured, the program instead
+ * propagates only the change in rank of each vertex after the first full iteration and halts once the L1 residual of
+ * an iteration drops below epsilon. Combined with {@link Builder#incremental()}, which seeds the ranks from a
+ * previously persisted rank property, a graph that changed only slightly converges in a handful of iterations over
+ * the few vertices whose rank actually moves.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class PageRankVertexProgram implements VertexProgram<Double> {
@@ -59,6 +69,11 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
     private static final String TOTAL_ITERATIONS = "gremlin.pageRankVertexProgram.totalIterations";
     private static final String EDGE_TRAVERSAL = "gremlin.pageRankVertexProgram.edgeTraversal";
     private static final String INITIAL_RANK_TRAVERSAL = "gremlin.pageRankVertexProgram.initialRankTraversal";
+    private static final String EPSILON = "gremlin.pageRankVertexProgram.epsilon";
+    private static final String TOLERANCE = "gremlin.pageRankVertexProgram.tolerance";
+    private static final String INCREMENTAL = "gremlin.pageRankVertexProgram.incremental";
+    private static final String DELTA = "gremlin.pageRankVertexProgram.delta";
+    private static final String RESIDUAL = "gremlin.pageRankVertexProgram.residual";
 
     private MessageScope.Local<Double> incidentMessageScope = MessageScope.Local.of(__::outE);
     private MessageScope.Local<Double> countMessageScope = MessageScope.Local.of(new MessageScope.Local.ReverseTraversalSupplier(this.incidentMessageScope));
@@ -68,7 +83,11 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
     private double alpha = 0.85d;
     private int totalIterations = 30;
     private String property = PAGE_RANK;
+    private double epsilon = 0.0d;
+    private double tolerance = 0.0d;
+    private boolean incremental = false;
     private Set<VertexComputeKey> vertexComputeKeys;
+    private Set<MemoryComputeKey> memoryComputeKeys;
 
     private PageRankVertexProgram() {
 
@@ -85,9 +104,18 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         }
         this.vertexCountAsDouble = configuration.getDouble(VERTEX_COUNT, 1.0d);
         this.alpha = configuration.getDouble(ALPHA, 0.85d);
-        this.totalIterations = configuration.getInt(TOTAL_ITERATIONS, 30);
+        this.epsilon = configuration.getDouble(EPSILON, 0.0d);
+        this.tolerance = configuration.getDouble(TOLERANCE, this.epsilon);
+        this.incremental = configuration.getBoolean(INCREMENTAL, false);
+        // a residual bounded computation runs until it converges unless it is explicitly capped
+        this.totalIterations = configuration.getInt(TOTAL_ITERATIONS, this.isDeltaBased() ? Integer.MAX_VALUE : 30);
         this.property = configuration.getString(PROPERTY, PAGE_RANK);
         this.vertexComputeKeys = new HashSet<>(Arrays.asList(VertexComputeKey.of(this.property, false), VertexComputeKey.of(EDGE_COUNT, true)));
+        if (this.isDeltaBased()) {
+            this.vertexComputeKeys.add(VertexComputeKey.of(DELTA, true));
+            this.memoryComputeKeys = Collections.singleton(MemoryComputeKey.of(RESIDUAL, Operator.sum, false, true));
+        } else
+            this.memoryComputeKeys = Collections.emptySet();
     }
 
     @Override
@@ -97,6 +125,9 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         configuration.setProperty(ALPHA, this.alpha);
         configuration.setProperty(TOTAL_ITERATIONS, this.totalIterations);
         configuration.setProperty(PROPERTY, this.property);
+        configuration.setProperty(EPSILON, this.epsilon);
+        configuration.setProperty(TOLERANCE, this.tolerance);
+        configuration.setProperty(INCREMENTAL, this.incremental);
         if (null != this.edgeTraversal)
             this.edgeTraversal.storeState(configuration, EDGE_TRAVERSAL);
         if (null != this.initialRankTraversal)
@@ -118,6 +149,11 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         return this.vertexComputeKeys;
     }
 
+    @Override
+    public Set<MemoryComputeKey> getMemoryComputeKeys() {
+        return this.memoryComputeKeys;
+    }
+
     @Override
     public Optional<MessageCombiner<Double>> getMessageCombiner() {
         return (Optional) PageRankMessageCombiner.instance();
@@ -144,7 +180,8 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
 
     @Override
     public void setup(final Memory memory) {
-
+        if (this.isDeltaBased())
+            memory.set(RESIDUAL, 0.0d);
     }
 
     @Override
@@ -152,14 +189,33 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         if (memory.isInitialIteration()) {
             messenger.sendMessage(this.countMessageScope, 1.0d);
         } else if (1 == memory.getIteration()) {
-            double initialPageRank = (null == this.initialRankTraversal ?
-                    1.0d :
-                    TraversalUtil.apply(vertex, this.initialRankTraversal.get()).doubleValue()) / this.vertexCountAsDouble;
+            final VertexProperty<Number> previousPageRank = this.incremental ? vertex.property(this.property) : VertexProperty.<Number>empty();
+            double initialPageRank = previousPageRank.isPresent() ?
+                    previousPageRank.value().doubleValue() :
+                    (null == this.initialRankTraversal ?
+                            1.0d :
+                            TraversalUtil.apply(vertex, this.initialRankTraversal.get()).doubleValue()) / this.vertexCountAsDouble;
             double edgeCount = IteratorUtils.reduce(messenger.receiveMessages(), 0.0d, (a, b) -> a + b);
             vertex.property(VertexProperty.Cardinality.single, this.property, initialPageRank);
             vertex.property(VertexProperty.Cardinality.single, EDGE_COUNT, edgeCount);
-            if (!this.terminate(memory)) // don't send messages if this is the last iteration
+            if (!this.isLastIteration(memory)) // don't send messages if this is the last iteration
                 messenger.sendMessage(this.incidentMessageScope, initialPageRank / edgeCount);
+        } else if (this.isDeltaBased()) {
+            final double oldPageRank = vertex.<Double>value(this.property);
+            final double incoming = IteratorUtils.reduce(messenger.receiveMessages(), 0.0d, (a, b) -> a + b);
+            // the first full iteration yields the difference to the seeded ranks, after which only differences flow
+            final double delta = 2 == memory.getIteration() ?
+                    (this.alpha * incoming) + ((1.0d - this.alpha) / this.vertexCountAsDouble) - oldPageRank :
+                    this.alpha * incoming;
+            vertex.property(VertexProperty.Cardinality.single, this.property, oldPageRank + delta);
+            memory.add(RESIDUAL, Math.abs(delta));
+            // differences too small to matter are held back until they accumulate past the tolerance
+            final double outgoing = vertex.<Double>property(DELTA).orElse(0.0d) + delta;
+            if (Math.abs(outgoing) > this.tolerance && !this.isLastIteration(memory)) {
+                messenger.sendMessage(this.incidentMessageScope, outgoing / vertex.<Double>value(EDGE_COUNT));
+                vertex.property(VertexProperty.Cardinality.single, DELTA, 0.0d);
+            } else
+                vertex.property(VertexProperty.Cardinality.single, DELTA, outgoing);
         } else {
             double newPageRank = IteratorUtils.reduce(messenger.receiveMessages(), 0.0d, (a, b) -> a + b);
             newPageRank = (this.alpha * newPageRank) + ((1.0d - this.alpha) / this.vertexCountAsDouble);
@@ -171,12 +227,34 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
 
     @Override
     public boolean terminate(final Memory memory) {
+        if (this.isLastIteration(memory))
+            return true;
+        else if (!this.isDeltaBased())
+            return false;
+        else if (memory.getIteration() < 2) {
+            // the seeding iteration and the first full iteration must visit every vertex, not only message receivers
+            memory.activateAllVertices();
+            return false;
+        } else {
+            final double residual = memory.<Double>get(RESIDUAL);
+            memory.set(RESIDUAL, 0.0d);
+            return residual < this.epsilon;
+        }
+    }
+
+    private boolean isLastIteration(final Memory memory) {
         return memory.getIteration() >= this.totalIterations;
     }
 
+    private boolean isDeltaBased() {
+        return this.epsilon > 0.0d;
+    }
+
     @Override
     public String toString() {
-        return StringFactory.vertexProgramString(this, "alpha=" + this.alpha + ", iterations=" + this.totalIterations);
+        return StringFactory.vertexProgramString(this, "alpha=" + this.alpha +
+                (this.isDeltaBased() ? ", epsilon=" + this.epsilon : ", iterations=" + this.totalIterations) +
+                (this.incremental ? ", incremental" : ""));
     }
 
     //////////////////////////////
@@ -216,6 +294,37 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
             return this;
         }
 
+        /**
+         * Halts once the summed absolute change in rank of an iteration is less than {@code epsilon}, propagating only
+         * rank changes rather than whole ranks. The {@link #iterations(int)}, if set, becomes an upper bound.
+         */
+        public Builder epsilon(final double epsilon) {
+            if (epsilon <= 0.0d)
+                throw new IllegalArgumentException("The epsilon must be greater than zero: " + epsilon);
+            this.configuration.setProperty(EPSILON, epsilon);
+            return this;
+        }
+
+        /**
+         * The smallest accumulated change in rank that a vertex sends to its neighbors when an {@link #epsilon(double)}
+         * is set. Smaller changes are held back by the vertex. Defaults to the epsilon.
+         */
+        public Builder tolerance(final double tolerance) {
+            if (tolerance < 0.0d)
+                throw new IllegalArgumentException("The tolerance must not be negative: " + tolerance);
+            this.configuration.setProperty(TOLERANCE, tolerance);
+            return this;
+        }
+
+        /**
+         * Seeds the rank of each vertex from its existing rank {@link #property(String)}, typically persisted by a
+         * previous run, falling back to the initial rank for vertices that do not have one.
+         */
+        public Builder incremental() {
+            this.configuration.setProperty(INCREMENTAL, true);
+            return this;
+        }
+
         /**
          * @deprecated As of release 3.2.0, replaced by {@link org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram.Builder#initialRank(Traversal.Admin)}
          */
@@ -256,6 +365,17 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
             public boolean requiresVertexPropertyAddition() {
                 return true;
             }
+
+            @Override
+            public boolean isFrontierDriven() {
+                return isDeltaBased();
+            }
+
+            @Override
+            public boolean supportsAsynchronousExecution() {
+                // a difference in rank must be received exactly once which reading the latest message does not ensure
+                return !isDeltaBased();
+            }
         };
     }
 }
\ No newline at end of file
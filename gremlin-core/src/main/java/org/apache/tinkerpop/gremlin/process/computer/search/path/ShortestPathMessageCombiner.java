@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.search.path;
+
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+
+import java.util.Optional;
+
+/**
+ * Keeps the shortest of the distances sent to a vertex.
+ */
+public class ShortestPathMessageCombiner implements MessageCombiner<Long> {
+
+    private static final Optional<ShortestPathMessageCombiner> INSTANCE = Optional.of(new ShortestPathMessageCombiner());
+
+    private ShortestPathMessageCombiner() {
+
+    }
+
+    @Override
+    public Long combine(final Long messageA, final Long messageB) {
+        return Math.min(messageA, messageB);
+    }
+
+    public static Optional<ShortestPathMessageCombiner> instance() {
+        return INSTANCE;
+    }
+}
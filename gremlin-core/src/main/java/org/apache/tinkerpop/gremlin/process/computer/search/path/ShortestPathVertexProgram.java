@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.search.path;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.computer.Messenger;
+import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.util.AbstractVertexProgramBuilder;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.util.PureTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Computes the length of the shortest path from the nearest source vertex to every vertex that can be reached over
+ * the edges of the {@link Builder#edges(Traversal.Admin)} traversal, which defaults to {@code outE()}. A vertex is a
+ * source if the {@link Builder#source(Traversal.Admin)} traversal maps it to itself, such as {@code has("name","marko")}
+ * does, and every vertex is a source if no such traversal is given. Vertices that can not be reached within the
+ * {@link Builder#maxDistance(long)} are left without a distance.
+ */
+public class ShortestPathVertexProgram implements VertexProgram<Long> {
+
+    public static final String DISTANCE = "gremlin.shortestPathVertexProgram.distance";
+    private static final String PROPERTY = "gremlin.shortestPathVertexProgram.property";
+    private static final String MAX_DISTANCE = "gremlin.shortestPathVertexProgram.maxDistance";
+    private static final String EDGE_TRAVERSAL = "gremlin.shortestPathVertexProgram.edgeTraversal";
+    private static final String SOURCE_TRAVERSAL = "gremlin.shortestPathVertexProgram.sourceTraversal";
+    private static final String VOTE_TO_HALT = "gremlin.shortestPathVertexProgram.voteToHalt";
+
+    private static final Set<MemoryComputeKey> MEMORY_COMPUTE_KEYS = Collections.singleton(MemoryComputeKey.of(VOTE_TO_HALT, Operator.and, false, true));
+
+    private MessageScope.Local<Long> scope = MessageScope.Local.of(__::outE);
+    private PureTraversal<Vertex, Edge> edgeTraversal = null;
+    private PureTraversal<Vertex, ?> sourceTraversal = null;
+    private long maxDistance = Long.MAX_VALUE;
+    private String property = DISTANCE;
+    private Set<VertexComputeKey> vertexComputeKeys;
+
+    private ShortestPathVertexProgram() {
+
+    }
+
+    @Override
+    public void loadState(final Graph graph, final Configuration configuration) {
+        if (configuration.containsKey(SOURCE_TRAVERSAL))
+            this.sourceTraversal = PureTraversal.loadState(configuration, SOURCE_TRAVERSAL, graph);
+        if (configuration.containsKey(EDGE_TRAVERSAL)) {
+            this.edgeTraversal = PureTraversal.loadState(configuration, EDGE_TRAVERSAL, graph);
+            this.scope = MessageScope.Local.of(() -> this.edgeTraversal.get().clone());
+        }
+        this.property = configuration.getString(PROPERTY, DISTANCE);
+        this.maxDistance = configuration.getLong(MAX_DISTANCE, Long.MAX_VALUE);
+        this.vertexComputeKeys = Collections.singleton(VertexComputeKey.of(this.property, false));
+    }
+
+    @Override
+    public void storeState(final Configuration configuration) {
+        VertexProgram.super.storeState(configuration);
+        configuration.setProperty(PROPERTY, this.property);
+        configuration.setProperty(MAX_DISTANCE, this.maxDistance);
+        if (null != this.edgeTraversal)
+            this.edgeTraversal.storeState(configuration, EDGE_TRAVERSAL);
+        if (null != this.sourceTraversal)
+            this.sourceTraversal.storeState(configuration, SOURCE_TRAVERSAL);
+    }
+
+    @Override
+    public Set<VertexComputeKey> getVertexComputeKeys() {
+        return this.vertexComputeKeys;
+    }
+
+    @Override
+    public Set<MemoryComputeKey> getMemoryComputeKeys() {
+        return MEMORY_COMPUTE_KEYS;
+    }
+
+    @Override
+    public Optional<MessageCombiner<Long>> getMessageCombiner() {
+        return (Optional) ShortestPathMessageCombiner.instance();
+    }
+
+    @Override
+    public Set<MessageScope> getMessageScopes(final Memory memory) {
+        return Collections.singleton(this.scope);
+    }
+
+    @Override
+    public GraphComputer.ResultGraph getPreferredResultGraph() {
+        return GraphComputer.ResultGraph.NEW;
+    }
+
+    @Override
+    public GraphComputer.Persist getPreferredPersist() {
+        return GraphComputer.Persist.VERTEX_PROPERTIES;
+    }
+
+    @Override
+    public ShortestPathVertexProgram clone() {
+        try {
+            final ShortestPathVertexProgram clone = (ShortestPathVertexProgram) super.clone();
+            if (null != this.sourceTraversal)
+                clone.sourceTraversal = this.sourceTraversal.clone();
+            return clone;
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void setup(final Memory memory) {
+        memory.set(VOTE_TO_HALT, true);
+    }
+
+    @Override
+    public void execute(final Vertex vertex, final Messenger<Long> messenger, final Memory memory) {
+        final long distance;
+        if (memory.isInitialIteration()) {
+            if (null != this.sourceTraversal && !TraversalUtil.test(vertex, (Traversal.Admin) this.sourceTraversal.get(), vertex))
+                return;
+            distance = 0l;
+        } else {
+            // the edges are unweighted so the first distance to reach a vertex is its shortest one
+            distance = IteratorUtils.reduce(messenger.receiveMessages(), Long.MAX_VALUE, Math::min);
+            if (distance >= vertex.<Long>property(this.property).orElse(Long.MAX_VALUE))
+                return;
+        }
+        vertex.property(VertexProperty.Cardinality.single, this.property, distance);
+        if (distance < this.maxDistance) {
+            messenger.sendMessage(this.scope, distance + 1l);
+            memory.add(VOTE_TO_HALT, false);
+        }
+    }
+
+    @Override
+    public boolean terminate(final Memory memory) {
+        if (memory.<Boolean>get(VOTE_TO_HALT)) {
+            return true;
+        } else {
+            memory.set(VOTE_TO_HALT, true);
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.vertexProgramString(this, "maxDistance=" + this.maxDistance);
+    }
+
+    //////////////////////////////
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public static final class Builder extends AbstractVertexProgramBuilder<Builder> {
+
+        private Builder() {
+            super(ShortestPathVertexProgram.class);
+        }
+
+        public Builder property(final String key) {
+            this.configuration.setProperty(PROPERTY, key);
+            return this;
+        }
+
+        public Builder maxDistance(final long maxDistance) {
+            this.configuration.setProperty(MAX_DISTANCE, maxDistance);
+            return this;
+        }
+
+        public Builder edges(final Traversal.Admin<Vertex, Edge> edgeTraversal) {
+            PureTraversal.storeState(this.configuration, EDGE_TRAVERSAL, edgeTraversal);
+            return this;
+        }
+
+        public Builder source(final Traversal.Admin<Vertex, ?> sourceTraversal) {
+            PureTraversal.storeState(this.configuration, SOURCE_TRAVERSAL, sourceTraversal);
+            return this;
+        }
+    }
+
+    ////////////////////////////
+
+    @Override
+    public Features getFeatures() {
+        return new Features() {
+            @Override
+            public boolean requiresLocalMessageScopes() {
+                return true;
+            }
+
+            @Override
+            public boolean requiresVertexPropertyAddition() {
+                return true;
+            }
+
+            @Override
+            public boolean isFrontierDriven() {
+                return true;
+            }
+        };
+    }
+}
@@ -295,6 +295,9 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
         // save space by not having an empty halted traversers property
         if (this.returnHaltedTraversers || haltedTraversers.isEmpty())
             vertex.<TraverserSet>property(HALTED_TRAVERSERS).remove();
+        // traversers held at a local barrier are processed in the next iteration even if no messages arrive
+        if (vertex.property(ACTIVE_TRAVERSERS).isPresent())
+            messenger.keepActive();
     }
 
     @Override
@@ -322,6 +325,9 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
                     completedBarriers.stream().map(this.traversalMatrix::getStepById).filter(step -> step instanceof LocalBarrier).findAny().isPresent()) {
                 // send active traversers back to workers
                 memory.set(ACTIVE_TRAVERSERS, remoteActiveTraversers);
+                // any vertex may host one of the active traversers so the next iteration is not limited to the frontier
+                if (!remoteActiveTraversers.isEmpty())
+                    memory.activateAllVertices();
                 return false;
             } else {
                 // finalize locally with any last traversers dangling in the local traversal
@@ -408,6 +414,11 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
             public boolean requiresVertexPropertyAddition() {
                 return true;
             }
+
+            @Override
+            public boolean isFrontierDriven() {
+                return true;
+            }
         };
     }
 
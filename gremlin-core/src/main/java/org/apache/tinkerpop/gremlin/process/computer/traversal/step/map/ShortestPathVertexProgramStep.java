@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.search.path.ShortestPathVertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.lambda.HaltedTraversersCountTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.FromToModulating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TimesModulating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.PureTraversal;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Computes the shortest distance to every vertex from the vertices selected by {@code from()}, or from the vertices
+ * the traversers are at when no {@code from()} is given.
+ */
+public final class ShortestPathVertexProgramStep extends VertexProgramStep implements TraversalParent, ByModulating, TimesModulating, FromToModulating {
+
+    private PureTraversal<Vertex, Edge> edgeTraversal;
+    private PureTraversal<Vertex, ?> sourceTraversal = null;
+    private String distanceProperty = ShortestPathVertexProgram.DISTANCE;
+    private int times = Integer.MAX_VALUE;
+
+    public ShortestPathVertexProgramStep(final Traversal.Admin traversal) {
+        super(traversal);
+        this.modulateBy(__.<Vertex>outE().asAdmin());
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode() ^ this.edgeTraversal.hashCode() ^ this.distanceProperty.hashCode() ^ this.times;
+        if (null != this.sourceTraversal)
+            result ^= this.sourceTraversal.hashCode();
+        return result;
+    }
+
+    @Override
+    public void modulateBy(final Traversal.Admin<?, ?> edgeTraversal) {
+        this.edgeTraversal = new PureTraversal<>((Traversal.Admin<Vertex, Edge>) edgeTraversal);
+        this.integrateChild(this.edgeTraversal.get());
+    }
+
+    @Override
+    public void modulateBy(final String distanceProperty) {
+        this.distanceProperty = distanceProperty;
+    }
+
+    @Override
+    public void modulateTimes(final int times) {
+        this.times = times;
+    }
+
+    @Override
+    public void addFrom(final Traversal.Admin<?, ?> sourceTraversal) {
+        this.sourceTraversal = new PureTraversal<>((Traversal.Admin<Vertex, ?>) sourceTraversal);
+        this.integrateChild(this.sourceTraversal.get());
+    }
+
+    @Override
+    public void addFrom(final String fromLabel) {
+        throw new UnsupportedOperationException("The from()-modulating step does not support label-based modulation: " + this);
+    }
+
+    @Override
+    public List<Traversal.Admin<Vertex, ?>> getLocalChildren() {
+        final List<Traversal.Admin<Vertex, ?>> children = new ArrayList<>(2);
+        children.add(this.edgeTraversal.get());
+        if (null != this.sourceTraversal)
+            children.add(this.sourceTraversal.get());
+        return children;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.edgeTraversal.get(), null == this.sourceTraversal ? null : this.sourceTraversal.get(),
+                this.distanceProperty, this.times, new GraphFilter(this.computer));
+    }
+
+    @Override
+    public ShortestPathVertexProgram generateProgram(final Graph graph, final Memory memory) {
+        final Traversal.Admin<Vertex, Edge> detachedTraversal = this.edgeTraversal.getPure();
+        detachedTraversal.setStrategies(TraversalStrategies.GlobalCache.getStrategies(graph.getClass()));
+        final ShortestPathVertexProgram.Builder builder = ShortestPathVertexProgram.build()
+                .property(this.distanceProperty)
+                .maxDistance(this.times)
+                .edges(detachedTraversal);
+        if (null != this.sourceTraversal) {
+            final Traversal.Admin<Vertex, ?> detachedSourceTraversal = this.sourceTraversal.getPure();
+            detachedSourceTraversal.setStrategies(TraversalStrategies.GlobalCache.getStrategies(graph.getClass()));
+            builder.source(detachedSourceTraversal);
+        } else if (this.previousTraversalVertexProgram())
+            builder.source(__.<Vertex>filter(__.map(new HaltedTraversersCountTraversal()).is(P.gt(0l))).asAdmin());
+        return builder.create(graph);
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return TraversalParent.super.getSelfAndChildRequirements();
+    }
+
+    @Override
+    public ShortestPathVertexProgramStep clone() {
+        final ShortestPathVertexProgramStep clone = (ShortestPathVertexProgramStep) super.clone();
+        clone.edgeTraversal = this.edgeTraversal.clone();
+        if (null != this.sourceTraversal)
+            clone.sourceTraversal = this.sourceTraversal.clone();
+        return clone;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
+        super.setTraversal(parentTraversal);
+        this.integrateChild(this.edgeTraversal.get());
+        if (null != this.sourceTraversal)
+            this.integrateChild(this.sourceTraversal.get());
+    }
+}
@@ -74,6 +74,11 @@ public final class ImmutableMemory implements Memory.Admin {
         throw Memory.Exceptions.memoryIsCurrentlyImmutable();
     }
 
+    @Override
+    public void activateAllVertices() {
+        throw Memory.Exceptions.memoryIsCurrentlyImmutable();
+    }
+
     @Override
     public void setRuntime(final long runtime) {
         throw Memory.Exceptions.memoryIsCurrentlyImmutable();
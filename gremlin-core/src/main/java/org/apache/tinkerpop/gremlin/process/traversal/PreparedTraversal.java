@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal;
+
+import org.apache.tinkerpop.gremlin.jsr223.JavaTranslator;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * A {@code PreparedTraversal} compiles a traversal with {@link Bytecode.Binding}s once and executes it for different
+ * values of its variables on instances that are taken from a pool, so that an execution does not have to construct
+ * the steps of the traversal and apply its strategies again. Instances are created from a {@link TraversalTemplate}
+ * and rebound to the values of an execution in the same places, so the template decides if values other than the
+ * prepared ones can be rebound. Until it can, such executions compile the traversal from scratch.
+ * <p/>
+ * <code>
+ * b = Bindings.instance()
+ * names = g.prepare(g.V(b.of("id", 1)).out("knows").values("name"))
+ * names.toList("id", 4)
+ * </code>
+ */
+public final class PreparedTraversal<S, E> {
+
+    private final TraversalSource traversalSource;
+    private final Bytecode bytecode;
+    private final TraversalTemplate template;
+    private final Queue<Instance<S, E>> pool = new ConcurrentLinkedQueue<>();
+
+    private PreparedTraversal(final TraversalSource traversalSource, final Bytecode bytecode) {
+        this.traversalSource = traversalSource;
+        this.bytecode = TraversalTemplate.prepare(bytecode);
+        this.template = TraversalTemplate.of(this.bytecode, this.compile(this.bytecode));
+    }
+
+    /**
+     * Prepares the traversal of the bytecode by compiling it against the traversal source.
+     */
+    public static <S, E> PreparedTraversal<S, E> of(final TraversalSource traversalSource, final Bytecode bytecode) {
+        return new PreparedTraversal<>(traversalSource, bytecode);
+    }
+
+    /**
+     * Gets the variables of the traversal and the values it was prepared with.
+     */
+    public Map<String, Object> getBindings() {
+        return this.template.getBindings();
+    }
+
+    /**
+     * Gets the number of instances that are waiting in the pool to be reused.
+     */
+    public int getPoolSize() {
+        return this.pool.size();
+    }
+
+    /**
+     * Applies the function to an instance of the traversal that is bound to the given variable/value pairs, where
+     * variables that are not given keep the value the traversal was prepared with. The instance is returned to the
+     * pool once the function completes so neither the traversal nor a lazy view of it may escape the function.
+     */
+    public <R> R apply(final Function<? super Traversal<S, E>, R> function, final Object... variableValues) {
+        final Instance<S, E> instance = this.acquire(this.asMap(variableValues));
+        try {
+            return function.apply(instance.traversal);
+        } finally {
+            if (instance.poolable)
+                this.pool.offer(instance);
+        }
+    }
+
+    /**
+     * Gets the results of the traversal bound to the given variable/value pairs.
+     */
+    public List<E> toList(final Object... variableValues) {
+        return this.apply(Traversal::toList, variableValues);
+    }
+
+    private Map<String, Object> asMap(final Object... variableValues) {
+        if (variableValues.length % 2 != 0)
+            throw new IllegalArgumentException("The provided arguments must have a size that is a factor of 2");
+        final Map<String, Object> values = new HashMap<>(this.template.getBindings());
+        for (int i = 0; i < variableValues.length; i = i + 2) {
+            if (!values.containsKey(variableValues[i]))
+                throw new IllegalArgumentException("The prepared traversal does not have a variable named " + variableValues[i] + ": " + values.keySet());
+            values.put((String) variableValues[i], variableValues[i + 1]);
+        }
+        return values;
+    }
+
+    private Instance<S, E> acquire(final Map<String, Object> values) {
+        // values other than the prepared ones are only rebound if the template was verified against a traversal that
+        // was compiled from scratch, which the first such execution does, and if every value has the class of its
+        // prepared value, as strategies may compile the traversal differently for values of another class
+        if (!values.equals(this.template.getBindings()) &&
+                !(this.template.isRebindable() && this.template.isVerified() && this.hasPreparedClasses(values))) {
+            final Bytecode bound = TraversalTemplate.bind(this.bytecode, values);
+            final Traversal.Admin<S, E> traversal = this.compile(bound);
+            if (this.template.isRebindable() && this.hasPreparedClasses(values))
+                this.template.verify(bound, traversal);
+            return new Instance<>(traversal, null, false);
+        }
+
+        // the values are copied so that the places they are rebound to can be found by identity on the next reuse
+        final Map<String, Object> copies = new HashMap<>(values.size());
+        final IdentityHashMap<Object, String> placeholders = new IdentityHashMap<>(values.size());
+        boolean poolable = true;
+        for (final Map.Entry<String, Object> entry : values.entrySet()) {
+            final Object copy = TraversalTemplate.copy(entry.getValue());
+            poolable = poolable && copy != entry.getValue();
+            copies.put(entry.getKey(), copy);
+            placeholders.put(copy, entry.getKey());
+        }
+
+        Instance<S, E> instance = this.pool.poll();
+        if (null == instance)
+            instance = new Instance<>((Traversal.Admin<S, E>) this.template.newTraversal(this.traversalSource.getGraph()), this.template.getPlaceholders(), true);
+        else
+            instance.traversal.reset();
+        TraversalTemplate.rebind(instance.traversal, instance.placeholders, copies, new HashSet<>());
+        instance.placeholders = placeholders;
+        instance.poolable = poolable;
+
+        // every execution starts with the side-effects the traversal was compiled with, shared by all of its children
+        final TraversalSideEffects sideEffects = this.template.getTraversal().getSideEffects().clone();
+        TraversalHelper.applyTraversalRecursively(t -> t.setSideEffects(sideEffects), instance.traversal);
+        return instance;
+    }
+
+    private boolean hasPreparedClasses(final Map<String, Object> values) {
+        for (final Map.Entry<String, Object> entry : this.template.getBindings().entrySet()) {
+            final Object value = values.get(entry.getKey());
+            if ((null == value ? null : value.getClass()) != (null == entry.getValue() ? null : entry.getValue().getClass()))
+                return false;
+        }
+        return true;
+    }
+
+    private Traversal.Admin<S, E> compile(final Bytecode bytecode) {
+        final Traversal.Admin<S, E> traversal = (Traversal.Admin<S, E>) JavaTranslator.of(this.traversalSource).translate(bytecode);
+        traversal.applyStrategies();
+        return traversal;
+    }
+
+    @Override
+    public String toString() {
+        return "prepared[" + this.template.getTraversal() + "]";
+    }
+
+    private static final class Instance<S, E> {
+
+        private final Traversal.Admin<S, E> traversal;
+        private IdentityHashMap<Object, String> placeholders;
+        private boolean poolable;
+
+        private Instance(final Traversal.Admin<S, E> traversal, final IdentityHashMap<Object, String> placeholders, final boolean poolable) {
+            this.traversal = traversal;
+            this.placeholders = placeholders;
+            this.poolable = poolable;
+        }
+    }
+}
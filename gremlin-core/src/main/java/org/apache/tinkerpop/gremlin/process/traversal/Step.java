@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.process.traversal;
 
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserBatch;
 
 import java.io.Serializable;
 import java.util.Collections;
@@ -98,6 +99,20 @@ public interface Step<S, E> extends Iterator<Traverser.Admin<E>>, Serializable,
      */
     public void setTraversal(final Traversal.Admin<?, ?> traversal);
 
+    /**
+     * Fill the provided batch with the next end traversers of this step until either the batch is full or the step has
+     * no more ends to offer. The traversers added to the batch are the same as those that would be returned by
+     * successive calls to {@link #next()}. The provided default implementation adapts {@link #hasNext()} and
+     * {@link #next()} and steps that can process their starts more cheaply in bulk should override it.
+     *
+     * @param batch the batch to add the end traversers to
+     */
+    public default void processNextStarts(final TraverserBatch<E> batch) {
+        while (!batch.isFull() && this.hasNext()) {
+            batch.add(this.next());
+        }
+    }
+
     /**
      * Reset the state of the step such that it has no incoming starts.
      * Internal states are to be reset, but any sideEffect data structures are not to be recreated.
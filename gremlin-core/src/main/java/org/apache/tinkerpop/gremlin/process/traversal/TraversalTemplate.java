@@ -0,0 +1,405 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.IsStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.ConnectiveP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A {@code TraversalTemplate} holds a strategized {@link Traversal} compiled from {@link Bytecode} so that bytecode
+ * which only differs in the values of its {@link Bytecode.Binding}s (i.e. has the same {@link #normalize(Bytecode)
+ * normalized} form) can be served by a clone of that traversal instead of being translated and strategized again.
+ * <p/>
+ * The traversal of a template must be compiled from the {@link #prepare(Bytecode) prepared} form of the bytecode in
+ * which every bound value is replaced by an equal but distinct copy, so that the places that use a bound value can be
+ * found by identity. Bound values are rebound in the predicates of {@link HasContainerHolder} steps and
+ * {@link IsStep}s and in the ids of {@link GraphStep}s. If a bound value is not found in any of those places, the
+ * template can only be instantiated for the values it was compiled with. As a strategy may take a bound value into
+ * account in ways that cannot be detected this way (e.g. by deriving a limit from it), a template is not trusted to
+ * rebind other values until it is {@link #verify(Bytecode, Traversal.Admin) verified} against a traversal that was
+ * compiled from scratch for such values.
+ */
+public final class TraversalTemplate {
+
+    private final Traversal.Admin<?, ?> traversal;
+    private final Map<String, Object> values;
+    private final IdentityHashMap<Object, String> placeholders = new IdentityHashMap<>();
+    private volatile boolean rebindable;
+    private volatile boolean verified;
+
+    private TraversalTemplate(final Bytecode preparedBytecode, final Traversal.Admin<?, ?> traversal) {
+        if (!traversal.isLocked())
+            throw new IllegalArgumentException("The traversal of a template must have its strategies applied: " + traversal);
+        this.traversal = traversal.clone();
+        // the template does not keep the graph alive, instances are attached to the graph they are executed against
+        TraversalHelper.applyTraversalRecursively(t -> t.setGraph(EmptyGraph.instance()), this.traversal);
+        this.values = preparedBytecode.getBindings();
+        boolean copied = true;
+        for (final Map.Entry<String, Object> entry : this.values.entrySet()) {
+            this.placeholders.put(entry.getValue(), entry.getKey());
+            copied = copied && copy(entry.getValue()) != entry.getValue();
+        }
+        final Set<String> found = new LinkedHashSet<>();
+        rebind(this.traversal, this.placeholders, Collections.emptyMap(), found);
+        this.rebindable = copied && found.size() == this.values.size();
+        this.verified = this.values.isEmpty();
+    }
+
+    /**
+     * Creates a template from a traversal that was compiled from {@link #prepare(Bytecode) prepared} bytecode and had
+     * its strategies applied. The traversal is cloned so it may be iterated afterwards and the clone is detached from
+     * its graph.
+     */
+    public static TraversalTemplate of(final Bytecode preparedBytecode, final Traversal.Admin<?, ?> traversal) {
+        return new TraversalTemplate(preparedBytecode, traversal);
+    }
+
+    /**
+     * Determines if the template can be instantiated for values other than those it was compiled with, which is the
+     * case until a verification fails or if not every bound value could be located in the compiled traversal.
+     */
+    public boolean isRebindable() {
+        return this.rebindable;
+    }
+
+    /**
+     * Determines if the template was verified to produce the same traversal for other values as a compilation from
+     * scratch would.
+     */
+    public boolean isVerified() {
+        return this.verified;
+    }
+
+    /**
+     * Gets the values of the bindings the template was compiled with.
+     */
+    public Map<String, Object> getBindings() {
+        return Collections.unmodifiableMap(this.values);
+    }
+
+    Traversal.Admin<?, ?> getTraversal() {
+        return this.traversal;
+    }
+
+    Traversal.Admin<?, ?> newTraversal(final Graph graph) {
+        final Traversal.Admin<?, ?> clone = this.traversal.clone();
+        TraversalHelper.applyTraversalRecursively(t -> t.setGraph(graph), clone);
+        return clone;
+    }
+
+    IdentityHashMap<Object, String> getPlaceholders() {
+        return this.placeholders;
+    }
+
+    /**
+     * Gets a clone of the compiled traversal for the graph, rebound to the values of the bindings of the bytecode,
+     * which is expected to have the same {@link #normalize(Bytecode) normalized} form as the bytecode of the template.
+     * An empty result means that the bytecode needs to be compiled from scratch (and should be used to
+     * {@link #verify} the template).
+     */
+    public Optional<Traversal.Admin<?, ?>> instantiate(final Bytecode bytecode, final Graph graph) {
+        final Map<String, Object> bindings = bytecode.getBindings();
+        final boolean sameValues = this.values.equals(bindings);
+        if (!sameValues && !(this.rebindable && this.verified))
+            return Optional.empty();
+        final Traversal.Admin<?, ?> clone = this.newTraversal(graph);
+        if (!sameValues)
+            rebind(clone, this.placeholders, bindings, new LinkedHashSet<>());
+        return Optional.of(clone);
+    }
+
+    /**
+     * Verifies the template against a traversal that was compiled from scratch for the given bytecode and had its
+     * strategies applied. If the template rebound to the values of the bytecode is not equal to that traversal, the
+     * template will no longer be instantiated for values other than those it was compiled with.
+     */
+    public void verify(final Bytecode bytecode, final Traversal.Admin<?, ?> traversal) {
+        if (this.verified || !this.rebindable)
+            return;
+        final Map<String, Object> bindings = bytecode.getBindings();
+        if (this.values.equals(bindings))
+            return;
+        final Traversal.Admin<?, ?> clone = this.traversal.clone();
+        rebind(clone, this.placeholders, bindings, new LinkedHashSet<>());
+        if (clone.equals(traversal))
+            this.verified = true;
+        else
+            this.rebindable = false;
+    }
+
+    /**
+     * Gets a representation of the bytecode in which every {@link Bytecode.Binding} is replaced by its variable and
+     * the class of its value, so that bytecode that only differs in its bound values has an equal normalized form.
+     */
+    public static Object normalize(final Bytecode bytecode) {
+        final List<Object> normalized = new ArrayList<>();
+        normalized.add(normalize(bytecode.getSourceInstructions()));
+        normalized.add(normalize(bytecode.getStepInstructions()));
+        return normalized;
+    }
+
+    private static List<Object> normalize(final List<Bytecode.Instruction> instructions) {
+        final List<Object> normalized = new ArrayList<>(instructions.size());
+        for (final Bytecode.Instruction instruction : instructions) {
+            final List<Object> arguments = new ArrayList<>(instruction.getArguments().length + 1);
+            arguments.add(instruction.getOperator());
+            for (final Object argument : instruction.getArguments()) {
+                arguments.add(normalizeArgument(argument));
+            }
+            normalized.add(arguments);
+        }
+        return normalized;
+    }
+
+    private static Object normalizeArgument(final Object argument) {
+        if (argument instanceof Bytecode.Binding) {
+            final Object value = ((Bytecode.Binding) argument).value();
+            return new Variable(((Bytecode.Binding) argument).variable(), null == value ? null : value.getClass());
+        } else if (argument instanceof Bytecode)
+            return normalize((Bytecode) argument);
+        else if (argument instanceof Traversal)
+            return normalize(((Traversal<?, ?>) argument).asAdmin().getBytecode());
+        else if (argument instanceof TraversalStrategy) {
+            // strategies are only equal by class so they are represented by their configuration
+            final Configuration configuration = ((TraversalStrategy<?>) argument).getConfiguration();
+            final Map<String, Object> map = new HashMap<>();
+            configuration.getKeys().forEachRemaining(key -> map.put(key, normalizeArgument(configuration.getProperty(key))));
+            return Arrays.asList(argument.getClass(), map);
+        } else if (argument instanceof Map) {
+            final Map<Object, Object> map = new LinkedHashMap<>();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) argument).entrySet()) {
+                map.put(normalizeArgument(entry.getKey()), normalizeArgument(entry.getValue()));
+            }
+            return map;
+        } else if (argument instanceof List) {
+            final List<Object> list = new ArrayList<>();
+            for (final Object item : (List) argument) {
+                list.add(normalizeArgument(item));
+            }
+            return list;
+        } else if (argument instanceof Set) {
+            final Set<Object> set = new LinkedHashSet<>();
+            for (final Object item : (Set) argument) {
+                set.add(normalizeArgument(item));
+            }
+            return set;
+        } else
+            return argument;
+    }
+
+    /**
+     * Gets a copy of the bytecode in which the value of every {@link Bytecode.Binding} is replaced by an equal but
+     * distinct copy of it. Values of types that cannot be copied are left as they are, which prevents a template
+     * compiled from the bytecode from being rebound to other values.
+     */
+    public static Bytecode prepare(final Bytecode bytecode) {
+        return bind(bytecode, Collections.emptyMap());
+    }
+
+    /**
+     * Gets a copy of the bytecode in which the value of every {@link Bytecode.Binding} is replaced by the value of its
+     * variable in the given map or, for variables that are not in the map, by an equal but distinct copy of it.
+     */
+    public static Bytecode bind(final Bytecode bytecode, final Map<String, Object> values) {
+        final Map<String, Object> copies = new HashMap<>(values);
+        final Bytecode prepared = new Bytecode();
+        for (final Bytecode.Instruction instruction : bytecode.getSourceInstructions()) {
+            prepared.addSource(instruction.getOperator(), prepareArguments(instruction.getArguments(), copies));
+        }
+        for (final Bytecode.Instruction instruction : bytecode.getStepInstructions()) {
+            prepared.addStep(instruction.getOperator(), prepareArguments(instruction.getArguments(), copies));
+        }
+        return prepared;
+    }
+
+    private static Object[] prepareArguments(final Object[] arguments, final Map<String, Object> copies) {
+        final Object[] prepared = new Object[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            prepared[i] = prepareArgument(arguments[i], copies);
+        }
+        return prepared;
+    }
+
+    private static Object prepareArgument(final Object argument, final Map<String, Object> copies) {
+        if (argument instanceof Bytecode.Binding) {
+            final Bytecode.Binding<?> binding = (Bytecode.Binding<?>) argument;
+            return new Bytecode.Binding<>(binding.variable(), copies.computeIfAbsent(binding.variable(), k -> copy(binding.value())));
+        } else if (argument instanceof Bytecode) {
+            final Bytecode prepared = new Bytecode();
+            for (final Bytecode.Instruction instruction : ((Bytecode) argument).getStepInstructions()) {
+                prepared.addStep(instruction.getOperator(), prepareArguments(instruction.getArguments(), copies));
+            }
+            return prepared;
+        } else if (argument instanceof Map) {
+            final Map<Object, Object> map = new LinkedHashMap<>();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) argument).entrySet()) {
+                map.put(prepareArgument(entry.getKey(), copies), prepareArgument(entry.getValue(), copies));
+            }
+            return map;
+        } else if (argument instanceof List) {
+            final List<Object> list = new ArrayList<>();
+            for (final Object item : (List) argument) {
+                list.add(prepareArgument(item, copies));
+            }
+            return list;
+        } else if (argument instanceof Set) {
+            final Set<Object> set = new LinkedHashSet<>();
+            for (final Object item : (Set) argument) {
+                set.add(prepareArgument(item, copies));
+            }
+            return set;
+        } else
+            return argument;
+    }
+
+    @SuppressWarnings({"UnnecessaryBoxing", "BoxingBoxedValue", "StringOperationCanBeSimplified"})
+    static Object copy(final Object value) {
+        if (value instanceof String)
+            return new String((String) value);
+        else if (value instanceof Integer)
+            return new Integer((Integer) value);
+        else if (value instanceof Long)
+            return new Long((Long) value);
+        else if (value instanceof Double)
+            return new Double((Double) value);
+        else if (value instanceof Float)
+            return new Float((Float) value);
+        else if (value instanceof Short)
+            return new Short((Short) value);
+        else if (value instanceof Byte)
+            return new Byte((Byte) value);
+        else if (value instanceof UUID)
+            return new UUID(((UUID) value).getMostSignificantBits(), ((UUID) value).getLeastSignificantBits());
+        else
+            return value;
+    }
+
+    /**
+     * Replaces the placeholders in the predicates and ids of the traversal (and its children) with the values bound
+     * to their variables, collecting the variables that were found. With no bindings, the placeholders are only
+     * located.
+     */
+    static void rebind(final Traversal.Admin<?, ?> traversal, final IdentityHashMap<Object, String> placeholders,
+                       final Map<String, Object> bindings, final Set<String> found) {
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof HasContainerHolder) {
+                for (final HasContainer hasContainer : ((HasContainerHolder) step).getHasContainers()) {
+                    rebind(hasContainer.getPredicate(), placeholders, bindings, found);
+                }
+            }
+            if (step instanceof IsStep)
+                rebind(((IsStep<?>) step).getPredicate(), placeholders, bindings, found);
+            if (step instanceof GraphStep) {
+                final GraphStep<?, ?> graphStep = (GraphStep<?, ?>) step;
+                final Object[] ids = graphStep.getIds().clone();
+                boolean rebound = false;
+                for (int i = 0; i < ids.length; i++) {
+                    final String variable = placeholders.get(ids[i]);
+                    if (null != variable) {
+                        found.add(variable);
+                        if (bindings.containsKey(variable)) {
+                            ids[i] = bindings.get(variable);
+                            rebound = true;
+                        }
+                    }
+                }
+                if (rebound) {
+                    // the ids array is shared with the template so it is replaced rather than modified
+                    graphStep.clearIds();
+                    graphStep.addIds(ids);
+                }
+            }
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getLocalChildren()) {
+                    rebind(child, placeholders, bindings, found);
+                }
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getGlobalChildren()) {
+                    rebind(child, placeholders, bindings, found);
+                }
+            }
+        }
+    }
+
+    private static void rebind(final P predicate, final IdentityHashMap<Object, String> placeholders,
+                               final Map<String, Object> bindings, final Set<String> found) {
+        if (predicate instanceof ConnectiveP) {
+            for (final P<?> p : ((ConnectiveP<?>) predicate).getPredicates()) {
+                rebind(p, placeholders, bindings, found);
+            }
+        } else {
+            final String variable = placeholders.get(predicate.getValue());
+            if (null != variable) {
+                found.add(variable);
+                if (bindings.containsKey(variable)) {
+                    predicate.value = bindings.get(variable);
+                    predicate.originalValue = predicate.value;
+                }
+            }
+        }
+    }
+
+    private static final class Variable {
+
+        private final String variable;
+        private final Class<?> valueClass;
+
+        private Variable(final String variable, final Class<?> valueClass) {
+            this.variable = variable;
+            this.valueClass = valueClass;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Variable &&
+                    this.variable.equals(((Variable) other).variable) &&
+                    (null == this.valueClass ? null == ((Variable) other).valueClass : this.valueClass.equals(((Variable) other).valueClass));
+        }
+
+        @Override
+        public int hashCode() {
+            return this.variable.hashCode() ^ (null == this.valueClass ? 0 : this.valueClass.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return "variable[" + this.variable + "]";
+        }
+    }
+}
@@ -25,6 +25,8 @@ import org.apache.tinkerpop.gremlin.process.remote.RemoteConnection;
 import org.apache.tinkerpop.gremlin.process.remote.traversal.strategy.decoration.RemoteStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.Bindings;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.PreparedTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
@@ -296,6 +298,15 @@ public class GraphTraversalSource implements TraversalSource {
         return traversal.addStep(new GraphStep<>(traversal, Edge.class, true, edgesIds));
     }
 
+    /**
+     * Prepares a traversal whose {@link Bindings} are its parameters, so that it can be executed repeatedly for
+     * different values of its variables without constructing its steps and applying its strategies every time.
+     */
+    public <S, E> PreparedTraversal<S, E> prepare(final Traversal<S, E> traversal) {
+        if (null != this.connection)
+            throw new IllegalStateException("A traversal can not be prepared against a remote traversal source");
+        return PreparedTraversal.of(this, traversal.asAdmin().getBytecode());
+    }
 
     public Transaction tx() {
         return this.graph.tx();
@@ -30,6 +30,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.PathProcessor;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserBatch;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -105,6 +106,12 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
         return PathProcessor.processTraverserPathLabels(super.processNextStart(), this.keepLabels);
     }
 
+    @Override
+    public void processNextStarts(final TraverserBatch<S> batch) {
+        // the barrier and the path labels that are no longer kept are handled by processNextStart()
+        this.processNextStartsInBatch(batch);
+    }
+
     @Override
     public List<Traversal<S, Object>> getLocalChildren() {
         return null == this.dedupTraversal ? Collections.emptyList() : Collections.singletonList(this.dedupTraversal);
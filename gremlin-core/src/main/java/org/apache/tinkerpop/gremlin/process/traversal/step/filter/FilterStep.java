@@ -21,6 +21,9 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.filter;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserBatch;
+
+import java.util.NoSuchElementException;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -40,5 +43,41 @@ public abstract class FilterStep<S> extends AbstractStep<S, S> {
         }
     }
 
+    /**
+     * Pulls batches of starts into the provided batch and filters them in place, compacting the traversers that pass the
+     * filter towards the front of the batch, until the batch is full or there are no more starts at this point. When the
+     * starts of the step are not batched, they are processed one at a time instead.
+     */
+    @Override
+    public void processNextStarts(final TraverserBatch<S> batch) {
+        if (!this.starts.isBatched()) {
+            this.processNextStartsInBatch(batch);
+            return;
+        }
+        this.beginBatch(batch);
+        int size = batch.size();
+        int index = size;
+        try {
+            while (!batch.isFull()) {
+                this.starts.fill(batch);
+                if (index == batch.size())
+                    break;
+                while (index < batch.size()) {
+                    final Traverser.Admin<S> traverser = batch.get(index++);
+                    if (this.filter(traverser) && null != traverser.get() && 0 != traverser.bulk())
+                        batch.set(size++, this.prepareTraversalForNextStep(traverser));
+                }
+                batch.truncate(size);
+                index = size;
+            }
+        } catch (final NoSuchElementException e) {
+            // the starts that were not filtered yet are left to the next pull as they would have been left upstream
+            while (index < batch.size()) {
+                this.starts.add(batch.get(index++));
+            }
+            batch.truncate(size);
+        }
+    }
+
     protected abstract boolean filter(final Traverser.Admin<S> traverser);
 }
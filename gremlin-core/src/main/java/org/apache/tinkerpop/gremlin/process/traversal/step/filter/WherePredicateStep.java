@@ -27,6 +27,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.PathProcessor;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserBatch;
 import org.apache.tinkerpop.gremlin.process.traversal.util.ConnectiveP;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalRing;
@@ -150,6 +151,12 @@ public final class WherePredicateStep<S> extends FilterStep<S> implements Scopin
         return PathProcessor.processTraverserPathLabels(super.processNextStart(), this.keepLabels);
     }
 
+    @Override
+    public void processNextStarts(final TraverserBatch<S> batch) {
+        // the path labels that are no longer kept are dropped by processNextStart()
+        this.processNextStartsInBatch(batch);
+    }
+
     @Override
     public void setKeepLabels(final Set<String> labels) {
         this.keepLabels = labels;
@@ -30,6 +30,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ConnectiveStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserBatch;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -94,6 +95,12 @@ public final class WhereTraversalStep<S> extends FilterStep<S> implements Traver
         return PathProcessor.processTraverserPathLabels(super.processNextStart(), this.keepLabels);
     }
 
+    @Override
+    public void processNextStarts(final TraverserBatch<S> batch) {
+        // the path labels that are no longer kept are dropped by processNextStart()
+        this.processNextStartsInBatch(batch);
+    }
+
     @Override
     protected boolean filter(final Traverser.Admin<S> traverser) {
         return TraversalUtil.test((Traverser.Admin) traverser, this.whereTraversal);
@@ -21,10 +21,12 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserBatch;
 import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
 import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -51,6 +53,30 @@ public abstract class FlatMapStep<S, E> extends AbstractStep<S, E> {
         }
     }
 
+    /**
+     * Adds the ends of each start to the provided batch directly, pulling the next start once the ends of the current
+     * one are exhausted, until the batch is full or there are no more starts at this point.
+     */
+    @Override
+    public void processNextStarts(final TraverserBatch<E> batch) {
+        this.beginBatch(batch);
+        try {
+            while (!batch.isFull()) {
+                if (this.iterator.hasNext()) {
+                    final Traverser.Admin<E> end = this.head.split(this.iterator.next(), this);
+                    if (null != end.get() && 0 != end.bulk())
+                        batch.add(this.prepareTraversalForNextStep(end));
+                } else {
+                    closeIterator();
+                    this.head = this.starts.next();
+                    this.iterator = this.flatMap(this.head);
+                }
+            }
+        } catch (final NoSuchElementException e) {
+            // the step has no more ends to offer at this point so the batch is left partially filled
+        }
+    }
+
     protected abstract Iterator<E> flatMap(final Traverser.Admin<S> traverser);
 
     @Override
@@ -53,6 +53,7 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
     protected final Class<E> returnClass;
     protected Object[] ids;
     protected transient Supplier<Iterator<E>> iteratorSupplier;
+    private transient Supplier<Iterator<E>> defaultIteratorSupplier;
     protected boolean isStart;
     protected boolean done = false;
     private Traverser.Admin<S> head = null;
@@ -64,7 +65,11 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
         this.returnClass = returnClass;
         this.ids = (ids.length == 1 && ids[0] instanceof Collection) ? ((Collection) ids[0]).toArray(new Object[((Collection) ids[0]).size()]) : ids;
         this.isStart = isStart;
-        this.iteratorSupplier = () -> (Iterator<E>) (Vertex.class.isAssignableFrom(this.returnClass) ?
+        this.iteratorSupplier = this.defaultIteratorSupplier = this.createDefaultIteratorSupplier();
+    }
+
+    private Supplier<Iterator<E>> createDefaultIteratorSupplier() {
+        return () -> (Iterator<E>) (Vertex.class.isAssignableFrom(this.returnClass) ?
                 this.getTraversal().getGraph().get().vertices(this.ids) :
                 this.getTraversal().getGraph().get().edges(this.ids));
     }
@@ -97,6 +102,10 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
         this.iteratorSupplier = iteratorSupplier;
     }
 
+    public Supplier<Iterator<E>> getIteratorSupplier() {
+        return this.iteratorSupplier;
+    }
+
     public Object[] getIds() {
         return this.ids;
     }
@@ -154,6 +163,15 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
         this.iterator = EmptyIterator.instance();
     }
 
+    @Override
+    public GraphStep<S, E> clone() {
+        final GraphStep<S, E> clone = (GraphStep<S, E>) super.clone();
+        // the default iterator supplier reads the ids of the step that created it so the clone needs its own
+        if (null != this.iteratorSupplier && this.iteratorSupplier == this.defaultIteratorSupplier)
+            clone.iteratorSupplier = clone.defaultIteratorSupplier = clone.createDefaultIteratorSupplier();
+        return clone;
+    }
+
     @Override
     public int hashCode() {
         int result = super.hashCode() ^ this.returnClass.hashCode();
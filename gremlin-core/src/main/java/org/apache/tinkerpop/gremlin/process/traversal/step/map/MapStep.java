@@ -21,6 +21,9 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserBatch;
+
+import java.util.NoSuchElementException;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -37,6 +40,44 @@ public abstract class MapStep<S, E> extends AbstractStep<S, E> {
         return traverser.split(this.map(traverser), this);
     }
 
+    /**
+     * Pulls batches of starts into the provided batch and maps them in place, dropping those that map to no value, until
+     * the batch is full or there are no more starts at this point. When the starts of the step are not batched, they are
+     * processed one at a time instead.
+     */
+    @Override
+    public void processNextStarts(final TraverserBatch<E> batch) {
+        if (!this.starts.isBatched()) {
+            this.processNextStartsInBatch(batch);
+            return;
+        }
+        this.beginBatch(batch);
+        final TraverserBatch<S> starts = (TraverserBatch) batch;
+        int size = batch.size();
+        int index = size;
+        try {
+            while (!batch.isFull()) {
+                this.starts.fill(starts);
+                if (index == starts.size())
+                    break;
+                while (index < starts.size()) {
+                    final Traverser.Admin<S> start = starts.get(index++);
+                    final Traverser.Admin<E> end = start.split(this.map(start), this);
+                    if (null != end.get() && 0 != end.bulk())
+                        batch.set(size++, this.prepareTraversalForNextStep(end));
+                }
+                batch.truncate(size);
+                index = size;
+            }
+        } catch (final NoSuchElementException e) {
+            // the starts that were not mapped yet are left to the next pull as they would have been left upstream
+            while (index < starts.size()) {
+                this.starts.add(starts.get(index++));
+            }
+            batch.truncate(size);
+        }
+    }
+
     protected abstract E map(final Traverser.Admin<S> traverser);
 
 }
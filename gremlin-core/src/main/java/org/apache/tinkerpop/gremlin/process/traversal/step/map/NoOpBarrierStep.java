@@ -33,11 +33,19 @@ import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
+ * A {@link LocalBarrier} that gathers up to {@code maxBarrierSize} traversers so that equal traversers are bulked
+ * before they are passed to the next step. When constructed with a {@code minBarrierSize} that is smaller than the
+ * {@code maxBarrierSize}, the size of the barrier adapts between those bounds: it starts at the minimum, grows when
+ * a noticeable share of the traversers that filled it were merged into existing ones (e.g. a high fan-out into shared
+ * elements) and halves when hardly any were merged (the barrier only adds latency).
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements LocalBarrier<S> {
 
+    private int minBarrierSize;
     private int maxBarrierSize;
+    private int barrierSize;
     private TraverserSet<S> barrier = new TraverserSet<>();
 
     public NoOpBarrierStep(final Traversal.Admin traversal) {
@@ -45,8 +53,36 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
     }
 
     public NoOpBarrierStep(final Traversal.Admin traversal, final int maxBarrierSize) {
+        this(traversal, maxBarrierSize, maxBarrierSize);
+    }
+
+    public NoOpBarrierStep(final Traversal.Admin traversal, final int minBarrierSize, final int maxBarrierSize) {
         super(traversal);
+        if (minBarrierSize > maxBarrierSize || (minBarrierSize != maxBarrierSize && minBarrierSize < 1))
+            throw new IllegalArgumentException("The barrier size bounds must satisfy 0 < min <= max: [" + minBarrierSize + "," + maxBarrierSize + "]");
+        this.minBarrierSize = minBarrierSize;
         this.maxBarrierSize = maxBarrierSize;
+        this.barrierSize = minBarrierSize;
+    }
+
+    public int getMinBarrierSize() {
+        return this.minBarrierSize;
+    }
+
+    public int getMaxBarrierSize() {
+        return this.maxBarrierSize;
+    }
+
+    /**
+     * The number of distinct traversers the barrier currently gathers before it is emptied, which is only different
+     * from {@link #getMaxBarrierSize()} when the barrier is adaptive.
+     */
+    public int getBarrierSize() {
+        return this.barrierSize;
+    }
+
+    public boolean isAdaptive() {
+        return this.minBarrierSize != this.maxBarrierSize;
     }
 
     @Override
@@ -63,11 +99,32 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
 
     @Override
     public void processAllStarts() {
-        while (this.starts.hasNext() && (this.maxBarrierSize == Integer.MAX_VALUE || this.barrier.size() < this.maxBarrierSize)) {
+        final int startSize = this.barrier.size();
+        long pulled = 0;
+        while (this.starts.hasNext() && (this.barrierSize == Integer.MAX_VALUE || this.barrier.size() < this.barrierSize)) {
             final Traverser.Admin<S> traverser = this.starts.next();
             traverser.setStepId(this.getNextStep().getId()); // when barrier is reloaded, the traversers should be at the next step
             this.barrier.add(traverser);
+            pulled++;
         }
+        if (this.isAdaptive() && pulled > 0 && this.barrier.size() >= this.barrierSize)
+            this.adapt(pulled, this.barrier.size() - startSize);
+    }
+
+    /**
+     * Resizes an adaptive barrier after it was filled from {@code pulled} traversers of which {@code added} were
+     * distinct from those already in the barrier. As the number of traversers that merge grows with the square of the
+     * size of the barrier, even a small share of merged traversers indicates that a larger barrier will merge many
+     * more, whereas a barrier that merged none is unlikely to do much better when it is a bit larger.
+     */
+    private void adapt(final long pulled, final int added) {
+        final long merged = pulled - added;
+        if (merged * 8L >= pulled)
+            this.barrierSize = (int) Math.min((long) this.barrierSize * 4L, this.maxBarrierSize);
+        else if (merged * 32L >= pulled)
+            this.barrierSize = (int) Math.min((long) this.barrierSize * 2L, this.maxBarrierSize);
+        else if (merged * 64L < pulled)
+            this.barrierSize = Math.max(this.barrierSize / 2, this.minBarrierSize);
     }
 
     @Override
@@ -97,22 +154,26 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
     public NoOpBarrierStep<S> clone() {
         final NoOpBarrierStep<S> clone = (NoOpBarrierStep<S>) super.clone();
         clone.barrier = new TraverserSet<>();
+        clone.barrierSize = this.minBarrierSize;
         return clone;
     }
 
     @Override
     public String toString() {
-        return StringFactory.stepString(this, this.maxBarrierSize == Integer.MAX_VALUE ? null : this.maxBarrierSize);
+        return this.isAdaptive() ?
+                StringFactory.stepString(this, this.minBarrierSize, this.maxBarrierSize) :
+                StringFactory.stepString(this, this.maxBarrierSize == Integer.MAX_VALUE ? null : this.maxBarrierSize);
     }
 
     @Override
     public int hashCode() {
-        return super.hashCode() ^ this.maxBarrierSize;
+        return super.hashCode() ^ this.maxBarrierSize ^ (this.isAdaptive() ? Integer.rotateLeft(this.minBarrierSize, 16) : 0);
     }
 
     @Override
     public void reset() {
         super.reset();
         this.barrier.clear();
+        this.barrierSize = this.minBarrierSize;
     }
 }
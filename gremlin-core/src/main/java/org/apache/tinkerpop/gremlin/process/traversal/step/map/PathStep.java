@@ -27,6 +27,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.PathProcessor;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.MutablePath;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserBatch;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalRing;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -117,6 +118,12 @@ public final class PathStep<S> extends MapStep<S, Path> implements TraversalPare
         return PathProcessor.processTraverserPathLabels(super.processNextStart(), this.keepLabels);
     }
 
+    @Override
+    public void processNextStarts(final TraverserBatch<Path> batch) {
+        // the path labels that are no longer kept are dropped by processNextStart()
+        this.processNextStartsInBatch(batch);
+    }
+
     @Override
     public Set<String> getKeepLabels() {
         return this.keepLabels;
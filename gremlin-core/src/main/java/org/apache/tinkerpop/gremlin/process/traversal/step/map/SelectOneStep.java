@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.PathProcessor;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserBatch;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -133,6 +134,12 @@ public final class SelectOneStep<S, E> extends MapStep<S, E> implements Traversa
         }
         return traverser;
     }
+
+    @Override
+    public void processNextStarts(final TraverserBatch<E> batch) {
+        // the path labels that are no longer kept are dropped by processNextStart()
+        this.processNextStartsInBatch(batch);
+    }
 }
 
 
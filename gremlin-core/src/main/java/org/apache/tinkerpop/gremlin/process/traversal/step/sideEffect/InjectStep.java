@@ -45,6 +45,7 @@ public final class InjectStep<S> extends StartStep<S> {
     @Override
     public void reset() {
         super.reset();
+        this.first = true;
         this.start = new ArrayIterator<>(this.injections);
     }
 
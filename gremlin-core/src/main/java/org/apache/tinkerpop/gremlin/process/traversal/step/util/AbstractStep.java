@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.util;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserBatch;
 import org.apache.tinkerpop.gremlin.process.traversal.util.EmptyTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -164,6 +165,37 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
 
     protected abstract Traverser.Admin<E> processNextStart() throws NoSuchElementException;
 
+    /**
+     * Fills the batch by calling {@link #processNextStart()} directly rather than going through {@link #hasNext()} and
+     * {@link #next()} for every traverser, so that interruption is checked once per batch. It backs
+     * {@link #processNextStarts(TraverserBatch)} for steps that process their starts one at a time, such as those whose
+     * starts are not batched, and must not be used by steps that override {@link #next()} or {@link #hasNext()}.
+     */
+    protected void processNextStartsInBatch(final TraverserBatch<E> batch) {
+        this.beginBatch(batch);
+        try {
+            while (!batch.isFull()) {
+                final Traverser.Admin<E> traverser = this.processNextStart();
+                if (null != traverser.get() && 0 != traverser.bulk())
+                    batch.add(this.prepareTraversalForNextStep(traverser));
+            }
+        } catch (final NoSuchElementException e) {
+            // the step has no more ends to offer at this point so the batch is left partially filled
+        }
+    }
+
+    /**
+     * Checks for interruption and adds the end that {@link #hasNext()} computed ahead, if any, to the batch. Steps that
+     * process a batch of starts at a time call it before they add their own ends to the batch.
+     */
+    protected void beginBatch(final TraverserBatch<E> batch) {
+        if (Thread.interrupted()) throw new TraversalInterruptedException();
+        if (null != this.nextEnd) {
+            batch.add(this.prepareTraversalForNextStep(this.nextEnd));
+            this.nextEnd = null;
+        }
+    }
+
     @Override
     public String toString() {
         return StringFactory.stepString(this);
@@ -201,7 +233,7 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
         return result;
     }
 
-    private final Traverser.Admin<E> prepareTraversalForNextStep(final Traverser.Admin<E> traverser) {
+    protected final Traverser.Admin<E> prepareTraversalForNextStep(final Traverser.Admin<E> traverser) {
         if (!this.traverserStepIdAndLabelsSetByChild) {
             traverser.setStepId(this.nextStep.getId());
             traverser.addLabels(this.labels);
@@ -19,19 +19,38 @@
 package org.apache.tinkerpop.gremlin.process.traversal.step.util;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Ranging;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.BatchStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserBatch;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 
 import java.io.Serializable;
 import java.util.Iterator;
+import java.util.List;
 
 /**
+ * The starts of a {@link Step}. Traversers added directly to the step are served first, after which traversers are
+ * pulled from the previous step. When the traversal is configured with {@link BatchStrategy}, the steps of an OLTP
+ * root traversal pull from the previous step a {@link TraverserBatch} at a time via
+ * {@link Step#processNextStarts(TraverserBatch)}. Batching is not used for the steps of child traversals, which are
+ * often only evaluated until their first result, for the steps that feed a {@link Ranging} step, or for traversals
+ * that contain steps that write side-effects, mutate the graph or evaluate lambdas as such steps may observe that
+ * upstream steps are evaluated ahead of them.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class ExpandableStepIterator<S> implements Iterator<Traverser.Admin<S>>, Serializable {
 
     private final TraverserSet<S> traverserSet = new TraverserSet<>();
     private final Step<S, ?> hostStep;
+    private TraverserBatch<S> batch = null;
+    private boolean batchDetermined = false;
 
     public ExpandableStepIterator(final Step<S, ?> hostStep) {
         this.hostStep = hostStep;
@@ -39,7 +58,7 @@ public final class ExpandableStepIterator<S> implements Iterator<Traverser.Admin
 
     @Override
     public boolean hasNext() {
-        return !this.traverserSet.isEmpty() || this.hostStep.getPreviousStep().hasNext();
+        return !this.traverserSet.isEmpty() || (null != this.batch && !this.batch.isEmpty()) || this.hostStep.getPreviousStep().hasNext();
     }
 
     @Override
@@ -47,12 +66,45 @@ public final class ExpandableStepIterator<S> implements Iterator<Traverser.Admin
         if (!this.traverserSet.isEmpty())
             return this.traverserSet.remove();
         /////////////
-        if (this.hostStep.getPreviousStep().hasNext())
+        if (!this.batchDetermined)
+            this.determineBatch();
+        if (null != this.batch) {
+            if (this.batch.isEmpty())
+                this.hostStep.getPreviousStep().processNextStarts(this.batch);
+            if (!this.batch.isEmpty())
+                return this.batch.remove();
+        } else if (this.hostStep.getPreviousStep().hasNext())
             return this.hostStep.getPreviousStep().next();
         /////////////
         return this.traverserSet.remove();
     }
 
+    /**
+     * Whether the starts are pulled from the previous step a {@link TraverserBatch} at a time, in which case the host
+     * step may also pull them into a batch of its own with {@link #fill(TraverserBatch)} and process them together.
+     */
+    public boolean isBatched() {
+        if (!this.batchDetermined)
+            this.determineBatch();
+        return null != this.batch;
+    }
+
+    /**
+     * Add the next starts to the provided batch until it is full or there are no more starts at this point. The
+     * traversers added directly to the host step and those left over in the batch of this iterator are added first,
+     * after which the previous step fills the rest of the batch.
+     */
+    public void fill(final TraverserBatch<S> batch) {
+        while (!batch.isFull() && !this.traverserSet.isEmpty()) {
+            batch.add(this.traverserSet.remove());
+        }
+        while (!batch.isFull() && null != this.batch && !this.batch.isEmpty()) {
+            batch.add(this.batch.remove());
+        }
+        if (!batch.isFull())
+            this.hostStep.getPreviousStep().processNextStarts(batch);
+    }
+
     public void add(final Iterator<Traverser.Admin<S>> iterator) {
         iterator.forEachRemaining(this.traverserSet::add);
     }
@@ -68,5 +120,24 @@ public final class ExpandableStepIterator<S> implements Iterator<Traverser.Admin
 
     public void clear() {
         this.traverserSet.clear();
+        if (null != this.batch)
+            this.batch.clear();
+    }
+
+    private void determineBatch() {
+        this.batchDetermined = true;
+        final Traversal.Admin<?, ?> traversal = this.hostStep.getTraversal();
+        if (!(traversal.getParent() instanceof EmptyStep) || TraversalHelper.onGraphComputer(traversal))
+            return;
+        final int size = traversal.getStrategies().getStrategy(BatchStrategy.class).map(BatchStrategy::getSize).orElse(1);
+        if (size < 2)
+            return;
+        final List<Step> steps = traversal.getSteps();
+        for (int i = steps.indexOf(this.hostStep); i < steps.size(); i++) {
+            if (steps.get(i) instanceof Ranging)
+                return;
+        }
+        if (!TraversalHelper.anyStepRecursively(step -> step instanceof SideEffectCapable || step instanceof Mutating || step instanceof LambdaHolder, traversal))
+            this.batch = new TraverserBatch<>(size);
     }
 }
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ParallelStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+/**
+ * Executes a traversal that starts with a {@link GraphStep} and ends with a {@link ReducingBarrierStep} or a
+ * {@link CollectingBarrierStep} on several threads. The elements of the {@link GraphStep} are handed out in
+ * partitions to clones of the traversal that run on a {@link ForkJoinPool} of the step, which is shut down once they
+ * are done, and the barriers of the clones are then
+ * merged into the barrier of the original traversal with {@link Barrier#addBarrier(Object)}, whose ends are the ends
+ * of this step. The step is added by {@link ParallelStrategy}.
+ */
+public final class ParallelStep<S, E> extends AbstractStep<S, E> implements TraversalParent {
+
+    private static final int PARTITION_SIZE = 128;
+
+    private Traversal.Admin<S, E> parallelTraversal;
+    private final int threads;
+    private transient Supplier<Iterator<Object>> elementSupplier = null;
+    private boolean executed = false;
+
+    public ParallelStep(final Traversal.Admin traversal, final Traversal.Admin<S, E> parallelTraversal, final int threads) {
+        super(traversal);
+        if (threads < 1)
+            throw new IllegalArgumentException("The number of threads must be greater than zero: " + threads);
+        this.parallelTraversal = this.integrateChild(parallelTraversal);
+        this.threads = threads;
+    }
+
+    public Traversal.Admin<S, E> getParallelTraversal() {
+        return this.parallelTraversal;
+    }
+
+    public int getThreads() {
+        return this.threads;
+    }
+
+    @Override
+    protected Traverser.Admin<E> processNextStart() throws NoSuchElementException {
+        if (!this.executed) {
+            this.executed = true;
+            this.executeInParallel();
+        }
+        return this.parallelTraversal.getEndStep().next();
+    }
+
+    private void executeInParallel() {
+        final GraphStep<?, ?> graphStep = (GraphStep<?, ?>) this.parallelTraversal.getStartStep();
+        if (null == this.elementSupplier)
+            this.elementSupplier = (Supplier) graphStep.getIteratorSupplier();
+        final Partitions partitions = new Partitions(this.elementSupplier.get());
+        graphStep.setIteratorSupplier((Supplier) partitions::iterator);
+        // the traverser generator is resolved before cloning so that the clones do not resolve it concurrently
+        this.parallelTraversal.getTraverserGenerator();
+        final List<Traversal.Admin<S, E>> traversals = new ArrayList<>(this.threads);
+        traversals.add(this.parallelTraversal);
+        for (int i = 1; i < this.threads; i++) {
+            traversals.add(this.parallelTraversal.clone());
+        }
+        final ForkJoinPool pool = new ForkJoinPool(this.threads);
+        try {
+            final List<ForkJoinTask<?>> tasks = new ArrayList<>(this.threads);
+            for (final Traversal.Admin<S, E> traversal : traversals) {
+                tasks.add(pool.submit(() -> ((Barrier) traversal.getEndStep()).processAllStarts()));
+            }
+            for (final ForkJoinTask<?> task : tasks) {
+                task.get();
+            }
+        } catch (final InterruptedException e) {
+            // cancelling a ForkJoinTask does not interrupt the thread that runs it so the partitions stop the clones
+            partitions.cancel();
+            throw new TraversalInterruptedException();
+        } catch (final ExecutionException e) {
+            partitions.cancel();
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            else if (e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            else
+                throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        final Step<?, E> barrier = this.parallelTraversal.getEndStep();
+        for (int i = 1; i < traversals.size(); i++) {
+            final Step<?, E> otherBarrier = traversals.get(i).getEndStep();
+            if (barrier instanceof CollectingBarrierStep)   // the traversers are not detached as they would be by nextBarrier()
+                ((CollectingBarrierStep) barrier).addBarrier(((CollectingBarrierStep) otherBarrier).traverserSet);
+            else if (((Barrier) otherBarrier).hasNextBarrier())
+                ((Barrier) barrier).addBarrier(((Barrier) otherBarrier).nextBarrier());
+        }
+    }
+
+    @Override
+    public List<Traversal.Admin<S, E>> getGlobalChildren() {
+        return Collections.singletonList(this.parallelTraversal);
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return this.parallelTraversal.getTraverserRequirements();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.parallelTraversal.reset();
+        this.executed = false;
+        if (null != this.elementSupplier)
+            ((GraphStep) this.parallelTraversal.getStartStep()).setIteratorSupplier(this.elementSupplier);
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
+        super.setTraversal(parentTraversal);
+        this.integrateChild(this.parallelTraversal);
+    }
+
+    @Override
+    public ParallelStep<S, E> clone() {
+        final ParallelStep<S, E> clone = (ParallelStep<S, E>) super.clone();
+        // the graph step is cloned with its own supplier in place of the partitions so that the clone gets a supplier
+        // of its own rather than sharing the elements of this step
+        final GraphStep graphStep = (GraphStep) this.parallelTraversal.getStartStep();
+        final Supplier iteratorSupplier = graphStep.getIteratorSupplier();
+        if (null != this.elementSupplier)
+            graphStep.setIteratorSupplier(this.elementSupplier);
+        try {
+            clone.parallelTraversal = this.parallelTraversal.clone();
+        } finally {
+            graphStep.setIteratorSupplier(iteratorSupplier);
+        }
+        clone.elementSupplier = null;
+        clone.executed = false;
+        return clone;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.parallelTraversal, this.threads);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ this.parallelTraversal.hashCode() ^ this.threads;
+    }
+
+    /**
+     * Hands out the elements of the source iterator a partition at a time to the iterators of the parallel
+     * traversals. Once cancelled, the iterators throw a {@link TraversalInterruptedException} which stops the
+     * traversals that are still running.
+     */
+    private static final class Partitions {
+
+        private final Iterator<Object> source;
+        private volatile boolean cancelled = false;
+
+        private Partitions(final Iterator<Object> source) {
+            this.source = source;
+        }
+
+        private void cancel() {
+            this.cancelled = true;
+        }
+
+        private synchronized boolean nextPartition(final Deque<Object> partition) {
+            for (int i = 0; i < PARTITION_SIZE && this.source.hasNext(); i++) {
+                partition.add(this.source.next());
+            }
+            return !partition.isEmpty();
+        }
+
+        private Iterator<Object> iterator() {
+            final Deque<Object> partition = new ArrayDeque<>(PARTITION_SIZE);
+            return new Iterator<Object>() {
+                @Override
+                public boolean hasNext() {
+                    if (cancelled)
+                        throw new TraversalInterruptedException();
+                    return !partition.isEmpty() || nextPartition(partition);
+                }
+
+                @Override
+                public Object next() {
+                    if (!this.hasNext())
+                        throw new NoSuchElementException();
+                    return partition.remove();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ExpandableStepIterator;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserBatch;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.Collections;
+
+/**
+ * {@code BatchStrategy} has the steps of an OLTP traversal pull their starts from the previous step a
+ * {@link TraverserBatch} at a time (see {@link Step#processNextStarts(TraverserBatch)}) rather than one traverser at a
+ * time. As a batch evaluates upstream steps ahead of the steps that consume it, batching is not used for the steps of
+ * child traversals, for the steps that feed a {@code limit()} or {@code range()}, or for traversals that write
+ * side-effects, mutate the graph, evaluate lambdas or run on a {@code GraphComputer} (see
+ * {@link ExpandableStepIterator}). Like any pipelined traversal, a traversal that is partially consumed with
+ * {@code hasNext()}, {@code next()} or {@code tryNext()} may have evaluated up to a batch more than it returned. This
+ * is simply a metadata strategy that is read by the steps of the traversal.
+ *
+ * <pre>
+ * g.withStrategies(BatchStrategy.build().size(64).create()).V().out().out().values("name")
+ * </pre>
+ */
+public final class BatchStrategy extends AbstractTraversalStrategy<TraversalStrategy.DecorationStrategy> implements TraversalStrategy.DecorationStrategy {
+
+    public static final String SIZE = "size";
+
+    private final int size;
+
+    private BatchStrategy(final int size) {
+        if (size < 1)
+            throw new IllegalArgumentException("The size of a traverser batch must be greater than zero: " + size);
+        this.size = size;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        // do nothing as this is simply a metadata strategy
+    }
+
+    public int getSize() {
+        return this.size;
+    }
+
+    public static BatchStrategy create(final Configuration configuration) {
+        return new BatchStrategy(configuration.getInt(SIZE, TraverserBatch.DEFAULT_CAPACITY));
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        return new MapConfiguration(Collections.singletonMap(SIZE, this.size));
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalStrategyString(this);
+    }
+
+    public final static class Builder {
+
+        private int size = TraverserBatch.DEFAULT_CAPACITY;
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum number of traversers that a step pulls from the previous step at a time. The default is
+         * {@link TraverserBatch#DEFAULT_CAPACITY} and a size of one disables batching.
+         */
+        public Builder size(final int size) {
+            this.size = size;
+            return this;
+        }
+
+        public BatchStrategy create() {
+            return new BatchStrategy(this.size);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LocalBarrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Ranging;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.FlatMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.IdentityStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CollectingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ParallelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code ParallelStrategy} executes an OLTP traversal on several threads when it starts with {@code V()} or
+ * {@code E()} and the steps up to its first {@link ReducingBarrierStep} (e.g. {@code count()}, {@code groupCount()})
+ * or {@link CollectingBarrierStep} (e.g. {@code order()}) are simple map, filter and flatMap steps. The start elements
+ * are split into partitions that are processed by copies of that prefix of the traversal and the results are merged at
+ * the barrier using its merge operator (see {@link ParallelStep}). Traversals that write side-effects, mutate the
+ * graph, evaluate lambdas or are profiled are not changed, and neither are traversals of graphs that support
+ * transactions as the copies would each read in the transaction of their own thread. As the partitions are processed
+ * concurrently, the order of the results of order-sensitive barriers like {@code fold()} is not deterministic.
+ *
+ * <pre>
+ * g.withStrategies(ParallelStrategy.build().threads(8).create()).V().out().groupCount().by(label)
+ * </pre>
+ */
+public final class ParallelStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    public static final String THREADS = "threads";
+
+    private final int threads;
+
+    private ParallelStrategy(final int threads) {
+        if (threads < 1)
+            throw new IllegalArgumentException("The number of threads must be greater than zero: " + threads);
+        this.threads = threads;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (this.threads < 2 ||
+                !(traversal.getParent() instanceof EmptyStep) ||
+                TraversalHelper.onGraphComputer(traversal) ||
+                traversal.getGraph().map(graph -> graph.features().graph().supportsTransactions()).orElse(false) ||
+                TraversalHelper.hasStepOfAssignableClassRecursively(ProfileSideEffectStep.class, traversal))
+            return;
+        final List<Step> steps = traversal.getSteps();
+        if (steps.isEmpty() || !GraphStep.isStartStep(steps.get(0)))
+            return;
+        int barrierIndex = -1;
+        for (int i = 1; i < steps.size(); i++) {
+            final Step<?, ?> step = steps.get(i);
+            if (step instanceof ReducingBarrierStep || step instanceof CollectingBarrierStep) {
+                if (isIndependent(step))
+                    barrierIndex = i;
+                break;
+            }
+            if (!(step instanceof MapStep || step instanceof FilterStep || step instanceof FlatMapStep || step instanceof IdentityStep || step instanceof LocalBarrier) ||
+                    (step instanceof Barrier && !(step instanceof LocalBarrier)) ||
+                    step instanceof Ranging ||
+                    !isIndependent(step))
+                return;
+        }
+        if (-1 == barrierIndex)
+            return;
+
+        final Traversal.Admin<?, ?> parallelTraversal = new DefaultTraversal<>();
+        traversal.getGraph().ifPresent(parallelTraversal::setGraph);
+        parallelTraversal.setStrategies(traversal.getStrategies());
+        for (int i = 0; i <= barrierIndex; i++) {
+            final Step<?, ?> step = traversal.getStartStep();
+            final String id = step.getId();
+            traversal.removeStep(0);
+            parallelTraversal.addStep(step);
+            step.setId(id);
+        }
+        traversal.addStep(0, new ParallelStep<>(traversal, parallelTraversal, this.threads));
+    }
+
+    private static boolean isIndependent(final Step<?, ?> step) {
+        return !isDependent(step) && !(step instanceof TraversalParent && TraversalHelper.anyStepRecursively(ParallelStrategy::isDependent, (TraversalParent) step));
+    }
+
+    private static boolean isDependent(final Step<?, ?> step) {
+        return step instanceof SideEffectCapable || step instanceof Mutating || step instanceof LambdaHolder;
+    }
+
+    public int getThreads() {
+        return this.threads;
+    }
+
+    public static ParallelStrategy create(final Configuration configuration) {
+        return new ParallelStrategy(configuration.getInt(THREADS, Runtime.getRuntime().availableProcessors()));
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        return new MapConfiguration(Collections.singletonMap(THREADS, this.threads));
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalStrategyString(this);
+    }
+
+    public final static class Builder {
+
+        private int threads = Runtime.getRuntime().availableProcessors();
+
+        private Builder() {
+        }
+
+        /**
+         * The number of threads, and thus partitioned copies of the traversal, to execute the traversal with. The
+         * default is the number of available processors.
+         */
+        public Builder threads(final int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        public ParallelStrategy create() {
+            return new ParallelStrategy(this.threads);
+        }
+    }
+}
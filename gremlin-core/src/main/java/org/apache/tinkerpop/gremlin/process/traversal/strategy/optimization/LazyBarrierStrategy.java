@@ -18,6 +18,8 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
 
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
@@ -36,16 +38,28 @@ import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequire
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
+ * {@code LazyBarrierStrategy} inserts {@link NoOpBarrierStep}s after flatMap steps so that equal traversers are bulked
+ * before they are expanded further. By default every barrier gathers at most {@link #MAX_BARRIER_SIZE} traversers.
+ * When the strategy is built with a {@code minBarrierSize} smaller than its {@code maxBarrierSize}, the inserted
+ * barriers adapt their size between those bounds at runtime: they grow while the traversers they gather are being
+ * merged (e.g. a high fan-out into supernode neighbourhoods) and shrink while they are not (e.g. low fan-out paths).
+ *
+ * <pre>
+ * g.withStrategies(LazyBarrierStrategy.build().minBarrierSize(100).maxBarrierSize(100000).create())
+ * </pre>
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class LazyBarrierStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
 
     private final boolean IS_TESTING = Boolean.valueOf(System.getProperty("is.testing", "false"));
-    private static final LazyBarrierStrategy INSTANCE = new LazyBarrierStrategy();
+    private static final LazyBarrierStrategy INSTANCE = new LazyBarrierStrategy(LazyBarrierStrategy.MAX_BARRIER_SIZE, LazyBarrierStrategy.MAX_BARRIER_SIZE);
     private static final Set<Class<? extends OptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
             CountStrategy.class,
             PathRetractionStrategy.class,
@@ -58,7 +72,17 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
     private static final int BIG_START_SIZE = 5;
     protected static final int MAX_BARRIER_SIZE = 2500;
 
-    private LazyBarrierStrategy() {
+    public static final String MIN_BARRIER_SIZE_KEY = "minBarrierSize";
+    public static final String MAX_BARRIER_SIZE_KEY = "maxBarrierSize";
+
+    private final int minBarrierSize;
+    private final int maxBarrierSize;
+
+    private LazyBarrierStrategy(final int minBarrierSize, final int maxBarrierSize) {
+        if (minBarrierSize < 1 || minBarrierSize > maxBarrierSize)
+            throw new IllegalArgumentException("The barrier size bounds must satisfy 0 < min <= max: [" + minBarrierSize + "," + maxBarrierSize + "]");
+        this.minBarrierSize = minBarrierSize;
+        this.maxBarrierSize = maxBarrierSize;
     }
 
     @Override
@@ -87,7 +111,7 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
                 if (foundFlatMap && !labeledPath &&
                         !(step.getNextStep() instanceof Barrier) &&
                         !(step.getNextStep() instanceof EmptyStep)) {
-                    final Step noOpBarrierStep = new NoOpBarrierStep<>(traversal, MAX_BARRIER_SIZE);
+                    final Step noOpBarrierStep = new NoOpBarrierStep<>(traversal, this.minBarrierSize, this.maxBarrierSize);
                     TraversalHelper.copyLabels(step, noOpBarrierStep, true);
                     TraversalHelper.insertAfterStep(noOpBarrierStep, step, traversal);
                 } else
@@ -105,7 +129,62 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
         return PRIORS;
     }
 
+    public int getMinBarrierSize() {
+        return this.minBarrierSize;
+    }
+
+    public int getMaxBarrierSize() {
+        return this.maxBarrierSize;
+    }
+
     public static LazyBarrierStrategy instance() {
         return INSTANCE;
     }
+
+    public static LazyBarrierStrategy create(final Configuration configuration) {
+        // a bound that is not configured defaults to MAX_BARRIER_SIZE as far as the configured one allows
+        final int minBarrierSize = configuration.getInt(MIN_BARRIER_SIZE_KEY, Math.min(MAX_BARRIER_SIZE, configuration.getInt(MAX_BARRIER_SIZE_KEY, MAX_BARRIER_SIZE)));
+        return new LazyBarrierStrategy(minBarrierSize, configuration.getInt(MAX_BARRIER_SIZE_KEY, Math.max(MAX_BARRIER_SIZE, minBarrierSize)));
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(MIN_BARRIER_SIZE_KEY, this.minBarrierSize);
+        map.put(MAX_BARRIER_SIZE_KEY, this.maxBarrierSize);
+        return new MapConfiguration(map);
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private int minBarrierSize = MAX_BARRIER_SIZE;
+        private int maxBarrierSize = MAX_BARRIER_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * The size an adaptive barrier starts with and will not shrink below. Defaults to {@link #MAX_BARRIER_SIZE}.
+         */
+        public Builder minBarrierSize(final int minBarrierSize) {
+            this.minBarrierSize = minBarrierSize;
+            return this;
+        }
+
+        /**
+         * The size an adaptive barrier will not grow beyond. Defaults to {@link #MAX_BARRIER_SIZE}.
+         */
+        public Builder maxBarrierSize(final int maxBarrierSize) {
+            this.maxBarrierSize = maxBarrierSize;
+            return this;
+        }
+
+        public LazyBarrierStrategy create() {
+            return new LazyBarrierStrategy(this.minBarrierSize, this.maxBarrierSize);
+        }
+    }
 }
@@ -45,6 +45,13 @@ public abstract class O_Traverser<T> extends AbstractTraverser<T> {
         return this.tags;
     }
 
+    /**
+     * Determines if the traverser has any tags without allocating the tag set that {@link #getTags()} would.
+     */
+    public boolean hasTags() {
+        return null != this.tags && !this.tags.isEmpty();
+    }
+
     @Override
     public <R> Admin<R> split(final R r, final Step<T, R> step) {
         final O_Traverser<R> clone = (O_Traverser<R>) super.split(r, step);
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+
+import java.io.Serializable;
+
+/**
+ * A fixed capacity first-in-first-out buffer of traversers that is used to move traversers between {@link Step}
+ * instances a batch at a time (see {@link Step#processNextStarts(TraverserBatch)}). Unlike {@link TraverserSet}, a
+ * batch does not merge equal traversers and it is only refilled once it has been completely drained.
+ */
+public final class TraverserBatch<S> implements Serializable {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final Traverser.Admin<S>[] traversers;
+    private int head = 0;
+    private int tail = 0;
+
+    public TraverserBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TraverserBatch(final int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("The capacity of a traverser batch must be greater than zero: " + capacity);
+        @SuppressWarnings("unchecked")
+        final Traverser.Admin<S>[] traversers = new Traverser.Admin[capacity];
+        this.traversers = traversers;
+    }
+
+    public int capacity() {
+        return this.traversers.length;
+    }
+
+    public int size() {
+        return this.tail - this.head;
+    }
+
+    public boolean isEmpty() {
+        return this.head == this.tail;
+    }
+
+    public boolean isFull() {
+        return this.tail == this.traversers.length;
+    }
+
+    public void add(final Traverser.Admin<S> traverser) {
+        if (this.isFull())
+            throw new IllegalStateException("The traverser batch is full: " + this.traversers.length);
+        this.traversers[this.tail++] = traverser;
+    }
+
+    public Traverser.Admin<S> remove() {  // pop, exception if empty
+        if (this.isEmpty())
+            throw FastNoSuchElementException.instance();
+        final Traverser.Admin<S> traverser = this.traversers[this.head];
+        this.traversers[this.head++] = null;
+        if (this.head == this.tail) {
+            this.head = 0;
+            this.tail = 0;
+        }
+        return traverser;
+    }
+
+    /**
+     * Get the traverser at the provided position, counting from the next traverser to be removed. Along with
+     * {@link #set(int, Traverser.Admin)} and {@link #truncate(int)}, it lets a step map or filter its starts in place.
+     */
+    public Traverser.Admin<S> get(final int index) {
+        return this.traversers[this.position(index)];
+    }
+
+    /**
+     * Replace the traverser at the provided position, counting from the next traverser to be removed.
+     */
+    public void set(final int index, final Traverser.Admin<S> traverser) {
+        this.traversers[this.position(index)] = traverser;
+    }
+
+    /**
+     * Drop the traversers at and after the provided position, counting from the next traverser to be removed.
+     */
+    public void truncate(final int size) {
+        if (size < 0 || size > this.size())
+            throw new IndexOutOfBoundsException("The traverser batch can not be truncated to " + size + " as it holds " + this.size());
+        for (int i = this.head + size; i < this.tail; i++) {
+            this.traversers[i] = null;
+        }
+        this.tail = this.head + size;
+        if (this.head == this.tail) {
+            this.head = 0;
+            this.tail = 0;
+        }
+    }
+
+    public void clear() {
+        for (int i = this.head; i < this.tail; i++) {
+            this.traversers[i] = null;
+        }
+        this.head = 0;
+        this.tail = 0;
+    }
+
+    private int position(final int index) {
+        if (index < 0 || index >= this.size())
+            throw new IndexOutOfBoundsException("The traverser batch has no traverser at " + index + " as it holds " + this.size());
+        return this.head + index;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int i = this.head; i < this.tail; i++) {
+            if (i > this.head)
+                builder.append(", ");
+            builder.append(this.traversers[i]);
+        }
+        return builder.append(']').toString();
+    }
+}
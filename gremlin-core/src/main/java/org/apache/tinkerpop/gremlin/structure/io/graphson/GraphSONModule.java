@@ -33,6 +33,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalOptionParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.Tree;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.BatchStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ConnectiveStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ElementIdStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.EventStrategy;
@@ -40,6 +41,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.Halted
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.PartitionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SubgraphStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MatchAlgorithmStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ParallelStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.AdjacentToIncidentStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.FilterRankingStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.IdentityRemovalStrategy;
@@ -161,10 +163,12 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                             ElementIdStrategy.class,
                             EventStrategy.class,
                             HaltedTraverserStrategy.class,
+                            BatchStrategy.class,
                             PartitionStrategy.class,
                             SubgraphStrategy.class,
                             LazyBarrierStrategy.class,
                             MatchAlgorithmStrategy.class,
+                            ParallelStrategy.class,
                             AdjacentToIncidentStrategy.class,
                             FilterRankingStrategy.class,
                             IdentityRemovalStrategy.class,
@@ -277,10 +281,12 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                     ElementIdStrategy.class,
                     EventStrategy.class,
                     HaltedTraverserStrategy.class,
+                    BatchStrategy.class,
                     PartitionStrategy.class,
                     SubgraphStrategy.class,
                     LazyBarrierStrategy.class,
                     MatchAlgorithmStrategy.class,
+                    ParallelStrategy.class,
                     AdjacentToIncidentStrategy.class,
                     FilterRankingStrategy.class,
                     IdentityRemovalStrategy.class,
@@ -29,6 +29,7 @@ import org.apache.tinkerpop.gremlin.structure.io.GraphReader;
 import org.apache.tinkerpop.gremlin.structure.io.GraphWriter;
 import org.apache.tinkerpop.gremlin.structure.io.Mapper;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoWriter;
+import org.apache.tinkerpop.gremlin.structure.io.util.ParallelGraphLoader;
 import org.apache.tinkerpop.gremlin.structure.util.Attachable;
 import org.apache.tinkerpop.gremlin.structure.util.Host;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedEdge;
@@ -49,11 +50,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -69,8 +74,14 @@ import java.util.stream.Stream;
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
 public final class GraphSONReader implements GraphReader {
+    /**
+     * The number of vertices in each chunk of the input that is read in parallel.
+     */
+    private static final int VERTICES_PER_CHUNK = 1000;
+
     private final ObjectMapper mapper;
     private final long batchSize;
+    private final int parallelism;
     private final GraphSONVersion version;
     private boolean unwrapAdjacencyList = false;
 
@@ -80,6 +91,7 @@ public final class GraphSONReader implements GraphReader {
     private GraphSONReader(final Builder builder) {
         mapper = builder.mapper.createMapper();
         batchSize = builder.batchSize;
+        parallelism = builder.parallelism;
         unwrapAdjacencyList = builder.unwrapAdjacencyList;
         version = ((GraphSONMapper)builder.mapper).getVersion();
     }
@@ -94,6 +106,12 @@ public final class GraphSONReader implements GraphReader {
      */
     @Override
     public void readGraph(final InputStream inputStream, final Graph graphToWriteTo) throws IOException {
+        if (parallelism > 1) {
+            ParallelGraphLoader.load(new VertexChunkIterator(readVertexStrings(inputStream).iterator()),
+                    this::readVertexChunk, graphToWriteTo, parallelism, batchSize);
+            return;
+        }
+
         // dual pass - create all vertices and store to cache the ids.  then create edges.  as long as we don't
         // have vertex labels in the output we can't do this single pass
         final Map<StarGraph.StarVertex,Vertex> cache = new HashMap<>();
@@ -102,7 +120,7 @@ public final class GraphSONReader implements GraphReader {
         final boolean supportsTx = graphToWriteTo.features().graph().supportsTransactions();
         final Graph.Features.EdgeFeatures edgeFeatures = graphToWriteTo.features().edge();
 
-        readVertexStrings(inputStream).<Vertex>map(FunctionUtils.wrapFunction(line -> readVertex(new ByteArrayInputStream(line.getBytes()), null, null, Direction.IN))).forEach(vertex -> {
+        readVertexStrings(inputStream).<Vertex>map(FunctionUtils.wrapFunction(line -> readVertex(new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8)), null, null, Direction.IN))).forEach(vertex -> {
             final Attachable<Vertex> attachable = (Attachable<Vertex>) vertex;
             cache.put((StarGraph.StarVertex) attachable.get(), attachable.attach(Attachable.Method.create(graphToWriteTo)));
             if (supportsTx && counter.incrementAndGet() % batchSize == 0)
@@ -143,7 +161,7 @@ public final class GraphSONReader implements GraphReader {
                                          final Function<Attachable<Vertex>, Vertex> vertexAttachMethod,
                                          final Function<Attachable<Edge>, Edge> edgeAttachMethod,
                                          final Direction attachEdgesOfThisDirection) throws IOException {
-        return readVertexStrings(inputStream).<Vertex>map(FunctionUtils.wrapFunction(line -> readVertex(new ByteArrayInputStream(line.getBytes()), vertexAttachMethod, edgeAttachMethod, attachEdgesOfThisDirection))).iterator();
+        return readVertexStrings(inputStream).<Vertex>map(FunctionUtils.wrapFunction(line -> readVertex(new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8)), vertexAttachMethod, edgeAttachMethod, attachEdgesOfThisDirection))).iterator();
     }
 
     /**
@@ -269,6 +287,14 @@ public final class GraphSONReader implements GraphReader {
         return mapper.readValue(inputStream, clazz);
     }
 
+    private List<StarGraph.StarVertex> readVertexChunk(final List<String> lines) throws IOException {
+        final List<StarGraph.StarVertex> vertices = new ArrayList<>(lines.size());
+        for (final String line : lines) {
+            vertices.add((StarGraph.StarVertex) readVertex(new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8)), null, null, Direction.IN));
+        }
+        return vertices;
+    }
+
     private Stream<String> readVertexStrings(final InputStream inputStream) throws IOException {
         if (unwrapAdjacencyList) {
             final JsonNode root = mapper.readTree(inputStream);
@@ -276,7 +302,7 @@ public final class GraphSONReader implements GraphReader {
             if (!vertices.getNodeType().equals(JsonNodeType.ARRAY)) throw new IOException(String.format("The '%s' key must be an array", GraphSONTokens.VERTICES));
             return IteratorUtils.stream(vertices.elements()).map(Object::toString);
         } else {
-            final BufferedReader br = new BufferedReader(new InputStreamReader(inputStream));
+            final BufferedReader br = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
             return br.lines();
         }
     }
@@ -287,6 +313,7 @@ public final class GraphSONReader implements GraphReader {
 
     public final static class Builder implements ReaderBuilder<GraphSONReader> {
         private long batchSize = 10000;
+        private int parallelism = 1;
 
         private Mapper<ObjectMapper> mapper = GraphSONMapper.build().create();
         private boolean unwrapAdjacencyList = false;
@@ -302,6 +329,18 @@ public final class GraphSONReader implements GraphReader {
             return this;
         }
 
+        /**
+         * Number of threads used by {@link GraphSONReader#readGraph(InputStream, Graph)} to parse vertices and create
+         * them in the graph.  By default, this value is {@code 1} and the graph is read on the calling thread.  A
+         * larger value requires a graph that accepts concurrent mutation from several threads.
+         */
+        public Builder parallelism(final int parallelism) {
+            if (parallelism < 1)
+                throw new IllegalArgumentException("The parallelism must be greater than zero");
+            this.parallelism = parallelism;
+            return this;
+        }
+
         /**
          * Override all of the {@link GraphSONMapper} builder
          * options with this mapper.  If this value is set to something other than null then that value will be
@@ -333,4 +372,30 @@ public final class GraphSONReader implements GraphReader {
             return new GraphSONReader(this);
         }
     }
+
+    /**
+     * Groups the lines of the adjacency list into chunks of {@link #VERTICES_PER_CHUNK} vertices.
+     */
+    private static class VertexChunkIterator implements Iterator<List<String>> {
+        private final Iterator<String> lines;
+
+        public VertexChunkIterator(final Iterator<String> lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return lines.hasNext();
+        }
+
+        @Override
+        public List<String> next() {
+            if (!lines.hasNext()) throw new NoSuchElementException();
+            final List<String> chunk = new ArrayList<>(VERTICES_PER_CHUNK);
+            while (chunk.size() < VERTICES_PER_CHUNK && lines.hasNext()) {
+                chunk.add(lines.next());
+            }
+            return chunk;
+        }
+    }
 }
@@ -37,6 +37,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.function.Function;
 
@@ -103,12 +104,12 @@ public final class GraphSONWriter implements GraphWriter {
      */
     @Override
     public void writeVertices(final OutputStream outputStream, final Iterator<Vertex> vertexIterator, final Direction direction) throws IOException {
-        final BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream));
+        final BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
         try (final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
             if (wrapAdjacencyList) writer.write("{\"" + GraphSONTokens.VERTICES + "\":[");
             while (vertexIterator.hasNext()) {
                 writeVertex(baos, vertexIterator.next(), direction);
-                writer.write(new String(baos.toByteArray()));
+                writer.write(new String(baos.toByteArray(), StandardCharsets.UTF_8));
                 if (wrapAdjacencyList) {
                     if (vertexIterator.hasNext())
                         writer.write(",");
@@ -29,6 +29,7 @@ import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.io.GraphReader;
 import org.apache.tinkerpop.gremlin.structure.io.GraphWriter;
 import org.apache.tinkerpop.gremlin.structure.io.Mapper;
+import org.apache.tinkerpop.gremlin.structure.io.util.ParallelGraphLoader;
 import org.apache.tinkerpop.gremlin.structure.util.Attachable;
 import org.apache.tinkerpop.gremlin.structure.util.Host;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedEdge;
@@ -43,10 +44,13 @@ import org.apache.tinkerpop.shaded.kryo.io.Input;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
@@ -62,14 +66,21 @@ import java.util.function.Function;
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class GryoReader implements GraphReader {
+    /**
+     * The number of vertices in each chunk of the input that is read in parallel.
+     */
+    private static final int VERTICES_PER_CHUNK = 1000;
+
     private final Kryo kryo;
     private final Map<GraphFilter, StarGraphGryoSerializer> graphFilterCache = new HashMap<>();
 
     private final long batchSize;
+    private final int parallelism;
 
-    private GryoReader(final long batchSize, final Mapper<Kryo> gryoMapper) {
+    private GryoReader(final long batchSize, final int parallelism, final Mapper<Kryo> gryoMapper) {
         this.kryo = gryoMapper.createMapper();
         this.batchSize = batchSize;
+        this.parallelism = parallelism;
     }
 
     /**
@@ -83,6 +94,14 @@ public final class GryoReader implements GraphReader {
      */
     @Override
     public void readGraph(final InputStream inputStream, final Graph graphToWriteTo) throws IOException {
+        if (this.parallelism > 1) {
+            // the vertices are decoded on the calling thread as the end of a vertex is only known once it has been
+            // decoded, which leaves the threads of the loader to create them in the graph
+            ParallelGraphLoader.load(new VertexChunkIterator(new Input(inputStream)),
+                    chunk -> chunk, graphToWriteTo, this.parallelism, this.batchSize);
+            return;
+        }
+
         // dual pass - create all vertices and store to cache the ids.  then create edges.  as long as we don't
         // have vertex labels in the output we can't do this single pass
         final Map<StarGraph.StarVertex, Vertex> cache = new HashMap<>();
@@ -273,6 +292,7 @@ public final class GryoReader implements GraphReader {
     public final static class Builder implements ReaderBuilder<GryoReader> {
 
         private long batchSize = 10000;
+        private int parallelism = 1;
         /**
          * Always use the most recent gryo version by default
          */
@@ -290,6 +310,18 @@ public final class GryoReader implements GraphReader {
             return this;
         }
 
+        /**
+         * Number of threads used by {@link GryoReader#readGraph(InputStream, Graph)} to create vertices and edges in
+         * the graph.  By default, this value is {@code 1} and the graph is read on the calling thread.  A
+         * larger value requires a graph that accepts concurrent mutation from several threads.
+         */
+        public Builder parallelism(final int parallelism) {
+            if (parallelism < 1)
+                throw new IllegalArgumentException("The parallelism must be greater than zero");
+            this.parallelism = parallelism;
+            return this;
+        }
+
         /**
          * Supply a mapper {@link GryoMapper} instance to use as the serializer for the {@code KryoWriter}.
          */
@@ -299,7 +331,7 @@ public final class GryoReader implements GraphReader {
         }
 
         public GryoReader create() {
-            return new GryoReader(batchSize, this.gryoMapper);
+            return new GryoReader(batchSize, parallelism, this.gryoMapper);
         }
 
     }
@@ -334,4 +366,49 @@ public final class GryoReader implements GraphReader {
             }
         }
     }
+
+    /**
+     * Splits the stream into chunks of {@link #VERTICES_PER_CHUNK} vertices. The vertices are decoded to find where
+     * each of them ends, as the bytes of the {@link VertexTerminator} may also occur within the values of a vertex.
+     */
+    private class VertexChunkIterator implements Iterator<List<StarGraph.StarVertex>> {
+        private final Input input;
+        private List<StarGraph.StarVertex> next;
+
+        public VertexChunkIterator(final Input input) {
+            this.input = input;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (null == this.next && !this.input.eof()) {
+                try {
+                    this.next = readChunk();
+                } catch (IOException ex) {
+                    throw new RuntimeException(ex);
+                }
+            }
+            return null != this.next;
+        }
+
+        @Override
+        public List<StarGraph.StarVertex> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            final List<StarGraph.StarVertex> chunk = this.next;
+            this.next = null;
+            return chunk;
+        }
+
+        private List<StarGraph.StarVertex> readChunk() throws IOException {
+            final List<StarGraph.StarVertex> vertices = new ArrayList<>(VERTICES_PER_CHUNK);
+            while (vertices.size() < VERTICES_PER_CHUNK && !this.input.eof()) {
+                readHeader(this.input);
+                vertices.add(kryo.readObject(this.input, StarGraph.class).getStarVertex());
+
+                // read the terminator
+                kryo.readClassAndObject(this.input);
+            }
+            return vertices;
+        }
+    }
 }
@@ -23,6 +23,9 @@ import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
 import org.apache.tinkerpop.gremlin.process.traversal.util.ConnectiveP;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalMetrics;
@@ -54,6 +57,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -397,6 +401,122 @@ public final class GryoSerializersV3d0 {
         }
     }
 
+    /**
+     * Serializes a {@link TraverserSet} as runs of consecutive traversers that share a step id, so that the step id
+     * is written once per run rather than once per traverser and is itself dictionary-encoded across the whole set.
+     * Runs of untagged {@link B_O_Traverser}, which is what most OLAP traversals produce, are reduced to the object and
+     * its bulk. Order is preserved and equal traversers are merged by bulk on read.
+     */
+    public final static class TraverserSetSerializer implements SerializerShim<TraverserSet> {
+        @Override
+        public <O extends OutputShim> void write(final KryoShim<?, O> kryo, final O output, final TraverserSet traverserSet) {
+            final Map<String, Integer> dictionary = new HashMap<>();
+            final List<Traverser.Admin<?>> run = new ArrayList<>();
+            for (final Traverser.Admin<?> traverser : (TraverserSet<?>) traverserSet) {
+                if (!run.isEmpty() && !isSameRun(run.get(0), traverser)) {
+                    writeRun(kryo, output, dictionary, run);
+                    run.clear();
+                }
+                run.add(traverser);
+            }
+            if (!run.isEmpty())
+                writeRun(kryo, output, dictionary, run);
+            writeVarLong(output, 0);
+        }
+
+        @Override
+        public <I extends InputShim> TraverserSet read(final KryoShim<I, ?> kryo, final I input, final Class<TraverserSet> traverserSetClass) {
+            final List<String> dictionary = new ArrayList<>();
+            final TraverserSet<Object> traverserSet = new TraverserSet<>();
+            int size;
+            while ((size = (int) readVarLong(input)) > 0) {
+                final String stepId = readDictionaryEntry(input, dictionary);
+                final boolean compact = input.readBoolean();
+                for (int i = 0; i < size; i++) {
+                    final Traverser.Admin<Object> traverser = compact ?
+                            new B_O_Traverser<>(kryo.readClassAndObject(input), readVarLong(input)) :
+                            (Traverser.Admin<Object>) kryo.readClassAndObject(input);
+                    traverser.setStepId(stepId);
+                    traverserSet.add(traverser);
+                }
+            }
+            return traverserSet;
+        }
+
+        private static boolean isCompact(final Traverser.Admin<?> traverser) {
+            return traverser.getClass().equals(B_O_Traverser.class) && !((B_O_Traverser<?>) traverser).hasTags();
+        }
+
+        private static boolean isSameRun(final Traverser.Admin<?> first, final Traverser.Admin<?> traverser) {
+            return isCompact(first) == isCompact(traverser) && Objects.equals(first.getStepId(), traverser.getStepId());
+        }
+
+        private static <O extends OutputShim> void writeRun(final KryoShim<?, O> kryo, final O output,
+                                                            final Map<String, Integer> dictionary,
+                                                            final List<Traverser.Admin<?>> run) {
+            final boolean compact = isCompact(run.get(0));
+            writeVarLong(output, run.size());
+            writeDictionaryEntry(output, dictionary, run.get(0).getStepId());
+            output.writeBoolean(compact);
+            for (final Traverser.Admin<?> traverser : run) {
+                if (compact) {
+                    kryo.writeClassAndObject(output, traverser.get());
+                    writeVarLong(output, traverser.bulk());
+                } else {
+                    // the step id is carried by the run so the traverser is written without it
+                    final String stepId = traverser.getStepId();
+                    traverser.setStepId(null);
+                    try {
+                        kryo.writeClassAndObject(output, traverser);
+                    } finally {
+                        traverser.setStepId(stepId);
+                    }
+                }
+            }
+        }
+
+        private static <O extends OutputShim> void writeDictionaryEntry(final O output, final Map<String, Integer> dictionary,
+                                                                        final String entry) {
+            final Integer index = dictionary.get(entry);
+            if (null == index) {
+                dictionary.put(entry, dictionary.size() + 1);
+                writeVarLong(output, 0);
+                output.writeString(entry);
+            } else
+                writeVarLong(output, index);
+        }
+
+        private static <I extends InputShim> String readDictionaryEntry(final I input, final List<String> dictionary) {
+            final int index = (int) readVarLong(input);
+            if (0 == index) {
+                final String entry = input.readString();
+                dictionary.add(entry);
+                return entry;
+            } else
+                return dictionary.get(index - 1);
+        }
+
+        private static <O extends OutputShim> void writeVarLong(final O output, long value) {
+            while ((value & ~0x7FL) != 0) {
+                output.writeByte((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            output.writeByte((byte) value);
+        }
+
+        private static <I extends InputShim> long readVarLong(final I input) {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = input.readByte();
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+
     public final static class TraversalMetricsSerializer implements SerializerShim<TraversalMetrics> {
         @Override
         public <O extends OutputShim> void write(final KryoShim<?, O> kryo, final O output, final TraversalMetrics object) {
@@ -334,7 +334,7 @@ public enum GryoVersion {
             add(GryoTypeReg.of(MatchStep.CountMatchAlgorithm.class, 160));
             add(GryoTypeReg.of(MatchStep.GreedyMatchAlgorithm.class, 164));
 
-            add(GryoTypeReg.of(TraverserSet.class, 58));
+            add(GryoTypeReg.of(TraverserSet.class, 58, new GryoSerializersV3d0.TraverserSetSerializer()));
             add(GryoTypeReg.of(Tree.class, 61));
             add(GryoTypeReg.of(HashSet.class, 62));
             add(GryoTypeReg.of(BulkSet.class, 64));
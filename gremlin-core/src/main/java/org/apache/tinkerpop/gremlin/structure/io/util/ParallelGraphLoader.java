@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.io.util;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.io.GraphReader;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
+import org.apache.tinkerpop.gremlin.structure.util.star.StarGraph;
+import org.apache.tinkerpop.gremlin.util.function.ThrowingFunction;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads a graph for the {@code readGraph} method of a {@link GraphReader} across a pool of threads. The calling
+ * thread splits the input into chunks of vertices, which the pool converts with the decoder of the format and creates
+ * in the graph concurrently. Once every vertex exists, the incoming edges of each chunk are attached, again one chunk
+ * per thread. Whether the vertices are decoded by the pool depends on the format: the GraphSON chunks are lines that
+ * the pool decodes, while the Gryo chunks hold vertices already decoded by the calling thread, as the end of a Gryo
+ * vertex is only known once it has been decoded.
+ * <p/>
+ * The graph must accept concurrent mutation from several threads. When it supports transactions, each thread commits
+ * its own transaction every {@code batchSize} mutations and when it finishes a chunk.
+ */
+public final class ParallelGraphLoader {
+
+    private ParallelGraphLoader() {
+    }
+
+    /**
+     * Read a graph from chunks of vertices.
+     *
+     * @param chunks         the chunks of the input, which are read on the calling thread.
+     * @param decoder        converts a chunk into its vertices with their incoming edges on a thread of the pool.
+     * @param graphToWriteTo the graph to write to.
+     * @param parallelism    the number of threads in the pool.
+     * @param batchSize      the number of mutations a thread performs before committing its transaction.
+     */
+    public static <C> void load(final Iterator<C> chunks,
+                                final ThrowingFunction<C, List<StarGraph.StarVertex>> decoder,
+                                final Graph graphToWriteTo, final int parallelism, final long batchSize) throws IOException {
+        final boolean supportsTx = graphToWriteTo.features().graph().supportsTransactions();
+        final Graph.Features.EdgeFeatures edgeFeatures = graphToWriteTo.features().edge();
+        final Map<Object, Vertex> cache = new ConcurrentHashMap<>();
+
+        final AtomicInteger threadCount = new AtomicInteger(0);
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism * 2),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "gremlin-graph-reader-" + threadCount.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // block the calling thread rather than buffer the whole input when the pool falls behind
+                (runnable, pool) -> {
+                    try {
+                        pool.getQueue().put(runnable);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException(ie);
+                    }
+                });
+
+        try {
+            final List<Future<List<StarGraph.StarVertex>>> decoded = new ArrayList<>();
+            while (chunks.hasNext()) {
+                final C chunk = chunks.next();
+                decoded.add(executor.submit(() -> {
+                    final List<StarGraph.StarVertex> vertices = decoder.apply(chunk);
+                    long counter = 0;
+                    for (final StarGraph.StarVertex vertex : vertices) {
+                        cache.put(vertex.id(), vertex.attach(Attachable.Method.create(graphToWriteTo)));
+                        if (supportsTx && ++counter % batchSize == 0)
+                            graphToWriteTo.tx().commit();
+                    }
+                    if (supportsTx) graphToWriteTo.tx().commit();
+                    return vertices;
+                }));
+            }
+
+            // every vertex has to exist before any edge can be attached
+            final List<List<StarGraph.StarVertex>> partitions = new ArrayList<>(decoded.size());
+            for (final Future<List<StarGraph.StarVertex>> future : decoded) {
+                partitions.add(await(future));
+            }
+            decoded.clear();
+
+            final List<Future<?>> attached = new ArrayList<>(partitions.size());
+            for (final List<StarGraph.StarVertex> vertices : partitions) {
+                attached.add(executor.submit(() -> {
+                    long counter = 0;
+                    for (final StarGraph.StarVertex vertex : vertices) {
+                        final Iterator<Edge> edges = vertex.edges(Direction.IN);
+                        while (edges.hasNext()) {
+                            final Edge e = edges.next();
+                            // can't use a standard Attachable attach method here because we have to use the cache for
+                            // those graphs that don't support userSuppliedIds on edges
+                            final Vertex cachedOutV = cache.get(e.outVertex().id());
+                            final Vertex cachedInV = cache.get(e.inVertex().id());
+
+                            if (null == cachedOutV) throw new IllegalStateException(String.format("Could not find outV with id [%s] to create edge with id [%s]", e.outVertex().id(), e.id()));
+                            if (null == cachedInV) throw new IllegalStateException(String.format("Could not find inV with id [%s] to create edge with id [%s]", e.inVertex().id(), e.id()));
+
+                            final Edge newEdge = edgeFeatures.willAllowId(e.id()) ? cachedOutV.addEdge(e.label(), cachedInV, T.id, e.id()) : cachedOutV.addEdge(e.label(), cachedInV);
+                            e.properties().forEachRemaining(p -> newEdge.property(p.key(), p.value()));
+                            if (supportsTx && ++counter % batchSize == 0)
+                                graphToWriteTo.tx().commit();
+                        }
+                    }
+                    if (supportsTx) graphToWriteTo.tx().commit();
+                }));
+            }
+            for (final Future<?> future : attached) {
+                await(future);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T> T await(final Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading the graph", ie);
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IOException(cause);
+        }
+    }
+}
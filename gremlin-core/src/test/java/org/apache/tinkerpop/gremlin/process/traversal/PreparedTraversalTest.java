@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class PreparedTraversalTest {
+
+    private final GraphTraversalSource g = new GraphTraversalSource(EmptyGraph.instance(), TraversalStrategies.GlobalCache.getStrategies(Graph.class));
+    private final Bindings b = Bindings.instance();
+
+    @Test
+    public void shouldExecuteForOtherValues() {
+        final PreparedTraversal<Integer, Integer> prepared = g.prepare(g.inject(1, 2, 3, 2).is(b.of("x", 2)));
+        assertEquals(Arrays.asList(2, 2), prepared.toList());
+        assertEquals(Collections.singletonList(3), prepared.toList("x", 3));
+        assertEquals(Collections.singletonList(1), prepared.toList("x", 1));
+        assertEquals(Arrays.asList(2, 2), prepared.toList("x", 2));
+        assertEquals(Collections.emptyList(), prepared.toList("x", 4));
+        assertEquals(Collections.singletonMap("x", 2), prepared.getBindings());
+    }
+
+    @Test
+    public void shouldReuseInstancesFromThePool() {
+        final PreparedTraversal<Integer, Integer> prepared = g.prepare(g.inject(1, 2, 3).is(b.of("x", 2)));
+        assertEquals(0, prepared.getPoolSize());
+        assertEquals(Collections.singletonList(2), prepared.toList("x", 2));
+        assertEquals(1, prepared.getPoolSize());
+        // an instance taken from the pool is not in the pool while it executes
+        assertEquals(0, prepared.apply(t -> prepared.getPoolSize(), "x", 2).intValue());
+        assertEquals(1, prepared.getPoolSize());
+
+        // the first other value is compiled from scratch to verify the template, later ones reuse the pool
+        assertEquals(1, prepared.apply(t -> prepared.getPoolSize(), "x", 3).intValue());
+        assertEquals(1, prepared.getPoolSize());
+        assertEquals(0, prepared.apply(t -> prepared.getPoolSize(), "x", 1).intValue());
+        assertEquals(Collections.singletonList(1), prepared.toList("x", 1));
+        assertEquals(Collections.singletonList(2), prepared.toList());
+        assertEquals(1, prepared.getPoolSize());
+
+        // nested executions need an instance of their own
+        assertEquals(Arrays.asList(3, 1), prepared.apply(t -> Arrays.asList(t.next(), prepared.toList("x", 1).get(0)), "x", 3));
+        assertEquals(2, prepared.getPoolSize());
+    }
+
+    @Test
+    public void shouldCompileFromScratchIfTheClassOfAValueChanges() {
+        final PreparedTraversal<Integer, Integer> prepared = g.prepare(g.inject(1, 2, 3).is(b.of("x", 2)));
+        assertEquals(Collections.singletonList(2), prepared.toList());
+        assertEquals(Collections.singletonList(3), prepared.toList("x", 3));
+        assertEquals(1, prepared.getPoolSize());
+        assertEquals(1, prepared.apply(t -> prepared.getPoolSize(), "x", 3L).intValue());
+        assertEquals(Collections.singletonList(3), prepared.toList("x", 3L));
+        assertEquals(1, prepared.apply(t -> prepared.getPoolSize(), "x", "3").intValue());
+        assertEquals(Collections.emptyList(), prepared.toList("x", "3"));
+        assertEquals(0, prepared.apply(t -> prepared.getPoolSize(), "x", 1).intValue());
+    }
+
+    @Test
+    public void shouldStartEveryExecutionWithFreshSideEffects() {
+        final PreparedTraversal<Integer, Object> prepared = g.prepare(g.inject(1, 2, 3).is(b.of("x", 2)).aggregate("a").cap("a"));
+        assertEquals(1, prepared.apply(t -> ((Collection<?>) t.next()).size()).intValue());
+        assertEquals(1, prepared.apply(t -> ((Collection<?>) t.next()).size()).intValue());
+        assertEquals(1, prepared.apply(t -> ((Collection<?>) t.next()).size(), "x", 3).intValue());
+        assertEquals(1, prepared.apply(t -> ((Collection<?>) t.next()).size(), "x", 1).intValue());
+    }
+
+    @Test
+    public void shouldCompileFromScratchIfNotRebindable() {
+        final PreparedTraversal<Integer, Integer> prepared = g.prepare(g.inject(1, 2, 3).where(__.is(b.of("x", 2)).count().is(b.of("count", 1))));
+        assertEquals(Collections.singletonList(2), prepared.toList());
+        assertEquals(Collections.singletonList(3), prepared.toList("x", 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotBindUnknownVariable() {
+        g.prepare(g.inject(1, 2, 3).is(b.of("x", 2))).toList("y", 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotBindOddNumberOfArguments() {
+        g.prepare(g.inject(1, 2, 3).is(b.of("x", 2))).toList("x");
+    }
+}
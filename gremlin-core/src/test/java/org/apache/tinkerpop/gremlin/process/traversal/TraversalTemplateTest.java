@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal;
+
+import org.apache.tinkerpop.gremlin.jsr223.JavaTranslator;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SubgraphStrategy;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class TraversalTemplateTest {
+
+    private final GraphTraversalSource g = new GraphTraversalSource(EmptyGraph.instance(), TraversalStrategies.GlobalCache.getStrategies(Graph.class));
+    private final Bindings b = Bindings.instance();
+
+    @Test
+    public void shouldNormalizeBoundValues() {
+        final Object marko = TraversalTemplate.normalize(g.V().has("name", b.of("name", "marko")).out().asAdmin().getBytecode());
+        final Object josh = TraversalTemplate.normalize(g.V().has("name", b.of("name", "josh")).out().asAdmin().getBytecode());
+        assertEquals(marko, josh);
+        assertEquals(marko.hashCode(), josh.hashCode());
+        assertNotEquals(marko, TraversalTemplate.normalize(g.V().has("name", "marko").out().asAdmin().getBytecode()));
+        assertNotEquals(marko, TraversalTemplate.normalize(g.V().has("name", b.of("x", "marko")).out().asAdmin().getBytecode()));
+        assertNotEquals(marko, TraversalTemplate.normalize(g.V().has("name", b.of("name", 1)).out().asAdmin().getBytecode()));
+        assertEquals(
+                TraversalTemplate.normalize(g.V().where(__.has("name", b.of("name", "marko"))).asAdmin().getBytecode()),
+                TraversalTemplate.normalize(g.V().where(__.has("name", b.of("name", "josh"))).asAdmin().getBytecode()));
+    }
+
+    @Test
+    public void shouldNormalizeStrategiesByTheirConfiguration() {
+        final Object knows = TraversalTemplate.normalize(g.withStrategies(SubgraphStrategy.build().edges(__.hasLabel("knows")).create()).
+                V().outE().asAdmin().getBytecode());
+        assertEquals(knows, TraversalTemplate.normalize(g.withStrategies(SubgraphStrategy.build().edges(__.hasLabel("knows")).create()).
+                V().outE().asAdmin().getBytecode()));
+        assertNotEquals(knows, TraversalTemplate.normalize(g.withStrategies(SubgraphStrategy.build().edges(__.hasLabel("created")).create()).
+                V().outE().asAdmin().getBytecode()));
+    }
+
+    @Test
+    public void shouldPrepareBoundValuesAsDistinctCopies() {
+        final String name = "marko";
+        final Bytecode bytecode = g.V().has("name", b.of("name", name)).asAdmin().getBytecode();
+        final Bytecode prepared = TraversalTemplate.prepare(bytecode);
+        assertEquals(bytecode, prepared);
+        assertEquals(name, prepared.getBindings().get("name"));
+        assertNotSame(name, prepared.getBindings().get("name"));
+    }
+
+    @Test
+    public void shouldRebindPredicatesAndIds() {
+        final TraversalTemplate template = compileTemplate(g.V(b.of("id", 1)).out().has("name", b.of("name", "marko")).
+                where(__.values("age").is(b.of("age", 29))).asAdmin().getBytecode());
+        assertTrue(template.isRebindable());
+        assertFalse(template.isVerified());
+
+        // the same values can always be instantiated
+        final Bytecode same = g.V(b.of("id", 1)).out().has("name", b.of("name", "marko")).where(__.values("age").is(b.of("age", 29))).asAdmin().getBytecode();
+        assertEquals(compile(same), template.instantiate(same, g.getGraph()).get());
+
+        // other values need the template to be verified first
+        final Bytecode other = g.V(b.of("id", 2)).out().has("name", b.of("name", "josh")).where(__.values("age").is(b.of("age", 30))).asAdmin().getBytecode();
+        assertFalse(template.instantiate(other, g.getGraph()).isPresent());
+        template.verify(other, compile(other));
+        assertTrue(template.isVerified());
+        assertTrue(template.isRebindable());
+        assertEquals(compile(other), template.instantiate(other, g.getGraph()).get());
+
+        final Bytecode another = g.V(b.of("id", 3)).out().has("name", b.of("name", "vadas")).where(__.values("age").is(b.of("age", 31))).asAdmin().getBytecode();
+        final Traversal.Admin<?, ?> instance = template.instantiate(another, g.getGraph()).get();
+        assertTrue(instance.isLocked());
+        assertEquals(compile(another), instance);
+        assertNotEquals(compile(other), instance);
+
+        // rebinding a clone leaves the template as it was
+        assertEquals(compile(same), template.instantiate(same, g.getGraph()).get());
+        assertEquals(compile(other), template.instantiate(other, g.getGraph()).get());
+    }
+
+    @Test
+    public void shouldNotRebindValuesUsedOutsideOfPredicatesAndIds() {
+        final TraversalTemplate template = compileTemplate(g.V().out(b.of("label", "knows")).asAdmin().getBytecode());
+        assertFalse(template.isRebindable());
+        final Bytecode same = g.V().out(b.of("label", "knows")).asAdmin().getBytecode();
+        assertEquals(compile(same), template.instantiate(same, g.getGraph()).get());
+        assertFalse(template.instantiate(g.V().out(b.of("label", "created")).asAdmin().getBytecode(), g.getGraph()).isPresent());
+    }
+
+    @Test
+    public void shouldNotRebindValuesThatStrategiesDeriveFrom() {
+        // CountStrategy derives a limit() from the value of is() and thus fails the verification
+        final TraversalTemplate template = compileTemplate(g.V().where(__.out().count().is(b.of("count", 2))).asAdmin().getBytecode());
+        assertTrue(template.isRebindable());
+        final Bytecode other = g.V().where(__.out().count().is(b.of("count", 5))).asAdmin().getBytecode();
+        template.verify(other, compile(other));
+        assertFalse(template.isVerified());
+        assertFalse(template.isRebindable());
+        assertFalse(template.instantiate(other, g.getGraph()).isPresent());
+    }
+
+    @Test
+    public void shouldInstantiateBytecodeWithoutBindings() {
+        final Bytecode bytecode = g.V().has("name", "marko").out().count().asAdmin().getBytecode();
+        final TraversalTemplate template = compileTemplate(bytecode);
+        assertTrue(template.isRebindable());
+        assertTrue(template.isVerified());
+        assertEquals(compile(bytecode), template.instantiate(bytecode, g.getGraph()).get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequireStrategizedTraversal() {
+        final Bytecode bytecode = g.V().out().asAdmin().getBytecode();
+        TraversalTemplate.of(bytecode, JavaTranslator.of(g).translate(bytecode));
+    }
+
+    private TraversalTemplate compileTemplate(final Bytecode bytecode) {
+        final Bytecode prepared = TraversalTemplate.prepare(bytecode);
+        return TraversalTemplate.of(prepared, compile(prepared));
+    }
+
+    private Traversal.Admin<?, ?> compile(final Bytecode bytecode) {
+        final Function<Bytecode, Traversal.Admin<?, ?>> translator = JavaTranslator.of(g)::translate;
+        final Traversal.Admin<?, ?> traversal = translator.apply(bytecode);
+        traversal.applyStrategies();
+        return traversal;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.LazyBarrierStrategy;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NoOpBarrierStepTest extends StepTest {
+
+    @Override
+    protected List<Traversal> getTraversals() {
+        return Arrays.asList(
+                __.barrier(),
+                __.barrier(10),
+                adaptiveBarrier(__.identity().asAdmin(), 10, 100),
+                adaptiveBarrier(__.identity().asAdmin(), 20, 100)
+        );
+    }
+
+    @Test
+    public void shouldAdaptBarrierSizeToMergeRatio() {
+        final List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            for (int j = 0; j < 10; j++) {
+                values.add(i);
+            }
+        }
+        for (int i = 1000; i < 1200; i++) {
+            values.add(i);
+        }
+        // unfold() emits the values one at a time so that they are only merged by the barrier
+        final Traversal.Admin<Object, Object> traversal = adaptiveBarrier(__.inject((Object) values).unfold().asAdmin(), 4, 64);
+        traversal.applyStrategies();
+        final NoOpBarrierStep<Object> barrier = (NoOpBarrierStep<Object>) (Step) traversal.getEndStep();
+        assertTrue(barrier.isAdaptive());
+        assertEquals(4, barrier.getBarrierSize());
+
+        final List<Integer> sizes = new ArrayList<>();
+        long total = 0;
+        for (int i = 0; i < 7; i++) {
+            total += barrier.nextBarrier().bulkSize();
+            sizes.add(barrier.getBarrierSize());
+        }
+        // duplicated values grow the barrier while distinct values shrink it back to the minimum
+        assertEquals(Arrays.asList(16, 64, 64, 32, 16, 8, 4), sizes);
+        while (barrier.hasNextBarrier()) {
+            total += barrier.nextBarrier().bulkSize();
+        }
+        assertEquals(values.size(), total);
+
+        barrier.reset();
+        assertEquals(4, barrier.getBarrierSize());
+    }
+
+    @Test
+    public void shouldNotAdaptFixedBarrierSize() {
+        final Traversal.Admin<Integer, Integer> traversal = __.inject(1, 1, 1, 1, 2, 2, 2, 2, 3, 3, 3).barrier(2).asAdmin();
+        traversal.applyStrategies();
+        final NoOpBarrierStep<Integer> barrier = (NoOpBarrierStep<Integer>) (Step) traversal.getEndStep();
+        assertFalse(barrier.isAdaptive());
+        assertEquals(8, barrier.nextBarrier().bulkSize());
+        assertEquals(2, barrier.getBarrierSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowInvalidBarrierSizeBounds() {
+        LazyBarrierStrategy.build().minBarrierSize(100).maxBarrierSize(10).create();
+    }
+
+    private static <S> Traversal.Admin<S, S> adaptiveBarrier(final Traversal.Admin<S, S> traversal, final int minBarrierSize, final int maxBarrierSize) {
+        return traversal.addStep(new NoOpBarrierStep<>(traversal, minBarrierSize, maxBarrierSize));
+    }
+}
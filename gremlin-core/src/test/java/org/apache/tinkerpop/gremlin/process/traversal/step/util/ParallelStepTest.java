@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ParallelStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelStepTest {
+
+    @Test
+    public void shouldApplyStrategiesToTheParallelTraversal() {
+        final Traversal.Admin<?, ?> traversal = parallel().V().where(__.out()).count().asAdmin();
+        traversal.applyStrategies();
+        final ParallelStep<?, ?> parallelStep = (ParallelStep<?, ?>) traversal.getStartStep();
+        assertEquals(Collections.singletonList(parallelStep.getParallelTraversal()), parallelStep.getGlobalChildren());
+        assertTrue(parallelStep.getParallelTraversal().isLocked());
+        assertTrue(((TraversalParent) parallelStep.getParallelTraversal().getSteps().get(1)).getLocalChildren().get(0).isLocked());
+    }
+
+    @Test
+    public void shouldStopTheParallelTraversalsWhenInterrupted() throws Exception {
+        final Traversal.Admin<?, ?> traversal = parallel().V().is(P.neq(-1)).count().asAdmin();
+        traversal.applyStrategies();
+        final ParallelStep<?, ?> parallelStep = (ParallelStep<?, ?>) traversal.getStartStep();
+        final AtomicLong elements = new AtomicLong(0);
+        ((GraphStep) parallelStep.getParallelTraversal().getStartStep()).setIteratorSupplier(() -> new Iterator<Object>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Object next() {
+                return elements.incrementAndGet();
+            }
+        });
+
+        final CountDownLatch stopped = new CountDownLatch(1);
+        final AtomicBoolean interrupted = new AtomicBoolean(false);
+        final Thread thread = new Thread(() -> {
+            try {
+                traversal.next();
+            } catch (final TraversalInterruptedException ex) {
+                interrupted.set(true);
+            } finally {
+                stopped.countDown();
+            }
+        });
+        thread.start();
+        while (elements.get() < 10000) {
+            Thread.sleep(10);
+        }
+        thread.interrupt();
+        assertTrue(stopped.await(10, TimeUnit.SECONDS));
+        assertTrue(interrupted.get());
+
+        // the elements stop being pulled once the clones have finished their current partition
+        Thread.sleep(100);
+        final long pulled = elements.get();
+        Thread.sleep(200);
+        assertEquals(pulled, elements.get());
+    }
+
+    private static GraphTraversalSource parallel() {
+        return EmptyGraph.instance().traversal().withStrategies(ParallelStrategy.build().threads(2).create());
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.EmptyTraversal;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class BatchStrategyTest {
+
+    private static final Integer[] NUMBERS = IntStream.range(0, 1000).boxed().toArray(Integer[]::new);
+
+    @Test
+    public void shouldPullStartsOneAtATimeByDefault() {
+        final CountingStep<Integer> counter = new CountingStep<>();
+        final Traversal<Integer, Integer> traversal = addStep(EmptyGraph.instance().traversal().inject(NUMBERS), counter);
+        assertEquals(0, traversal.next().intValue());
+        assertEquals(1, counter.count);
+    }
+
+    @Test
+    public void shouldPullStartsInBatches() {
+        final CountingStep<Integer> counter = new CountingStep<>();
+        final Traversal<Integer, Integer> traversal = addStep(batched(10).inject(NUMBERS), counter).is(0);
+        assertEquals(0, traversal.next().intValue());
+        assertEquals(10, counter.count);
+    }
+
+    @Test
+    public void shouldNotEvaluateAheadOfLimit() {
+        final CountingStep<Integer> unbatched = new CountingStep<>();
+        assertEquals(Collections.singletonList(0), addStep(EmptyGraph.instance().traversal().inject(NUMBERS), unbatched).limit(1).toList());
+        final CountingStep<Integer> counter = new CountingStep<>();
+        assertEquals(Collections.singletonList(0), addStep(batched(10).inject(NUMBERS), counter).limit(1).toList());
+        assertEquals(unbatched.count, counter.count);
+    }
+
+    @Test
+    public void shouldNotEvaluateChildTraversalsAheadOfTheirFirstResult() {
+        final CountingStep<Integer> counter = new CountingStep<>();
+        final GraphTraversal<List<Integer>, Integer> child = addStep(__.<List<Integer>>start().unfold(), counter).is(P.gte(0));
+        final List<Integer> numbers = Arrays.asList(NUMBERS);
+        assertEquals(2, batched(10).inject(numbers, numbers.subList(1, numbers.size())).where(child).toList().size());
+        assertEquals(2, counter.count);
+    }
+
+    @Test
+    public void shouldMapFilterAndFlatMapBatchesInPlace() {
+        final List<List<Integer>> lists = new ArrayList<>();
+        for (int i = 0; i < NUMBERS.length; i += 13) {
+            lists.add(Arrays.asList(NUMBERS).subList(i, Math.min(i + 13, NUMBERS.length)));
+        }
+        final List<Integer> expected = dropMultiplesOfThree(EmptyGraph.instance().traversal().inject(lists.toArray()).unfold().is(P.gt(10))).is(P.lt(990)).toList();
+        assertEquals(653, expected.size());
+        for (final int size : new int[]{2, 7, 64, 2000}) {
+            assertEquals(expected, dropMultiplesOfThree(batched(size).inject(lists.toArray()).unfold().is(P.gt(10))).is(P.lt(990)).toList());
+        }
+    }
+
+    @Test
+    public void shouldCreateFromConfiguration() {
+        final BatchStrategy strategy = BatchStrategy.create(new MapConfiguration(Collections.singletonMap(BatchStrategy.SIZE, 32)));
+        assertEquals(32, strategy.getSize());
+        assertEquals(32, BatchStrategy.create(strategy.getConfiguration()).getSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowZeroSize() {
+        BatchStrategy.build().size(0).create();
+    }
+
+    private static GraphTraversalSource batched(final int size) {
+        return EmptyGraph.instance().traversal().withStrategies(BatchStrategy.build().size(size).create());
+    }
+
+    private static <S> GraphTraversal<S, Integer> addStep(final GraphTraversal<S, Integer> traversal, final CountingStep<Integer> counter) {
+        return traversal.asAdmin().addStep(counter);
+    }
+
+    private static GraphTraversal<Object, Integer> dropMultiplesOfThree(final GraphTraversal<Object, Object> traversal) {
+        return traversal.asAdmin().addStep(new DroppingStep());
+    }
+
+    private static final class DroppingStep extends MapStep<Integer, Integer> {
+
+        private DroppingStep() {
+            super(EmptyTraversal.instance());
+        }
+
+        @Override
+        protected Integer map(final Traverser.Admin<Integer> traverser) {
+            return traverser.get() % 3 == 0 ? null : traverser.get();
+        }
+    }
+
+    private static final class CountingStep<S> extends MapStep<S, S> {
+
+        private int count = 0;
+
+        private CountingStep() {
+            super(EmptyTraversal.instance());
+        }
+
+        @Override
+        protected S map(final Traverser.Admin<S> traverser) {
+            this.count++;
+            return traverser.get();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ParallelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(Parameterized.class)
+public class ParallelStrategyTest {
+
+    @Parameterized.Parameter(value = 0)
+    public Traversal.Admin original;
+
+    @Parameterized.Parameter(value = 1)
+    public Traversal.Admin parallel;
+
+    @Parameterized.Parameter(value = 2)
+    public Traversal.Admin remainder;
+
+    @Test
+    public void doTest() {
+        final String repr = this.original.getBytecode().toString();
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(ParallelStrategy.build().threads(4).create());
+        this.original.setStrategies(strategies);
+        this.original.applyStrategies();
+        if (null == this.parallel) {
+            assertFalse(repr, this.original.getStartStep() instanceof ParallelStep);
+        } else {
+            assertTrue(repr, this.original.getStartStep() instanceof ParallelStep);
+            final ParallelStep<?, ?> parallelStep = (ParallelStep<?, ?>) this.original.getStartStep();
+            assertEquals(repr, 4, parallelStep.getThreads());
+            assertEquals(repr, this.parallel.getSteps(), parallelStep.getParallelTraversal().getSteps());
+            assertEquals(repr, this.remainder.getSteps(), this.original.getSteps().subList(1, this.original.getSteps().size()));
+        }
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Iterable<Object[]> generateTestParameters() {
+        return Arrays.asList(new Traversal.Admin[][]{
+                {g().V().out().count().asAdmin(), g().V().out().count().asAdmin(), __.start().asAdmin()},
+                {g().V().has("age").out().groupCount().by(T.label).asAdmin(), g().V().has("age").out().groupCount().by(T.label).asAdmin(), __.start().asAdmin()},
+                {g().V().out().values("name").order().limit(2).asAdmin(), g().V().out().values("name").order().asAdmin(), __.limit(2).asAdmin()},
+                {g().E().values("weight").sum().is(1).asAdmin(), g().E().values("weight").sum().asAdmin(), __.is(1).asAdmin()},
+                {g().V().out().asAdmin(), null, null},
+                {g().V(1).out().limit(1).count().asAdmin(), null, null},
+                {g().V().dedup().count().asAdmin(), null, null},
+                {g().V().out().store("x").count().asAdmin(), null, null},
+                {g().V().map(t -> t.get()).count().asAdmin(), null, null},
+                {g().V().where(__.sideEffect(t -> {})).count().asAdmin(), null, null},
+                {g().V().out().count().profile().asAdmin(), null, null},
+                {g().inject(1, 2).count().asAdmin(), null, null},
+                {__.V().out().count().asAdmin(), null, null},
+                {transactionalG().V().out().count().asAdmin(), null, null}
+        });
+    }
+
+    private static GraphTraversalSource g() {
+        return EmptyGraph.instance().traversal();
+    }
+
+    private static GraphTraversalSource transactionalG() {
+        final Graph graph = mock(Graph.class, RETURNS_DEEP_STUBS);
+        when(graph.features().graph().supportsTransactions()).thenReturn(true);
+        return new GraphTraversalSource(graph);
+    }
+}
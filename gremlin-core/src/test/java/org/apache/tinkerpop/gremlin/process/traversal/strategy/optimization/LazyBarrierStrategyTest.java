@@ -18,11 +18,14 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
 
+import org.apache.commons.configuration.MapConfiguration;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -100,7 +103,16 @@ public class LazyBarrierStrategyTest {
                 {__.out().as("a").out().as("b").in().where(P.neq("a")).out().select("b").out(), __.out().as("a").out().as("b").in().where(P.neq("a")).barrier(PATH_SIZE).out().select("b").barrier(PATH_SIZE).out(), Collections.singletonList(PathRetractionStrategy.instance())},
                 {__.out().as("a").out().as("b").in().where(P.neq("a")).out().select("b").out().out(), __.out().as("a").out().as("b").in().where(P.neq("a")).barrier(PATH_SIZE).out().select("b").barrier(PATH_SIZE).out().barrier(LAZY_SIZE).out(), Collections.singletonList(PathRetractionStrategy.instance())},
                 {__.V().out().out().groupCount().by(__.out().out().out()).out(), __.V().out().barrier(LAZY_SIZE).out().groupCount().by(__.out().out().barrier(LAZY_SIZE).out()).out(), Collections.emptyList()},
-                {__.V().out().out().groupCount().by(__.out().out().out()).out().as("a"), __.V().out().barrier(LAZY_SIZE).out().groupCount().by(__.out().out().barrier(LAZY_SIZE).out()).out().as("a"), Collections.emptyList()}
+                {__.V().out().out().groupCount().by(__.out().out().out()).out().as("a"), __.V().out().barrier(LAZY_SIZE).out().groupCount().by(__.out().out().barrier(LAZY_SIZE).out()).out().as("a"), Collections.emptyList()},
+                {__.out().out().out().count(), adaptiveBarrier(__.out().out(), 100, 100000).out().count(), Collections.singletonList(LazyBarrierStrategy.build().minBarrierSize(100).maxBarrierSize(100000).create())},
+                {__.out().out().out().count(), adaptiveBarrier(__.out().out(), 100, LAZY_SIZE).out().count(), Collections.singletonList(LazyBarrierStrategy.create(new MapConfiguration(Collections.singletonMap(LazyBarrierStrategy.MIN_BARRIER_SIZE_KEY, 100))))},
+                {__.out().out().out().count(), __.out().out().barrier(5000).out().count(), Collections.singletonList(LazyBarrierStrategy.create(new MapConfiguration(Collections.singletonMap(LazyBarrierStrategy.MIN_BARRIER_SIZE_KEY, 5000))))},
+                {__.out().out().out().count(), __.out().out().barrier(100).out().count(), Collections.singletonList(LazyBarrierStrategy.create(new MapConfiguration(Collections.singletonMap(LazyBarrierStrategy.MAX_BARRIER_SIZE_KEY, 100))))}
         });
     }
+
+    private static GraphTraversal.Admin<?, ?> adaptiveBarrier(final GraphTraversal<?, ?> traversal, final int minBarrierSize, final int maxBarrierSize) {
+        final GraphTraversal.Admin<?, ?> admin = traversal.asAdmin();
+        return (GraphTraversal.Admin<?, ?>) admin.addStep(new NoOpBarrierStep<>(admin, minBarrierSize, maxBarrierSize));
+    }
 }
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.BatchStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_Traverser;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TraverserBatchTest {
+
+    @Test
+    public void shouldRemoveTraversersInInsertionOrder() {
+        final TraverserBatch<Integer> batch = new TraverserBatch<>(3);
+        assertEquals(3, batch.capacity());
+        assertTrue(batch.isEmpty());
+        batch.add(traverser(1));
+        batch.add(traverser(1));
+        batch.add(traverser(2));
+        assertEquals(3, batch.size());
+        assertTrue(batch.isFull());
+        assertEquals(1, batch.remove().get().intValue());
+        assertEquals(1, batch.remove().get().intValue());
+        assertEquals(2, batch.remove().get().intValue());
+        assertTrue(batch.isEmpty());
+        assertFalse(batch.isFull());
+    }
+
+    @Test
+    public void shouldReplaceAndTruncateTraversersInPlace() {
+        final TraverserBatch<Integer> batch = new TraverserBatch<>(4);
+        batch.add(traverser(0));
+        batch.add(traverser(1));
+        batch.add(traverser(2));
+        batch.add(traverser(3));
+        assertEquals(0, batch.remove().get().intValue());
+        assertEquals(1, batch.get(0).get().intValue());
+        batch.set(0, batch.get(2));
+        batch.truncate(1);
+        assertEquals(1, batch.size());
+        assertEquals(3, batch.remove().get().intValue());
+        assertTrue(batch.isEmpty());
+        batch.add(traverser(4));
+        batch.truncate(0);
+        assertTrue(batch.isEmpty());
+        assertFalse(batch.isFull());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldNotGetBeyondTheTraversersOfTheBatch() {
+        final TraverserBatch<Integer> batch = new TraverserBatch<>(4);
+        batch.add(traverser(0));
+        batch.get(1);
+    }
+
+    @Test
+    public void shouldBeRefillableOnceDrained() {
+        final TraverserBatch<Integer> batch = new TraverserBatch<>(2);
+        batch.add(traverser(1));
+        batch.add(traverser(2));
+        batch.remove();
+        assertTrue(batch.isFull());
+        batch.remove();
+        batch.add(traverser(3));
+        assertEquals(1, batch.size());
+        batch.clear();
+        assertTrue(batch.isEmpty());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotAddToFullBatch() {
+        final TraverserBatch<Integer> batch = new TraverserBatch<>(1);
+        batch.add(traverser(1));
+        batch.add(traverser(2));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldNotRemoveFromEmptyBatch() {
+        new TraverserBatch<Integer>().remove();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowZeroCapacity() {
+        new TraverserBatch<Integer>(0);
+    }
+
+    @Test
+    public void shouldPreserveOrderOfTraversersPulledInBatches() {
+        final Integer[] numbers = IntStream.range(0, TraverserBatch.DEFAULT_CAPACITY * 3 + 7).boxed().toArray(Integer[]::new);
+        final List<Integer> expected = IntStream.range(11, numbers.length).boxed().collect(Collectors.toList());
+        assertEquals(expected, EmptyGraph.instance().traversal().withStrategies(BatchStrategy.build().create()).inject(numbers).is(P.gt(10)).toList());
+    }
+
+    private static Traverser.Admin<Integer> traverser(final int value) {
+        return new B_O_Traverser<>(value, 1l).asAdmin();
+    }
+}
@@ -20,6 +20,10 @@ package org.apache.tinkerpop.gremlin.structure.io.gryo;
 
 import org.apache.tinkerpop.gremlin.process.remote.traversal.DefaultRemoteTraverser;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.ProjectedTraverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalExplanation;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.io.IoX;
@@ -61,6 +65,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -377,6 +382,57 @@ public class GryoMapperTest {
         assertThat(Arrays.equals(bb.array(), serializeDeserialize(bb, ByteBuffer.class).array()), is(true));
     }
 
+    @Test
+    public void shouldHandleTraverserSet() throws Exception {
+        final TraverserSet<Integer> traverserSet = createTraverserSet();
+        final TraverserSet<Integer> inOut = serializeDeserialize(traverserSet, TraverserSet.class);
+        assertEquals(traverserSet.size(), inOut.size());
+        assertEquals(traverserSet.bulkSize(), inOut.bulkSize());
+        final Iterator<Traverser.Admin<Integer>> itty = inOut.iterator();
+        for (final Traverser.Admin<Integer> traverser : traverserSet) {
+            final Traverser.Admin<Integer> other = itty.next();
+            assertEquals(traverser.getClass(), other.getClass());
+            assertEquals(traverser.get(), other.get());
+            assertEquals(traverser.getStepId(), other.getStepId());
+            assertEquals(traverser.bulk(), other.bulk());
+            assertEquals(traverser.getTags(), other.getTags());
+        }
+    }
+
+    @Test
+    public void shouldWriteTraverserSetMoreCompactlyInVersion3() throws Exception {
+        final TraverserSet<Integer> traverserSet = createTraverserSet();
+        assertThat(serialize(GryoMapper.build().version(GryoVersion.V3_0), traverserSet).length <
+                serialize(GryoMapper.build().version(GryoVersion.V1_0), traverserSet).length, is(true));
+    }
+
+    private static TraverserSet<Integer> createTraverserSet() {
+        final TraverserSet<Integer> traverserSet = new TraverserSet<>();
+        for (int i = 0; i < 100; i++) {
+            final B_O_Traverser<Integer> traverser = new B_O_Traverser<>(i, i + 1);
+            traverser.setStepId(i < 50 ? "7.0.0()" : Traverser.Admin.HALT);
+            if (i % 10 == 0)
+                traverser.getTags().add("3.0.0()");
+            traverserSet.add(traverser);
+        }
+        for (int i = 100; i < 105; i++) {
+            final ProjectedTraverser<Integer, Integer> traverser = new ProjectedTraverser<>(new B_O_Traverser<>(i, 1), Arrays.asList(i, -i));
+            traverser.setStepId("7.0.0()");
+            traverserSet.add(traverser);
+        }
+        return traverserSet;
+    }
+
+    private static byte[] serialize(final GryoMapper.Builder builder, final Object o) throws Exception {
+        final Kryo kryo = builder.create().createMapper();
+        try (final ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+            final Output out = new Output(stream);
+            kryo.writeObject(out, o);
+            out.flush();
+            return stream.toByteArray();
+        }
+    }
+
     public <T> T serializeDeserialize(final Object o, final Class<T> clazz) throws Exception {
         final Kryo kryo = builder.get().create().createMapper();
         try (final ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
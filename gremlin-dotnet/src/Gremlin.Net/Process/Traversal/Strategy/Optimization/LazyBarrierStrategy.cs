@@ -29,5 +29,17 @@ namespace Gremlin.Net.Process.Traversal.Strategy.Optimization
     /// </summary>
     public class LazyBarrierStrategy : AbstractTraversalStrategy
     {
+        /// <summary>
+        ///     Initializes a new instance of the <see cref="LazyBarrierStrategy" /> class.
+        /// </summary>
+        /// <param name="minBarrierSize">Specifies the size an adaptive barrier starts with and will not shrink below.</param>
+        /// <param name="maxBarrierSize">Specifies the size an adaptive barrier will not grow beyond.</param>
+        public LazyBarrierStrategy(int? minBarrierSize = null, int? maxBarrierSize = null)
+        {
+            if (minBarrierSize != null)
+                Configuration["minBarrierSize"] = minBarrierSize.Value;
+            if (maxBarrierSize != null)
+                Configuration["maxBarrierSize"] = maxBarrierSize.Value;
+        }
     }
 }
\ No newline at end of file
@@ -130,8 +130,12 @@ class InlineFilterStrategy(TraversalStrategy):
 
 
 class LazyBarrierStrategy(TraversalStrategy):
-    def __init__(self):
+    def __init__(self, min_barrier_size=None, max_barrier_size=None):
         TraversalStrategy.__init__(self)
+        if min_barrier_size is not None:
+            self.configuration["minBarrierSize"] = min_barrier_size
+        if max_barrier_size is not None:
+            self.configuration["maxBarrierSize"] = max_barrier_size
 
 
 class MatchPredicateStrategy(TraversalStrategy):
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.op.traversal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.tinkerpop.gremlin.jsr223.JavaTranslator;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalTemplate;
+import org.apache.tinkerpop.gremlin.server.GraphManager;
+
+import java.util.Optional;
+
+/**
+ * Holds the {@link TraversalTemplate}s of the bytecode processed by the {@link TraversalOpProcessor} so that bytecode
+ * which only differs in the values of its bindings is served by a clone of a traversal that was already compiled.
+ * Templates are kept per {@link TraversalSource} instance, which is only weakly referenced, so that a traversal source
+ * that is removed from or replaced in the {@link GraphManager} takes its templates with it and bytecode is never
+ * executed against a graph that is no longer served.
+ */
+public final class TraversalCache {
+
+    private final long maxSize;
+    private final Cache<TraversalSource, Cache<Object, TraversalTemplate>> templates = Caffeine.newBuilder().weakKeys().build();
+
+    /**
+     * Creates a cache that holds up to the given number of templates per traversal source.
+     */
+    public TraversalCache(final long maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("The maximum size of the traversal cache must be at least 1: " + maxSize);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets a traversal for the bytecode which is either an instance of a cached template that already had its
+     * strategies applied or a translation of the bytecode that still has to be {@link Lookup#compile() compiled}.
+     */
+    public Lookup lookup(final TraversalSource traversalSource, final Bytecode bytecode) {
+        final Cache<Object, TraversalTemplate> sourceTemplates = this.templates.get(traversalSource,
+                k -> Caffeine.newBuilder().maximumSize(this.maxSize).build());
+        final Object key = TraversalTemplate.normalize(bytecode);
+        final TraversalTemplate template = sourceTemplates.getIfPresent(key);
+        final Optional<Traversal.Admin<?, ?>> instance = null == template ?
+                Optional.empty() : template.instantiate(bytecode, traversalSource.getGraph());
+        if (instance.isPresent())
+            return new Lookup(instance.get(), null, null, null, null, null);
+
+        // a new template has to be compiled from the prepared bytecode while an existing one is verified against the
+        // bytecode as it is
+        final Bytecode compiledBytecode = null == template ? TraversalTemplate.prepare(bytecode) : bytecode;
+        final Traversal.Admin<?, ?> traversal = JavaTranslator.of(traversalSource).translate(compiledBytecode);
+        return new Lookup(traversal, sourceTemplates, key, template, compiledBytecode, bytecode);
+    }
+
+    /**
+     * Gets the approximate number of templates in the cache.
+     */
+    public long estimatedSize() {
+        return this.templates.asMap().values().stream().mapToLong(Cache::estimatedSize).sum();
+    }
+
+    /**
+     * The traversal for a bytecode that was looked up in a {@link TraversalCache}.
+     */
+    public static final class Lookup {
+
+        private final Traversal.Admin<?, ?> traversal;
+        private final Cache<Object, TraversalTemplate> templates;
+        private final Object key;
+        private final TraversalTemplate template;
+        private final Bytecode compiledBytecode;
+        private final Bytecode bytecode;
+
+        private Lookup(final Traversal.Admin<?, ?> traversal, final Cache<Object, TraversalTemplate> templates,
+                       final Object key, final TraversalTemplate template, final Bytecode compiledBytecode,
+                       final Bytecode bytecode) {
+            this.traversal = traversal;
+            this.templates = templates;
+            this.key = key;
+            this.template = template;
+            this.compiledBytecode = compiledBytecode;
+            this.bytecode = bytecode;
+        }
+
+        public Traversal.Admin<?, ?> getTraversal() {
+            return this.traversal;
+        }
+
+        /**
+         * Determines if the traversal is an instance of a cached template.
+         */
+        public boolean isHit() {
+            return null == this.templates;
+        }
+
+        /**
+         * Applies the strategies of a traversal that was not an instance of a cached template and then either caches
+         * it as a new template or uses it to verify the existing one. This must happen before the traversal is
+         * iterated.
+         */
+        public void compile() {
+            if (this.isHit())
+                return;
+            this.traversal.applyStrategies();
+            if (null == this.template)
+                this.templates.put(this.key, TraversalTemplate.of(this.compiledBytecode, this.traversal));
+            else if (this.template.isRebindable() && !this.template.isVerified())
+                this.template.verify(this.bytecode, this.traversal);
+        }
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.tinkerpop.gremlin.server.op.traversal;
 
+import com.codahale.metrics.Counter;
 import com.codahale.metrics.Timer;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
@@ -78,6 +79,9 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
     private static final ObjectMapper mapper = GraphSONMapper.build().version(GraphSONVersion.V2_0).create().createMapper();
     public static final String OP_PROCESSOR_NAME = "traversal";
     public static final Timer traversalOpTimer = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "op", "traversal"));
+    public static final Timer traversalCompileTimer = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "op", "traversal", "compile"));
+    public static final Counter traversalCacheHits = MetricManager.INSTANCE.getCounter(name(GremlinServer.class, "op", "traversal", "cache", "hit-count"));
+    public static final Counter traversalCacheMisses = MetricManager.INSTANCE.getCounter(name(GremlinServer.class, "op", "traversal", "cache", "miss-count"));
 
     public static final Settings.ProcessorSettings DEFAULT_SETTINGS = new Settings.ProcessorSettings();
 
@@ -101,12 +105,37 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
      */
     public static final long DEFAULT_CACHE_MAX_SIZE = 1000;
 
+    /**
+     * Configuration setting for the maximum number of compiled traversals the traversal cache will have for each
+     * traversal source. Setting it to zero disables the cache.
+     */
+    public static final String CONFIG_TRAVERSAL_CACHE_MAX_SIZE = "traversalCacheMaxSize";
+
+    /**
+     * Default size of the max size of the traversal cache.
+     */
+    public static final long DEFAULT_TRAVERSAL_CACHE_MAX_SIZE = 1000;
+
+    /**
+     * Compiled traversals of bytecode without lambdas, which is {@code null} when the cache is disabled.
+     */
+    protected static TraversalCache traversalCache = null;
+
     static {
         DEFAULT_SETTINGS.className = TraversalOpProcessor.class.getCanonicalName();
         DEFAULT_SETTINGS.config = new HashMap<String, Object>() {{
             put(CONFIG_CACHE_EXPIRATION_TIME, DEFAULT_CACHE_EXPIRATION_TIME);
             put(CONFIG_CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_SIZE);
+            put(CONFIG_TRAVERSAL_CACHE_MAX_SIZE, DEFAULT_TRAVERSAL_CACHE_MAX_SIZE);
         }};
+
+        MetricManager.INSTANCE.getGuage(() -> {
+            final long hits = traversalCacheHits.getCount();
+            final long requests = hits + traversalCacheMisses.getCount();
+            return 0 == requests ? 0d : (double) hits / requests;
+        }, name(GremlinServer.class, "op", "traversal", "cache", "hit-rate"));
+        MetricManager.INSTANCE.getGuage(() -> null == traversalCache ? 0L : traversalCache.estimatedSize(),
+                name(GremlinServer.class, "op", "traversal", "cache", "estimated-size"));
     }
 
     protected static Cache<UUID, TraversalSideEffects> cache = null;
@@ -140,6 +169,13 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
 
         logger.info("Initialized cache for {} with size {} and expiration time of {} ms",
                 TraversalOpProcessor.class.getSimpleName(), maxSize, expirationTime);
+
+        final long traversalCacheMaxSize = Long.parseLong(processorSettings.config.getOrDefault(
+                TraversalOpProcessor.CONFIG_TRAVERSAL_CACHE_MAX_SIZE, DEFAULT_TRAVERSAL_CACHE_MAX_SIZE).toString());
+        traversalCache = traversalCacheMaxSize > 0 ? new TraversalCache(traversalCacheMaxSize) : null;
+
+        logger.info("Initialized traversal cache for {} with size {}",
+                TraversalOpProcessor.class.getSimpleName(), traversalCacheMaxSize);
     }
 
     @Override
@@ -350,12 +386,26 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
         final String traversalSourceName = aliases.entrySet().iterator().next().getValue();
         final TraversalSource g = graphManager.getTraversalSource(traversalSourceName);
 
+        // bytecode without lambdas may be served by a compiled traversal from the traversal cache. on a miss the
+        // bytecode is compiled and either becomes a new template or verifies the one that could not be trusted yet.
         final Traversal.Admin<?, ?> traversal;
+        final TraversalCache.Lookup lookup;
+        final TraversalCache templates = traversalCache;
+        final long compileStart = System.nanoTime();
         try {
             final Optional<String> lambdaLanguage = BytecodeHelper.getLambdaLanguage(bytecode);
-            if (!lambdaLanguage.isPresent())
+            if (!lambdaLanguage.isPresent() && null != templates) {
+                lookup = templates.lookup(g, bytecode);
+                if (lookup.isHit())
+                    traversalCacheHits.inc();
+                else
+                    traversalCacheMisses.inc();
+                traversal = lookup.getTraversal();
+            } else if (!lambdaLanguage.isPresent()) {
+                lookup = null;
                 traversal = JavaTranslator.of(g).translate(bytecode);
-            else {
+            } else {
+                lookup = null;
                 final SimpleBindings b = new SimpleBindings();
                 b.put(Tokens.VAL_TRAVERSAL_SOURCE_ALIAS, g);
                 traversal = context.getGremlinExecutor().eval(bytecode, b, lambdaLanguage.get());
@@ -367,6 +417,7 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                             .statusMessage(ex.getMessage())
                             .statusAttributeException(ex).create());
         }
+        final long translationTime = System.nanoTime() - compileStart;
 
         final Timer.Context timerContext = traversalOpTimer.time();
         try {
@@ -378,8 +429,16 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                     beforeProcessing(graph, context);
 
                     try {
-                        // compile the traversal - without it getEndStep() has nothing in it
-                        traversal.applyStrategies();
+                        // compile the traversal - without it getEndStep() has nothing in it. a traversal that was
+                        // instantiated from the traversal cache is already compiled.
+                        if (!traversal.isLocked()) {
+                            final long strategizeStart = System.nanoTime();
+                            if (null != lookup)
+                                lookup.compile();
+                            else
+                                traversal.applyStrategies();
+                            traversalCompileTimer.update(translationTime + System.nanoTime() - strategizeStart, TimeUnit.NANOSECONDS);
+                        }
                         handleIterator(context, new TraverserIterator(traversal), graph);
                     } catch (TimeoutException ex) {
                         final String errorMessage = String.format("Response iteration exceeded the configured threshold for request [%s] - %s", msg.getRequestId(), ex.getMessage());
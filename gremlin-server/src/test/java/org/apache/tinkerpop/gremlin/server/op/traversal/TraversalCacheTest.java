@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.op.traversal;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Bindings;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TraversalCacheTest {
+
+    private final Bindings b = Bindings.instance();
+
+    @Test
+    public void shouldServeOtherBindingsFromCompiledTraversalOnceVerified() {
+        final GraphTraversalSource g = TinkerFactory.createModern().traversal();
+        final TraversalCache cache = new TraversalCache(100);
+
+        // the first request compiles a new template
+        final TraversalCache.Lookup first = cache.lookup(g, names(g, 1));
+        assertFalse(first.isHit());
+        assertEquals(Arrays.asList("josh", "lop", "vadas"), execute(first));
+        assertEquals(1, cache.estimatedSize());
+
+        // the same values are served by the template right away
+        final TraversalCache.Lookup same = cache.lookup(g, names(g, 1));
+        assertTrue(same.isHit());
+        assertTrue(same.getTraversal().isLocked());
+        assertEquals(Arrays.asList("josh", "lop", "vadas"), execute(same));
+
+        // other values are compiled from scratch to verify the template before it serves them
+        final TraversalCache.Lookup verification = cache.lookup(g, names(g, 4));
+        assertFalse(verification.isHit());
+        assertEquals(Arrays.asList("lop", "ripple"), execute(verification));
+
+        final TraversalCache.Lookup other = cache.lookup(g, names(g, 6));
+        assertTrue(other.isHit());
+        assertEquals(Collections.singletonList("lop"), execute(other));
+        assertEquals(1, cache.estimatedSize());
+    }
+
+    @Test
+    public void shouldKeepTemplatesPerTraversalSource() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final TraversalCache cache = new TraversalCache(100);
+        assertEquals(Arrays.asList("josh", "lop", "vadas"), execute(cache.lookup(graph.traversal(), names(graph.traversal(), 1))));
+
+        // a traversal source that replaced another one under the same name does not use its templates
+        final TinkerGraph replacement = TinkerGraph.open();
+        final TraversalCache.Lookup lookup = cache.lookup(replacement.traversal(), names(replacement.traversal(), 1));
+        assertFalse(lookup.isHit());
+        assertEquals(Collections.emptyList(), execute(lookup));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotCreateEmptyCache() {
+        new TraversalCache(0);
+    }
+
+    private Bytecode names(final GraphTraversalSource g, final int id) {
+        return g.V(b.of("id", id)).out().values("name").order().asAdmin().getBytecode();
+    }
+
+    private static List<Object> execute(final TraversalCache.Lookup lookup) {
+        lookup.compile();
+        return (List<Object>) lookup.getTraversal().toList();
+    }
+}
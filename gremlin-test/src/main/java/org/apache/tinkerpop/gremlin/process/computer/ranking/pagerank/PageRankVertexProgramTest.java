@@ -68,6 +68,32 @@ public class PageRankVertexProgramTest extends AbstractGremlinProcessTest {
         }
     }
 
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecutePageRankUntilResidualIsBelowEpsilon() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(PageRankVertexProgram.build().epsilon(0.000001d).create(graph)).submit().get();
+            result.graph().traversal().V().forEachRemaining(v -> {
+                assertEquals(3, v.keys().size()); // name, age/lang, pageRank
+                assertEquals(1, IteratorUtils.count(v.values(PageRankVertexProgram.PAGE_RANK)));
+                final String name = v.value("name");
+                final Double pageRank = v.value(PageRankVertexProgram.PAGE_RANK);
+                if (name.equals("marko") || name.equals("peter"))
+                    assertTrue(pageRank > 0.14 && pageRank < 0.16);
+                else if (name.equals("vadas") || name.equals("josh"))
+                    assertTrue(pageRank > 0.19 && pageRank < 0.20);
+                else if (name.equals("lop"))
+                    assertTrue(pageRank > 0.40 && pageRank < 0.41);
+                else if (name.equals("ripple"))
+                    assertTrue(pageRank > 0.23 && pageRank < 0.24);
+                else
+                    throw new IllegalStateException("The following vertex should not exist in the graph: " + name);
+            });
+            assertTrue(result.memory().getIteration() < 30);
+            assertEquals(result.memory().asMap().size(), 0);
+        }
+    }
+
     /*@Test
     @LoadGraphWith(MODERN)
     public void shouldExecutePageRankWithNormalizedValues() throws Exception {
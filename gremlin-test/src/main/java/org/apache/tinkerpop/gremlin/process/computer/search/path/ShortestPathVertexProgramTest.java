@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.search.path;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.junit.Assert.assertEquals;
+
+public class ShortestPathVertexProgramTest extends AbstractGremlinProcessTest {
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteShortestPathFromASource() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(ShortestPathVertexProgram.build().
+                    source(__.<Vertex>has("name", "marko").asAdmin()).create(graph)).submit().get();
+            final Map<String, Long> distances = new HashMap<>();
+            result.graph().traversal().V().forEachRemaining(v -> {
+                final VertexProperty<Long> distance = v.property(ShortestPathVertexProgram.DISTANCE);
+                if (distance.isPresent())
+                    distances.put(v.value("name"), distance.value());
+            });
+            assertEquals(5, distances.size());
+            assertEquals(0l, distances.get("marko").longValue());
+            assertEquals(1l, distances.get("vadas").longValue());
+            assertEquals(1l, distances.get("josh").longValue());
+            assertEquals(1l, distances.get("lop").longValue());
+            assertEquals(2l, distances.get("ripple").longValue());
+            assertEquals(result.memory().asMap().size(), 0);
+        }
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteShortestPathOverTheProvidedEdgesUpToTheMaxDistance() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(ShortestPathVertexProgram.build().
+                    source(__.<Vertex>has("name", "peter").asAdmin()).edges(__.<Vertex>bothE().asAdmin()).maxDistance(2).property("hops").create(graph)).submit().get();
+            final Map<String, Long> distances = new HashMap<>();
+            result.graph().traversal().V().forEachRemaining(v -> {
+                final VertexProperty<Long> distance = v.property("hops");
+                if (distance.isPresent())
+                    distances.put(v.value("name"), distance.value());
+            });
+            assertEquals(4, distances.size());
+            assertEquals(0l, distances.get("peter").longValue());
+            assertEquals(1l, distances.get("lop").longValue());
+            assertEquals(2l, distances.get("marko").longValue());
+            assertEquals(2l, distances.get("josh").longValue());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.computer.search.path.ShortestPathVertexProgram;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(GremlinProcessRunner.class)
+public abstract class ShortestPathTest extends AbstractGremlinProcessTest {
+
+    public abstract Traversal<Vertex, Long> get_g_V_hasXname_markoX_shortestPath_valuesXdistanceX();
+
+    public abstract Traversal<Vertex, Map<String, List<Object>>> get_g_V_shortestPath_fromXhasXname_peterXX_byXbothEX_byXhopsX_timesX2X_valueMapXname_hopsX();
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_hasXname_markoX_shortestPath_valuesXdistanceX() {
+        final Traversal<Vertex, Long> traversal = get_g_V_hasXname_markoX_shortestPath_valuesXdistanceX();
+        printTraversalForm(traversal);
+        assertEquals(0l, traversal.next().longValue());
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_shortestPath_fromXhasXname_peterXX_byXbothEX_byXhopsX_timesX2X_valueMapXname_hopsX() {
+        final Traversal<Vertex, Map<String, List<Object>>> traversal = get_g_V_shortestPath_fromXhasXname_peterXX_byXbothEX_byXhopsX_timesX2X_valueMapXname_hopsX();
+        printTraversalForm(traversal);
+        final List<Map<String, List<Object>>> results = traversal.toList();
+        assertEquals(6, results.size());
+        final Map<String, Object> hops = new HashMap<>();
+        results.stream().filter(m -> m.containsKey("hops")).forEach(m -> hops.put((String) m.get("name").get(0), m.get("hops").get(0)));
+        assertEquals(4, hops.size());
+        assertEquals(0l, hops.get("peter"));
+        assertEquals(1l, hops.get("lop"));
+        assertEquals(2l, hops.get("marko"));
+        assertEquals(2l, hops.get("josh"));
+    }
+
+    public static class Traversals extends ShortestPathTest {
+
+        @Override
+        public Traversal<Vertex, Long> get_g_V_hasXname_markoX_shortestPath_valuesXdistanceX() {
+            return g.V().has("name", "marko").shortestPath().values(ShortestPathVertexProgram.DISTANCE);
+        }
+
+        @Override
+        public Traversal<Vertex, Map<String, List<Object>>> get_g_V_shortestPath_fromXhasXname_peterXX_byXbothEX_byXhopsX_timesX2X_valueMapXname_hopsX() {
+            return g.V().shortestPath().from(__.has("name", "peter")).by(__.bothE()).by("hops").times(2).valueMap("name", "hops");
+        }
+    }
+}
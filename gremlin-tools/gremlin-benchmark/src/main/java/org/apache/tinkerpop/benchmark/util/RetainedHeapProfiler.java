@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.benchmark.util;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.profile.ProfilerResult;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * A JMH profiler that reports the heap that is still used once garbage has been collected at the end of each
+ * iteration as a secondary result of the benchmark, which is the heap retained by the state of the benchmark along
+ * with the small and fixed heap of the harness. Garbage is collected until the used heap stops shrinking, so the
+ * result does not depend on when the collector last ran. Benchmarks add it with
+ * {@link AbstractBenchmarkBase#getProfilers()} or on the command line with {@code -prof}.
+ */
+public class RetainedHeapProfiler implements InternalProfiler {
+
+    private static final int MAX_COLLECTIONS = 10;
+
+    @Override
+    public String getDescription() {
+        return "Heap retained after garbage collection at the end of each iteration";
+    }
+
+    @Override
+    public void beforeIteration(final BenchmarkParams benchmarkParams, final IterationParams iterationParams) {
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(final BenchmarkParams benchmarkParams,
+                                                       final IterationParams iterationParams,
+                                                       final IterationResult result) {
+        return Collections.singletonList(new ProfilerResult("heap.retained", retainedHeap(), "bytes", AggregationPolicy.AVG));
+    }
+
+    private static long retainedHeap() {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int ix = 0; ix < MAX_COLLECTIONS; ix++) {
+            memory.gc();
+            final long collected = memory.getHeapMemoryUsage().getUsed();
+            if (collected >= used)
+                return collected;
+            used = collected;
+        }
+        return used;
+    }
+}
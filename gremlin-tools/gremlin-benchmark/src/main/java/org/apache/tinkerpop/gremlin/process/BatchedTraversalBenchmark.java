@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.BatchStrategy;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Compares traversals on a {@link org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph} loaded with the
+ * Grateful Dead data set when steps pull their starts a batch at a time with {@link BatchStrategy} and when they pull
+ * them one at a time.
+ */
+@LoadGraphWith(LoadGraphWith.GraphData.GRATEFUL)
+public class BatchedTraversalBenchmark extends AbstractGraphBenchmark {
+
+    private GraphTraversalSource batched;
+
+    @Setup
+    @Override
+    public void prepare() throws IOException {
+        super.prepare();
+        batched = g.withStrategies(BatchStrategy.build().create());
+    }
+
+    @Benchmark
+    public List<Object> g_V_out_out_valuesXnameX() throws Exception {
+        return batched.V().out().out().values("name").toList();
+    }
+
+    @Benchmark
+    public List<Object> g_V_out_out_valuesXnameX_unbatched() throws Exception {
+        return g.V().out().out().values("name").toList();
+    }
+
+    @Benchmark
+    public List<Vertex> g_V_outE_inV_outE_inV_hasXsongTypeX() throws Exception {
+        return batched.V().outE().inV().outE().inV().has("songType").toList();
+    }
+
+    @Benchmark
+    public List<Vertex> g_V_outE_inV_outE_inV_hasXsongTypeX_unbatched() throws Exception {
+        return g.V().outE().inV().outE().inV().has("songType").toList();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.LazyBarrierStrategy;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Compares friend-of-friend traversals on a {@link org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph}
+ * loaded with the Grateful Dead data set when {@link LazyBarrierStrategy} inserts barriers of the default fixed size
+ * and when it inserts barriers that adapt their size to the merge ratio of the traversers they gather.
+ */
+@LoadGraphWith(LoadGraphWith.GraphData.GRATEFUL)
+public class LazyBarrierBenchmark extends AbstractGraphBenchmark {
+
+    @Param({"FIXED", "ADAPTIVE"})
+    public String barrierSize;
+
+    @Setup
+    @Override
+    public void prepare() throws IOException {
+        super.prepare();
+        if (barrierSize.equals("ADAPTIVE"))
+            g = g.withStrategies(LazyBarrierStrategy.build().minBarrierSize(64).maxBarrierSize(100000).create());
+    }
+
+    @Benchmark
+    public long g_V_out_out_out_count() throws Exception {
+        return g.V().out().out().out().count().next();
+    }
+
+    @Benchmark
+    public long g_V_both_both_both_dedup_count() throws Exception {
+        return g.V().both().both().both().dedup().count().next();
+    }
+
+    @Benchmark
+    public List<Vertex> g_V_out_out_out_limitX10X() throws Exception {
+        return g.V().out().out().out().limit(10).toList();
+    }
+}
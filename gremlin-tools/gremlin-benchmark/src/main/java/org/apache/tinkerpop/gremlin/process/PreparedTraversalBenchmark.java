@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.traversal.Bindings;
+import org.apache.tinkerpop.gremlin.process.traversal.PreparedTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Compares executing short parameterized traversals against a
+ * {@link org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph} loaded with the Grateful Dead data set when
+ * they are constructed and strategized for every execution and when they are executed as a {@link PreparedTraversal}.
+ */
+@LoadGraphWith(LoadGraphWith.GraphData.GRATEFUL)
+public class PreparedTraversalBenchmark extends AbstractGraphBenchmark {
+
+    private List<Object> ids;
+    private int next = 0;
+    private PreparedTraversal<Vertex, Object> followedByNames;
+    private PreparedTraversal<Vertex, Long> performancesAbove;
+
+    @Setup
+    @Override
+    public void prepare() throws IOException {
+        super.prepare();
+        ids = g.V().id().toList();
+        final Bindings b = Bindings.instance();
+        followedByNames = g.prepare(g.V(b.of("id", ids.get(0))).out("followedBy").values("name"));
+        performancesAbove = g.prepare(g.V(b.of("id", ids.get(0))).out("followedBy").has("performances", P.gt(10)).count());
+    }
+
+    private Object nextId() {
+        next = next + 1 == ids.size() ? 0 : next + 1;
+        return ids.get(next);
+    }
+
+    @Benchmark
+    public List<Object> g_VXidX_outXfollowedByX_name_adhoc() throws Exception {
+        return g.V(nextId()).out("followedBy").values("name").toList();
+    }
+
+    @Benchmark
+    public List<Object> g_VXidX_outXfollowedByX_name_prepared() throws Exception {
+        return followedByNames.toList("id", nextId());
+    }
+
+    @Benchmark
+    public long g_VXidX_outXfollowedByX_hasXperformances_gtX10XX_count_adhoc() throws Exception {
+        return g.V(nextId()).out("followedBy").has("performances", P.gt(10)).count().next();
+    }
+
+    @Benchmark
+    public long g_VXidX_outXfollowedByX_hasXperformances_gtX10XX_count_prepared() throws Exception {
+        return performancesAbove.apply(t -> t.next(), "id", nextId());
+    }
+}
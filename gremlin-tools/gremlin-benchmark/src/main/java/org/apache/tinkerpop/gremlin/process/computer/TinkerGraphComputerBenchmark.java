@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer;
+
+import org.apache.tinkerpop.benchmark.util.AbstractBenchmarkBase;
+import org.apache.tinkerpop.gremlin.process.computer.clustering.peerpressure.PeerPressureVertexProgram;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputer;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken by {@link TinkerGraphComputer} to cluster a graph with the
+ * {@link PeerPressureVertexProgram} in bulk synchronous iterations and in asynchronous mode, where votes are seen by
+ * neighbors within the iteration that they are cast in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TinkerGraphComputerBenchmark extends AbstractBenchmarkBase {
+
+    private static final int VERTEX_COUNT = 20000;
+    private static final int EDGES_PER_VERTEX = 4;
+
+    @Param({"false", "true"})
+    public boolean asynchronous;
+
+    private TinkerGraph graph;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        graph = TinkerGraph.open();
+        final Random random = new Random(123456789L);
+        for (long ix = 0; ix < VERTEX_COUNT; ix++) {
+            graph.addVertex(T.id, ix, T.label, "person");
+        }
+        // communities of a hundred vertices that are densely linked within and sparsely linked to each other
+        for (long ix = 0; ix < VERTEX_COUNT; ix++) {
+            final Vertex v = graph.vertices(ix).next();
+            for (int e = 0; e < EDGES_PER_VERTEX; e++) {
+                final long other = random.nextInt(10) == 0 ? random.nextInt(VERTEX_COUNT) : ix - ix % 100 + random.nextInt(100);
+                v.addEdge("knows", graph.vertices(other).next());
+            }
+        }
+    }
+
+    @Benchmark
+    public ComputerResult peerPressure() throws Exception {
+        return graph.compute().configure(TinkerGraphComputer.ASYNCHRONOUS, asynchronous)
+                .program(PeerPressureVertexProgram.build().create(graph)).submit().get();
+    }
+}
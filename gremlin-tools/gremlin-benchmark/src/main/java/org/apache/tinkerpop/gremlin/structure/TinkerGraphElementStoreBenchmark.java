@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure;
+
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.benchmark.util.AbstractBenchmarkBase;
+import org.apache.tinkerpop.benchmark.util.RetainedHeapProfiler;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.Profiler;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compares the default {@code ConcurrentHashMap} element store used by {@link TinkerGraph} with the primitive
+ * {@code long} keyed store that is used when the {@link TinkerGraph.DefaultIdManager#LONG} is configured. The heap
+ * retained by each graph is reported by the {@link RetainedHeapProfiler}.
+ */
+@State(Scope.Benchmark)
+public class TinkerGraphElementStoreBenchmark extends AbstractBenchmarkBase {
+
+    private static final int VERTEX_COUNT = 1000000;
+
+    @Param({"ANY", "LONG"})
+    public String idManager;
+
+    /**
+     * The graph of the trial is kept reachable until the next trial opens its own, as JMH releases the state of the
+     * benchmark before the profilers measure the last iteration.
+     */
+    private static TinkerGraph graph;
+    private GraphTraversalSource g;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_VERTEX_ID_MANAGER, idManager);
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_EDGE_ID_MANAGER, idManager);
+        graph = TinkerGraph.open(conf);
+        g = graph.traversal();
+
+        for (long ix = 0; ix < VERTEX_COUNT; ix++) {
+            final Vertex v = graph.addVertex(T.id, ix);
+            if (ix > 0) v.addEdge("knows", graph.vertices(ix - 1).next(), T.id, ix);
+        }
+    }
+
+    @Override
+    protected List<Class<? extends Profiler>> getProfilers() {
+        return Collections.singletonList(RetainedHeapProfiler.class);
+    }
+
+    @Benchmark
+    public Vertex g_VXidX() {
+        return g.V(ThreadLocalRandom.current().nextLong(VERTEX_COUNT)).next();
+    }
+
+    @Benchmark
+    public Vertex graph_verticesXidX() {
+        return graph.vertices(ThreadLocalRandom.current().nextLong(VERTEX_COUNT)).next();
+    }
+
+    @Benchmark
+    public Edge graph_edgesXidX() {
+        return graph.edges(ThreadLocalRandom.current().nextLong(1, VERTEX_COUNT)).next();
+    }
+
+    @Benchmark
+    public long g_V_count() {
+        return g.V().count().next();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure;
+
+import org.apache.tinkerpop.benchmark.util.AbstractBenchmarkBase;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Measures concurrent bulk loading of a {@link TinkerGraph} where every added vertex has indexed properties that are
+ * then updated, so that threads contend on the index for the same values.
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class TinkerGraphIndexBenchmark extends AbstractBenchmarkBase {
+
+    @Param({"NONE", "HASH", "ORDERED"})
+    public String indexType;
+
+    private TinkerGraph graph;
+
+    @Setup(Level.Iteration)
+    public void prepare() {
+        graph = TinkerGraph.open();
+        if (!indexType.equals("NONE")) {
+            final TinkerGraph.IndexType type = TinkerGraph.IndexType.valueOf(indexType);
+            graph.createIndex("name", Vertex.class, type);
+            graph.createIndex("age", Vertex.class, type);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        graph = null;
+    }
+
+    @Benchmark
+    public Vertex addVertexWithIndexedProperties() {
+        final int i = ThreadLocalRandom.current().nextInt(1000);
+        final Vertex v = graph.addVertex(T.label, "person", "name", "name" + i);
+        v.property("age", i % 100);
+        v.property("age", i % 100 + 1);
+        return v;
+    }
+}
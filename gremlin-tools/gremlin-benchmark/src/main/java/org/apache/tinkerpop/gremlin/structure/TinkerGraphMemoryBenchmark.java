@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure;
+
+import org.apache.tinkerpop.benchmark.util.AbstractBenchmarkBase;
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.benchmark.util.RetainedHeapProfiler;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoReader;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.Profiler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Measures the heap retained by a {@link TinkerGraph} whose elements share a handful of labels and property keys,
+ * using the Grateful Dead data set and a synthetic graph of ten million vertices. The retained heap is reported by
+ * the {@link RetainedHeapProfiler}, while the benchmarks read the properties back.
+ */
+@State(Scope.Benchmark)
+public class TinkerGraphMemoryBenchmark extends AbstractBenchmarkBase {
+
+    private static final int SYNTHETIC_VERTEX_COUNT = 10000000;
+    private static final String[] SYNTHETIC_LABELS = {"person", "place", "thing"};
+    private static final String SYNTHETIC_HEAP = "8g";
+
+    @Param({"grateful", "synthetic"})
+    public String dataSet;
+
+    /**
+     * The graph of the trial is kept reachable until the next trial opens its own, as JMH releases the state of the
+     * benchmark before the profilers measure the last iteration.
+     */
+    private static TinkerGraph graph;
+    private GraphTraversalSource g;
+
+    @Setup(Level.Trial)
+    public void prepare() throws IOException {
+        graph = TinkerGraph.open();
+        g = graph.traversal();
+        if (dataSet.equals("grateful")) {
+            try (final InputStream stream = AbstractGraphBenchmark.class.getResourceAsStream(
+                    "/org/apache/tinkerpop/gremlin/structure/io/gryo/grateful-dead-v3d0.kryo")) {
+                GryoReader.build().create().readGraph(stream, graph);
+            }
+        } else {
+            Vertex previous = null;
+            for (int ix = 0; ix < SYNTHETIC_VERTEX_COUNT; ix++) {
+                final Vertex v = graph.addVertex(T.label, SYNTHETIC_LABELS[ix % SYNTHETIC_LABELS.length],
+                        "name", "v" + ix, "weight", ix % 100, "active", ix % 2 == 0);
+                if (null != previous) previous.addEdge("next", v, "weight", ix % 10);
+                previous = v;
+            }
+        }
+    }
+
+    @Override
+    protected List<Class<? extends Profiler>> getProfilers() {
+        return Collections.singletonList(RetainedHeapProfiler.class);
+    }
+
+    /**
+     * The synthetic graph does not fit in the heap the other benchmarks run with, so a larger heap is appended to the
+     * configured arguments, as the JVM applies the last heap arguments it is given.
+     */
+    @Override
+    protected String[] getJvmArgs() {
+        final String[] jvmArgs = super.getJvmArgs();
+        final String[] withHeap = Arrays.copyOf(jvmArgs, jvmArgs.length + 2);
+        withHeap[jvmArgs.length] = "-Xms" + SYNTHETIC_HEAP;
+        withHeap[jvmArgs.length + 1] = "-Xmx" + SYNTHETIC_HEAP;
+        return withHeap;
+    }
+
+    @Benchmark
+    public long g_V_propertiesXnameX_count() {
+        return g.V().properties("name").count().next();
+    }
+
+    @Benchmark
+    public long g_E_valueMap_count() {
+        return g.E().valueMap().count().next();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.io;
+
+import org.apache.tinkerpop.benchmark.util.AbstractBenchmarkBase;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONReader;
+import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONWriter;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoReader;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoWriter;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken by {@code readGraph} to load a Gryo or GraphSON serialized graph into a {@link TinkerGraph}
+ * on the calling thread and with several threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GraphReaderBenchmark extends AbstractBenchmarkBase {
+
+    private static final int VERTEX_COUNT = 100000;
+    private static final int EDGES_PER_VERTEX = 5;
+
+    @Param({"gryo", "graphson"})
+    public String format;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private byte[] serialized;
+    private GraphReader reader;
+
+    @Setup(Level.Trial)
+    public void prepare() throws IOException {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Random random = new Random(123456789L);
+        for (long ix = 0; ix < VERTEX_COUNT; ix++) {
+            graph.addVertex(T.id, ix, T.label, "person", "name", "name" + ix, "age", random.nextInt(100));
+        }
+        for (long ix = 0; ix < VERTEX_COUNT; ix++) {
+            final Vertex v = graph.vertices(ix).next();
+            for (int e = 0; e < EDGES_PER_VERTEX; e++) {
+                v.addEdge("knows", graph.vertices((long) random.nextInt(VERTEX_COUNT)).next(), "weight", random.nextDouble());
+            }
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (format.equals("gryo")) {
+            GryoWriter.build().create().writeGraph(out, graph);
+            reader = GryoReader.build().parallelism(parallelism).create();
+        } else {
+            GraphSONWriter.build().create().writeGraph(out, graph);
+            reader = GraphSONReader.build().parallelism(parallelism).create();
+        }
+        serialized = out.toByteArray();
+    }
+
+    @Benchmark
+    public TinkerGraph readGraph() throws IOException {
+        final TinkerGraph graph = TinkerGraph.open();
+        reader.readGraph(new ByteArrayInputStream(serialized), graph);
+        return graph;
+    }
+}
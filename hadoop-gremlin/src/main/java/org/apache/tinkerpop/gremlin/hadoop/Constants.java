@@ -61,6 +61,9 @@ public final class Constants {
     public static final String GREMLIN_SPARK_PERSIST_STORAGE_LEVEL = "gremlin.spark.persistStorageLevel";
     public static final String GREMLIN_SPARK_SKIP_PARTITIONER = "gremlin.spark.skipPartitioner"; // don't partition the loadedGraphRDD
     public static final String GREMLIN_SPARK_SKIP_GRAPH_CACHE = "gremlin.spark.skipGraphCache";  // don't cache the loadedGraphRDD (ignores graphStorageLevel)
+    public static final String GREMLIN_SPARK_GRAPH_PARTITIONER = "gremlin.spark.graphPartitioner"; // the GraphPartitioner used to partition the loadedGraphRDD
+    public static final String GREMLIN_SPARK_PARTITION_STATISTICS = "gremlin.spark.partitionStatistics"; // report per-partition counts in the job's memory
+    public static final String GREMLIN_SPARK_VIEW_CHECKPOINT_INTERVAL = "gremlin.spark.viewCheckpointInterval"; // truncate the lineage of the partitioned views every n iterations (0 never)
     public static final String SPARK_SERIALIZER = "spark.serializer";
     public static final String SPARK_KRYO_REGISTRATOR = "spark.kryo.registrator";
     public static final String SPARK_KRYO_REGISTRATION_REQUIRED = "spark.kryo.registrationRequired";
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.spark.TaskContext;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.JavaSparkContext;
+import org.apache.spark.util.AccumulatorV2;
+import org.apache.tinkerpop.gremlin.hadoop.Constants;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.kryoshim.KryoShimServiceLoader;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-partition vertex, edge and message counts and per-iteration shuffle write bytes of a {@link SparkGraphComputer}
+ * job, gathered with accumulators when {@link Constants#GREMLIN_SPARK_PARTITION_STATISTICS} is {@code true}. Vertices
+ * and their out-edges are counted in an action over the loaded graph before the first iteration and are exact. Sent
+ * messages are counted over all iterations and shuffle write bytes per iteration while the vertex program executes,
+ * which is not an action, so they are approximate as Spark applies the updates of a re-executed task (e.g. a retry or
+ * a recomputed lost partition) again. The counts are reported in the job's {@link Memory} as lists indexed by
+ * partition so that partitioners can be compared and the shuffle write bytes as a list indexed by iteration.
+ */
+public final class PartitionStatistics implements Serializable {
+
+    public static final String VERTEX_COUNTS = "gremlin.spark.partitionVertexCounts";
+    public static final String EDGE_COUNTS = "gremlin.spark.partitionEdgeCounts";
+    public static final String MESSAGE_COUNTS = "gremlin.spark.partitionMessageCounts";
+    public static final String SHUFFLE_WRITE_BYTES = "gremlin.spark.shuffleWriteBytes";
+
+    private final IndexedCountAccumulator vertexCounts = new IndexedCountAccumulator();
+    private final IndexedCountAccumulator edgeCounts = new IndexedCountAccumulator();
+    private final IndexedCountAccumulator messageCounts = new IndexedCountAccumulator();
+    private final IndexedCountAccumulator shuffleWriteBytes = new IndexedCountAccumulator();
+
+    public PartitionStatistics(final JavaSparkContext sparkContext) {
+        sparkContext.sc().register(this.vertexCounts, VERTEX_COUNTS);
+        sparkContext.sc().register(this.edgeCounts, EDGE_COUNTS);
+        sparkContext.sc().register(this.messageCounts, MESSAGE_COUNTS);
+        sparkContext.sc().register(this.shuffleWriteBytes, SHUFFLE_WRITE_BYTES);
+    }
+
+    public void countElements(final JavaPairRDD<Object, VertexWritable> graphRDD, final Configuration graphComputerConfiguration) {
+        graphRDD.foreachPartition(partitionIterator -> {
+            KryoShimServiceLoader.applyConfiguration(graphComputerConfiguration);
+            long vertices = 0L;
+            long edges = 0L;
+            while (partitionIterator.hasNext()) {
+                vertices++;
+                edges += IteratorUtils.count(partitionIterator.next()._2().get().edges(Direction.OUT));
+            }
+            this.vertexCounts.add(TaskContext.getPartitionId(), vertices);
+            this.edgeCounts.add(TaskContext.getPartitionId(), edges);
+        });
+    }
+
+    public void addMessages(final int partition, final long messages) {
+        this.messageCounts.add(partition, messages);
+    }
+
+    public void addShuffleWriteBytes(final int iteration, final long bytes) {
+        this.shuffleWriteBytes.add(iteration, bytes);
+    }
+
+    public void storeMemory(final Memory.Admin memory, final int numPartitions) {
+        memory.set(VERTEX_COUNTS, toList(this.vertexCounts.value(), numPartitions));
+        memory.set(EDGE_COUNTS, toList(this.edgeCounts.value(), numPartitions));
+        memory.set(MESSAGE_COUNTS, toList(this.messageCounts.value(), numPartitions));
+        memory.set(SHUFFLE_WRITE_BYTES, toList(this.shuffleWriteBytes.value(), memory.getIteration() + 1));
+    }
+
+    private static List<Long> toList(final Map<Integer, Long> counts, final int size) {
+        final List<Long> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(counts.getOrDefault(i, 0L));
+        }
+        return list;
+    }
+
+    /**
+     * Sums counts by index, which is either a partition or an iteration.
+     */
+    private static final class IndexedCountAccumulator extends AccumulatorV2<Map<Integer, Long>, Map<Integer, Long>> {
+
+        private final Map<Integer, Long> counts = new HashMap<>();
+
+        public void add(final int index, final long count) {
+            this.counts.merge(index, count, Long::sum);
+        }
+
+        @Override
+        public void add(final Map<Integer, Long> counts) {
+            counts.forEach(this::add);
+        }
+
+        @Override
+        public void merge(final AccumulatorV2<Map<Integer, Long>, Map<Integer, Long>> other) {
+            this.add(other.value());
+        }
+
+        @Override
+        public boolean isZero() {
+            return this.counts.isEmpty();
+        }
+
+        @Override
+        public IndexedCountAccumulator copy() {
+            final IndexedCountAccumulator copy = new IndexedCountAccumulator();
+            copy.add(this.counts);
+            return copy;
+        }
+
+        @Override
+        public void reset() {
+            this.counts.clear();
+        }
+
+        @Override
+        public Map<Integer, Long> value() {
+            return this.counts;
+        }
+    }
+}
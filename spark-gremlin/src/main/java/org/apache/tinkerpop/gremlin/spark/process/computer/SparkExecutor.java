@@ -20,9 +20,14 @@ package org.apache.tinkerpop.gremlin.spark.process.computer;
 
 import org.apache.spark.api.java.Optional;
 import org.apache.commons.configuration.Configuration;
+import org.apache.spark.Partitioner;
+import org.apache.spark.TaskContext;
 import org.apache.spark.api.java.JavaPairRDD;
 import org.apache.spark.api.java.function.Function2;
 import org.apache.spark.api.java.function.PairFlatMapFunction;
+import org.apache.spark.storage.StorageLevel;
+import org.apache.spark.util.TaskCompletionListener;
+import org.apache.tinkerpop.gremlin.hadoop.Constants;
 import org.apache.tinkerpop.gremlin.hadoop.structure.HadoopGraph;
 import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
 import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
@@ -78,6 +83,7 @@ public final class SparkExecutor {
             final JavaPairRDD<Object, VertexWritable> graphRDD,
             final JavaPairRDD<Object, ViewIncomingPayload<M>> viewIncomingRDD,
             final SparkMemory memory,
+            final PartitionStatistics statistics,               // may be null if partition statistics are not gathered
             final Configuration graphComputerConfiguration,    // has the Graph/GraphComputer.configuration() information
             final Configuration vertexProgramConfiguration) { // has the VertexProgram.loadState() information
 
@@ -91,6 +97,12 @@ public final class SparkExecutor {
                 // for each partition of vertices emit a view and their outgoing messages
                 .mapPartitionsToPair(partitionIterator -> {
                     KryoShimServiceLoader.applyConfiguration(graphComputerConfiguration);
+                    // the shuffle write of the messages (and views) happens in this task, so record it once the task completes
+                    if (null != statistics) {
+                        final int iteration = memory.getIteration();
+                        TaskContext.get().addTaskCompletionListener((TaskCompletionListener) context ->
+                                statistics.addShuffleWriteBytes(iteration, context.taskMetrics().shuffleWriteMetrics().bytesWritten()));
+                    }
 
                     // if the partition is empty, return without starting a new VP iteration
                     if (!partitionIterator.hasNext())
@@ -99,6 +111,7 @@ public final class SparkExecutor {
                     final VertexProgram<M> workerVertexProgram = VertexProgram.createVertexProgram(HadoopGraph.open(graphComputerConfiguration), vertexProgramConfiguration); // each partition(Spark)/worker(TP3) has a local copy of the vertex program (a worker's task)
                     final String[] vertexComputeKeysArray = VertexProgramHelper.vertexComputeKeysAsArray(workerVertexProgram.getVertexComputeKeys()); // the compute keys as an array
                     final SparkMessenger<M> messenger = new SparkMessenger<>();
+                    final long[] messageCount = new long[1]; // the outgoing messages of the partition
 
                     workerVertexProgram.workerIterationStart(memory.asImmutable()); // start the worker
                     return IteratorUtils.map(partitionIterator, vertexViewIncoming -> {
@@ -125,8 +138,12 @@ public final class SparkExecutor {
                         // drop compute property view as it has now been detached from the vertex
                         vertex.dropVertexProperties(vertexComputeKeysArray);
                         final List<Tuple2<Object, M>> outgoingMessages = messenger.getOutgoingMessages(); // get the outgoing messages being sent by this vertex
-                        if (!partitionIterator.hasNext())
+                        messageCount[0] += outgoingMessages.size();
+                        if (!partitionIterator.hasNext()) {
                             workerVertexProgram.workerIterationEnd(memory.asImmutable()); // if no more vertices in the partition, end the worker's iteration
+                            if (null != statistics)  // not in an action, so a re-executed task counts its messages again
+                                statistics.addMessages(TaskContext.getPartitionId(), messageCount[0]);
+                        }
                         return (nextView.isEmpty() && outgoingMessages.isEmpty()) ?
                                 null : // if there is no view nor outgoing messages, emit nothing
                                 new Tuple2<>(vertex.id(), new ViewOutgoingPayload<>(nextView, outgoingMessages));  // else, emit the vertex id, its view, and its outgoing messages
@@ -138,10 +155,6 @@ public final class SparkExecutor {
             assert graphRDD.partitioner().get().equals(viewOutgoingRDD.partitioner().get());
         /////////////////////////////////////////////////////////////
         /////////////////////////////////////////////////////////////
-        final PairFlatMapFunction<Tuple2<Object, ViewOutgoingPayload<M>>, Object, Payload> messageFunction =
-                tuple -> IteratorUtils.concat(
-                        IteratorUtils.of(new Tuple2<>(tuple._1(), tuple._2().getView())),      // emit the view payload
-                        IteratorUtils.map(tuple._2().getOutgoingMessages().iterator(), message -> new Tuple2<>(message._1(), new MessagePayload<>(message._2()))));
         final MessageCombiner<M> messageCombiner = VertexProgram.<VertexProgram<M>>createVertexProgram(HadoopGraph.open(vertexProgramConfiguration), vertexProgramConfiguration).getMessageCombiner().orElse(null);
         final Function2<Payload, Payload, Payload> reducerFunction = (a, b) -> {      // reduce the view and outgoing messages into a single payload object representing the new view and incoming messages for a vertex
             if (a instanceof ViewIncomingPayload) {
@@ -159,19 +172,58 @@ public final class SparkExecutor {
         };
         /////////////////////////////////////////////////////////////
         /////////////////////////////////////////////////////////////
-        // "message pass" by reducing on the vertex object id of the view and message payloads
-        final JavaPairRDD<Object, ViewIncomingPayload<M>> newViewIncomingRDD =
-                (partitionedGraphRDD ?
-                        viewOutgoingRDD.flatMapToPair(messageFunction).reduceByKey(graphRDD.partitioner().get(), reducerFunction) :
-                        viewOutgoingRDD.flatMapToPair(messageFunction).reduceByKey(reducerFunction))
-                        .mapValues(payload -> { // handle various corner cases of when views don't exist, messages don't exist, or neither exists.
-                            if (payload instanceof ViewIncomingPayload) // this happens if there is a vertex view with incoming messages
-                                return (ViewIncomingPayload<M>) payload;
-                            else if (payload instanceof ViewPayload)    // this happens if there is a vertex view with no incoming messages
-                                return new ViewIncomingPayload<>((ViewPayload) payload);
-                            else                                        // this happens when there is a single message to a vertex that has no view or outgoing messages
-                                return new ViewIncomingPayload<>((MessagePayload<M>) payload);
-                        });
+        final JavaPairRDD<Object, ViewIncomingPayload<M>> newViewIncomingRDD;
+        if (partitionedGraphRDD) {
+            // the view of a vertex never changes partitions, so only the messages are shuffled and the views are joined
+            // back in partition-locally. the outgoing views are computed by the vertex program and thus, must be persisted
+            // so that the program is not executed again when the views and messages are joined.
+            viewOutgoingRDD.persist(StorageLevel.MEMORY_AND_DISK());
+            final Partitioner partitioner = graphRDD.partitioner().get();
+            // "message pass" by reducing on the vertex object id of the message payloads
+            final JavaPairRDD<Object, Payload> incomingMessagesRDD = viewOutgoingRDD
+                    .flatMapToPair(tuple -> IteratorUtils.<Tuple2<Object, M>, Tuple2<Object, Payload>>map(tuple._2().getOutgoingMessages().iterator(), message -> new Tuple2<>(message._1(), new MessagePayload<>(message._2()))))
+                    .reduceByKey(partitioner, reducerFunction);
+            // both sides of the join share the partitioner of the graphRDD so the join does not shuffle
+            newViewIncomingRDD = viewOutgoingRDD
+                    .mapValues(ViewOutgoingPayload::getView)
+                    .fullOuterJoin(incomingMessagesRDD, partitioner)
+                    .mapValues(tuple -> {
+                        if (!tuple._2().isPresent())     // this happens if there is a vertex view with no incoming messages
+                            return new ViewIncomingPayload<M>(tuple._1().get());
+                        final ViewIncomingPayload<M> payload = tuple._2().get() instanceof ViewIncomingPayload ?
+                                (ViewIncomingPayload<M>) tuple._2().get() :             // this happens if there are many incoming messages
+                                new ViewIncomingPayload<>((MessagePayload<M>) tuple._2().get()); // this happens if there is a single incoming message
+                        if (tuple._1().isPresent())      // this happens if there is a vertex view with incoming messages
+                            payload.mergePayload(tuple._1().get(), messageCombiner);
+                        return payload;
+                    })
+                    .persist(StorageLevel.MEMORY_AND_DISK());
+            // each view is joined from the previous view, so its lineage grows every iteration. periodically truncate it
+            // (before the action below materializes it) with a reliable checkpoint if a checkpoint directory is set,
+            // else with a local checkpoint of the persisted view
+            final int checkpointInterval = graphComputerConfiguration.getInt(Constants.GREMLIN_SPARK_VIEW_CHECKPOINT_INTERVAL, 10);
+            if (checkpointInterval > 0 && (memory.getIteration() + 1) % checkpointInterval == 0) {
+                if (newViewIncomingRDD.context().getCheckpointDir().isDefined())
+                    newViewIncomingRDD.checkpoint();
+                else
+                    newViewIncomingRDD.rdd().localCheckpoint();
+            }
+        } else {
+            final PairFlatMapFunction<Tuple2<Object, ViewOutgoingPayload<M>>, Object, Payload> messageFunction =
+                    tuple -> IteratorUtils.concat(
+                            IteratorUtils.of(new Tuple2<>(tuple._1(), tuple._2().getView())),      // emit the view payload
+                            IteratorUtils.map(tuple._2().getOutgoingMessages().iterator(), message -> new Tuple2<>(message._1(), new MessagePayload<>(message._2()))));
+            // "message pass" by reducing on the vertex object id of the view and message payloads
+            newViewIncomingRDD = viewOutgoingRDD.flatMapToPair(messageFunction).reduceByKey(reducerFunction)
+                    .mapValues(payload -> { // handle various corner cases of when views don't exist, messages don't exist, or neither exists.
+                        if (payload instanceof ViewIncomingPayload) // this happens if there is a vertex view with incoming messages
+                            return (ViewIncomingPayload<M>) payload;
+                        else if (payload instanceof ViewPayload)    // this happens if there is a vertex view with no incoming messages
+                            return new ViewIncomingPayload<>((ViewPayload) payload);
+                        else                                        // this happens when there is a single message to a vertex that has no view or outgoing messages
+                            return new ViewIncomingPayload<>((MessagePayload<M>) payload);
+                    });
+        }
         // the graphRDD and the viewRDD must have the same partitioner
         if (partitionedGraphRDD)
             assert graphRDD.partitioner().get().equals(newViewIncomingRDD.partitioner().get());
@@ -179,6 +231,12 @@ public final class SparkExecutor {
                 .foreachPartition(partitionIterator -> {
                     KryoShimServiceLoader.applyConfiguration(graphComputerConfiguration);
                 }); // need to complete a task so its BSP and the memory for this iteration is updatedß
+        // the new views are persisted so neither the outgoing views nor the previous views are needed anymore
+        if (partitionedGraphRDD) {
+            viewOutgoingRDD.unpersist();
+            if (null != viewIncomingRDD)
+                viewIncomingRDD.unpersist();
+        }
         return newViewIncomingRDD;
     }
 
@@ -28,7 +28,6 @@ import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.mapreduce.InputFormat;
 import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
 import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
-import org.apache.spark.HashPartitioner;
 import org.apache.spark.Partitioner;
 import org.apache.spark.SparkConf;
 import org.apache.spark.SparkContext;
@@ -56,6 +55,8 @@ import org.apache.tinkerpop.gremlin.process.computer.util.DefaultComputerResult;
 import org.apache.tinkerpop.gremlin.process.computer.util.MapMemory;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+import org.apache.tinkerpop.gremlin.spark.process.computer.partitioner.GraphPartitioner;
+import org.apache.tinkerpop.gremlin.spark.process.computer.partitioner.HashGraphPartitioner;
 import org.apache.tinkerpop.gremlin.spark.process.computer.payload.ViewIncomingPayload;
 import org.apache.tinkerpop.gremlin.spark.process.computer.traversal.strategy.SparkVertexProgramInterceptor;
 import org.apache.tinkerpop.gremlin.spark.process.computer.traversal.strategy.optimization.SparkInterceptorStrategy;
@@ -234,6 +235,7 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
             final Storage sparkContextStorage = SparkContextStorage.open();
 
             SparkMemory memory = null;
+            PartitionStatistics statistics = null;
             // delete output location
             final String outputLocation = hadoopConfiguration.get(Constants.GREMLIN_HADOOP_OUTPUT_LOCATION, null);
             if (null != outputLocation) {
@@ -258,12 +260,13 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
                     this.logger.debug("Filtering the loaded graphRDD: " + this.graphFilter);
                     loadedGraphRDD = SparkExecutor.applyGraphFilter(loadedGraphRDD, this.graphFilter);
                 }
-                // if the loaded graph RDD is already partitioned use that partitioner, else partition it with HashPartitioner
+                // if the loaded graph RDD is already partitioned use that partitioner, else partition it with the configured GraphPartitioner
                 if (loadedGraphRDD.partitioner().isPresent())
                     this.logger.debug("Using the existing partitioner associated with the loaded graphRDD: " + loadedGraphRDD.partitioner().get());
                 else {
                     if (!skipPartitioner) {
-                        final Partitioner partitioner = new HashPartitioner(this.workersSet ? this.workers : loadedGraphRDD.partitions().size());
+                        final Partitioner partitioner = createGraphPartitioner(graphComputerConfiguration).createPartitioner(
+                                loadedGraphRDD, this.workersSet ? this.workers : loadedGraphRDD.partitions().size(), graphComputerConfiguration);
                         this.logger.debug("Partitioning the loaded graphRDD: " + partitioner);
                         loadedGraphRDD = loadedGraphRDD.partitionBy(partitioner);
                         partitioned = true;
@@ -286,6 +289,8 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
 
                 // final graph with view (for persisting and/or mapReducing -- may be null and thus, possible to save space/time)
                 JavaPairRDD<Object, VertexWritable> computedGraphRDD = null;
+                // the final views of the vertex program (may be null if there is no vertex program or it was intercepted)
+                JavaPairRDD<Object, ViewIncomingPayload<Object>> viewIncomingRDD = null;
                 ////////////////////////////////
                 // process the vertex program //
                 ////////////////////////////////
@@ -307,7 +312,11 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
                         this.vertexProgram.storeState(vertexProgramConfiguration);
                         // set up the vertex program and wire up configurations
                         this.vertexProgram.setup(memory);
-                        JavaPairRDD<Object, ViewIncomingPayload<Object>> viewIncomingRDD = null;
+                        // gather per-partition counts with accumulators if requested
+                        if (graphComputerConfiguration.getBoolean(Constants.GREMLIN_SPARK_PARTITION_STATISTICS, false)) {
+                            statistics = new PartitionStatistics(sparkContext);
+                            statistics.countElements(loadedGraphRDD, graphComputerConfiguration);
+                        }
                         memory.broadcastMemory(sparkContext);
                         // execute the vertex program
                         while (true) {
@@ -316,7 +325,7 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
                                 throw new TraversalInterruptedException();
                             }
                             memory.setInExecute(true);
-                            viewIncomingRDD = SparkExecutor.executeVertexProgramIteration(loadedGraphRDD, viewIncomingRDD, memory, graphComputerConfiguration, vertexProgramConfiguration);
+                            viewIncomingRDD = SparkExecutor.executeVertexProgramIteration(loadedGraphRDD, viewIncomingRDD, memory, statistics, graphComputerConfiguration, vertexProgramConfiguration);
                             memory.setInExecute(false);
                             if (this.vertexProgram.terminate(memory))
                                 break;
@@ -348,6 +357,8 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
                     computedGraphRDD = loadedGraphRDD;
 
                 final Memory.Admin finalMemory = null == memory ? new MapMemory() : new MapMemory(memory);
+                if (null != statistics)
+                    statistics.storeMemory(finalMemory, loadedGraphRDD.partitions().size());
 
                 //////////////////////////////
                 // process the map reducers //
@@ -398,6 +409,9 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
                 // if the computed graph is the loadedGraphRDD because it was not mutated and not-unpersisted, then don't unpersist the computedGraphRDD/loadedGraphRDD
                 if ((!outputToSpark || this.persist.equals(GraphComputer.Persist.NOTHING)) && computedGraphCreated)
                     computedGraphRDD.unpersist();
+                // unpersist the final views of the vertex program unless they back the persisted computed graph
+                if (null != viewIncomingRDD && (!outputToSpark || this.persist.equals(GraphComputer.Persist.NOTHING) || !computedGraphCreated))
+                    viewIncomingRDD.unpersist();
                 // delete any file system or rdd data if persist nothing
                 if (null != outputLocation && this.persist.equals(GraphComputer.Persist.NOTHING)) {
                     if (outputToHDFS)
@@ -424,6 +438,14 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
 
     /////////////////
 
+    private static GraphPartitioner createGraphPartitioner(final org.apache.commons.configuration.Configuration configuration) {
+        try {
+            return (GraphPartitioner) Class.forName(configuration.getString(Constants.GREMLIN_SPARK_GRAPH_PARTITIONER, HashGraphPartitioner.class.getCanonicalName())).newInstance();
+        } catch (final ClassNotFoundException | IllegalAccessException | InstantiationException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
     @Override
     protected void loadJar(final Configuration hadoopConfiguration, final File file, final Object... params) {
         final JavaSparkContext sparkContext = (JavaSparkContext) params[0];
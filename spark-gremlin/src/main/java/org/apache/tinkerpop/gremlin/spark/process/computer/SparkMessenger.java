@@ -62,8 +62,15 @@ public final class SparkMessenger<M> implements Messenger<M> {
         if (messageScope instanceof MessageScope.Local) {
             final MessageScope.Local<M> localMessageScope = (MessageScope.Local) messageScope;
             final Traversal.Admin<Vertex, Edge> incidentTraversal = SparkMessenger.setVertexStart(localMessageScope.getIncidentTraversal().get().asAdmin(), this.vertex);
-            final Direction direction = SparkMessenger.getOppositeDirection(incidentTraversal);
-            incidentTraversal.forEachRemaining(edge -> this.outgoingMessages.add(new Tuple2<>(edge.vertices(direction).next().id(), message)));
+            final Direction direction = SparkMessenger.getDirection(incidentTraversal);
+            incidentTraversal.forEachRemaining(edge -> {
+                if (Direction.OUT == direction)
+                    this.outgoingMessages.add(new Tuple2<>(edge.inVertex().id(), message));
+                else if (Direction.IN == direction)
+                    this.outgoingMessages.add(new Tuple2<>(edge.outVertex().id(), message));
+                else // an edge of both directions is sent over to whichever end is not the sending vertex
+                    this.outgoingMessages.add(new Tuple2<>(edge.outVertex().id().equals(this.vertex.id()) ? edge.inVertex().id() : edge.outVertex().id(), message));
+            });
         } else {
             ((MessageScope.Global) messageScope).vertices().forEach(v -> this.outgoingMessages.add(new Tuple2<>(v.id(), message)));
         }
@@ -76,8 +83,8 @@ public final class SparkMessenger<M> implements Messenger<M> {
         return (T) incidentTraversal;
     }
 
-    private static Direction getOppositeDirection(final Traversal.Admin<Vertex, Edge> incidentTraversal) {
+    private static Direction getDirection(final Traversal.Admin<Vertex, Edge> incidentTraversal) {
         final VertexStep step = TraversalHelper.getLastStepOfAssignableClass(VertexStep.class, incidentTraversal).get();
-        return step.getDirection().opposite();
+        return step.getDirection();
     }
 }
@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer.partitioner;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.spark.Partitioner;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.storage.StorageLevel;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import scala.Tuple2;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link GraphPartitioner} for skewed graphs that co-locates the neighborhoods of the highest degree vertices. The
+ * load of a vertex is taken to be one plus its degree as that bounds the edges it iterates and the messages it sends.
+ * The heaviest vertices (the hubs) are gathered with up to {@link #MAX_NEIGHBOR_ASSIGNMENTS} of their lower degree
+ * neighbors, each of which joins its heaviest adjacent hub, so that the messages sent along those edges stay within a
+ * partition. The neighbors of a hub are only gathered until the load of the neighborhood reaches the average load of
+ * a partition, beyond which co-locating them would make a straggler partition. The neighborhoods are then placed one at
+ * a time, heaviest first, on the partition with the least load, where the load of a partition starts out as the load
+ * of the hashed vertices that land there. All other vertices are hashed as with {@code HashPartitioner}, so only the
+ * hubs and their gathered neighbors need to be shipped with the {@code Partitioner}.
+ */
+public final class DegreeAwareGraphPartitioner implements GraphPartitioner {
+
+    /**
+     * The maximum number of hubs that are explicitly placed (default 10000).
+     */
+    public static final String MAX_ASSIGNMENTS = "gremlin.spark.degreeAwarePartitioner.maxAssignments";
+
+    /**
+     * The maximum number of neighbors that are placed with their hub (default 100000), which are the heaviest of the
+     * vertices that are adjacent to a hub.
+     */
+    public static final String MAX_NEIGHBOR_ASSIGNMENTS = "gremlin.spark.degreeAwarePartitioner.maxNeighborAssignments";
+
+    @Override
+    public Partitioner createPartitioner(final JavaPairRDD<Object, VertexWritable> graphRDD, final int numPartitions, final Configuration configuration) {
+        final int maxAssignments = configuration.getInt(MAX_ASSIGNMENTS, 10000);
+        final int maxNeighborAssignments = configuration.getInt(MAX_NEIGHBOR_ASSIGNMENTS, 100000);
+        final JavaPairRDD<Object, Long> loadRDD = graphRDD
+                .mapValues(vertexWritable -> 1L + IteratorUtils.count(vertexWritable.get().edges(Direction.BOTH)))
+                .persist(StorageLevel.MEMORY_AND_DISK());
+        try {
+            final List<Tuple2<Object, Long>> heaviest = loadRDD.takeOrdered(maxAssignments, new HeaviestFirst());
+            final HashMap<Object, Long> hubLoads = new HashMap<>();
+            heaviest.forEach(hub -> hubLoads.put(hub._1(), hub._2()));
+            final List<Tuple2<Object, Tuple2<Object, Long>>> neighbors = hubLoads.isEmpty() || maxNeighborAssignments < 1 ?
+                    Collections.emptyList() :
+                    graphRDD.flatMapToPair(tuple -> neighborOfHub(tuple._1(), tuple._2().get(), hubLoads))
+                            .takeOrdered(maxNeighborAssignments, new HeaviestNeighborFirst());
+            final Map<Integer, Long> hashedLoads = loadRDD
+                    .mapToPair(tuple -> new Tuple2<>(DegreeAwarePartitioner.hashPartition(tuple._1(), numPartitions), tuple._2()))
+                    .reduceByKey(Long::sum)
+                    .collectAsMap();
+            return DegreeAwarePartitioner.of(numPartitions, heaviest, neighbors, hashedLoads);
+        } finally {
+            loadRDD.unpersist();
+        }
+    }
+
+    /**
+     * The heaviest hub that is adjacent to a vertex that is not a hub itself, along with the load of the vertex.
+     */
+    private static Iterator<Tuple2<Object, Tuple2<Object, Long>>> neighborOfHub(final Object vertexId, final Vertex vertex, final Map<Object, Long> hubLoads) {
+        if (hubLoads.containsKey(vertexId))
+            return Collections.emptyIterator();
+        Object hub = null;
+        long load = 1L;
+        final Iterator<Vertex> adjacentVertices = vertex.vertices(Direction.BOTH);
+        while (adjacentVertices.hasNext()) {
+            final Object adjacentId = adjacentVertices.next().id();
+            final Long hubLoad = hubLoads.get(adjacentId);
+            if (null != hubLoad && (null == hub || hubLoad > hubLoads.get(hub)))
+                hub = adjacentId;
+            load++;
+        }
+        return null == hub ?
+                Collections.emptyIterator() :
+                Collections.singletonList(new Tuple2<>(vertexId, new Tuple2<>(hub, load))).iterator();
+    }
+
+    private static final class HeaviestFirst implements Comparator<Tuple2<Object, Long>>, Serializable {
+        @Override
+        public int compare(final Tuple2<Object, Long> a, final Tuple2<Object, Long> b) {
+            return Long.compare(b._2(), a._2());
+        }
+    }
+
+    private static final class HeaviestNeighborFirst implements Comparator<Tuple2<Object, Tuple2<Object, Long>>>, Serializable {
+        @Override
+        public int compare(final Tuple2<Object, Tuple2<Object, Long>> a, final Tuple2<Object, Tuple2<Object, Long>> b) {
+            return Long.compare(b._2()._2(), a._2()._2());
+        }
+    }
+
+    /**
+     * A {@code Partitioner} that places a fixed set of vertices on explicit partitions and hashes all other keys.
+     */
+    public static final class DegreeAwarePartitioner extends Partitioner {
+
+        private final int numPartitions;
+        private final Map<Object, Integer> assignments;
+
+        public DegreeAwarePartitioner(final int numPartitions, final Map<Object, Integer> assignments) {
+            if (numPartitions < 1)
+                throw new IllegalArgumentException("The number of partitions must be greater than zero: " + numPartitions);
+            this.numPartitions = numPartitions;
+            this.assignments = assignments;
+        }
+
+        /**
+         * Gather the given neighbors with their hubs, as long as a neighborhood does not exceed the average load of a
+         * partition, and place the neighborhoods, heaviest first, on the partition with the least load.
+         *
+         * @param numPartitions the number of partitions
+         * @param heaviest      the vertex ids and loads of the hubs to place, sorted by descending load
+         * @param neighbors     the vertex ids of the neighbors to place with their hub along with the vertex id of that
+         *                      hub and their load, sorted by descending load
+         * @param hashedLoads   the total load of all vertices per hashed partition, including those to be placed
+         */
+        public static DegreeAwarePartitioner of(final int numPartitions, final List<Tuple2<Object, Long>> heaviest,
+                                                final List<Tuple2<Object, Tuple2<Object, Long>>> neighbors,
+                                                final Map<Integer, Long> hashedLoads) {
+            final long[] loads = new long[numPartitions];
+            hashedLoads.forEach((partition, load) -> loads[partition] += load);
+            long totalLoad = 0L;
+            for (final long load : loads) {
+                totalLoad += load;
+            }
+            final long averageLoad = (totalLoad + numPartitions - 1) / numPartitions;
+            final Map<Object, Neighborhood> neighborhoods = new LinkedHashMap<>();
+            for (final Tuple2<Object, Long> hub : heaviest) {
+                loads[hashPartition(hub._1(), numPartitions)] -= hub._2();
+                neighborhoods.put(hub._1(), new Neighborhood(hub._1(), hub._2()));
+            }
+            for (final Tuple2<Object, Tuple2<Object, Long>> neighbor : neighbors) {
+                final Neighborhood neighborhood = neighborhoods.get(neighbor._2()._1());
+                if (null != neighborhood && neighborhood.load + neighbor._2()._2() <= averageLoad) {
+                    loads[hashPartition(neighbor._1(), numPartitions)] -= neighbor._2()._2();
+                    neighborhood.vertices.add(neighbor._1());
+                    neighborhood.load += neighbor._2()._2();
+                }
+            }
+            final List<Neighborhood> heaviestNeighborhoods = new ArrayList<>(neighborhoods.values());
+            heaviestNeighborhoods.sort((a, b) -> Long.compare(b.load, a.load));
+            final Map<Object, Integer> assignments = new HashMap<>();
+            for (final Neighborhood neighborhood : heaviestNeighborhoods) {
+                int lightest = 0;
+                for (int i = 1; i < numPartitions; i++) {
+                    if (loads[i] < loads[lightest])
+                        lightest = i;
+                }
+                for (final Object vertexId : neighborhood.vertices) {
+                    assignments.put(vertexId, lightest);
+                }
+                loads[lightest] += neighborhood.load;
+            }
+            return new DegreeAwarePartitioner(numPartitions, assignments);
+        }
+
+        static int hashPartition(final Object key, final int numPartitions) {
+            if (null == key)
+                return 0;
+            final int mod = key.hashCode() % numPartitions;
+            return mod < 0 ? mod + numPartitions : mod;
+        }
+
+        @Override
+        public int numPartitions() {
+            return this.numPartitions;
+        }
+
+        @Override
+        public int getPartition(final Object key) {
+            final Integer partition = this.assignments.get(key);
+            return null == partition ? hashPartition(key, this.numPartitions) : partition;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof DegreeAwarePartitioner &&
+                    ((DegreeAwarePartitioner) other).numPartitions == this.numPartitions &&
+                    ((DegreeAwarePartitioner) other).assignments.equals(this.assignments);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.numPartitions ^ this.assignments.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return DegreeAwarePartitioner.class.getSimpleName() + "[" + this.numPartitions + "," + this.assignments.size() + "]";
+        }
+
+        private static final class Neighborhood {
+
+            private final List<Object> vertices = new ArrayList<>();
+            private long load;
+
+            private Neighborhood(final Object hub, final long load) {
+                this.vertices.add(hub);
+                this.load = load;
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer.partitioner;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.spark.Partitioner;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.tinkerpop.gremlin.hadoop.Constants;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+
+/**
+ * A {@code GraphPartitioner} creates the {@code Partitioner} that {@code SparkGraphComputer} uses to partition the
+ * loaded graphRDD when that RDD is not already partitioned. The implementation is selected with
+ * {@link Constants#GREMLIN_SPARK_GRAPH_PARTITIONER} and must have a public no-argument constructor.
+ */
+public interface GraphPartitioner {
+
+    /**
+     * Create the {@code Partitioner} for the graphRDD.
+     *
+     * @param graphRDD      the loaded (and possibly filtered) graphRDD
+     * @param numPartitions the number of partitions the graphRDD should be split into
+     * @param configuration the graph computer configuration
+     * @return the partitioner to use for the graphRDD and all the view and message RDDs derived from it
+     */
+    public Partitioner createPartitioner(final JavaPairRDD<Object, VertexWritable> graphRDD, final int numPartitions, final Configuration configuration);
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.TestHelper;
+import org.apache.tinkerpop.gremlin.hadoop.Constants;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.gryo.GryoInputFormat;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.gryo.GryoOutputFormat;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
+import org.apache.tinkerpop.gremlin.spark.AbstractSparkTest;
+import org.apache.tinkerpop.gremlin.spark.process.computer.partitioner.DegreeAwareGraphPartitioner;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.GraphFactory;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PartitionStatisticsTest extends AbstractSparkTest {
+
+    @Test
+    public void shouldReportPartitionStatisticsOfPageRankInMemory() throws Exception {
+        final Graph graph = GraphFactory.open(getStatisticsConfiguration("shouldReportPartitionStatisticsOfPageRankInMemory"));
+        final ComputerResult result = graph.compute(SparkGraphComputer.class)
+                .workers(3)
+                .persist(GraphComputer.Persist.NOTHING)
+                .program(PageRankVertexProgram.build().iterations(2).create(graph)).submit().get();
+        final List<Long> vertexCounts = result.memory().get(PartitionStatistics.VERTEX_COUNTS);
+        final List<Long> edgeCounts = result.memory().get(PartitionStatistics.EDGE_COUNTS);
+        final List<Long> messageCounts = result.memory().get(PartitionStatistics.MESSAGE_COUNTS);
+        final List<Long> shuffleWriteBytes = result.memory().get(PartitionStatistics.SHUFFLE_WRITE_BYTES);
+        assertEquals(3, vertexCounts.size());
+        assertEquals(3, edgeCounts.size());
+        assertEquals(3, messageCounts.size());
+        assertEquals(6L, vertexCounts.stream().mapToLong(Long::longValue).sum());
+        assertEquals(6L, edgeCounts.stream().mapToLong(Long::longValue).sum());
+        assertTrue(messageCounts.stream().mapToLong(Long::longValue).sum() > 0L);
+        assertEquals(result.memory().getIteration() + 1, shuffleWriteBytes.size());
+        assertTrue(shuffleWriteBytes.stream().mapToLong(Long::longValue).sum() > 0L);
+    }
+
+    @Test
+    public void shouldReportShuffleWriteBytesOfTraversalVertexProgramInMemory() throws Exception {
+        final Graph graph = GraphFactory.open(getStatisticsConfiguration("shouldReportShuffleWriteBytesOfTraversalVertexProgramInMemory"));
+        final ComputerResult result = graph.compute(SparkGraphComputer.class)
+                .workers(3)
+                .persist(GraphComputer.Persist.NOTHING)
+                .program(TraversalVertexProgram.build()
+                        .traversal(graph.traversal().V().out().out().count().asAdmin())
+                        .create(graph)).submit().get();
+        final List<Long> vertexCounts = result.memory().get(PartitionStatistics.VERTEX_COUNTS);
+        final List<Long> shuffleWriteBytes = result.memory().get(PartitionStatistics.SHUFFLE_WRITE_BYTES);
+        assertEquals(6L, vertexCounts.stream().mapToLong(Long::longValue).sum());
+        assertEquals(result.memory().getIteration() + 1, shuffleWriteBytes.size());
+        assertTrue(shuffleWriteBytes.stream().mapToLong(Long::longValue).sum() > 0L);
+    }
+
+    private Configuration getStatisticsConfiguration(final String testName) {
+        final Configuration configuration = getBaseConfiguration();
+        configuration.setProperty(Constants.GREMLIN_HADOOP_INPUT_LOCATION, SparkHadoopGraphProvider.PATHS.get("tinkerpop-modern-v3d0.kryo"));
+        configuration.setProperty(Constants.GREMLIN_HADOOP_GRAPH_READER, GryoInputFormat.class.getCanonicalName());
+        configuration.setProperty(Constants.GREMLIN_HADOOP_GRAPH_WRITER, GryoOutputFormat.class.getCanonicalName());
+        configuration.setProperty(Constants.GREMLIN_HADOOP_OUTPUT_LOCATION, TestHelper.makeTestDataDirectory(PartitionStatisticsTest.class, testName));
+        configuration.setProperty(Constants.GREMLIN_SPARK_GRAPH_PARTITIONER, DegreeAwareGraphPartitioner.class.getCanonicalName());
+        configuration.setProperty(DegreeAwareGraphPartitioner.MAX_ASSIGNMENTS, 1); // a single hub whose neighbors are placed with it
+        configuration.setProperty(Constants.GREMLIN_SPARK_PARTITION_STATISTICS, true);
+        return configuration;
+    }
+}
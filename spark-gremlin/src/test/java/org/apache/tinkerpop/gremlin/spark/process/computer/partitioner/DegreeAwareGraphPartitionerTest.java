@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer.partitioner;
+
+import org.junit.Test;
+import scala.Tuple2;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class DegreeAwareGraphPartitionerTest {
+
+    @Test
+    public void shouldPlaceHeaviestVerticesOnLeastLoadedPartitions() {
+        // the two hubs hash to the same partition which also holds most of the hashed load
+        final Map<Integer, Long> hashedLoads = new HashMap<>();
+        hashedLoads.put(0, 240L);
+        hashedLoads.put(1, 30L);
+        hashedLoads.put(2, 10L);
+        final List<Tuple2<Object, Long>> heaviest = Arrays.asList(new Tuple2<>(3, 100L), new Tuple2<>(6, 90L));
+        final DegreeAwareGraphPartitioner.DegreeAwarePartitioner partitioner = DegreeAwareGraphPartitioner.DegreeAwarePartitioner.of(3, heaviest, Collections.emptyList(), hashedLoads);
+        assertEquals(3, partitioner.numPartitions());
+        assertEquals(2, partitioner.getPartition(3));
+        assertEquals(1, partitioner.getPartition(6));
+        // all other keys are hashed
+        assertEquals(1, partitioner.getPartition(4));
+        assertEquals(2, partitioner.getPartition(-1));
+        assertEquals(0, partitioner.getPartition(null));
+        assertEquals(partitioner, DegreeAwareGraphPartitioner.DegreeAwarePartitioner.of(3, heaviest, Collections.emptyList(), hashedLoads));
+        assertNotEquals(partitioner, DegreeAwareGraphPartitioner.DegreeAwarePartitioner.of(4, heaviest, Collections.emptyList(), hashedLoads));
+    }
+
+    @Test
+    public void shouldPlaceNeighborsWithTheirHubUpToTheAverageLoad() {
+        // 300 in total, so a neighborhood may have a load of up to 100
+        final Map<Integer, Long> hashedLoads = new HashMap<>();
+        hashedLoads.put(0, 200L);
+        hashedLoads.put(1, 60L);
+        hashedLoads.put(2, 40L);
+        final List<Tuple2<Object, Long>> heaviest = Arrays.asList(new Tuple2<>(3, 60L), new Tuple2<>(6, 50L));
+        final List<Tuple2<Object, Tuple2<Object, Long>>> neighbors = Arrays.asList(
+                new Tuple2<>(9, new Tuple2<>(3, 20L)),
+                new Tuple2<>(12, new Tuple2<>(6, 20L)),
+                new Tuple2<>(15, new Tuple2<>(3, 15L)),
+                new Tuple2<>(19, new Tuple2<>(3, 10L)),
+                new Tuple2<>(22, new Tuple2<>(7, 10L)));
+        final DegreeAwareGraphPartitioner.DegreeAwarePartitioner partitioner = DegreeAwareGraphPartitioner.DegreeAwarePartitioner.of(3, heaviest, neighbors, hashedLoads);
+        // the neighborhood of 3 weighs 95 and is placed first, on partition 0 which is left with a load of 35 once the
+        // neighborhoods are taken out, after which the neighborhood of 6, which weighs 70, goes to partition 2
+        assertEquals(0, partitioner.getPartition(3));
+        assertEquals(0, partitioner.getPartition(9));
+        assertEquals(0, partitioner.getPartition(15));
+        assertEquals(2, partitioner.getPartition(6));
+        assertEquals(2, partitioner.getPartition(12));
+        // 19 would take the neighborhood of 3 past the average load and 7 is not a hub, so both are hashed
+        assertEquals(1, partitioner.getPartition(19));
+        assertEquals(1, partitioner.getPartition(22));
+    }
+}
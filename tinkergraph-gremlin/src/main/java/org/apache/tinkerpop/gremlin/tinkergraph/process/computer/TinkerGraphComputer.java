@@ -37,7 +37,10 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -51,27 +54,57 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 
 /**
+ * A {@link GraphComputer} that executes vertex programs over a {@link TinkerGraph} with a pool of workers in
+ * bulk synchronous iterations, where the messages that are sent in an iteration are received in the next.
+ * <p/>
+ * Setting {@link #ASYNCHRONOUS} with {@link #configure(String, Object)} executes iterations without the message
+ * barrier, so that a vertex receives the messages that were sent to it earlier in the same iteration and reads the
+ * latest local messages of its neighbors. The computation then also ends once an iteration is quiescent, which is
+ * when it sends no messages, keeps no vertex active and does not ask for every vertex to be activated. Only vertex
+ * programs that declare {@link VertexProgram.Features#supportsAsynchronousExecution()} are executed asynchronously
+ * and any other program is executed in bulk synchronous iterations.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
 public final class TinkerGraphComputer implements GraphComputer {
 
+    /**
+     * Whether vertex programs that support it are executed without a message barrier between iterations, which is
+     * {@code false} by default.
+     */
+    public static final String ASYNCHRONOUS = "gremlin.tinkergraph.computer.asynchronous";
+
+    /**
+     * Whether the nanoseconds that each worker was busy executing the vertex program and idle at the end of the
+     * iterations are reported in the memory of the {@link ComputerResult} under {@link #WORKER_BUSY_TIMES} and
+     * {@link #WORKER_IDLE_TIMES} as lists indexed by worker, which is {@code false} by default.
+     */
+    public static final String WORKER_TIMES = "gremlin.tinkergraph.computer.workerTimes";
+
+    public static final String WORKER_BUSY_TIMES = "gremlin.tinkergraph.computer.workerBusyTimes";
+    public static final String WORKER_IDLE_TIMES = "gremlin.tinkergraph.computer.workerIdleTimes";
+
     static {
         // GraphFilters are expensive w/ TinkerGraphComputer as everything is already in memory
         TraversalStrategies.GlobalCache.registerStrategies(TinkerGraphComputer.class,
                 TraversalStrategies.GlobalCache.getStrategies(GraphComputer.class).clone().removeStrategies(GraphFilterStrategy.class));
     }
 
+    private static final Logger logger = LoggerFactory.getLogger(TinkerGraphComputer.class);
+
     private ResultGraph resultGraph = null;
     private Persist persist = null;
 
     private VertexProgram<?> vertexProgram;
     private final TinkerGraph graph;
     private TinkerMemory memory;
-    private final TinkerMessageBoard messageBoard = new TinkerMessageBoard();
+    private TinkerMessageBoard messageBoard;
     private boolean executed = false;
     private final Set<MapReduce> mapReducers = new HashSet<>();
     private int workers = Runtime.getRuntime().availableProcessors();
+    private boolean asynchronous = false;
+    private boolean workerTimes = false;
     private final GraphFilter graphFilter = new GraphFilter();
 
     private final ThreadFactory threadFactoryBoss = new BasicThreadFactory.Builder().namingPattern(TinkerGraphComputer.class.getSimpleName() + "-boss").build();
@@ -128,6 +161,15 @@ public final class TinkerGraphComputer implements GraphComputer {
         return this;
     }
 
+    @Override
+    public GraphComputer configure(final String key, final Object value) {
+        if (ASYNCHRONOUS.equals(key))
+            this.asynchronous = value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(value.toString());
+        else if (WORKER_TIMES.equals(key))
+            this.workerTimes = value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(value.toString());
+        return this;
+    }
+
     @Override
     public Future<ComputerResult> submit() {
         // a graph computer can only be executed once
@@ -157,13 +199,26 @@ public final class TinkerGraphComputer implements GraphComputer {
         final Future<ComputerResult> result = computerService.submit(() -> {
             final long time = System.currentTimeMillis();
             final TinkerGraphComputerView view = TinkerHelper.createGraphComputerView(this.graph, this.graphFilter, null != this.vertexProgram ? this.vertexProgram.getVertexComputeKeys() : Collections.emptySet());
-            final TinkerWorkerPool workers = new TinkerWorkerPool(this.graph, this.memory, this.workers);
+            final TinkerWorkerPool workers = new TinkerWorkerPool(this.graph, view, this.memory, this.workers);
+            final boolean asynchronous = this.asynchronous && null != this.vertexProgram &&
+                    this.vertexProgram.getFeatures().supportsAsynchronousExecution();
+            if (this.asynchronous && null != this.vertexProgram && !asynchronous)
+                logger.warn("{} does not support asynchronous execution and is executed in bulk synchronous iterations", this.vertexProgram);
+            this.messageBoard = new TinkerMessageBoard<>(view, workers.getNumberOfVertices(), asynchronous);
             try {
                 if (null != this.vertexProgram) {
                     // execute the vertex program
                     this.vertexProgram.setup(this.memory);
+                    this.memory.takeAllVerticesActive(); // the initial iteration executes every vertex regardless
+                    final boolean frontierDriven = this.vertexProgram.getFeatures().isFrontierDriven();
+                    // the frontier is also how an asynchronous computation detects that it is quiescent
+                    if (frontierDriven || asynchronous) this.messageBoard.trackFrontier();
+                    boolean allVerticesActive = true;
                     while (true) {
                         if (Thread.interrupted()) throw new TraversalInterruptedException();
+                        // after the initial iteration a frontier driven program only executes the vertices that were
+                        // messaged or kept active unless it asked for every vertex to be executed
+                        final int[] frontier = frontierDriven && !allVerticesActive ? this.messageBoard.getFrontier() : null;
                         this.memory.completeSubRound();
                         workers.setVertexProgram(this.vertexProgram);
                         workers.executeVertexProgram((vertices, vertexProgram, workerMemory) -> {
@@ -178,17 +233,21 @@ public final class TinkerGraphComputer implements GraphComputer {
                             }
                             vertexProgram.workerIterationEnd(workerMemory.asImmutable());
                             workerMemory.complete();
-                        });
+                        }, frontier);
                         this.messageBoard.completeIteration();
                         this.memory.completeSubRound();
-                        if (this.vertexProgram.terminate(this.memory)) {
-                            this.memory.incrIteration();
+                        final boolean terminate = this.vertexProgram.terminate(this.memory);
+                        this.memory.incrIteration();
+                        allVerticesActive = this.memory.takeAllVerticesActive();
+                        if (terminate || (asynchronous && !allVerticesActive && 0 == this.messageBoard.getFrontier().length))
                             break;
-                        } else {
-                            this.memory.incrIteration();
-                        }
                     }
                     view.complete(); // drop all transient vertex compute keys
+                    if (logger.isDebugEnabled())
+                        logger.debug("Workers of {} were busy for {} ns and idle at the barrier for {} ns", this.vertexProgram,
+                                Arrays.toString(this.memory.getWorkerBusyTimes()), Arrays.toString(this.memory.getWorkerIdleTimes()));
+                    if (this.workerTimes)
+                        this.memory.storeWorkerTimes(WORKER_BUSY_TIMES, WORKER_IDLE_TIMES);
                 }
 
                 // execute mapreduce jobs
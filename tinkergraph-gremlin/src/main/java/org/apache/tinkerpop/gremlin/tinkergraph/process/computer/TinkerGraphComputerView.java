@@ -22,7 +22,6 @@ import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
 import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
 import org.apache.tinkerpop.gremlin.structure.Edge;
-import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.T;
@@ -42,25 +41,36 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * A view of a {@link TinkerGraph} that is being computed on, which filters its elements and holds the values of the
+ * {@link VertexComputeKey}s apart from the properties of the graph.
+ * <p/>
+ * Each compute key has a column of values indexed by the dense vertex ordinals that the {@link TinkerWorkerPool}
+ * assigns in the view, so that every computation of the graph numbers its vertices apart from the others. A vertex
+ * with a single value for a key and no meta-properties holds the bare value, in a primitive array if it is a
+ * {@code Double} or a {@code Long}, and a {@link VertexProperty} is only created when one is read. A vertex with
+ * several values for a key or with meta-properties holds a list of vertex properties.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class TinkerGraphComputerView {
 
     private final TinkerGraph graph;
     protected final Map<String, VertexComputeKey> computeKeys;
-    private Map<Element, Map<String, List<VertexProperty<?>>>> computeProperties;
+    private final Map<String, ComputeColumn> columns;
     private final Set<Object> legalVertices = new HashSet<>();
     private final Map<Object, Set<Object>> legalEdges = new HashMap<>();
+    private final Map<Object, Integer> ordinals = new HashMap<>();
     private final GraphFilter graphFilter;
 
     public TinkerGraphComputerView(final TinkerGraph graph, final GraphFilter graphFilter, final Set<VertexComputeKey> computeKeys) {
         this.graph = graph;
         this.computeKeys = new HashMap<>();
         computeKeys.forEach(key -> this.computeKeys.put(key.getKey(), key));
-        this.computeProperties = new ConcurrentHashMap<>();
+        this.columns = new HashMap<>();
+        final int numberOfVertices = TinkerHelper.getVertices(graph).size();
+        computeKeys.forEach(key -> this.columns.put(key.getKey(), new ComputeColumn(numberOfVertices)));
         this.graphFilter = graphFilter;
         if (this.graphFilter.hasFilter()) {
             graph.vertices().forEachRemaining(vertex -> {
@@ -79,19 +89,42 @@ public final class TinkerGraphComputerView {
     }
 
     public <V> Property<V> addProperty(final TinkerVertex vertex, final String key, final V value) {
+        return this.setProperty(vertex, VertexProperty.Cardinality.list, key, value);
+    }
+
+    public <V> VertexProperty<V> setProperty(final TinkerVertex vertex, final VertexProperty.Cardinality cardinality, final String key, final V value, final Object... keyValues) {
         ElementHelper.validateProperty(key, value);
-        if (isComputeKey(key)) {
-            final TinkerVertexProperty<V> property = new TinkerVertexProperty<V>((TinkerVertex) vertex, key, value) {
-                @Override
-                public void remove() {
-                    removeProperty(vertex, key, this);
+        final ComputeColumn column = this.columns.get(key);
+        if (null == column)
+            throw GraphComputer.Exceptions.providedKeyIsNotAnElementComputeKey(key);
+        final int ordinal = this.ordinal(vertex);
+        final byte kind = column.kind(ordinal);
+        if (VertexProperty.Cardinality.single == cardinality) {
+            // a compute key that is also a key of the graph replaces the properties of the graph on the first write
+            if (ComputeColumn.ABSENT == kind)
+                new ArrayList<>(TinkerHelper.getProperties(vertex).getOrDefault(key, Collections.emptyList())).forEach(VertexProperty::remove);
+        } else if (VertexProperty.Cardinality.set == cardinality) {
+            final List<VertexProperty<?>> properties = new ArrayList<>(this.getValue(vertex, key, column, ordinal));
+            properties.addAll((List) TinkerHelper.getProperties(vertex).getOrDefault(key, Collections.emptyList()));
+            for (final VertexProperty<?> property : properties) {
+                if (property.value().equals(value)) {
+                    ElementHelper.attachProperties(property, keyValues);
+                    return (VertexProperty<V>) property;
                 }
-            };
-            this.addValue(vertex, key, property);
+            }
+        }
+        final boolean hasMetaProperties = keyValues.length > (ElementHelper.getIdValue(keyValues).isPresent() ? 2 : 0);
+        if (VertexProperty.Cardinality.single != cardinality && ComputeColumn.ABSENT != kind || hasMetaProperties) {
+            final List<VertexProperty<?>> properties = VertexProperty.Cardinality.single == cardinality ?
+                    new ArrayList<>() : this.promote(vertex, key, column, ordinal);
+            final TinkerVertexProperty<V> property = new ListedVertexProperty<>(vertex, key, value);
+            ElementHelper.attachProperties(property, keyValues);
+            properties.add(property);
+            column.setProperties(ordinal, properties);
             return property;
-        } else {
-            throw GraphComputer.Exceptions.providedKeyIsNotAnElementComputeKey(key);
         }
+        column.set(ordinal, value);
+        return new ColumnVertexProperty<>(vertex, key, value, column, ordinal);
     }
 
     public List<VertexProperty<?>> getProperty(final TinkerVertex vertex, final String key) {
@@ -106,8 +139,8 @@ public final class TinkerGraphComputerView {
         for (final List<VertexProperty> properties : TinkerHelper.getProperties(vertex).values()) {
             list.addAll(properties);
         }
-        for (final List<VertexProperty<?>> properties : this.computeProperties.getOrDefault(vertex, Collections.emptyMap()).values()) {
-            list.addAll(properties);
+        for (final String key : this.columns.keySet()) {
+            list.addAll(this.getValue(vertex, key));
         }
         return list;
     }
@@ -131,11 +164,8 @@ public final class TinkerGraphComputerView {
     protected void complete() {
         // remove all transient properties from the vertices
         for (final VertexComputeKey computeKey : this.computeKeys.values()) {
-            if (computeKey.isTransient()) {
-                for (final Map<String, List<VertexProperty<?>>> properties : this.computeProperties.values()) {
-                    properties.remove(computeKey.getKey());
-                }
-            }
+            if (computeKey.isTransient())
+                this.columns.get(computeKey.getKey()).clear();
         }
     }
 
@@ -193,17 +223,19 @@ public final class TinkerGraphComputerView {
 
     private void addPropertiesToOriginalGraph() {
         TinkerHelper.dropGraphComputerView(this.graph);
-        this.computeProperties.forEach((element, properties) -> {
-            properties.forEach((key, vertexProperties) -> {
-                vertexProperties.forEach(vertexProperty -> {
-                    final VertexProperty<?> newVertexProperty = ((Vertex) element).property(VertexProperty.Cardinality.list, vertexProperty.key(), vertexProperty.value(), T.id, vertexProperty.id());
+        for (final Vertex vertex : TinkerHelper.getVertices(this.graph).values()) {
+            final int ordinal = this.ordinal(vertex);
+            if (ordinal < 0) continue;
+            this.columns.forEach((key, column) -> {
+                this.getValue(vertex, key, column, ordinal).forEach(vertexProperty -> {
+                    final VertexProperty<?> newVertexProperty = vertex.property(VertexProperty.Cardinality.list, vertexProperty.key(), vertexProperty.value(), T.id, vertexProperty.id());
                     vertexProperty.properties().forEachRemaining(property -> {
                         newVertexProperty.property(property.key(), property.value());
                     });
                 });
             });
-        });
-        this.computeProperties.clear();
+        }
+        this.columns.values().forEach(ComputeColumn::clear);
     }
 
     //////////////////////
@@ -212,20 +244,255 @@ public final class TinkerGraphComputerView {
         return this.computeKeys.containsKey(key);
     }
 
-    private void addValue(final Vertex vertex, final String key, final VertexProperty property) {
-        final Map<String, List<VertexProperty<?>>> elementProperties = this.computeProperties.computeIfAbsent(vertex, k -> new HashMap<>());
-        elementProperties.compute(key, (k, v) -> {
-            if (null == v) v = new ArrayList<>();
-            v.add(property);
-            return v;
-        });
+    /**
+     * Gets the dense ordinal of the vertex, which is resolved by its identifier so that any vertex of the graph has
+     * one, or {@code -1} if it was not assigned one.
+     */
+    int ordinal(final Vertex vertex) {
+        final Integer ordinal = this.ordinals.get(vertex.id());
+        return null == ordinal ? -1 : ordinal;
+    }
+
+    void setOrdinal(final Vertex vertex, final int ordinal) {
+        this.ordinals.put(vertex.id(), ordinal);
     }
 
     private void removeValue(final Vertex vertex, final String key, final VertexProperty property) {
-        this.computeProperties.<List<Map<String, VertexProperty<?>>>>getOrDefault(vertex, Collections.emptyMap()).get(key).remove(property);
+        final ComputeColumn column = this.columns.get(key);
+        final int ordinal = this.ordinal(vertex);
+        final byte kind = column.kind(ordinal);
+        if (ComputeColumn.PROPERTIES == kind) {
+            final List<VertexProperty<?>> properties = (List<VertexProperty<?>>) column.get(ordinal);
+            properties.remove(property);
+            if (properties.isEmpty()) column.remove(ordinal);
+        } else if (ComputeColumn.ABSENT != kind && property instanceof ColumnVertexProperty &&
+                ((ColumnVertexProperty) property).ordinal == ordinal && column.get(ordinal).equals(property.value())) {
+            // the column may hold a newer value of the key which this vertex property must not remove
+            column.remove(ordinal);
+        }
     }
 
     private List<VertexProperty<?>> getValue(final Vertex vertex, final String key) {
-        return this.computeProperties.getOrDefault(vertex, Collections.emptyMap()).getOrDefault(key, Collections.emptyList());
+        final ComputeColumn column = this.columns.get(key);
+        return null == column ? Collections.emptyList() : this.getValue(vertex, key, column, this.ordinal(vertex));
+    }
+
+    private List<VertexProperty<?>> getValue(final Vertex vertex, final String key, final ComputeColumn column, final int ordinal) {
+        final byte kind = column.kind(ordinal);
+        if (ComputeColumn.ABSENT == kind)
+            return Collections.emptyList();
+        else if (ComputeColumn.PROPERTIES == kind)
+            return (List<VertexProperty<?>>) column.get(ordinal);
+        else
+            return Collections.singletonList(new ColumnVertexProperty<>((TinkerVertex) vertex, key, column.get(ordinal), column, ordinal));
+    }
+
+    /**
+     * Moves a bare value of the vertex into a list of vertex properties that further values can be added to.
+     */
+    private List<VertexProperty<?>> promote(final TinkerVertex vertex, final String key, final ComputeColumn column, final int ordinal) {
+        final byte kind = column.kind(ordinal);
+        if (ComputeColumn.PROPERTIES == kind)
+            return (List<VertexProperty<?>>) column.get(ordinal);
+        final List<VertexProperty<?>> properties = new ArrayList<>();
+        if (ComputeColumn.ABSENT != kind) {
+            final ColumnVertexProperty<?> property = new ColumnVertexProperty<>(vertex, key, column.get(ordinal), column, ordinal);
+            property.id(); // keep the identifier that the bare value had
+            properties.add(property);
+        }
+        column.setProperties(ordinal, properties);
+        return properties;
+    }
+
+    /**
+     * A {@link VertexProperty} that is held in the list of vertex properties of a compute key of its vertex.
+     */
+    private final class ListedVertexProperty<V> extends TinkerVertexProperty<V> {
+
+        private ListedVertexProperty(final TinkerVertex vertex, final String key, final V value) {
+            super(vertex, key, value);
+        }
+
+        @Override
+        public void remove() {
+            removeProperty((TinkerVertex) this.element(), this.key(), this);
+        }
+    }
+
+    /**
+     * A {@link VertexProperty} that is created when the bare value of a compute key is read. Its identifier is only
+     * generated when asked for and is then kept by the column until the value is replaced. Adding a meta-property
+     * moves the value into a list of vertex properties.
+     */
+    private final class ColumnVertexProperty<V> extends TinkerVertexProperty<V> {
+
+        private final ComputeColumn column;
+        private final int ordinal;
+        private Object columnId = null;
+
+        private ColumnVertexProperty(final TinkerVertex vertex, final String key, final V value, final ComputeColumn column, final int ordinal) {
+            super((Object) null, vertex, key, value);
+            this.column = column;
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public Object id() {
+            if (null == this.columnId)
+                this.columnId = this.column.id(this.ordinal, (TinkerGraph) this.element().graph());
+            return this.columnId;
+        }
+
+        @Override
+        public <U> Property<U> property(final String key, final U value) {
+            final byte kind = this.column.kind(this.ordinal);
+            if (ComputeColumn.ABSENT != kind && ComputeColumn.PROPERTIES != kind && this.column.get(this.ordinal).equals(this.value())) {
+                this.id();
+                final List<VertexProperty<?>> properties = new ArrayList<>();
+                properties.add(this);
+                this.column.setProperties(this.ordinal, properties);
+            }
+            return super.property(key, value);
+        }
+
+        @Override
+        public void remove() {
+            removeProperty((TinkerVertex) this.element(), this.key(), this);
+        }
+    }
+
+    /**
+     * The values of a compute key indexed by vertex ordinal. Each slot is only written by the worker that executes
+     * its vertex, so only the lazy allocation of the arrays is synchronized.
+     */
+    private static final class ComputeColumn {
+
+        private static final byte ABSENT = 0;
+        private static final byte DOUBLE = 1;
+        private static final byte LONG = 2;
+        private static final byte OBJECT = 3;
+        private static final byte PROPERTIES = 4;
+
+        private final int size;
+        private byte[] kinds;
+        private volatile double[] doubles;
+        private volatile long[] longs;
+        private volatile Object[] objects;
+        private volatile Object[] ids;
+
+        private ComputeColumn(final int size) {
+            this.size = size;
+            this.kinds = new byte[size];
+        }
+
+        private byte kind(final int ordinal) {
+            return ordinal < 0 || ordinal >= this.size ? ABSENT : this.kinds[ordinal];
+        }
+
+        private Object get(final int ordinal) {
+            switch (this.kinds[ordinal]) {
+                case DOUBLE:
+                    return this.doubles[ordinal];
+                case LONG:
+                    return this.longs[ordinal];
+                case ABSENT:
+                    return null;
+                default:
+                    return this.objects[ordinal];
+            }
+        }
+
+        private void set(final int ordinal, final Object value) {
+            this.check(ordinal);
+            this.clearSlot(ordinal);
+            if (value instanceof Double) {
+                this.doubles()[ordinal] = (Double) value;
+                this.kinds[ordinal] = DOUBLE;
+            } else if (value instanceof Long) {
+                this.longs()[ordinal] = (Long) value;
+                this.kinds[ordinal] = LONG;
+            } else {
+                this.objects()[ordinal] = value;
+                this.kinds[ordinal] = OBJECT;
+            }
+        }
+
+        private void setProperties(final int ordinal, final List<VertexProperty<?>> properties) {
+            this.check(ordinal);
+            this.objects()[ordinal] = properties;
+            this.kinds[ordinal] = PROPERTIES;
+        }
+
+        private void remove(final int ordinal) {
+            this.clearSlot(ordinal);
+            this.kinds[ordinal] = ABSENT;
+        }
+
+        private void clear() {
+            this.kinds = new byte[this.size];
+            this.doubles = null;
+            this.longs = null;
+            this.objects = null;
+            this.ids = null;
+        }
+
+        /**
+         * Gets the identifier of the bare value in the slot, which is generated the first time it is asked for.
+         */
+        private Object id(final int ordinal, final TinkerGraph graph) {
+            final Object[] ids = this.ids();
+            if (null == ids[ordinal]) ids[ordinal] = TinkerHelper.getNextVertexPropertyId(graph);
+            return ids[ordinal];
+        }
+
+        private void check(final int ordinal) {
+            if (ordinal < 0 || ordinal >= this.size)
+                throw new IllegalStateException("The vertex was not assigned an ordinal by the graph computer: " + ordinal);
+        }
+
+        private void clearSlot(final int ordinal) {
+            if (OBJECT == this.kinds[ordinal] || PROPERTIES == this.kinds[ordinal]) this.objects[ordinal] = null;
+            if (null != this.ids) this.ids[ordinal] = null;
+        }
+
+        private double[] doubles() {
+            double[] doubles = this.doubles;
+            if (null == doubles) {
+                synchronized (this) {
+                    if (null == (doubles = this.doubles)) this.doubles = doubles = new double[this.size];
+                }
+            }
+            return doubles;
+        }
+
+        private long[] longs() {
+            long[] longs = this.longs;
+            if (null == longs) {
+                synchronized (this) {
+                    if (null == (longs = this.longs)) this.longs = longs = new long[this.size];
+                }
+            }
+            return longs;
+        }
+
+        private Object[] objects() {
+            Object[] objects = this.objects;
+            if (null == objects) {
+                synchronized (this) {
+                    if (null == (objects = this.objects)) this.objects = objects = new Object[this.size];
+                }
+            }
+            return objects;
+        }
+
+        private Object[] ids() {
+            Object[] ids = this.ids;
+            if (null == ids) {
+                synchronized (this) {
+                    if (null == (ids = this.ids)) this.ids = ids = new Object[this.size];
+                }
+            }
+            return ids;
+        }
     }
-}
\ No newline at end of file
+}
@@ -27,7 +27,10 @@ import org.apache.tinkerpop.gremlin.process.computer.util.MemoryHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -46,6 +49,9 @@ public final class TinkerMemory implements Memory.Admin {
     private final AtomicInteger iteration = new AtomicInteger(0);
     private final AtomicLong runtime = new AtomicLong(0l);
     private boolean inExecute = false;
+    private long[] workerBusyTimes = new long[0];
+    private long[] workerIdleTimes = new long[0];
+    private volatile boolean allVerticesActive = false;
 
     public TinkerMemory(final VertexProgram<?> vertexProgram, final Set<MapReduce> mapReducers) {
         this.currentMap = new ConcurrentHashMap<>();
@@ -90,6 +96,65 @@ public final class TinkerMemory implements Memory.Admin {
         return this.runtime.get();
     }
 
+    /**
+     * Gets the total nanoseconds that each worker of the {@link TinkerWorkerPool} spent executing the vertex program.
+     */
+    public synchronized long[] getWorkerBusyTimes() {
+        return this.workerBusyTimes.clone();
+    }
+
+    /**
+     * Gets the total nanoseconds that each worker of the {@link TinkerWorkerPool} spent waiting at the end of an
+     * iteration for the other workers, which grows with the skew of the work between workers.
+     */
+    public synchronized long[] getWorkerIdleTimes() {
+        return this.workerIdleTimes.clone();
+    }
+
+    protected synchronized void addWorkerTimes(final long[] busyTimes, final long[] idleTimes) {
+        if (this.workerBusyTimes.length < busyTimes.length) {
+            this.workerBusyTimes = Arrays.copyOf(this.workerBusyTimes, busyTimes.length);
+            this.workerIdleTimes = Arrays.copyOf(this.workerIdleTimes, idleTimes.length);
+        }
+        for (int i = 0; i < busyTimes.length; i++) {
+            this.workerBusyTimes[i] += busyTimes[i];
+            this.workerIdleTimes[i] += idleTimes[i];
+        }
+    }
+
+    /**
+     * Sets the busy and idle times of the workers as lists of nanoseconds indexed by worker under the given keys.
+     */
+    protected void storeWorkerTimes(final String busyTimesKey, final String idleTimesKey) {
+        this.memoryKeys.put(busyTimesKey, MemoryComputeKey.of(busyTimesKey, Operator.assign, false, false));
+        this.memoryKeys.put(idleTimesKey, MemoryComputeKey.of(idleTimesKey, Operator.assign, false, false));
+        this.set(busyTimesKey, toList(this.getWorkerBusyTimes()));
+        this.set(idleTimesKey, toList(this.getWorkerIdleTimes()));
+    }
+
+    private static List<Long> toList(final long[] times) {
+        final List<Long> list = new ArrayList<>(times.length);
+        for (final long time : times) {
+            list.add(time);
+        }
+        return list;
+    }
+
+    @Override
+    public void activateAllVertices() {
+        this.allVerticesActive = true;
+    }
+
+    /**
+     * Gets whether {@link #activateAllVertices()} was called since the last call to this method and clears the
+     * request.
+     */
+    protected boolean takeAllVerticesActive() {
+        final boolean allVerticesActive = this.allVerticesActive;
+        this.allVerticesActive = false;
+        return allVerticesActive;
+    }
+
     protected void complete() {
         this.iteration.decrementAndGet();
         this.previousMap = this.currentMap;
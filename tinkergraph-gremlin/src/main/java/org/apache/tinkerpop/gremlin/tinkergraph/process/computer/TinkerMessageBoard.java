@@ -18,29 +18,372 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
-import java.util.HashSet;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Queue;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
+ * Holds the messages of a {@link TinkerGraphComputer} in arrays indexed by the dense vertex ordinals that are
+ * assigned in the {@link TinkerGraphComputerView} by the {@link TinkerWorkerPool}. Each {@link MessageScope} has a pair of buffers, one that is written
+ * during an iteration and one that is read, which are swapped at the end of the iteration. The messages of a
+ * {@link MessageScope.Local} are held in the slot of the sending vertex and as each vertex is executed by a single
+ * worker in an iteration, that slot has a single writer and needs no synchronization. Messages of a
+ * {@link MessageScope.Global} may be written by any worker and are guarded by a striped lock.
+ * <p/>
+ * For a {@link VertexProgram.Features#isFrontierDriven() frontier driven} program the board also marks the
+ * ordinals of the vertices that receive a message or ask to be kept active, which become the frontier of vertices
+ * that are executed in the next iteration. The marked ordinals are also listed as they are first marked so that
+ * completing an iteration costs the size of the frontier rather than the number of vertices.
+ * <p/>
+ * In asynchronous mode a message can be read as soon as it is sent rather than after the barrier. A vertex still only
+ * reads the message scopes that delivered messages at the last barrier, but takes the global messages that were sent
+ * to it so far in the iteration along with those of the last iteration, and reads the latest local message of each
+ * sender, so writes and reads of a slot that is being written are both guarded by the striped lock.
+ * <p/>
+ * When a {@link MessageCombiner} is present, a message is combined with the one already in its slot, otherwise the
+ * slot holds the message itself or, once a second message arrives, a list of them.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 final class TinkerMessageBoard<M> {
 
-    public Map<MessageScope, Map<Vertex,Queue<M>>> sendMessages = new ConcurrentHashMap<>();
-    public Map<MessageScope, Map<Vertex, Queue<M>>> receiveMessages = new ConcurrentHashMap<>();
-    public Set<MessageScope> previousMessageScopes = new HashSet<>();
-    public Set<MessageScope> currentMessageScopes = new HashSet<>();
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * The number of message scope instances that are remembered by identity, which bounds the cost of programs that
+     * create a new message scope for every message.
+     */
+    private static final int MAX_ENTRIES = 32;
+
+    private final TinkerGraphComputerView view;
+    private final int numberOfVertices;
+    private final boolean asynchronous;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private volatile Entry<M>[] entries = new Entry[0];
+    private List<Buffer<M>> receiveBuffers = Collections.emptyList();
+    private boolean[] active = null;
+    private int[] activeOrdinals = null;
+    private int numberOfActiveOrdinals = 0;
+    private int[] frontier = null;
+
+    public TinkerMessageBoard(final TinkerGraphComputerView view, final int numberOfVertices, final boolean asynchronous) {
+        this.view = view;
+        this.numberOfVertices = numberOfVertices;
+        this.asynchronous = asynchronous;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            this.locks[i] = new Object();
+        }
+    }
+
+    public int ordinal(final Vertex vertex) {
+        return this.view.ordinal(vertex);
+    }
+
+    /**
+     * Starts marking the vertices that are to be executed in the next iteration, which is otherwise skipped as every
+     * vertex is executed.
+     */
+    public void trackFrontier() {
+        if (null == this.active) {
+            this.active = new boolean[this.numberOfVertices];
+            this.activeOrdinals = new int[16];
+        }
+    }
+
+    /**
+     * Gets the ordinals, in ascending order, of the vertices that were marked active in the last completed iteration
+     * or {@code null} if the frontier is not tracked.
+     */
+    public int[] getFrontier() {
+        return this.frontier;
+    }
+
+    public void sendMessage(final MessageScope messageScope, final int ordinal, final M message, final MessageCombiner<M> combiner) {
+        if (ordinal < 0 || ordinal >= this.numberOfVertices) return;
+        final Buffer<M> buffer = buffer(messageScope);
+        if (buffer.global) {
+            synchronized (this.locks[ordinal % LOCK_STRIPES]) {
+                buffer.add(ordinal, message, combiner);
+            }
+            this.activate(ordinal);
+        } else if (this.asynchronous) {
+            synchronized (this.locks[ordinal % LOCK_STRIPES]) {
+                buffer.add(ordinal, message, combiner);
+            }
+        } else {
+            buffer.add(ordinal, message, combiner);
+        }
+    }
+
+    /**
+     * Marks the vertices that will read a message of the {@link MessageScope.Local} sent by the vertex, which are
+     * found by walking the incident traversal forward from the sender.
+     */
+    public void activateReceivers(final MessageScope.Local<M> localMessageScope, final Vertex vertex) {
+        if (null == this.active) return;
+        final Buffer<M> buffer = buffer(localMessageScope);
+        final Direction receiverDirection = buffer.incidentDirection.opposite();
+        if (null != buffer.edgeLabels) {
+            vertex.edges(buffer.incidentDirection, buffer.edgeLabels).forEachRemaining(edge ->
+                    edge.vertices(receiverDirection).forEachRemaining(receiver -> this.activate(this.ordinal(receiver))));
+        } else {
+            final Traversal.Admin<Vertex, Edge> incidentTraversal = buffer.takeIncidentTraversal(vertex, false);
+            incidentTraversal.forEachRemaining(edge ->
+                    edge.vertices(receiverDirection).forEachRemaining(receiver -> this.activate(this.ordinal(receiver))));
+            buffer.releaseIncidentTraversal(incidentTraversal, false);
+        }
+    }
+
+    public void activate(final int ordinal) {
+        if (null == this.active || ordinal < 0 || ordinal >= this.numberOfVertices || this.active[ordinal]) return;
+        this.active[ordinal] = true;
+        // workers that race to mark the same vertex may both list it, which completing the iteration removes
+        synchronized (this.active) {
+            if (this.numberOfActiveOrdinals == this.activeOrdinals.length)
+                this.activeOrdinals = Arrays.copyOf(this.activeOrdinals, this.activeOrdinals.length * 2);
+            this.activeOrdinals[this.numberOfActiveOrdinals++] = ordinal;
+        }
+    }
+
+    public List<M> receiveMessages(final Vertex vertex, final int ordinal) {
+        final List<M> messages = new ArrayList<>();
+        if (ordinal < 0) return messages;
+        // a message scope that was first used in this iteration is only read after the barrier, even when asynchronous,
+        // as programs that switch message scopes expect the messages of the previous one
+        for (final Buffer<M> buffer : this.receiveBuffers) {
+            if (buffer.global) {
+                buffer.collect(ordinal, messages, null, null);
+                if (this.asynchronous) {
+                    synchronized (this.locks[ordinal % LOCK_STRIPES]) {
+                        buffer.take(ordinal, messages);
+                    }
+                }
+            } else if (null != buffer.edgeLabels) {
+                // the incident traversal is a single VertexStep so the senders are found directly from the edges
+                final MessageScope.Local<M> localMessageScope = (MessageScope.Local<M>) buffer.messageScope;
+                vertex.edges(buffer.incidentDirection.opposite(), buffer.edgeLabels).forEachRemaining(edge ->
+                        this.collect(buffer, this.senderOrdinal(edge, buffer.incidentDirection, ordinal), messages, localMessageScope, edge));
+            } else {
+                final MessageScope.Local<M> localMessageScope = (MessageScope.Local<M>) buffer.messageScope;
+                final Traversal.Admin<Vertex, Edge> reverseIncidentTraversal = buffer.takeIncidentTraversal(vertex, true);
+                reverseIncidentTraversal.forEachRemaining(edge ->
+                        this.collect(buffer, this.senderOrdinal(edge, buffer.incidentDirection, ordinal), messages, localMessageScope, edge));
+                buffer.releaseIncidentTraversal(reverseIncidentTraversal, true);
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Gets the ordinal of the vertex that sent a message over the edge, which for a {@link Direction#BOTH} scope is
+     * whichever end of the edge is not the receiver.
+     */
+    private int senderOrdinal(final Edge edge, final Direction incidentDirection, final int receiverOrdinal) {
+        if (Direction.BOTH != incidentDirection)
+            return this.ordinal(edge.vertices(incidentDirection).next());
+        final int outOrdinal = this.ordinal(edge.outVertex());
+        return outOrdinal == receiverOrdinal ? this.ordinal(edge.inVertex()) : outOrdinal;
+    }
+
+    private void collect(final Buffer<M> buffer, final int ordinal, final List<M> messages, final MessageScope.Local<M> localMessageScope, final Edge edge) {
+        if (this.asynchronous && ordinal >= 0 && ordinal < this.numberOfVertices) {
+            synchronized (this.locks[ordinal % LOCK_STRIPES]) {
+                buffer.collectLatest(ordinal, messages, localMessageScope, edge);
+            }
+        } else {
+            buffer.collect(ordinal, messages, localMessageScope, edge);
+        }
+    }
 
     public void completeIteration() {
-        this.receiveMessages = this.sendMessages;
-        this.sendMessages = new ConcurrentHashMap<>();
-        this.previousMessageScopes = this.currentMessageScopes;
-        this.currentMessageScopes = new HashSet<>();
+        final List<Buffer<M>> receiveBuffers = new ArrayList<>();
+        for (final Entry<M> entry : this.entries) {
+            if (entry.messageScope != entry.buffer.messageScope) continue; // an equal scope of another program clone
+            entry.buffer.swap();
+            if (entry.buffer.received) receiveBuffers.add(entry.buffer);
+        }
+        this.receiveBuffers = receiveBuffers;
+
+        if (null != this.active) {
+            final int[] activeOrdinals = Arrays.copyOf(this.activeOrdinals, this.numberOfActiveOrdinals);
+            Arrays.sort(activeOrdinals);
+            int size = 0;
+            for (final int ordinal : activeOrdinals) {
+                if (0 == size || activeOrdinals[size - 1] != ordinal) activeOrdinals[size++] = ordinal;
+                this.active[ordinal] = false;
+            }
+            this.frontier = size == activeOrdinals.length ? activeOrdinals : Arrays.copyOf(activeOrdinals, size);
+            this.numberOfActiveOrdinals = 0;
+        }
+    }
+
+    private Buffer<M> buffer(final MessageScope messageScope) {
+        // each clone of a vertex program holds its own message scope instances so they are first matched by identity
+        // and all global message scopes are equal
+        final boolean global = messageScope instanceof MessageScope.Global;
+        for (final Entry<M> entry : this.entries) {
+            if (entry.messageScope == messageScope || (global && entry.buffer.global)) return entry.buffer;
+        }
+        synchronized (this) {
+            Buffer<M> buffer = null;
+            for (final Entry<M> entry : this.entries) {
+                if (entry.messageScope == messageScope || (global && entry.buffer.global)) return entry.buffer;
+                if (null == buffer && entry.messageScope.equals(messageScope)) buffer = entry.buffer;
+            }
+            if (null != buffer && this.entries.length >= MAX_ENTRIES) return buffer;
+            if (null == buffer) buffer = new Buffer<>(messageScope, this.numberOfVertices);
+            final Entry<M>[] entries = Arrays.copyOf(this.entries, this.entries.length + 1);
+            entries[entries.length - 1] = new Entry<>(messageScope, buffer);
+            this.entries = entries;
+            return buffer;
+        }
+    }
+
+    private static final class Entry<M> {
+        private final MessageScope messageScope;
+        private final Buffer<M> buffer;
+
+        private Entry(final MessageScope messageScope, final Buffer<M> buffer) {
+            this.messageScope = messageScope;
+            this.buffer = buffer;
+        }
+    }
+
+    /**
+     * The slot of a vertex that was sent more than one message without a {@link MessageCombiner}.
+     */
+    private static final class Messages extends ArrayList<Object> {
+    }
+
+    private static final class Buffer<M> {
+        private final MessageScope messageScope;
+        private final boolean global;
+        private final Direction incidentDirection;
+        /**
+         * The labels of the incident edges when the incident traversal is a single {@link VertexStep}.
+         */
+        private final String[] edgeLabels;
+        /**
+         * The incident traversal of a {@link MessageScope.Local} that is not a single {@link VertexStep}, which is
+         * resolved once and cloned for the workers, with its forward and reversed clones pooled for reuse.
+         */
+        private final Traversal.Admin<Vertex, Edge> incidentTraversal;
+        private final Queue<Traversal.Admin<Vertex, Edge>> incidentTraversals = new ConcurrentLinkedQueue<>();
+        private final Queue<Traversal.Admin<Vertex, Edge>> reverseIncidentTraversals = new ConcurrentLinkedQueue<>();
+        private Object[] send;
+        private Object[] receive;
+        private volatile boolean sent = false;
+        private boolean received = false;
+
+        private Buffer(final MessageScope messageScope, final int numberOfVertices) {
+            this.messageScope = messageScope;
+            this.global = messageScope instanceof MessageScope.Global;
+            this.send = new Object[numberOfVertices];
+            this.receive = new Object[numberOfVertices];
+            if (this.global) {
+                this.incidentDirection = null;
+                this.edgeLabels = null;
+                this.incidentTraversal = null;
+            } else {
+                final Traversal.Admin<Vertex, Edge> incidentTraversal = ((MessageScope.Local<?>) messageScope).getIncidentTraversal().get().asAdmin();
+                this.incidentDirection = TinkerMessenger.getDirection(incidentTraversal);
+                final List<Step> steps = incidentTraversal.getSteps();
+                this.edgeLabels = 1 == steps.size() && steps.get(0) instanceof VertexStep && ((VertexStep) steps.get(0)).returnsEdge() ?
+                        ((VertexStep) steps.get(0)).getEdgeLabels() : null;
+                this.incidentTraversal = null == this.edgeLabels ? incidentTraversal : null;
+            }
+        }
+
+        /**
+         * Takes a pooled clone of the incident traversal, reversed if the senders of the messages of the vertex are
+         * sought, that starts at the vertex and must be fully iterated before it is released.
+         */
+        private Traversal.Admin<Vertex, Edge> takeIncidentTraversal(final Vertex vertex, final boolean reverse) {
+            Traversal.Admin<Vertex, Edge> traversal = (reverse ? this.reverseIncidentTraversals : this.incidentTraversals).poll();
+            if (null == traversal) {
+                traversal = this.incidentTraversal.clone();
+                if (reverse) VertexProgramHelper.reverse(traversal);
+            } else {
+                traversal.reset();
+            }
+            traversal.addStart(traversal.getTraverserGenerator().generate(vertex, traversal.getStartStep(), 1l));
+            return traversal;
+        }
+
+        private void releaseIncidentTraversal(final Traversal.Admin<Vertex, Edge> traversal, final boolean reverse) {
+            (reverse ? this.reverseIncidentTraversals : this.incidentTraversals).offer(traversal);
+        }
+
+        private void add(final int ordinal, final M message, final MessageCombiner<M> combiner) {
+            if (!this.sent) this.sent = true;
+            final Object current = this.send[ordinal];
+            if (null == current) {
+                this.send[ordinal] = message;
+            } else if (null != combiner) {
+                this.send[ordinal] = combiner.combine((M) current, message);
+            } else if (current instanceof Messages) {
+                ((Messages) current).add(message);
+            } else {
+                final Messages messages = new Messages();
+                messages.add(current);
+                messages.add(message);
+                this.send[ordinal] = messages;
+            }
+        }
+
+        private void collect(final int ordinal, final List<M> messages, final MessageScope.Local<M> localMessageScope, final Edge edge) {
+            if (ordinal < 0 || ordinal >= this.receive.length) return;
+            this.collect(this.receive[ordinal], messages, localMessageScope, edge);
+        }
+
+        /**
+         * Collects the messages that were sent so far in the iteration or, if there are none, in the last iteration.
+         */
+        private void collectLatest(final int ordinal, final List<M> messages, final MessageScope.Local<M> localMessageScope, final Edge edge) {
+            this.collect(null != this.send[ordinal] ? this.send[ordinal] : this.receive[ordinal], messages, localMessageScope, edge);
+        }
+
+        /**
+         * Collects and removes the messages that were sent so far in the iteration.
+         */
+        private void take(final int ordinal, final List<M> messages) {
+            final Object current = this.send[ordinal];
+            this.send[ordinal] = null;
+            this.collect(current, messages, null, null);
+        }
+
+        private void collect(final Object current, final List<M> messages, final MessageScope.Local<M> localMessageScope, final Edge edge) {
+            if (null == current) return;
+            if (current instanceof Messages) {
+                for (final Object message : (Messages) current) {
+                    messages.add(null == localMessageScope ? (M) message : localMessageScope.getEdgeFunction().apply((M) message, edge));
+                }
+            } else {
+                messages.add(null == localMessageScope ? (M) current : localMessageScope.getEdgeFunction().apply((M) current, edge));
+            }
+        }
+
+        private void swap() {
+            final Object[] receive = this.receive;
+            if (this.received) Arrays.fill(receive, null);
+            this.receive = this.send;
+            this.send = receive;
+            this.received = this.sent;
+            this.sent = false;
+        }
     }
 }
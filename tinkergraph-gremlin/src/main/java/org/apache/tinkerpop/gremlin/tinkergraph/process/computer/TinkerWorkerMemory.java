@@ -78,6 +78,11 @@ public final class TinkerWorkerMemory implements Memory.Admin {
         return this.mainMemory.isInitialIteration();
     }
 
+    @Override
+    public void activateAllVertices() {
+        this.mainMemory.activateAllVertices();
+    }
+
     @Override
     public <R> R get(final String key) throws IllegalArgumentException {
         return this.mainMemory.get(key);
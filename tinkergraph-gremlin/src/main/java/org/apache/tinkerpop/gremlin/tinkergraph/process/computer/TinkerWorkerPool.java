@@ -23,23 +23,39 @@ import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
 import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.util.MapReducePool;
 import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramPool;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
-import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 import org.apache.tinkerpop.gremlin.util.function.TriConsumer;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 /**
+ * Executes vertex programs and map reducers over a fixed pool of workers.
+ * <p/>
+ * Vertices are assigned dense ordinals and split into chunks of contiguous ordinals whose sizes are chosen so that
+ * each chunk holds roughly the same number of vertices plus incident edges, which leaves a supernode in a small
+ * chunk of its own. Each worker starts an iteration of a vertex program with an equal share of the chunks, takes
+ * chunks from the front of its share and, once its share is exhausted, steals chunks from the back of the shares of
+ * other workers so that no worker sits idle at the barrier while another still has vertices to execute. The time
+ * each worker spends executing and waiting at the barrier is recorded in the {@link TinkerMemory}.
+ * <p/>
+ * When an iteration is limited to a frontier of vertices, the ordinals of the frontier are split into chunks of
+ * equal size that are shared out and stolen in the same way.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
@@ -47,43 +63,100 @@ public final class TinkerWorkerPool implements AutoCloseable {
 
     private static final BasicThreadFactory THREAD_FACTORY_WORKER = new BasicThreadFactory.Builder().namingPattern("tinker-worker-%d").build();
 
+    /**
+     * The number of chunks that each worker is given at the start of an iteration.
+     */
+    private static final int CHUNKS_PER_WORKER = 16;
+
     private final int numberOfWorkers;
     private final ExecutorService workerPool;
     private final CompletionService<Object> completionService;
+    private final TinkerMemory memory;
 
     private VertexProgramPool vertexProgramPool;
     private MapReducePool mapReducePool;
     private final Queue<TinkerWorkerMemory> workerMemoryPool = new ConcurrentLinkedQueue<>();
-    private final List<List<Vertex>> workerVertices = new ArrayList<>();
 
-    public TinkerWorkerPool(final TinkerGraph graph, final TinkerMemory memory, final int numberOfWorkers) {
+    /**
+     * The vertices in ordinal order.
+     */
+    private final Vertex[] vertices;
+
+    /**
+     * The first ordinal of each chunk followed by the number of vertices.
+     */
+    private final int[] chunkStarts;
+
+    /**
+     * The first chunk of the share of each worker followed by the number of chunks.
+     */
+    private final int[] shareStarts;
+
+    /**
+     * The chunks that each worker has yet to take in the current iteration, where the upper 32 bits hold the next
+     * chunk to take from the front and the lower 32 bits the end of the remaining chunks.
+     */
+    private final AtomicLong[] shares;
+
+    public TinkerWorkerPool(final TinkerGraph graph, final TinkerGraphComputerView view, final TinkerMemory memory, final int numberOfWorkers) {
         this.numberOfWorkers = numberOfWorkers;
+        this.memory = memory;
         this.workerPool = Executors.newFixedThreadPool(numberOfWorkers, THREAD_FACTORY_WORKER);
         this.completionService = new ExecutorCompletionService<>(this.workerPool);
         for (int i = 0; i < this.numberOfWorkers; i++) {
             this.workerMemoryPool.add(new TinkerWorkerMemory(memory));
-            this.workerVertices.add(new ArrayList<>());
         }
-        int batchSize = TinkerHelper.getVertices(graph).size() / this.numberOfWorkers;
-        if (0 == batchSize)
-            batchSize = 1;
-        int counter = 0;
-        int index = 0;
 
-        List<Vertex> currentWorkerVertices = this.workerVertices.get(index);
+        // vertices are assigned dense ordinals in chunk order so that each chunk is a contiguous range of the
+        // message buffers
+        final List<Vertex> vertices = new ArrayList<>();
+        int[] costs = new int[1024];
+        long totalCost = 0;
         final Iterator<Vertex> iterator = graph.vertices();
         while (iterator.hasNext()) {
             final Vertex vertex = iterator.next();
-            if (counter++ < batchSize || index == this.workerVertices.size() - 1) {
-                currentWorkerVertices.add(vertex);
-            } else {
-                currentWorkerVertices = this.workerVertices.get(++index);
-                currentWorkerVertices.add(vertex);
-                counter = 1;
+            if (vertices.size() == costs.length) costs = Arrays.copyOf(costs, costs.length * 2);
+            costs[vertices.size()] = 1 + (int) IteratorUtils.count(vertex.edges(Direction.BOTH));
+            totalCost += costs[vertices.size()];
+            view.setOrdinal(vertex, vertices.size());
+            vertices.add(vertex);
+        }
+        this.vertices = vertices.toArray(new Vertex[vertices.size()]);
+
+        final long chunkCost = Math.max(1, totalCost / ((long) this.numberOfWorkers * CHUNKS_PER_WORKER));
+        final List<Integer> chunkStarts = new ArrayList<>();
+        long cost = chunkCost;
+        for (int i = 0; i < this.vertices.length; i++) {
+            if (cost >= chunkCost) {
+                chunkStarts.add(i);
+                cost = 0;
             }
+            cost += costs[i];
+        }
+        chunkStarts.add(this.vertices.length);
+        this.chunkStarts = chunkStarts.stream().mapToInt(Integer::intValue).toArray();
+
+        this.shareStarts = this.shareStarts(this.chunkStarts.length - 1);
+        this.shares = new AtomicLong[this.numberOfWorkers];
+        for (int i = 0; i < this.numberOfWorkers; i++) {
+            this.shares[i] = new AtomicLong();
         }
     }
 
+    /**
+     * Gets the number of vertices that were assigned an ordinal, which are numbered from zero.
+     */
+    public int getNumberOfVertices() {
+        return this.vertices.length;
+    }
+
+    /**
+     * Gets the number of chunks that the vertices are split into.
+     */
+    public int getNumberOfChunks() {
+        return this.chunkStarts.length - 1;
+    }
+
     public void setVertexProgram(final VertexProgram vertexProgram) {
         this.vertexProgramPool = new VertexProgramPool(vertexProgram, this.numberOfWorkers);
     }
@@ -93,15 +166,43 @@ public final class TinkerWorkerPool implements AutoCloseable {
     }
 
     public void executeVertexProgram(final TriConsumer<Iterator<Vertex>, VertexProgram, TinkerWorkerMemory> worker) throws InterruptedException {
+        this.executeVertexProgram(worker, null);
+    }
+
+    /**
+     * Executes an iteration of the vertex program over the vertices with the given ordinals or over every vertex if
+     * the frontier is {@code null}.
+     */
+    public void executeVertexProgram(final TriConsumer<Iterator<Vertex>, VertexProgram, TinkerWorkerMemory> worker, final int[] frontier) throws InterruptedException {
+        final int[] chunkStarts;
+        final int[] shareStarts;
+        if (null == frontier) {
+            chunkStarts = this.chunkStarts;
+            shareStarts = this.shareStarts;
+        } else {
+            final int numberOfChunks = Math.min(frontier.length, this.numberOfWorkers * CHUNKS_PER_WORKER);
+            chunkStarts = new int[numberOfChunks + 1];
+            for (int i = 0; i <= numberOfChunks; i++) {
+                chunkStarts[i] = (int) ((long) frontier.length * i / Math.max(1, numberOfChunks));
+            }
+            shareStarts = this.shareStarts(numberOfChunks);
+        }
+        for (int i = 0; i < this.numberOfWorkers; i++) {
+            this.shares[i].set(share(shareStarts[i], shareStarts[i + 1]));
+        }
+        final long[] busyTimes = new long[this.numberOfWorkers];
+        final long[] finishTimes = new long[this.numberOfWorkers];
         for (int i = 0; i < this.numberOfWorkers; i++) {
             final int index = i;
             this.completionService.submit(() -> {
+                final long start = System.nanoTime();
                 final VertexProgram vp = this.vertexProgramPool.take();
                 final TinkerWorkerMemory workerMemory = this.workerMemoryPool.poll();
-                final List<Vertex> vertices = this.workerVertices.get(index);
-                worker.accept(vertices.iterator(), vp, workerMemory);
+                worker.accept(new ChunkIterator(index, chunkStarts, frontier), vp, workerMemory);
                 this.vertexProgramPool.offer(vp);
                 this.workerMemoryPool.offer(workerMemory);
+                finishTimes[index] = System.nanoTime();
+                busyTimes[index] = finishTimes[index] - start;
                 return null;
             });
         }
@@ -114,6 +215,14 @@ public final class TinkerWorkerPool implements AutoCloseable {
                 throw new IllegalStateException(e.getMessage(), e);
             }
         }
+
+        // a worker is idle from the time it runs out of chunks until the last worker reaches the barrier
+        final long barrier = Arrays.stream(finishTimes).max().orElse(0L);
+        final long[] idleTimes = new long[this.numberOfWorkers];
+        for (int i = 0; i < this.numberOfWorkers; i++) {
+            idleTimes[i] = barrier - finishTimes[i];
+        }
+        this.memory.addWorkerTimes(busyTimes, idleTimes);
     }
 
     public void executeMapReduce(final Consumer<MapReduce> worker) throws InterruptedException {
@@ -144,4 +253,83 @@ public final class TinkerWorkerPool implements AutoCloseable {
     public void close() throws Exception {
         this.workerPool.shutdown();
     }
+
+    private int[] shareStarts(final int numberOfChunks) {
+        final int[] shareStarts = new int[this.numberOfWorkers + 1];
+        for (int i = 0; i <= this.numberOfWorkers; i++) {
+            shareStarts[i] = (int) ((long) numberOfChunks * i / this.numberOfWorkers);
+        }
+        return shareStarts;
+    }
+
+    private static long share(final int from, final int to) {
+        return ((long) from << 32) | to;
+    }
+
+    /**
+     * Takes a chunk from the front of the share of the worker, or {@code -1} if its share is exhausted.
+     */
+    private int take(final int worker) {
+        final AtomicLong share = this.shares[worker];
+        while (true) {
+            final long current = share.get();
+            final int from = (int) (current >>> 32);
+            final int to = (int) current;
+            if (from >= to) return -1;
+            if (share.compareAndSet(current, share(from + 1, to))) return from;
+        }
+    }
+
+    /**
+     * Takes a chunk from the back of the share of another worker, or {@code -1} if every share is exhausted.
+     */
+    private int steal(final int worker) {
+        for (int i = 1; i < this.numberOfWorkers; i++) {
+            final AtomicLong share = this.shares[(worker + i) % this.numberOfWorkers];
+            while (true) {
+                final long current = share.get();
+                final int from = (int) (current >>> 32);
+                final int to = (int) current;
+                if (from >= to) break;
+                if (share.compareAndSet(current, share(from, to - 1))) return to - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Iterates the vertices of the chunks that a worker takes from its own share and then steals from others, where
+     * the chunks index the frontier if there is one and the vertex ordinals otherwise.
+     */
+    private final class ChunkIterator implements Iterator<Vertex> {
+        private final int worker;
+        private final int[] chunkStarts;
+        private final int[] frontier;
+        private int next = 0;
+        private int end = 0;
+
+        private ChunkIterator(final int worker, final int[] chunkStarts, final int[] frontier) {
+            this.worker = worker;
+            this.chunkStarts = chunkStarts;
+            this.frontier = frontier;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.next >= this.end) {
+                int chunk = take(this.worker);
+                if (chunk < 0) chunk = steal(this.worker);
+                if (chunk < 0) return false;
+                this.next = this.chunkStarts[chunk];
+                this.end = this.chunkStarts[chunk + 1];
+            }
+            return true;
+        }
+
+        @Override
+        public Vertex next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return vertices[null == this.frontier ? this.next++ : this.frontier[this.next++]];
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MeanGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
+import org.apache.tinkerpop.gremlin.util.NumberHelper;
+import org.apache.tinkerpop.gremlin.util.function.ConstantSupplier;
+import org.apache.tinkerpop.gremlin.util.function.MeanNumberSupplier;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Reduces the values of a property key that is declared in the property schema of a {@link TinkerGraph} as
+ * {@code values(key).sum()}, {@code mean()}, {@code min()} or {@code max()} would, with the same seed and operator,
+ * but reads the values from the property columns without boxing them. Elements whose value is not held in a column
+ * are reduced as usual. As a declared key holds a single value per element, there is one value per traverser.
+ */
+public final class TinkerPropertyReducingStep<S extends Element> extends ReducingBarrierStep<S, Number> {
+
+    public enum Reduction {SUM, MEAN, MIN, MAX}
+
+    private static final Set<TraverserRequirement> REQUIREMENTS = EnumSet.of(TraverserRequirement.OBJECT, TraverserRequirement.BULK);
+
+    private final String key;
+    private final TinkerGraph.PropertyType type;
+    private final Reduction reduction;
+    private boolean processedOnce = false;
+
+    public TinkerPropertyReducingStep(final Traversal.Admin traversal, final String key,
+                                      final TinkerGraph.PropertyType type, final Reduction reduction) {
+        super(traversal);
+        this.key = key;
+        this.type = type;
+        this.reduction = reduction;
+        switch (reduction) {
+            case SUM:
+                this.setSeedSupplier(new ConstantSupplier<>(Integer.valueOf(0)));
+                this.setReducingBiOperator((BinaryOperator) Operator.sum);
+                break;
+            case MEAN:
+                this.setSeedSupplier((Supplier) MeanNumberSupplier.instance());
+                this.setReducingBiOperator(new MeanGlobalStep.MeanGlobalBiOperator<>());
+                break;
+            case MIN:
+                this.setSeedSupplier(new ConstantSupplier<>(Integer.valueOf(Integer.MAX_VALUE)));
+                this.setReducingBiOperator((BinaryOperator) Operator.min);
+                break;
+            default:
+                this.setSeedSupplier(new ConstantSupplier<>(Integer.valueOf(Integer.MIN_VALUE)));
+                this.setReducingBiOperator((BinaryOperator) Operator.max);
+        }
+    }
+
+    public String getKey() {
+        return this.key;
+    }
+
+    public Reduction getReduction() {
+        return this.reduction;
+    }
+
+    @Override
+    public void processAllStarts() {
+        if (this.processedOnce && !this.starts.hasNext())
+            return;
+        this.processedOnce = true;
+        // all the available starts are reduced in primitives before they are merged into the seed
+        final Number partial = this.reduce(this.starts);
+        final Number seed = this.seedSupplier.get();
+        this.addBarrier(null == partial ? seed : this.reducingBiOperator.apply(seed, partial));
+    }
+
+    @Override
+    public Number projectTraverser(final Traverser.Admin<S> traverser) {
+        final Number partial = this.reduce(IteratorUtils.of(traverser));
+        return null == partial ? this.seedSupplier.get() : partial;
+    }
+
+    @Override
+    public Number generateFinalResult(final Number result) {
+        return Reduction.MEAN == this.reduction ? ((MeanGlobalStep.MeanNumber) result).getFinal() : result;
+    }
+
+    /**
+     * Reduces the traversers to a value that the reducing operator can merge into the seed, or {@code null} if none
+     * of the elements has a value for the key.
+     */
+    private Number reduce(final Iterator<Traverser.Admin<S>> traversers) {
+        final boolean floatingPoint = this.type.isFloatingPoint();
+        long count = 0L;
+        long columnCount = 0L;
+        long longValue = Reduction.MIN == this.reduction ? Long.MAX_VALUE : Reduction.MAX == this.reduction ? Long.MIN_VALUE : 0L;
+        double doubleValue = Reduction.MIN == this.reduction ? Double.POSITIVE_INFINITY : Reduction.MAX == this.reduction ? Double.NEGATIVE_INFINITY : 0d;
+        Number other = null;
+
+        while (traversers.hasNext()) {
+            final Traverser.Admin<S> traverser = traversers.next();
+            final S element = traverser.get();
+            final long bulk = traverser.bulk();
+            if (TinkerHelper.hasColumnValue(element, this.key)) {
+                columnCount++;
+                count += bulk;
+                if (floatingPoint) {
+                    final double value = TinkerHelper.getDoubleColumnValue(element, this.key);
+                    doubleValue = Reduction.MIN == this.reduction ? Math.min(doubleValue, value) :
+                            Reduction.MAX == this.reduction ? Math.max(doubleValue, value) :
+                                    doubleValue + value * bulk;
+                } else {
+                    final long value = TinkerHelper.getLongColumnValue(element, this.key);
+                    longValue = Reduction.MIN == this.reduction ? Math.min(longValue, value) :
+                            Reduction.MAX == this.reduction ? Math.max(longValue, value) :
+                                    longValue + value * bulk;
+                }
+            } else {
+                final Iterator<?> values = element.values(this.key);
+                while (values.hasNext()) {
+                    final Number value = (Number) values.next();
+                    count += bulk;
+                    other = null == other ? reduce(value, bulk) : combine(other, reduce(value, bulk));
+                }
+            }
+        }
+
+        Number result = null;
+        if (columnCount > 0) {
+            result = Reduction.MIN == this.reduction || Reduction.MAX == this.reduction ?
+                    box(longValue, doubleValue) :
+                    floatingPoint ? (Number) doubleValue : (Number) longValue;
+        }
+        if (null != other) result = null == result ? other : combine(result, other);
+        // the sum of a mean is kept by a mean number of count values, one of which carries the whole sum
+        return null == result || Reduction.MEAN != this.reduction ? result : new MeanGlobalStep.MeanNumber(0, count - 1).add(result, 1L);
+    }
+
+    private Number reduce(final Number value, final long bulk) {
+        return Reduction.MIN == this.reduction || Reduction.MAX == this.reduction ? value : NumberHelper.mul(value, bulk);
+    }
+
+    private Number combine(final Number a, final Number b) {
+        switch (this.reduction) {
+            case MIN:
+                return NumberHelper.min(a, b);
+            case MAX:
+                return NumberHelper.max(a, b);
+            default:
+                return NumberHelper.add(a, b);
+        }
+    }
+
+    private Number box(final long longValue, final double doubleValue) {
+        switch (this.type) {
+            case INTEGER:
+                return (int) longValue;
+            case LONG:
+                return longValue;
+            case FLOAT:
+                return (float) doubleValue;
+            default:
+                return doubleValue;
+        }
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return REQUIREMENTS;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.key, this.reduction.name().toLowerCase());
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ this.key.hashCode() ^ this.reduction.hashCode();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.processedOnce = false;
+    }
+
+    @Override
+    public void done() {
+        super.done();
+        this.processedOnce = true;
+    }
+
+    @Override
+    public TinkerPropertyReducingStep<S> clone() {
+        final TinkerPropertyReducingStep<S> clone = (TinkerPropertyReducingStep<S>) super.clone();
+        clone.processedOnce = false;
+        return clone;
+    }
+}
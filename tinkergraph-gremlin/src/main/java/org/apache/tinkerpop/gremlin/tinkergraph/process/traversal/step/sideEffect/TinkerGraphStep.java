@@ -24,8 +24,10 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.OrP;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
@@ -34,10 +36,15 @@ import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -46,7 +53,8 @@ import java.util.stream.Collectors;
  */
 public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E> implements HasContainerHolder {
 
-    private final List<HasContainer> hasContainers = new ArrayList<>();
+    private List<HasContainer> hasContainers = new ArrayList<>();
+    private transient Supplier<Iterator<E>> elementIteratorSupplier;
 
     public TinkerGraphStep(final GraphStep<S, E> originalGraphStep) {
         super(originalGraphStep.getTraversal(), originalGraphStep.getReturnClass(), originalGraphStep.isStartStep(), originalGraphStep.getIds());
@@ -56,43 +64,170 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
         // but that allowed the filter in g.V(v).has('k','v') to be ignored.  this created problems for
         // PartitionStrategy which wants to prevent someone from passing "v" from one TraversalSource to
         // another TraversalSource using a different partition
-        this.setIteratorSupplier(() -> (Iterator<E>) (Vertex.class.isAssignableFrom(this.returnClass) ? this.vertices() : this.edges()));
+        this.elementIteratorSupplier = this.createElementIteratorSupplier();
+        this.setIteratorSupplier(this.elementIteratorSupplier);
+    }
+
+    private Supplier<Iterator<E>> createElementIteratorSupplier() {
+        return () -> (Iterator<E>) (Vertex.class.isAssignableFrom(this.returnClass) ? this.vertices() : this.edges());
     }
 
     private Iterator<? extends Edge> edges() {
         final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
-        final HasContainer indexedContainer = getIndexKey(Edge.class);
         // ids are present, filter on them first
         if (this.ids != null && this.ids.length > 0)
             return this.iteratorList(graph.edges(this.ids));
-        else
-            return null == indexedContainer ?
+        else {
+            final Collection<? extends Element> indexed = queryIndex(graph, Edge.class);
+            return null == indexed ?
                     this.iteratorList(graph.edges()) :
-                    TinkerHelper.queryEdgeIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue()).stream()
+                    indexed.stream()
                             .filter(edge -> HasContainer.testAll(edge, this.hasContainers))
+                            .map(edge -> (Edge) edge)
                             .collect(Collectors.<Edge>toList()).iterator();
+        }
     }
 
     private Iterator<? extends Vertex> vertices() {
         final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
-        final HasContainer indexedContainer = getIndexKey(Vertex.class);
         // ids are present, filter on them first
         if (this.ids != null && this.ids.length > 0)
             return this.iteratorList(graph.vertices(this.ids));
-        else
-            return null == indexedContainer ?
+        else {
+            final Collection<? extends Element> indexed = queryIndex(graph, Vertex.class);
+            return null == indexed ?
                     this.iteratorList(graph.vertices()) :
-                    IteratorUtils.filter(TinkerHelper.queryVertexIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue()).iterator(),
+                    IteratorUtils.filter((Iterator<Vertex>) indexed.iterator(),
                             vertex -> HasContainer.testAll(vertex, this.hasContainers));
+        }
+    }
+
+    /**
+     * Finds the elements that match an indexed {@link HasContainer}, returning {@code null} if none of the
+     * containers can be answered by an index. Exact matches are preferred and, of the key and composite indexes
+     * that can answer them, the one that holds the fewest elements for the values is used. Otherwise a range of
+     * values on an {@link TinkerGraph.IndexType#ORDERED} index is used. The elements returned must still be tested
+     * against all of the containers.
+     */
+    private Collection<? extends Element> queryIndex(final TinkerGraph graph, final Class<? extends Element> indexedClass) {
+        final Set<String> indexedKeys = graph.getIndexedKeys(indexedClass);
+        final Set<TinkerGraph.CompositeIndex> compositeIndexes = graph.getCompositeIndexes(indexedClass);
+        if (indexedKeys.isEmpty() && compositeIndexes.isEmpty()) return null;
+        final boolean isVertex = Vertex.class.isAssignableFrom(indexedClass);
+
+        HasContainer bestContainer = null;
+        TinkerGraph.CompositeIndex bestCompositeIndex = null;
+        List<Object> bestValues = null;
+        long bestCount = Long.MAX_VALUE;
+        for (final HasContainer hasContainer : this.hasContainers) {
+            if (hasContainer.getPredicate().getBiPredicate() == Compare.eq && indexedKeys.contains(hasContainer.getKey())) {
+                final long count = isVertex ?
+                        TinkerHelper.countVertexIndex(graph, hasContainer.getKey(), hasContainer.getPredicate().getValue()) :
+                        TinkerHelper.countEdgeIndex(graph, hasContainer.getKey(), hasContainer.getPredicate().getValue());
+                if (count < bestCount) {
+                    bestContainer = hasContainer;
+                    bestCount = count;
+                }
+            }
+        }
+        for (final TinkerGraph.CompositeIndex compositeIndex : compositeIndexes) {
+            final List<Object> values = compositeValues(compositeIndex);
+            if (null == values) continue;
+            final long count = isVertex ?
+                    TinkerHelper.countVertexIndex(graph, compositeIndex, values) :
+                    TinkerHelper.countEdgeIndex(graph, compositeIndex, values);
+            if (count < bestCount) {
+                bestContainer = null;
+                bestCompositeIndex = compositeIndex;
+                bestValues = values;
+                bestCount = count;
+            }
+        }
+
+        if (0 == bestCount)
+            return Collections.emptyList();
+        else if (null != bestContainer)
+            return isVertex ?
+                    TinkerHelper.queryVertexIndex(graph, bestContainer.getKey(), bestContainer.getPredicate().getValue()) :
+                    TinkerHelper.queryEdgeIndex(graph, bestContainer.getKey(), bestContainer.getPredicate().getValue());
+        else if (null != bestCompositeIndex)
+            return isVertex ?
+                    TinkerHelper.queryVertexIndex(graph, bestCompositeIndex, bestValues) :
+                    TinkerHelper.queryEdgeIndex(graph, bestCompositeIndex, bestValues);
+
+        for (final HasContainer hasContainer : this.hasContainers) {
+            final String key = hasContainer.getKey();
+            if (graph.getIndexType(key, indexedClass) != TinkerGraph.IndexType.ORDERED) continue;
+
+            if (isRange(hasContainer.getPredicate())) {
+                // gather the first lower and upper bound for the key so that between() and inside(), which are
+                // split into two containers, are answered by a single range - any others are tested after
+                P<?> lower = null;
+                P<?> upper = null;
+                for (final HasContainer other : this.hasContainers) {
+                    if (!other.getKey().equals(key) || !isRange(other.getPredicate())) continue;
+                    final BiPredicate<?, ?> biPredicate = other.getPredicate().getBiPredicate();
+                    if (null == lower && (biPredicate == Compare.gt || biPredicate == Compare.gte))
+                        lower = other.getPredicate();
+                    else if (null == upper && (biPredicate == Compare.lt || biPredicate == Compare.lte))
+                        upper = other.getPredicate();
+                }
+                return queryRange(graph, indexedClass, key,
+                        null == lower ? null : lower.getValue(), null != lower && lower.getBiPredicate() == Compare.gte,
+                        null == upper ? null : upper.getValue(), null != upper && upper.getBiPredicate() == Compare.lte);
+            } else if (hasContainer.getPredicate() instanceof OrP &&
+                    ((OrP<?>) hasContainer.getPredicate()).getPredicates().stream().allMatch(p -> isRange(p) || p.getBiPredicate() == Compare.eq)) {
+                // outside() and or() of ranges are answered by the union of each range
+                final Set<Element> union = new LinkedHashSet<>();
+                for (final P<?> predicate : ((OrP<?>) hasContainer.getPredicate()).getPredicates()) {
+                    final BiPredicate<?, ?> biPredicate = predicate.getBiPredicate();
+                    final boolean isLower = biPredicate == Compare.gt || biPredicate == Compare.gte;
+                    final boolean isUpper = biPredicate == Compare.lt || biPredicate == Compare.lte;
+                    union.addAll(queryRange(graph, indexedClass, key,
+                            isUpper ? null : predicate.getValue(), biPredicate != Compare.gt,
+                            isLower ? null : predicate.getValue(), biPredicate != Compare.lt));
+                }
+                return union;
+            }
+        }
+
+        return null;
     }
 
-    private HasContainer getIndexKey(final Class<? extends Element> indexedClass) {
-        final Set<String> indexedKeys = ((TinkerGraph) this.getTraversal().getGraph().get()).getIndexedKeys(indexedClass);
+    /**
+     * Gets the values to look up in the composite index from the containers that test for equality on its keys,
+     * returning {@code null} if the containers do not cover all of its keys or do not require its label.
+     */
+    private List<Object> compositeValues(final TinkerGraph.CompositeIndex compositeIndex) {
+        if (null != compositeIndex.getLabel() && this.hasContainers.stream().noneMatch(c ->
+                c.getKey().equals(T.label.getAccessor()) &&
+                        c.getPredicate().getBiPredicate() == Compare.eq &&
+                        compositeIndex.getLabel().equals(c.getPredicate().getValue())))
+            return null;
+
+        final List<Object> values = new ArrayList<>(compositeIndex.getKeys().size());
+        for (final String key : compositeIndex.getKeys()) {
+            final Optional<HasContainer> hasContainer = this.hasContainers.stream()
+                    .filter(c -> c.getKey().equals(key) && c.getPredicate().getBiPredicate() == Compare.eq)
+                    .findFirst();
+            if (!hasContainer.isPresent()) return null;
+            values.add(hasContainer.get().getPredicate().getValue());
+        }
+        return values;
+    }
 
-        final Iterator<HasContainer> itty = IteratorUtils.filter(hasContainers.iterator(),
-                c -> c.getPredicate().getBiPredicate() == Compare.eq && indexedKeys.contains(c.getKey()));
-        return itty.hasNext() ? itty.next() : null;
+    private static Collection<? extends Element> queryRange(final TinkerGraph graph, final Class<? extends Element> indexedClass,
+                                                            final String key, final Object from, final boolean fromInclusive,
+                                                            final Object to, final boolean toInclusive) {
+        return Vertex.class.isAssignableFrom(indexedClass) ?
+                TinkerHelper.queryVertexIndex(graph, key, from, fromInclusive, to, toInclusive) :
+                TinkerHelper.queryEdgeIndex(graph, key, from, fromInclusive, to, toInclusive);
+    }
 
+    private static boolean isRange(final P<?> predicate) {
+        final BiPredicate<?, ?> biPredicate = predicate.getBiPredicate();
+        return null != predicate.getValue() &&
+                (biPredicate == Compare.gt || biPredicate == Compare.gte || biPredicate == Compare.lt || biPredicate == Compare.lte);
     }
 
     @Override
@@ -130,6 +265,21 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
             this.hasContainers.add(hasContainer);
     }
 
+    @Override
+    public TinkerGraphStep<S, E> clone() {
+        final TinkerGraphStep<S, E> clone = (TinkerGraphStep<S, E>) super.clone();
+        clone.hasContainers = new ArrayList<>(this.hasContainers.size());
+        for (final HasContainer hasContainer : this.hasContainers) {
+            clone.hasContainers.add(hasContainer.clone());
+        }
+        // the element iterator supplier reads the ids and has containers of the step that created it
+        if (null != this.iteratorSupplier && this.iteratorSupplier == this.elementIteratorSupplier) {
+            clone.elementIteratorSupplier = clone.createElementIteratorSupplier();
+            clone.setIteratorSupplier(clone.elementIteratorSupplier);
+        }
+        return clone;
+    }
+
     @Override
     public int hashCode() {
         return super.hashCode() ^ this.hasContainers.hashCode();
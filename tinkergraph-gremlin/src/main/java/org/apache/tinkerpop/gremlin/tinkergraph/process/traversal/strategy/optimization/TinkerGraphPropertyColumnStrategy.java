@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MaxGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MeanGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MinGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.SumGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.PropertyType;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.map.TinkerPropertyReducingStep;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This strategy replaces the reduction of the values of a property key that is declared in the
+ * {@link TinkerGraph#GREMLIN_TINKERGRAPH_PROPERTY_SCHEMA} with a {@link TinkerPropertyReducingStep} that reads the
+ * values from the property columns without boxing them.
+ *
+ * @example <pre>
+ * g.V().values("age").sum()       // is replaced by TinkerPropertyReducingStep
+ * g.E().values("weight").mean()   // is replaced by TinkerPropertyReducingStep
+ * </pre>
+ */
+public final class TinkerGraphPropertyColumnStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final TinkerGraphPropertyColumnStrategy INSTANCE = new TinkerGraphPropertyColumnStrategy();
+
+    private TinkerGraphPropertyColumnStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (!(traversal.getParent() instanceof EmptyStep) || TraversalHelper.onGraphComputer(traversal))
+            return;
+        final Graph graph = traversal.getGraph().orElse(null);
+        if (!(graph instanceof TinkerGraph))
+            return;
+
+        final List<Step> steps = new ArrayList<>(traversal.getSteps());
+        for (int i = 0; i < steps.size() - 1; i++) {
+            if (!(steps.get(i) instanceof PropertiesStep)) continue;
+            final PropertiesStep<?> propertiesStep = (PropertiesStep<?>) steps.get(i);
+            final Step<?, ?> reducingStep = steps.get(i + 1);
+            if (propertiesStep.getReturnType() != PropertyType.VALUE || propertiesStep.getPropertyKeys().length != 1 ||
+                    !propertiesStep.getLabels().isEmpty() || !reducingStep.getLabels().isEmpty())
+                continue;
+
+            final TinkerPropertyReducingStep.Reduction reduction = reductionOf(reducingStep);
+            final String key = propertiesStep.getPropertyKeys()[0];
+            final TinkerGraph.PropertyType type = TinkerHelper.getPropertyType((TinkerGraph) graph, key);
+            if (null == reduction || null == type)
+                continue;
+
+            final TinkerPropertyReducingStep<?> step = new TinkerPropertyReducingStep<>(traversal, key, type, reduction);
+            TraversalHelper.replaceStep((Step) propertiesStep, step, traversal);
+            traversal.removeStep(reducingStep);
+            i++;
+        }
+    }
+
+    private static TinkerPropertyReducingStep.Reduction reductionOf(final Step<?, ?> step) {
+        if (step instanceof SumGlobalStep) return TinkerPropertyReducingStep.Reduction.SUM;
+        if (step instanceof MeanGlobalStep) return TinkerPropertyReducingStep.Reduction.MEAN;
+        if (step instanceof MinGlobalStep) return TinkerPropertyReducingStep.Reduction.MIN;
+        if (step instanceof MaxGlobalStep) return TinkerPropertyReducingStep.Reduction.MAX;
+        return null;
+    }
+
+    public static TinkerGraphPropertyColumnStrategy instance() {
+        return INSTANCE;
+    }
+}
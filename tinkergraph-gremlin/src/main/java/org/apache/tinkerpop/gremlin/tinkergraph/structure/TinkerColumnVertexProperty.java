@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+
+/**
+ * A {@link VertexProperty} whose value is held in the {@link TinkerPropertyColumns} of its vertex because its key is
+ * declared in the property schema of the graph. Such vertex properties are created whenever they are read and do
+ * not support meta-properties.
+ */
+final class TinkerColumnVertexProperty<V> extends TinkerVertexProperty<V> {
+
+    TinkerColumnVertexProperty(final Object id, final TinkerVertex vertex, final String key, final V value) {
+        super(id, vertex, key, value);
+    }
+
+    @Override
+    public <U> Property<U> property(final String key, final U value) {
+        throw VertexProperty.Exceptions.metaPropertiesNotSupported();
+    }
+
+    @Override
+    public void remove() {
+        TinkerGraphLog.mutate((TinkerGraph) this.element().graph(), this::removeFromColumn);
+    }
+
+    private void removeFromColumn() {
+        final TinkerVertex vertex = (TinkerVertex) this.element();
+        final TinkerGraph graph = (TinkerGraph) vertex.graph();
+        final TinkerPropertyColumns columns = graph.vertexColumns;
+
+        // the column may hold a newer value of the key which this vertex property must not remove
+        if (vertex.slot >= 0 && columns.contains(vertex.label, vertex.slot, this.key()) &&
+                columns.getId(vertex.label, vertex.slot, this.key()) == ((Number) this.id).longValue() &&
+                columns.remove(vertex.label, vertex.slot, this.key())) {
+            TinkerHelper.removeIndex(vertex, this.key(), this.value());
+            if (null != graph.writeAheadLog && !TinkerHelper.inComputerMode(graph))
+                graph.writeAheadLog.removeVertexProperty(this);
+        }
+        this.removed = true;
+    }
+}
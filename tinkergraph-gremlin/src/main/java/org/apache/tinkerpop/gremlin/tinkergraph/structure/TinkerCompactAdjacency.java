@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A read-only, compressed sparse row representation of the adjacency of a {@link TinkerGraph} that is built by
+ * {@link TinkerGraph#freeze()}. Each vertex is assigned a dense ordinal and its incident edges are laid out
+ * contiguously, grouped by direction and by an interned edge label identifier, in arrays shared by the whole graph.
+ * Alongside the edges, the adjacent vertices are stored in a parallel array so that {@code out()} and {@code in()}
+ * can be answered without dereferencing the edges themselves.
+ */
+final class TinkerCompactAdjacency {
+
+    private final Map<String, Integer> labelIds = new HashMap<>();
+    private final Rows out;
+    private final Rows in;
+
+    TinkerCompactAdjacency(final TinkerGraph graph) {
+        final List<TinkerVertex> vertices = new ArrayList<>(graph.vertices.size());
+        graph.vertices.values().forEach(v -> {
+            final TinkerVertex vertex = (TinkerVertex) v;
+            vertex.ordinal = vertices.size();
+            vertices.add(vertex);
+        });
+        graph.edges.values().forEach(e -> this.labelIds.putIfAbsent(e.label(), this.labelIds.size()));
+
+        this.out = new Rows(vertices, Direction.OUT);
+        this.in = new Rows(vertices, Direction.IN);
+    }
+
+    Iterator<TinkerEdge> getEdges(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
+        if (vertex.ordinal < 0) return Collections.emptyIterator();
+        final int[] labels = labelIds(edgeLabels);
+        if (null == labels) return Collections.emptyIterator();
+        switch (direction) {
+            case OUT:
+                return this.out.edges(vertex.ordinal, labels);
+            case IN:
+                return this.in.edges(vertex.ordinal, labels);
+            default:
+                return IteratorUtils.concat(this.out.edges(vertex.ordinal, labels), this.in.edges(vertex.ordinal, labels));
+        }
+    }
+
+    Iterator<TinkerVertex> getVertices(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
+        if (vertex.ordinal < 0) return Collections.emptyIterator();
+        final int[] labels = labelIds(edgeLabels);
+        if (null == labels) return Collections.emptyIterator();
+        switch (direction) {
+            case OUT:
+                return this.out.vertices(vertex.ordinal, labels);
+            case IN:
+                return this.in.vertices(vertex.ordinal, labels);
+            default:
+                return IteratorUtils.concat(this.out.vertices(vertex.ordinal, labels), this.in.vertices(vertex.ordinal, labels));
+        }
+    }
+
+    /**
+     * Resolves the interned identifiers for the edge labels. An empty array means that all labels are requested and
+     * {@code null} means that none of the labels exist in the graph.
+     */
+    private int[] labelIds(final String... edgeLabels) {
+        if (0 == edgeLabels.length) return new int[0];
+        final int[] ids = new int[edgeLabels.length];
+        int count = 0;
+        for (final String label : edgeLabels) {
+            final Integer id = this.labelIds.get(label);
+            if (null != id) ids[count++] = id;
+        }
+        return 0 == count ? null : count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+
+    static IllegalStateException graphIsFrozen() {
+        return new IllegalStateException("The graph is frozen and its edges can no longer be added or removed");
+    }
+
+    /**
+     * The adjacency for one {@link Direction}. The edges of the vertex with ordinal {@code i} are described by the
+     * label runs {@code vertexOffsets[i]} through {@code vertexOffsets[i + 1]}, where run {@code r} holds the edges
+     * with label {@code runLabels[r]} from {@code runOffsets[r]} through {@code runOffsets[r + 1]}.
+     */
+    private final class Rows {
+        private final int[] vertexOffsets;
+        private final int[] runLabels;
+        private final int[] runOffsets;
+        private final TinkerEdge[] edges;
+        private final TinkerVertex[] adjacent;
+
+        private Rows(final List<TinkerVertex> vertices, final Direction direction) {
+            int runCount = 0;
+            int edgeCount = 0;
+            for (final TinkerVertex vertex : vertices) {
+                final Map<String, Set<Edge>> map = Direction.OUT == direction ? vertex.outEdges : vertex.inEdges;
+                if (null == map) continue;
+                for (final Set<Edge> set : map.values()) {
+                    if (set.isEmpty()) continue;
+                    runCount++;
+                    edgeCount += set.size();
+                }
+            }
+
+            this.vertexOffsets = new int[vertices.size() + 1];
+            this.runLabels = new int[runCount];
+            this.runOffsets = new int[runCount + 1];
+            this.edges = new TinkerEdge[edgeCount];
+            this.adjacent = new TinkerVertex[edgeCount];
+
+            int run = 0;
+            int edge = 0;
+            for (final TinkerVertex vertex : vertices) {
+                this.vertexOffsets[vertex.ordinal] = run;
+                final Map<String, Set<Edge>> map = Direction.OUT == direction ? vertex.outEdges : vertex.inEdges;
+                if (null == map) continue;
+                for (final Map.Entry<String, Set<Edge>> entry : map.entrySet()) {
+                    if (entry.getValue().isEmpty()) continue;
+                    this.runLabels[run] = labelIds.get(entry.getKey());
+                    this.runOffsets[run] = edge;
+                    for (final Edge e : entry.getValue()) {
+                        final TinkerEdge tinkerEdge = (TinkerEdge) e;
+                        this.edges[edge] = tinkerEdge;
+                        this.adjacent[edge] = (TinkerVertex) (Direction.OUT == direction ? tinkerEdge.inVertex : tinkerEdge.outVertex);
+                        edge++;
+                    }
+                    run++;
+                }
+            }
+            this.vertexOffsets[vertices.size()] = run;
+            this.runOffsets[runCount] = edge;
+        }
+
+        private Iterator<TinkerEdge> edges(final int ordinal, final int[] labels) {
+            return slice(this.edges, ordinal, labels);
+        }
+
+        private Iterator<TinkerVertex> vertices(final int ordinal, final int[] labels) {
+            return slice(this.adjacent, ordinal, labels);
+        }
+
+        private <T> Iterator<T> slice(final T[] array, final int ordinal, final int[] labels) {
+            final int firstRun = this.vertexOffsets[ordinal];
+            final int lastRun = this.vertexOffsets[ordinal + 1];
+            if (firstRun == lastRun) return Collections.emptyIterator();
+
+            // with no labels all the runs of the vertex are contiguous so they form a single range
+            if (0 == labels.length)
+                return Arrays.asList(array).subList(this.runOffsets[firstRun], this.runOffsets[lastRun]).iterator();
+
+            Iterator<T> iterator = null;
+            for (int r = firstRun; r < lastRun; r++) {
+                for (final int label : labels) {
+                    if (this.runLabels[r] == label) {
+                        final Iterator<T> range = Arrays.asList(array).subList(this.runOffsets[r], this.runOffsets[r + 1]).iterator();
+                        iterator = null == iterator ? range : IteratorUtils.concat(iterator, range);
+                        break;
+                    }
+                }
+            }
+            return null == iterator ? Collections.emptyIterator() : iterator;
+        }
+    }
+}
@@ -28,9 +28,11 @@ import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -44,8 +46,13 @@ public final class TinkerEdge extends TinkerElement implements Edge {
     protected final Vertex inVertex;
     protected final Vertex outVertex;
 
+    /**
+     * The slot of the edge in the {@link TinkerPropertyColumns} of its label or {@code -1} if it has none.
+     */
+    protected int slot = -1;
+
     protected TinkerEdge(final Object id, final Vertex outVertex, final String label, final Vertex inVertex) {
-        super(id, label);
+        super(id, ((TinkerGraph) outVertex.graph()).symbolTable.intern(label));
         this.outVertex = outVertex;
         this.inVertex = inVertex;
         TinkerHelper.autoUpdateIndex(this, T.label.getAccessor(), this.label, null);
@@ -53,29 +60,56 @@ public final class TinkerEdge extends TinkerElement implements Edge {
 
     @Override
     public <V> Property<V> property(final String key, final V value) {
+        return TinkerGraphLog.mutate((TinkerGraph) this.graph(), () -> this.setProperty(key, value));
+    }
+
+    private <V> Property<V> setProperty(final String key, final V value) {
         if (this.removed) throw elementAlreadyRemoved(Edge.class, id);
         ElementHelper.validateProperty(key, value);
         final Property oldProperty = super.property(key);
-        final Property<V> newProperty = new TinkerProperty<>(this, key, value);
-        if (null == this.properties) this.properties = new HashMap<>();
-        this.properties.put(key, newProperty);
-        TinkerHelper.autoUpdateIndex(this, key, value, oldProperty.isPresent() ? oldProperty.value() : null);
+        final TinkerGraph graph = (TinkerGraph) this.graph();
+        final Property<V> newProperty;
+        if (isDeclared(key)) {
+            final Number number = graph.edgeColumns.coerce(key, value);
+            setColumnValue(key, number);
+            newProperty = new TinkerProperty<>(this, graph.symbolTable.intern(key), (V) number);
+        } else {
+            newProperty = new TinkerProperty<>(this, graph.symbolTable.intern(key), value);
+            if (null == this.properties) this.properties = new TinkerSymbolMap<>(graph.symbolTable);
+            this.properties.put(key, newProperty);
+        }
+        TinkerHelper.autoUpdateIndex(this, key, newProperty.value(), oldProperty.isPresent() ? oldProperty.value() : null);
+
+        // properties attached while the edge is created are logged with the edge once it is added to the graph
+        if (null != graph.writeAheadLog && graph.edges.get(this.id) == this)
+            graph.writeAheadLog.addEdgeProperty(this, key, newProperty.value());
         return newProperty;
 
     }
 
     @Override
     public <V> Property<V> property(final String key) {
+        if (isDeclared(key)) return columnProperty(key);
         return null == this.properties ? Property.<V>empty() : this.properties.getOrDefault(key, Property.<V>empty());
     }
 
     @Override
     public Set<String> keys() {
+        if (this.slot >= 0) {
+            final Set<String> keys = new HashSet<>(((TinkerGraph) this.graph()).edgeColumns.keys(this.label, this.slot));
+            if (null != this.properties) keys.addAll(this.properties.keySet());
+            return keys;
+        }
         return null == this.properties ? Collections.emptySet() : this.properties.keySet();
     }
 
     @Override
     public void remove() {
+        TinkerGraphLog.mutate((TinkerGraph) this.graph(), this::removeEdge);
+    }
+
+    private void removeEdge() {
+        if (((TinkerGraph) this.graph()).isFrozen()) throw TinkerCompactAdjacency.graphIsFrozen();
         final TinkerVertex outVertex = (TinkerVertex) this.outVertex;
         final TinkerVertex inVertex = (TinkerVertex) this.inVertex;
 
@@ -91,9 +125,15 @@ public final class TinkerEdge extends TinkerElement implements Edge {
         }
 
         TinkerHelper.removeElementIndex(this);
-        ((TinkerGraph) this.graph()).edges.remove(this.id());
+        final TinkerGraph graph = (TinkerGraph) this.graph();
+        graph.edges.remove(this.id());
         this.properties = null;
+        if (this.slot >= 0) {
+            graph.edgeColumns.release(this.label, this.slot);
+            this.slot = -1;
+        }
         this.removed = true;
+        if (null != graph.writeAheadLog) graph.writeAheadLog.removeEdge(this);
     }
 
     @Override
@@ -132,6 +172,12 @@ public final class TinkerEdge extends TinkerElement implements Edge {
 
     @Override
     public <V> Iterator<Property<V>> properties(final String... propertyKeys) {
+        if (this.slot >= 0) {
+            final List<Property> properties = columnProperties(propertyKeys);
+            if (null != this.properties)
+                this.properties.entrySet().stream().filter(entry -> ElementHelper.keyExists(entry.getKey(), propertyKeys)).forEach(entry -> properties.add(entry.getValue()));
+            return (Iterator) properties.iterator();
+        }
         if (null == this.properties) return Collections.emptyIterator();
         if (propertyKeys.length == 1) {
             final Property<V> property = this.properties.get(propertyKeys[0]);
@@ -139,4 +185,40 @@ public final class TinkerEdge extends TinkerElement implements Edge {
         } else
             return (Iterator) this.properties.entrySet().stream().filter(entry -> ElementHelper.keyExists(entry.getKey(), propertyKeys)).map(entry -> entry.getValue()).collect(Collectors.toList()).iterator();
     }
+
+    private boolean isDeclared(final String key) {
+        final TinkerPropertyColumns columns = ((TinkerGraph) this.graph()).edgeColumns;
+        return null != columns && columns.isDeclared(key);
+    }
+
+    /**
+     * Sets the value of a key declared in the property schema without updating indices or the write-ahead log.
+     */
+    void setColumnValue(final String key, final Number value) {
+        final TinkerPropertyColumns columns = ((TinkerGraph) this.graph()).edgeColumns;
+        if (this.slot < 0) this.slot = columns.allocate(this.label);
+        columns.set(this.label, this.slot, key, value, 0L);
+    }
+
+    /**
+     * Gets the properties of the keys declared in the property schema that this edge has a value for.
+     */
+    List<Property> columnProperties(final String... propertyKeys) {
+        final List<Property> properties = new ArrayList<>();
+        if (this.slot >= 0) {
+            for (final String key : ((TinkerGraph) this.graph()).edgeColumns.keys(this.label, this.slot)) {
+                if (ElementHelper.keyExists(key, propertyKeys)) {
+                    final Property<?> property = columnProperty(key);
+                    if (property.isPresent()) properties.add(property);
+                }
+            }
+        }
+        return properties;
+    }
+
+    private <V> Property<V> columnProperty(final String key) {
+        final TinkerGraph graph = (TinkerGraph) this.graph();
+        final Number value = this.slot < 0 ? null : graph.edgeColumns.get(this.label, this.slot, key);
+        return null == value ? Property.<V>empty() : new TinkerProperty<>(this, graph.symbolTable.intern(key), (V) value);
+    }
 }
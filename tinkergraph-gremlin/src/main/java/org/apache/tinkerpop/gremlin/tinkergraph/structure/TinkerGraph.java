@@ -36,12 +36,16 @@ import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputer;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputerView;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optimization.TinkerGraphCountStrategy;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optimization.TinkerGraphPropertyColumnStrategy;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optimization.TinkerGraphStepStrategy;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -68,7 +72,8 @@ public final class TinkerGraph implements Graph {
     static {
         TraversalStrategies.GlobalCache.registerStrategies(TinkerGraph.class, TraversalStrategies.GlobalCache.getStrategies(Graph.class).clone().addStrategies(
                 TinkerGraphStepStrategy.instance(),
-                TinkerGraphCountStrategy.instance()));
+                TinkerGraphCountStrategy.instance(),
+                TinkerGraphPropertyColumnStrategy.instance()));
     }
 
     private static final Configuration EMPTY_CONFIGURATION = new BaseConfiguration() {{
@@ -81,17 +86,26 @@ public final class TinkerGraph implements Graph {
     public static final String GREMLIN_TINKERGRAPH_DEFAULT_VERTEX_PROPERTY_CARDINALITY = "gremlin.tinkergraph.defaultVertexPropertyCardinality";
     public static final String GREMLIN_TINKERGRAPH_GRAPH_LOCATION = "gremlin.tinkergraph.graphLocation";
     public static final String GREMLIN_TINKERGRAPH_GRAPH_FORMAT = "gremlin.tinkergraph.graphFormat";
+    public static final String GREMLIN_TINKERGRAPH_WRITE_AHEAD_LOG = "gremlin.tinkergraph.writeAheadLog";
+    public static final String GREMLIN_TINKERGRAPH_CHECKPOINT_INTERVAL = "gremlin.tinkergraph.checkpointInterval";
+    public static final String GREMLIN_TINKERGRAPH_WRITE_AHEAD_LOG_SYNC = "gremlin.tinkergraph.writeAheadLogSync";
+    public static final String GREMLIN_TINKERGRAPH_PROPERTY_SCHEMA = "gremlin.tinkergraph.propertySchema";
 
     private final TinkerGraphFeatures features = new TinkerGraphFeatures();
 
     protected AtomicLong currentId = new AtomicLong(-1L);
-    protected Map<Object, Vertex> vertices = new ConcurrentHashMap<>();
-    protected Map<Object, Edge> edges = new ConcurrentHashMap<>();
+    protected final TinkerSymbolTable symbolTable = new TinkerSymbolTable();
+    protected Map<Object, Vertex> vertices;
+    protected Map<Object, Edge> edges;
 
     protected TinkerGraphVariables variables = null;
     protected TinkerGraphComputerView graphComputerView = null;
     protected TinkerIndex<TinkerVertex> vertexIndex = null;
     protected TinkerIndex<TinkerEdge> edgeIndex = null;
+    protected TinkerCompactAdjacency compactAdjacency = null;
+    protected TinkerGraphLog writeAheadLog = null;
+    protected final TinkerPropertyColumns vertexColumns;
+    protected final TinkerPropertyColumns edgeColumns;
 
     protected final IdManager<?> vertexIdManager;
     protected final IdManager<?> edgeIdManager;
@@ -112,6 +126,12 @@ public final class TinkerGraph implements Graph {
         vertexPropertyIdManager = selectIdManager(configuration, GREMLIN_TINKERGRAPH_VERTEX_PROPERTY_ID_MANAGER, VertexProperty.class);
         defaultVertexPropertyCardinality = VertexProperty.Cardinality.valueOf(
                 configuration.getString(GREMLIN_TINKERGRAPH_DEFAULT_VERTEX_PROPERTY_CARDINALITY, VertexProperty.Cardinality.single.name()));
+        vertices = vertexIdManager.createElementStore();
+        edges = edgeIdManager.createElementStore();
+
+        final Map<String, PropertyType> schema = selectPropertySchema(configuration);
+        vertexColumns = schema.isEmpty() ? null : new TinkerPropertyColumns(schema, true);
+        edgeColumns = schema.isEmpty() ? null : new TinkerPropertyColumns(schema, false);
 
         graphLocation = configuration.getString(GREMLIN_TINKERGRAPH_GRAPH_LOCATION, null);
         graphFormat = configuration.getString(GREMLIN_TINKERGRAPH_GRAPH_FORMAT, null);
@@ -121,6 +141,15 @@ public final class TinkerGraph implements Graph {
                     GREMLIN_TINKERGRAPH_GRAPH_LOCATION, GREMLIN_TINKERGRAPH_GRAPH_FORMAT));
 
         if (graphLocation != null) loadGraph();
+
+        if (configuration.getBoolean(GREMLIN_TINKERGRAPH_WRITE_AHEAD_LOG, false)) {
+            if (null == graphLocation)
+                throw new IllegalStateException(String.format("The %s must be specified if %s is enabled",
+                        GREMLIN_TINKERGRAPH_GRAPH_LOCATION, GREMLIN_TINKERGRAPH_WRITE_AHEAD_LOG));
+            writeAheadLog = new TinkerGraphLog(this, new File(graphLocation + ".log"),
+                    configuration.getLong(GREMLIN_TINKERGRAPH_CHECKPOINT_INTERVAL, 60000L),
+                    configuration.getBoolean(GREMLIN_TINKERGRAPH_WRITE_AHEAD_LOG_SYNC, false), this::saveGraph);
+        }
     }
 
     /**
@@ -156,6 +185,10 @@ public final class TinkerGraph implements Graph {
 
     @Override
     public Vertex addVertex(final Object... keyValues) {
+        return TinkerGraphLog.mutate(this, () -> this.createVertex(keyValues));
+    }
+
+    private Vertex createVertex(final Object... keyValues) {
         ElementHelper.legalPropertyKeyValueArray(keyValues);
         Object idValue = vertexIdManager.convert(ElementHelper.getIdValue(keyValues).orElse(null));
         final String label = ElementHelper.getLabelValue(keyValues).orElse(Vertex.DEFAULT_LABEL);
@@ -169,6 +202,7 @@ public final class TinkerGraph implements Graph {
 
         final Vertex vertex = new TinkerVertex(idValue, label, this);
         this.vertices.put(vertex.id(), vertex);
+        if (null != this.writeAheadLog) this.writeAheadLog.addVertex((TinkerVertex) vertex);
 
         ElementHelper.attachProperties(vertex, VertexProperty.Cardinality.list, keyValues);
         return vertex;
@@ -204,23 +238,53 @@ public final class TinkerGraph implements Graph {
     }
 
     public void clear() {
-        this.vertices.clear();
-        this.edges.clear();
+        TinkerGraphLog.mutate(this, this::clearElements);
+    }
+
+    private void clearElements() {
+        // the element stores are recreated rather than cleared as the store that fits the identifiers depends on the
+        // id manager
+        this.vertices = this.vertexIdManager.createElementStore();
+        this.edges = this.edgeIdManager.createElementStore();
         this.variables = null;
         this.currentId.set(-1L);
         this.vertexIndex = null;
         this.edgeIndex = null;
+        this.compactAdjacency = null;
         this.graphComputerView = null;
+        if (null != this.vertexColumns) this.vertexColumns.clear();
+        if (null != this.edgeColumns) this.edgeColumns.clear();
+        if (null != this.writeAheadLog) this.writeAheadLog.clear();
     }
 
     /**
      * This method only has an effect if the {@link #GREMLIN_TINKERGRAPH_GRAPH_LOCATION} is set, in which case the
      * data in the graph is persisted to that location. This method may be called multiple times and does not release
-     * resources.
+     * resources other than the write-ahead log, which is checkpointed and removed if
+     * {@link #GREMLIN_TINKERGRAPH_WRITE_AHEAD_LOG} is enabled. Mutations made after the first call are only persisted
+     * by the next call.
      */
     @Override
     public void close() {
-        if (graphLocation != null) saveGraph();
+        if (null != writeAheadLog) {
+            writeAheadLog.close(this::saveGraph);
+            writeAheadLog = null;
+        } else if (graphLocation != null) {
+            saveGraph();
+        }
+    }
+
+    /**
+     * Persists the graph to the {@link #GREMLIN_TINKERGRAPH_GRAPH_LOCATION} and discards the mutations it contains
+     * from the write-ahead log. Checkpoints are also taken in the background at the
+     * {@link #GREMLIN_TINKERGRAPH_CHECKPOINT_INTERVAL} and are skipped if the graph has not changed.
+     *
+     * @throws IllegalStateException if {@link #GREMLIN_TINKERGRAPH_WRITE_AHEAD_LOG} is not enabled
+     */
+    public void checkpoint() {
+        if (null == writeAheadLog)
+            throw new IllegalStateException(String.format("Checkpoints require %s to be enabled", GREMLIN_TINKERGRAPH_WRITE_AHEAD_LOG));
+        writeAheadLog.checkpoint(this::saveGraph);
     }
 
     @Override
@@ -247,7 +311,9 @@ public final class TinkerGraph implements Graph {
         final File f = new File(graphLocation);
         if (f.exists() && f.isFile()) {
             try {
-                if (graphFormat.equals("graphml")) {
+                if (graphFormat.equals("snapshot")) {
+                    TinkerGraphSnapshot.read(this, f);
+                } else if (graphFormat.equals("graphml")) {
                     io(IoCore.graphml()).readGraph(graphLocation);
                 } else if (graphFormat.equals("graphson")) {
                     io(IoCore.graphson()).readGraph(graphLocation);
@@ -262,11 +328,13 @@ public final class TinkerGraph implements Graph {
         }
     }
 
+    /**
+     * Writes the graph to a temporary file that then replaces the file at the {@link #GREMLIN_TINKERGRAPH_GRAPH_LOCATION}
+     * so that the previously persisted graph remains intact if the write fails part way through.
+     */
     private void saveGraph() {
         final File f = new File(graphLocation);
-        if (f.exists()) {
-            f.delete();
-        } else {
+        if (!f.exists()) {
             final File parent = f.getParentFile();
 
             // the parent would be null in the case of an relative path if the graphLocation was simply: "f.gryo"
@@ -275,16 +343,24 @@ public final class TinkerGraph implements Graph {
             }
         }
 
+        final String tempLocation = graphLocation + ".tmp";
+        final File temp = new File(tempLocation);
+        if (temp.exists()) temp.delete();
+
         try {
-            if (graphFormat.equals("graphml")) {
-                io(IoCore.graphml()).writeGraph(graphLocation);
+            if (graphFormat.equals("snapshot")) {
+                TinkerGraphSnapshot.write(this, temp);
+            } else if (graphFormat.equals("graphml")) {
+                io(IoCore.graphml()).writeGraph(tempLocation);
             } else if (graphFormat.equals("graphson")) {
-                io(IoCore.graphson()).writeGraph(graphLocation);
+                io(IoCore.graphson()).writeGraph(tempLocation);
             } else if (graphFormat.equals("gryo")) {
-                io(IoCore.gryo()).writeGraph(graphLocation);
+                io(IoCore.gryo()).writeGraph(tempLocation);
             } else {
-                io(IoCore.createIoBuilder(graphFormat)).writeGraph(graphLocation);
+                io(IoCore.createIoBuilder(graphFormat)).writeGraph(tempLocation);
             }
+            if (temp.exists())
+                Files.move(temp.toPath(), f.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (Exception ex) {
             throw new RuntimeException(String.format("Could not save graph at %s with %s", graphLocation, graphFormat), ex);
         }
@@ -395,7 +471,7 @@ public final class TinkerGraph implements Graph {
 
         @Override
         public VertexProperty.Cardinality getCardinality(final String key) {
-            return defaultVertexPropertyCardinality;
+            return null != vertexColumns && vertexColumns.isDeclared(key) ? VertexProperty.Cardinality.single : defaultVertexPropertyCardinality;
         }
     }
 
@@ -453,11 +529,37 @@ public final class TinkerGraph implements Graph {
         }
     }
 
+    ///////////// GRAPH SPECIFIC ADJACENCY METHODS ///////////////
+
+    /**
+     * Converts the adjacency of every vertex into a compact, read-only layout where the edges of the graph are held
+     * in contiguous arrays grouped by vertex, direction and edge label. This layout uses far less memory than the
+     * per-vertex maps that TinkerGraph maintains by default and allows traversals to scan edges sequentially, which
+     * makes it well suited to graphs that are loaded once and then only read. Once frozen, edges may no longer be
+     * added or removed and vertices may no longer be removed, but properties may still be mutated and vertices
+     * added. A call to {@link #clear()} returns the graph to its mutable state.
+     */
+    public void freeze() {
+        if (null != this.compactAdjacency) return;
+        this.compactAdjacency = new TinkerCompactAdjacency(this);
+        this.vertices.values().forEach(v -> {
+            ((TinkerVertex) v).outEdges = null;
+            ((TinkerVertex) v).inEdges = null;
+        });
+    }
+
+    /**
+     * Determines if {@link #freeze()} has been called on this graph.
+     */
+    public boolean isFrozen() {
+        return null != this.compactAdjacency;
+    }
+
     ///////////// GRAPH SPECIFIC INDEXING METHODS ///////////////
 
     /**
-     * Create an index for said element class ({@link Vertex} or {@link Edge}) and said property key.
-     * Whenever an element has the specified key mutated, the index is updated.
+     * Create a {@link IndexType#HASH} index for said element class ({@link Vertex} or {@link Edge}) and said
+     * property key. Whenever an element has the specified key mutated, the index is updated.
      * When the index is created, all existing elements are indexed to ensure that they are captured by the index.
      *
      * @param key          the property key to index
@@ -465,12 +567,27 @@ public final class TinkerGraph implements Graph {
      * @param <E>          The type of the element class
      */
     public <E extends Element> void createIndex(final String key, final Class<E> elementClass) {
+        createIndex(key, elementClass, IndexType.HASH);
+    }
+
+    /**
+     * Create an index of the specified {@link IndexType} for said element class ({@link Vertex} or {@link Edge})
+     * and said property key. Whenever an element has the specified key mutated, the index is updated.
+     * When the index is created, all existing elements are indexed to ensure that they are captured by the index.
+     * An existing index for the key must be dropped before it can be created again with a different type.
+     *
+     * @param key          the property key to index
+     * @param elementClass the element class to index
+     * @param indexType    the type of index to create
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void createIndex(final String key, final Class<E> elementClass, final IndexType indexType) {
         if (Vertex.class.isAssignableFrom(elementClass)) {
             if (null == this.vertexIndex) this.vertexIndex = new TinkerIndex<>(this, TinkerVertex.class);
-            this.vertexIndex.createKeyIndex(key);
+            this.vertexIndex.createKeyIndex(key, indexType);
         } else if (Edge.class.isAssignableFrom(elementClass)) {
             if (null == this.edgeIndex) this.edgeIndex = new TinkerIndex<>(this, TinkerEdge.class);
-            this.edgeIndex.createKeyIndex(key);
+            this.edgeIndex.createKeyIndex(key, indexType);
         } else {
             throw new IllegalArgumentException("Class is not indexable: " + elementClass);
         }
@@ -510,6 +627,170 @@ public final class TinkerGraph implements Graph {
         }
     }
 
+    /**
+     * Return the type of the index for said element class ({@link Vertex} or {@link Edge}) and key.
+     *
+     * @param key          the indexed property key
+     * @param elementClass the element class to get the index type for
+     * @param <E>          The type of the element class
+     * @return the type of the index or {@code null} if the key is not indexed
+     */
+    public <E extends Element> IndexType getIndexType(final String key, final Class<E> elementClass) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            return null == this.vertexIndex ? null : this.vertexIndex.getIndexType(key);
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            return null == this.edgeIndex ? null : this.edgeIndex.getIndexType(key);
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Create a composite index for said element class ({@link Vertex} or {@link Edge}) over the combined values of
+     * one or more property keys, optionally scoped to the elements with a particular label. The index answers
+     * traversals like {@code g.V().hasLabel('person').has('country','US').has('city','NYC')} with a single lookup
+     * and, when created over a single key, serves as an index that only covers the elements of one label. Whenever
+     * an element has one of the keys mutated, the index is updated. When the index is created, all existing elements
+     * are indexed to ensure that they are captured by the index.
+     *
+     * @param elementClass the element class to index
+     * @param label        the label of the elements to index or {@code null} to index elements of any label
+     * @param keys         the property keys to index
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void createIndex(final Class<E> elementClass, final String label, final String... keys) {
+        final CompositeIndex compositeIndex = new CompositeIndex(label, keys);
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            if (null == this.vertexIndex) this.vertexIndex = new TinkerIndex<>(this, TinkerVertex.class);
+            this.vertexIndex.createCompositeIndex(compositeIndex);
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            if (null == this.edgeIndex) this.edgeIndex = new TinkerIndex<>(this, TinkerEdge.class);
+            this.edgeIndex.createCompositeIndex(compositeIndex);
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Drop the composite index for the specified element class ({@link Vertex} or {@link Edge}), label and keys.
+     *
+     * @param elementClass the element class of the index to drop
+     * @param label        the label of the index or {@code null} if it indexes elements of any label
+     * @param keys         the property keys of the index
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void dropIndex(final Class<E> elementClass, final String label, final String... keys) {
+        final CompositeIndex compositeIndex = new CompositeIndex(label, keys);
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            if (null != this.vertexIndex) this.vertexIndex.dropCompositeIndex(compositeIndex);
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            if (null != this.edgeIndex) this.edgeIndex.dropCompositeIndex(compositeIndex);
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Return all the composite indexes for said element class ({@link Vertex} or {@link Edge}).
+     *
+     * @param elementClass the element class to get the composite indexes for
+     * @param <E>          The type of the element class
+     * @return the set of composite indexes
+     */
+    public <E extends Element> Set<CompositeIndex> getCompositeIndexes(final Class<E> elementClass) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            return null == this.vertexIndex ? Collections.emptySet() : this.vertexIndex.getCompositeIndexes();
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            return null == this.edgeIndex ? Collections.emptySet() : this.edgeIndex.getCompositeIndexes();
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Describes an index created with {@link #createIndex(Class, String, String...)} by the label of the elements
+     * it covers and the ordered property keys whose values it combines.
+     */
+    public static final class CompositeIndex {
+        private final String label;
+        private final List<String> keys;
+
+        public CompositeIndex(final String label, final String... keys) {
+            if (null != label && label.isEmpty())
+                throw new IllegalArgumentException("The label for the index cannot be an empty string");
+            if (null == keys || 0 == keys.length)
+                throw new IllegalArgumentException("The index must have at least one key");
+            for (final String key : keys) {
+                if (null == key)
+                    throw Graph.Exceptions.argumentCanNotBeNull("key");
+                if (key.isEmpty())
+                    throw new IllegalArgumentException("The key for the index cannot be an empty string");
+            }
+            this.label = label;
+            this.keys = Collections.unmodifiableList(Arrays.asList(keys.clone()));
+        }
+
+        /**
+         * Gets the label of the indexed elements or {@code null} if elements of any label are indexed.
+         */
+        public String getLabel() {
+            return this.label;
+        }
+
+        public List<String> getKeys() {
+            return this.keys;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof CompositeIndex &&
+                    Objects.equals(this.label, ((CompositeIndex) other).label) &&
+                    this.keys.equals(((CompositeIndex) other).keys);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.label) ^ this.keys.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return (null == this.label ? "" : this.label) + this.keys;
+        }
+    }
+
+    /**
+     * The types of index that can be created with {@link #createIndex(String, Class, IndexType)}.
+     */
+    public enum IndexType {
+        /**
+         * An index that only supports lookups of exact values, as in {@code has('name','marko')}.
+         */
+        HASH,
+
+        /**
+         * An index that keeps values sorted so that in addition to exact values it supports lookups by range, as in
+         * {@code has('age',gt(30))} or {@code has('age',between(30,40))}. Numbers are ordered by numeric value
+         * irrespective of their type.
+         */
+        ORDERED
+    }
+
+    /**
+     * The types that a property key may be declared with in the {@link #GREMLIN_TINKERGRAPH_PROPERTY_SCHEMA}.
+     * Values of a declared key are held in primitive columns and converted to the declared type when written.
+     */
+    public enum PropertyType {
+        INTEGER,
+        LONG,
+        FLOAT,
+        DOUBLE;
+
+        public boolean isFloatingPoint() {
+            return this == FLOAT || this == DOUBLE;
+        }
+    }
+
     /**
      * Construct an {@link TinkerGraph.IdManager} from the TinkerGraph {@code Configuration}.
      */
@@ -526,6 +807,25 @@ public final class TinkerGraph implements Graph {
         }
     }
 
+    /**
+     * Construct the property schema from the {@link #GREMLIN_TINKERGRAPH_PROPERTY_SCHEMA} of the TinkerGraph
+     * {@code Configuration}.
+     */
+    private static Map<String, PropertyType> selectPropertySchema(final Configuration config) {
+        final Map<String, PropertyType> schema = new HashMap<>();
+        for (final Object entry : config.getList(GREMLIN_TINKERGRAPH_PROPERTY_SCHEMA, Collections.emptyList())) {
+            final String[] keyAndType = entry.toString().split(":");
+            try {
+                if (keyAndType.length != 2) throw new IllegalArgumentException();
+                schema.put(keyAndType[0].trim(), PropertyType.valueOf(keyAndType[1].trim().toUpperCase()));
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalStateException(String.format("Could not configure TinkerGraph %s with %s - expected key:type where type is one of %s",
+                        GREMLIN_TINKERGRAPH_PROPERTY_SCHEMA, entry, Arrays.toString(PropertyType.values())));
+            }
+        }
+        return schema;
+    }
+
     /**
      * TinkerGraph will use an implementation of this interface to generate identifiers when a user does not supply
      * them and to handle identifier conversions when querying to provide better flexibility with respect to
@@ -550,12 +850,21 @@ public final class TinkerGraph implements Graph {
          * Determine if an identifier is allowed by this manager given its type.
          */
         boolean allow(final Object id);
+
+        /**
+         * Create the store that will hold the elements managed by this {@code IdManager} keyed by their identifier.
+         * Implementations that produce identifiers of a known type may return a store that is specialized for that
+         * type. By default, a {@code ConcurrentHashMap} is returned.
+         */
+        default <E extends Element> Map<Object, E> createElementStore() {
+            return new ConcurrentHashMap<>();
+        }
     }
 
     /**
      * A default set of {@link IdManager} implementations for common identifier types.
      */
-    public enum DefaultIdManager implements IdManager {
+    public enum DefaultIdManager implements IdManager<Object> {
         /**
          * Manages identifiers of type {@code Long}. Will convert any class that extends from {@link Number} to a
          * {@link Long} and will also attempt to convert {@code String} values
@@ -584,6 +893,15 @@ public final class TinkerGraph implements Graph {
             public boolean allow(final Object id) {
                 return id instanceof Number || id instanceof String;
             }
+
+            /**
+             * As all identifiers are converted to {@code Long} the elements can be stored by their primitive
+             * {@code long} value which avoids boxing and per-entry overhead.
+             */
+            @Override
+            public <E extends Element> Map<Object, E> createElementStore() {
+                return new TinkerLongElementMap<>();
+            }
         },
 
         /**
@@ -0,0 +1,509 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.io.IoCore;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.KryoException;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only log of the mutations made to a persisted {@link TinkerGraph} so that changes survive a crash without
+ * rewriting the whole graph on every save. Each mutation is appended with Gryo and flushed once it has been applied
+ * to the graph, and is also forced to the storage device if the log syncs. A checkpoint starts a new log, writes the
+ * graph to its {@code graphLocation} and then deletes the previous log, so that opening the graph only needs to
+ * replay the mutations made since the last checkpoint.
+ * <p/>
+ * Mutations are applied through {@link #mutate(TinkerGraph, Supplier)}, which holds off a checkpoint until the
+ * mutation has been applied and logged, and a checkpoint holds off mutations while it writes the graph. The graph
+ * that is written therefore holds exactly the mutations of the previous log. Replaying a mutation is still
+ * idempotent, as a crash between writing the graph and deleting the previous log replays it over a graph that
+ * already holds it: elements and vertex properties are identified by their identifiers and a mutation of an element
+ * that does not exist is skipped.
+ * <p/>
+ * Each mutation is framed by its length and a CRC32 checksum. On replay a mutation that ends past the end of the log
+ * or, being the last one, fails its checksum was only partially written when the process stopped and is truncated,
+ * while any other mutation that cannot be read fails the replay.
+ */
+final class TinkerGraphLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(TinkerGraphLog.class);
+
+    private static final byte ADD_VERTEX = 0;
+    private static final byte REMOVE_VERTEX = 1;
+    private static final byte ADD_EDGE = 2;
+    private static final byte REMOVE_EDGE = 3;
+    private static final byte ADD_VERTEX_PROPERTY = 4;
+    private static final byte REMOVE_VERTEX_PROPERTY = 5;
+    private static final byte ADD_META_PROPERTY = 6;
+    private static final byte REMOVE_META_PROPERTY = 7;
+    private static final byte ADD_EDGE_PROPERTY = 8;
+    private static final byte REMOVE_EDGE_PROPERTY = 9;
+    private static final byte CLEAR = 10;
+
+    /**
+     * The length and checksum that precede each mutation.
+     */
+    private static final int HEADER_SIZE = 8;
+
+    private final TinkerGraph graph;
+    private final File file;
+    private final File previousFile;
+    private final Kryo kryo;
+    private final boolean sync;
+    private final Object checkpointLock = new Object();
+    private final ReentrantReadWriteLock mutationLock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService checkpointExecutor;
+    private final Output record = new Output(256, -1);
+    private final CRC32 checksum = new CRC32();
+
+    private FileOutputStream stream;
+    private Output output;
+
+    /**
+     * The number of mutations appended since the last checkpoint.
+     */
+    private long mutations = 0;
+
+    /**
+     * Replays any existing log into the graph and then opens it for appending. A checkpoint is scheduled at the
+     * interval given in milliseconds unless it is not positive. If the log syncs, each mutation is forced to the
+     * storage device before the mutation returns so that it also survives a crash of the operating system.
+     */
+    TinkerGraphLog(final TinkerGraph graph, final File file, final long checkpointInterval, final boolean sync,
+                   final Runnable saveGraph) {
+        this.graph = graph;
+        this.file = file;
+        this.previousFile = new File(file.getPath() + ".previous");
+        this.kryo = graph.io(IoCore.gryo()).mapper().create().createMapper();
+        this.sync = sync;
+
+        try {
+            this.mutations = replay(this.previousFile) + replay(this.file);
+            open();
+        } catch (IOException ioe) {
+            throw new IllegalStateException(String.format("Could not replay the write-ahead log at %s", file), ioe);
+        }
+
+        if (checkpointInterval > 0) {
+            this.checkpointExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread thread = new Thread(r, "tinkergraph-checkpoint");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.checkpointExecutor.scheduleWithFixedDelay(() -> {
+                try {
+                    checkpoint(saveGraph);
+                } catch (Exception ex) {
+                    // the log is kept until a checkpoint succeeds so nothing is lost and the next one will retry
+                    logger.warn(String.format("Checkpoint of the graph at %s failed", file), ex);
+                }
+            }, checkpointInterval, checkpointInterval, TimeUnit.MILLISECONDS);
+        } else {
+            this.checkpointExecutor = null;
+        }
+    }
+
+    /**
+     * Applies a mutation to the graph while holding off checkpoints of its log, if it has one, until the mutation
+     * has been applied and logged. Mutations may be nested and applied concurrently.
+     */
+    static <T> T mutate(final TinkerGraph graph, final Supplier<T> mutation) {
+        final TinkerGraphLog writeAheadLog = graph.writeAheadLog;
+        if (null == writeAheadLog) return mutation.get();
+        writeAheadLog.mutationLock.readLock().lock();
+        try {
+            return mutation.get();
+        } finally {
+            writeAheadLog.mutationLock.readLock().unlock();
+        }
+    }
+
+    static void mutate(final TinkerGraph graph, final Runnable mutation) {
+        mutate(graph, () -> {
+            mutation.run();
+            return null;
+        });
+    }
+
+    void addVertex(final TinkerVertex vertex) {
+        append(ADD_VERTEX, out -> {
+            this.kryo.writeClassAndObject(out, vertex.id());
+            out.writeString(vertex.label());
+        });
+    }
+
+    void removeVertex(final TinkerVertex vertex) {
+        append(REMOVE_VERTEX, out -> this.kryo.writeClassAndObject(out, vertex.id()));
+    }
+
+    /**
+     * Logs the edge along with the properties it was created with, which are attached before it is added to the
+     * graph and so are not logged on their own.
+     */
+    void addEdge(final TinkerEdge edge) {
+        append(ADD_EDGE, out -> {
+            this.kryo.writeClassAndObject(out, edge.id());
+            out.writeString(edge.label());
+            this.kryo.writeClassAndObject(out, edge.outVertex.id());
+            this.kryo.writeClassAndObject(out, edge.inVertex.id());
+            final List<Property<Object>> properties = IteratorUtils.list(edge.properties());
+            out.writeInt(properties.size());
+            for (final Property<?> property : properties) {
+                out.writeString(property.key());
+                this.kryo.writeClassAndObject(out, property.value());
+            }
+        });
+    }
+
+    void removeEdge(final TinkerEdge edge) {
+        append(REMOVE_EDGE, out -> this.kryo.writeClassAndObject(out, edge.id()));
+    }
+
+    void addVertexProperty(final TinkerVertexProperty<?> vertexProperty) {
+        append(ADD_VERTEX_PROPERTY, out -> {
+            writeVertexProperty(out, vertexProperty);
+            this.kryo.writeClassAndObject(out, vertexProperty.value());
+        });
+    }
+
+    void removeVertexProperty(final TinkerVertexProperty<?> vertexProperty) {
+        append(REMOVE_VERTEX_PROPERTY, out -> writeVertexProperty(out, vertexProperty));
+    }
+
+    void addMetaProperty(final TinkerVertexProperty<?> vertexProperty, final String key, final Object value) {
+        append(ADD_META_PROPERTY, out -> {
+            writeVertexProperty(out, vertexProperty);
+            out.writeString(key);
+            this.kryo.writeClassAndObject(out, value);
+        });
+    }
+
+    void removeMetaProperty(final TinkerVertexProperty<?> vertexProperty, final String key) {
+        append(REMOVE_META_PROPERTY, out -> {
+            writeVertexProperty(out, vertexProperty);
+            out.writeString(key);
+        });
+    }
+
+    void addEdgeProperty(final TinkerEdge edge, final String key, final Object value) {
+        append(ADD_EDGE_PROPERTY, out -> {
+            this.kryo.writeClassAndObject(out, edge.id());
+            out.writeString(key);
+            this.kryo.writeClassAndObject(out, value);
+        });
+    }
+
+    void removeEdgeProperty(final TinkerEdge edge, final String key) {
+        append(REMOVE_EDGE_PROPERTY, out -> {
+            this.kryo.writeClassAndObject(out, edge.id());
+            out.writeString(key);
+        });
+    }
+
+    void clear() {
+        append(CLEAR, out -> {
+        });
+    }
+
+    /**
+     * Writes the graph with the given function and discards the mutations it contains from the log. Nothing is
+     * written if the graph has not been mutated since the last checkpoint.
+     */
+    void checkpoint(final Runnable saveGraph) {
+        checkpoint(saveGraph, false);
+    }
+
+    private void checkpoint(final Runnable saveGraph, final boolean force) {
+        synchronized (this.checkpointLock) {
+            // mutations are held off until the graph is written so that it is not written while a mutation is only
+            // partially applied and so that it holds exactly the mutations of the previous log
+            this.mutationLock.writeLock().lock();
+            try {
+                synchronized (this) {
+                    if (!force && 0 == this.mutations && !this.previousFile.exists()) return;
+                    if (null == this.output) throw new IllegalStateException("The write-ahead log is closed");
+
+                    this.output.close();
+                    try {
+                        if (this.previousFile.exists())
+                            appendTo(this.file, this.previousFile);
+                        else if (!this.file.renameTo(this.previousFile))
+                            throw new IOException(String.format("Could not rename %s to %s", this.file, this.previousFile));
+                        open();
+                    } catch (IOException ioe) {
+                        throw new IllegalStateException(String.format("Could not start a new write-ahead log at %s", this.file), ioe);
+                    }
+                    this.mutations = 0;
+                }
+
+                saveGraph.run();
+            } finally {
+                this.mutationLock.writeLock().unlock();
+            }
+            this.previousFile.delete();
+        }
+    }
+
+    /**
+     * Stops the scheduled checkpoints, writes a final checkpoint and deletes the log.
+     */
+    void close(final Runnable saveGraph) {
+        if (null != this.checkpointExecutor) {
+            this.checkpointExecutor.shutdown();
+            try {
+                this.checkpointExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // the graph is always written on close, as it is without the log, so that the graph file exists
+        synchronized (this.checkpointLock) {
+            checkpoint(saveGraph, true);
+            synchronized (this) {
+                this.output.close();
+                this.output = null;
+                this.file.delete();
+            }
+        }
+    }
+
+    private synchronized void append(final byte operation, final Consumer<Output> record) {
+        if (null == this.output) throw new IllegalStateException("The write-ahead log is closed");
+        this.record.clear();
+        this.record.writeByte(operation);
+        record.accept(this.record);
+        this.checksum.reset();
+        this.checksum.update(this.record.getBuffer(), 0, this.record.position());
+        this.output.writeInt(this.record.position());
+        this.output.writeInt((int) this.checksum.getValue());
+        this.output.writeBytes(this.record.getBuffer(), 0, this.record.position());
+        this.output.flush();
+        if (this.sync) {
+            try {
+                this.stream.getFD().sync();
+            } catch (IOException ioe) {
+                throw new IllegalStateException(String.format("Could not sync the write-ahead log at %s", this.file), ioe);
+            }
+        }
+        this.mutations++;
+    }
+
+    private void writeVertexProperty(final Output out, final TinkerVertexProperty<?> vertexProperty) {
+        this.kryo.writeClassAndObject(out, vertexProperty.element().id());
+        out.writeString(vertexProperty.key());
+        this.kryo.writeClassAndObject(out, vertexProperty.id());
+    }
+
+    private void open() throws FileNotFoundException {
+        this.stream = new FileOutputStream(this.file, true);
+        this.output = new Output(this.stream);
+    }
+
+    private static void appendTo(final File from, final File to) throws IOException {
+        try (final FileChannel source = FileChannel.open(from.toPath(), StandardOpenOption.READ);
+             final FileChannel target = FileChannel.open(to.toPath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            long position = 0;
+            while (position < source.size()) {
+                position += source.transferTo(position, source.size() - position, target);
+            }
+        }
+        from.delete();
+    }
+
+    /**
+     * Applies the mutations in the log to the graph and returns how many there were. A mutation that was only
+     * partially written when the process stopped is discarded and truncated from the log.
+     *
+     * @throws IllegalStateException if a mutation before the end of the log is corrupt or cannot be replayed
+     */
+    private long replay(final File log) throws IOException {
+        if (!log.exists()) return 0;
+
+        final long length = log.length();
+        long count = 0;
+        long valid = 0;
+        try (final DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(log)))) {
+            while (length - valid >= HEADER_SIZE) {
+                final int size = input.readInt();
+                final int checksum = input.readInt();
+                if (size > length - valid - HEADER_SIZE) break;
+                if (size < 1)
+                    throw new IllegalStateException(String.format("Corrupt mutation at offset %s of the write-ahead log at %s", valid, log));
+
+                final byte[] record = new byte[size];
+                input.readFully(record);
+                this.checksum.reset();
+                this.checksum.update(record, 0, size);
+                if ((int) this.checksum.getValue() != checksum) {
+                    if (valid + HEADER_SIZE + size == length) break;
+                    throw new IllegalStateException(String.format("Corrupt mutation at offset %s of the write-ahead log at %s", valid, log));
+                }
+
+                try {
+                    replay(new Input(record));
+                } catch (KryoException ke) {
+                    throw new IllegalStateException(String.format("Could not replay the mutation at offset %s of the write-ahead log at %s", valid, log), ke);
+                }
+                valid += HEADER_SIZE + size;
+                count++;
+            }
+        }
+
+        if (valid < length) {
+            logger.warn("Discarding an incomplete mutation at the end of the write-ahead log at {}", log);
+            try (final RandomAccessFile raf = new RandomAccessFile(log, "rw")) {
+                raf.setLength(valid);
+            }
+        }
+        return count;
+    }
+
+    private void replay(final Input input) {
+        final byte operation = input.readByte();
+        switch (operation) {
+            case ADD_VERTEX: {
+                final Object id = this.kryo.readClassAndObject(input);
+                final String label = input.readString();
+                if (!this.graph.vertices.containsKey(id))
+                    this.graph.addVertex(T.id, id, T.label, label);
+                break;
+            }
+            case REMOVE_VERTEX: {
+                final Vertex vertex = this.graph.vertices.get(this.kryo.readClassAndObject(input));
+                if (null != vertex) vertex.remove();
+                break;
+            }
+            case ADD_EDGE: {
+                final Object id = this.kryo.readClassAndObject(input);
+                final String label = input.readString();
+                final Vertex outVertex = this.graph.vertices.get(this.kryo.readClassAndObject(input));
+                final Vertex inVertex = this.graph.vertices.get(this.kryo.readClassAndObject(input));
+                final int propertyCount = input.readInt();
+                final List<Object> keyValues = new ArrayList<>(2 + propertyCount * 2);
+                keyValues.add(T.id);
+                keyValues.add(id);
+                for (int i = 0; i < propertyCount; i++) {
+                    keyValues.add(input.readString());
+                    keyValues.add(this.kryo.readClassAndObject(input));
+                }
+                if (!this.graph.edges.containsKey(id) && null != outVertex && null != inVertex)
+                    outVertex.addEdge(label, inVertex, keyValues.toArray());
+                break;
+            }
+            case REMOVE_EDGE: {
+                final Edge edge = this.graph.edges.get(this.kryo.readClassAndObject(input));
+                if (null != edge) edge.remove();
+                break;
+            }
+            case ADD_VERTEX_PROPERTY: {
+                final Vertex vertex = this.graph.vertices.get(this.kryo.readClassAndObject(input));
+                final String key = input.readString();
+                final Object id = this.kryo.readClassAndObject(input);
+                final Object value = this.kryo.readClassAndObject(input);
+                if (null != vertex && null == findVertexProperty(vertex, key, id))
+                    vertex.property(VertexProperty.Cardinality.list, key, value, T.id, id);
+                break;
+            }
+            case REMOVE_VERTEX_PROPERTY: {
+                final VertexProperty<?> vertexProperty = readVertexProperty(input);
+                if (null != vertexProperty) vertexProperty.remove();
+                break;
+            }
+            case ADD_META_PROPERTY: {
+                final VertexProperty<?> vertexProperty = readVertexProperty(input);
+                final String key = input.readString();
+                final Object value = this.kryo.readClassAndObject(input);
+                if (null != vertexProperty) vertexProperty.property(key, value);
+                break;
+            }
+            case REMOVE_META_PROPERTY: {
+                final VertexProperty<?> vertexProperty = readVertexProperty(input);
+                final String key = input.readString();
+                if (null != vertexProperty) vertexProperty.property(key).remove();
+                break;
+            }
+            case ADD_EDGE_PROPERTY: {
+                final Edge edge = this.graph.edges.get(this.kryo.readClassAndObject(input));
+                final String key = input.readString();
+                final Object value = this.kryo.readClassAndObject(input);
+                if (null != edge) edge.property(key, value);
+                break;
+            }
+            case REMOVE_EDGE_PROPERTY: {
+                final Edge edge = this.graph.edges.get(this.kryo.readClassAndObject(input));
+                final String key = input.readString();
+                if (null != edge) edge.property(key).remove();
+                break;
+            }
+            case CLEAR:
+                this.graph.clear();
+                break;
+            default:
+                throw new KryoException(String.format("Unknown mutation %s in the write-ahead log", operation));
+        }
+    }
+
+    private VertexProperty<?> readVertexProperty(final Input input) {
+        final Vertex vertex = this.graph.vertices.get(this.kryo.readClassAndObject(input));
+        final String key = input.readString();
+        final Object id = this.kryo.readClassAndObject(input);
+        return null == vertex ? null : findVertexProperty(vertex, key, id);
+    }
+
+    private static VertexProperty<?> findVertexProperty(final Vertex vertex, final String key, final Object id) {
+        final Iterator<VertexProperty<Object>> vertexProperties = vertex.properties(key);
+        while (vertexProperties.hasNext()) {
+            final VertexProperty<?> vertexProperty = vertexProperties.next();
+            if (vertexProperty.id().equals(id)) return vertexProperty;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,451 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.io.IoCore;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reads and writes the {@code snapshot} format of {@link TinkerGraph}, a binary layout of the graph in flat sections
+ * that is memory-mapped when it is read. Labels and property keys are stored once in a string dictionary and
+ * referenced by position, element labels and adjacency are stored as columns of {@code int} and each section is
+ * read through its own cursor, so loading the graph is a sequential scan of the mapped pages rather than the
+ * object-by-object deserialization that the Gryo, GraphSON and GraphML readers perform.
+ * <p/>
+ * The file starts with a header holding the element counts and the offset of each section:
+ * <ul>
+ *     <li>{@code STRINGS} - the dictionary of labels and property keys</li>
+ *     <li>{@code VERTEX_LABELS} and {@code EDGE_LABELS} - a dictionary position per element</li>
+ *     <li>{@code VERTEX_IDS} and {@code EDGE_IDS} - an encoded identifier per element</li>
+ *     <li>{@code VERTEX_PROPERTIES} and {@code EDGE_PROPERTIES} - a property count per element followed by its
+ *     properties, including the identifier and meta-properties of each vertex property</li>
+ *     <li>{@code ADJACENCY} - the position of the out and in vertex of each edge in {@code VERTEX_IDS}</li>
+ * </ul>
+ * Property values of common types are encoded directly while all others are serialized with Gryo.
+ */
+final class TinkerGraphSnapshot {
+
+    private static final long MAGIC = 0x54494E4B45525350L;
+    private static final int VERSION = 1;
+
+    private static final int STRINGS = 0;
+    private static final int VERTEX_LABELS = 1;
+    private static final int VERTEX_IDS = 2;
+    private static final int VERTEX_PROPERTIES = 3;
+    private static final int EDGE_LABELS = 4;
+    private static final int EDGE_IDS = 5;
+    private static final int ADJACENCY = 6;
+    private static final int EDGE_PROPERTIES = 7;
+    private static final int SECTIONS = 8;
+    private static final int HEADER_SIZE = 8 + 4 + 4 + 4 + SECTIONS * 8;
+
+    private static final byte STRING = 0;
+    private static final byte INTEGER = 1;
+    private static final byte LONG = 2;
+    private static final byte FLOAT = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte SHORT = 6;
+    private static final byte BYTE = 7;
+    private static final byte UUID_VALUE = 8;
+    private static final byte GRYO = 9;
+
+    private TinkerGraphSnapshot() {
+    }
+
+    static void write(final TinkerGraph graph, final File file) throws IOException {
+        final TinkerVertex[] vertices = graph.vertices.values().toArray(new TinkerVertex[0]);
+        final TinkerEdge[] edges = graph.edges.values().toArray(new TinkerEdge[0]);
+        final Map<TinkerVertex, Integer> ordinals = new IdentityHashMap<>(vertices.length);
+        for (int i = 0; i < vertices.length; i++) {
+            ordinals.put(vertices[i], i);
+        }
+
+        final Map<String, Integer> strings = new LinkedHashMap<>();
+        final Kryo kryo = graph.io(IoCore.gryo()).mapper().create().createMapper();
+        final long[] offsets = new long[SECTIONS];
+
+        try (final CountingOutputStream counter = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16));
+             final DataOutputStream out = new DataOutputStream(counter)) {
+            out.write(new byte[HEADER_SIZE]);
+
+            offsets[VERTEX_LABELS] = counter.count;
+            for (final TinkerVertex vertex : vertices) {
+                out.writeInt(intern(strings, vertex.label()));
+            }
+
+            offsets[VERTEX_IDS] = counter.count;
+            for (final TinkerVertex vertex : vertices) {
+                writeValue(out, vertex.id(), kryo);
+            }
+
+            offsets[VERTEX_PROPERTIES] = counter.count;
+            for (final TinkerVertex vertex : vertices) {
+                final List<VertexProperty> properties = new ArrayList<>();
+                if (null != vertex.properties) vertex.properties.values().forEach(properties::addAll);
+                properties.addAll(vertex.columnProperties());
+                out.writeInt(properties.size());
+                for (final VertexProperty<?> vertexProperty : properties) {
+                    out.writeInt(intern(strings, vertexProperty.key()));
+                    writeValue(out, vertexProperty.id(), kryo);
+                    writeValue(out, vertexProperty.value(), kryo);
+                    final Map<String, Property> metaProperties = ((TinkerVertexProperty<?>) vertexProperty).properties;
+                    writeProperties(out, null == metaProperties ? null : metaProperties.values(), strings, kryo);
+                }
+            }
+
+            offsets[EDGE_LABELS] = counter.count;
+            for (final TinkerEdge edge : edges) {
+                out.writeInt(intern(strings, edge.label()));
+            }
+
+            offsets[EDGE_IDS] = counter.count;
+            for (final TinkerEdge edge : edges) {
+                writeValue(out, edge.id(), kryo);
+            }
+
+            offsets[ADJACENCY] = counter.count;
+            for (final TinkerEdge edge : edges) {
+                out.writeInt(ordinals.get(edge.outVertex));
+                out.writeInt(ordinals.get(edge.inVertex));
+            }
+
+            offsets[EDGE_PROPERTIES] = counter.count;
+            for (final TinkerEdge edge : edges) {
+                final List<Property> properties = edge.columnProperties();
+                if (null != edge.properties) properties.addAll(edge.properties.values());
+                writeProperties(out, properties, strings, kryo);
+            }
+
+            offsets[STRINGS] = counter.count;
+            out.writeInt(strings.size());
+            for (final String string : strings.keySet()) {
+                final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+
+        // the offsets are only known once the sections have been written so the header is filled in last
+        try (final RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.writeLong(MAGIC);
+            raf.writeInt(VERSION);
+            raf.writeInt(vertices.length);
+            raf.writeInt(edges.length);
+            for (final long offset : offsets) {
+                raf.writeLong(offset);
+            }
+        }
+    }
+
+    static void read(final TinkerGraph graph, final File file) throws IOException {
+        try (final RandomAccessFile raf = new RandomAccessFile(file, "r");
+             final FileChannel channel = raf.getChannel()) {
+            final MappedInput header = new MappedInput(channel, 0);
+            if (header.readLong() != MAGIC)
+                throw new IOException(String.format("%s is not a TinkerGraph snapshot", file));
+            final int version = header.readInt();
+            if (version != VERSION)
+                throw new IOException(String.format("Snapshot version %s of %s is not supported", version, file));
+            final int vertexCount = header.readInt();
+            final int edgeCount = header.readInt();
+            final MappedInput[] sections = new MappedInput[SECTIONS];
+            for (int i = 0; i < SECTIONS; i++) {
+                sections[i] = header.at(header.readLong());
+            }
+
+            final MappedInput stringInput = sections[STRINGS];
+            final String[] strings = new String[stringInput.readInt()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = stringInput.readString();
+            }
+
+            final Kryo kryo = graph.io(IoCore.gryo()).mapper().create().createMapper();
+            final TinkerVertex[] vertices = new TinkerVertex[vertexCount];
+            for (int i = 0; i < vertexCount; i++) {
+                final TinkerVertex vertex = new TinkerVertex(graph.vertexIdManager.convert(readValue(sections[VERTEX_IDS], kryo)),
+                        strings[sections[VERTEX_LABELS].readInt()], graph);
+                final MappedInput propertyInput = sections[VERTEX_PROPERTIES];
+                final int propertyCount = propertyInput.readInt();
+                for (int j = 0; j < propertyCount; j++) {
+                    final String key = strings[propertyInput.readInt()];
+                    final Object id = graph.vertexPropertyIdManager.convert(readValue(propertyInput, kryo));
+                    final Object value = readValue(propertyInput, kryo);
+                    if (null != graph.vertexColumns && graph.vertexColumns.isDeclared(key) && id instanceof Number) {
+                        // a declared key has no meta-properties but the count is still present
+                        readProperties(propertyInput, vertex, strings, graph, kryo);
+                        vertex.setColumnValue(key, graph.vertexColumns.coerce(key, value), ((Number) id).longValue());
+                        continue;
+                    }
+                    final TinkerVertexProperty<?> vertexProperty = new TinkerVertexProperty<>(id, vertex, key, value);
+                    vertexProperty.properties = readProperties(propertyInput, vertexProperty, strings, graph, kryo);
+                    if (null == vertex.properties) vertex.properties = new TinkerSymbolMap<>(graph.symbolTable);
+                    vertex.properties.computeIfAbsent(key, k -> new ArrayList<>(1)).add(vertexProperty);
+                }
+                vertices[i] = vertex;
+                graph.vertices.put(vertex.id(), vertex);
+            }
+
+            for (int i = 0; i < edgeCount; i++) {
+                final Object id = graph.edgeIdManager.convert(readValue(sections[EDGE_IDS], kryo));
+                final String label = strings[sections[EDGE_LABELS].readInt()];
+                final TinkerVertex outVertex = vertices[sections[ADJACENCY].readInt()];
+                final TinkerVertex inVertex = vertices[sections[ADJACENCY].readInt()];
+                final TinkerEdge edge = new TinkerEdge(id, outVertex, label, inVertex);
+                edge.properties = readProperties(sections[EDGE_PROPERTIES], edge, strings, graph, kryo);
+                if (null != edge.properties && null != graph.edgeColumns) {
+                    for (final String key : new ArrayList<>(edge.properties.keySet())) {
+                        if (graph.edgeColumns.isDeclared(key))
+                            edge.setColumnValue(key, graph.edgeColumns.coerce(key, edge.properties.remove(key).value()));
+                    }
+                    if (edge.properties.isEmpty()) edge.properties = null;
+                }
+                graph.edges.put(id, edge);
+                TinkerHelper.addOutEdge(outVertex, label, edge);
+                TinkerHelper.addInEdge(inVertex, label, edge);
+            }
+        }
+    }
+
+    private static int intern(final Map<String, Integer> strings, final String string) {
+        return strings.computeIfAbsent(string, s -> strings.size());
+    }
+
+    private static void writeProperties(final DataOutputStream out, final Iterable<Property> properties,
+                                        final Map<String, Integer> strings, final Kryo kryo) throws IOException {
+        final List<Property> list = new ArrayList<>();
+        if (null != properties) properties.forEach(list::add);
+        out.writeInt(list.size());
+        for (final Property<?> property : list) {
+            out.writeInt(intern(strings, property.key()));
+            writeValue(out, property.value(), kryo);
+        }
+    }
+
+    private static Map<String, Property> readProperties(final MappedInput in, final TinkerElement element,
+                                                        final String[] strings, final TinkerGraph graph, final Kryo kryo) {
+        final int count = in.readInt();
+        if (0 == count) return null;
+        final Map<String, Property> properties = new TinkerSymbolMap<>(graph.symbolTable);
+        for (int i = 0; i < count; i++) {
+            final String key = graph.symbolTable.intern(strings[in.readInt()]);
+            properties.put(key, new TinkerProperty<>(element, key, readValue(in, kryo)));
+        }
+        return properties;
+    }
+
+    private static void writeValue(final DataOutputStream out, final Object value, final Kryo kryo) throws IOException {
+        if (value instanceof String) {
+            final byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+            out.writeByte(STRING);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof UUID) {
+            out.writeByte(UUID_VALUE);
+            out.writeLong(((UUID) value).getMostSignificantBits());
+            out.writeLong(((UUID) value).getLeastSignificantBits());
+        } else {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (final Output output = new Output(bytes)) {
+                kryo.writeClassAndObject(output, value);
+            }
+            out.writeByte(GRYO);
+            out.writeInt(bytes.size());
+            bytes.writeTo(out);
+        }
+    }
+
+    private static Object readValue(final MappedInput in, final Kryo kryo) {
+        final byte type = in.readByte();
+        switch (type) {
+            case STRING:
+                return in.readString();
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case FLOAT:
+                return Float.intBitsToFloat(in.readInt());
+            case DOUBLE:
+                return Double.longBitsToDouble(in.readLong());
+            case BOOLEAN:
+                return in.readByte() != 0;
+            case SHORT:
+                return (short) ((in.readByte() << 8) | (in.readByte() & 0xFF));
+            case BYTE:
+                return in.readByte();
+            case UUID_VALUE:
+                return new UUID(in.readLong(), in.readLong());
+            case GRYO:
+                final byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                try (final Input input = new Input(bytes)) {
+                    return kryo.readClassAndObject(input);
+                }
+            default:
+                throw new IllegalStateException(String.format("Unknown value type %s in snapshot", type));
+        }
+    }
+
+    /**
+     * Counts the bytes written so that section offsets beyond the 2GB that {@code DataOutputStream} tracks are known.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count = 0;
+
+        private CountingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            this.out.write(b);
+            this.count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            this.out.write(b, off, len);
+            this.count += len;
+        }
+    }
+
+    /**
+     * A cursor over a memory-mapped file. A single {@code MappedByteBuffer} is limited to 2GB so the file is mapped
+     * in chunks which are shared by all the cursors created from the same file, and values that straddle two chunks
+     * are assembled a byte at a time.
+     */
+    private static final class MappedInput {
+        private static final int CHUNK_SHIFT = 30;
+        private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+        private final MappedByteBuffer[] chunks;
+        private long position;
+
+        private MappedInput(final FileChannel channel, final long position) throws IOException {
+            final long size = channel.size();
+            this.chunks = new MappedByteBuffer[(int) ((size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT)];
+            for (int i = 0; i < this.chunks.length; i++) {
+                final long start = (long) i << CHUNK_SHIFT;
+                this.chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(CHUNK_SIZE, size - start));
+            }
+            this.position = position;
+        }
+
+        private MappedInput(final MappedByteBuffer[] chunks, final long position) {
+            this.chunks = chunks;
+            this.position = position;
+        }
+
+        private MappedInput at(final long position) {
+            return new MappedInput(this.chunks, position);
+        }
+
+        private byte readByte() {
+            final byte b = this.chunks[(int) (this.position >>> CHUNK_SHIFT)].get((int) (this.position & (CHUNK_SIZE - 1)));
+            this.position++;
+            return b;
+        }
+
+        private int readInt() {
+            final int offset = (int) (this.position & (CHUNK_SIZE - 1));
+            if (offset <= CHUNK_SIZE - 4) {
+                final int i = this.chunks[(int) (this.position >>> CHUNK_SHIFT)].getInt(offset);
+                this.position += 4;
+                return i;
+            }
+            return ((readByte() & 0xFF) << 24) | ((readByte() & 0xFF) << 16) | ((readByte() & 0xFF) << 8) | (readByte() & 0xFF);
+        }
+
+        private long readLong() {
+            final int offset = (int) (this.position & (CHUNK_SIZE - 1));
+            if (offset <= CHUNK_SIZE - 8) {
+                final long l = this.chunks[(int) (this.position >>> CHUNK_SHIFT)].getLong(offset);
+                this.position += 8;
+                return l;
+            }
+            return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+        }
+
+        private void readFully(final byte[] bytes) {
+            // the bytes are copied in bulk from each chunk they span, duplicates keep the shared chunks unpositioned
+            int read = 0;
+            while (read < bytes.length) {
+                final int offset = (int) (this.position & (CHUNK_SIZE - 1));
+                final int length = Math.min(bytes.length - read, CHUNK_SIZE - offset);
+                final ByteBuffer chunk = this.chunks[(int) (this.position >>> CHUNK_SHIFT)].duplicate();
+                chunk.position(offset);
+                chunk.get(bytes, read, length);
+                read += length;
+                this.position += length;
+            }
+        }
+
+        private String readString() {
+            final byte[] bytes = new byte[readInt()];
+            readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
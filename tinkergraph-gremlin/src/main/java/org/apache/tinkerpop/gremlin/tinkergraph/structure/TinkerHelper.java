@@ -22,6 +22,7 @@ import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
 import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
@@ -48,6 +49,11 @@ public final class TinkerHelper {
     }
 
     protected static Edge addEdge(final TinkerGraph graph, final TinkerVertex outVertex, final TinkerVertex inVertex, final String label, final Object... keyValues) {
+        return TinkerGraphLog.mutate(graph, () -> createEdge(graph, outVertex, inVertex, label, keyValues));
+    }
+
+    private static Edge createEdge(final TinkerGraph graph, final TinkerVertex outVertex, final TinkerVertex inVertex, final String label, final Object... keyValues) {
+        if (graph.isFrozen()) throw TinkerCompactAdjacency.graphIsFrozen();
         ElementHelper.validateLabel(label);
         ElementHelper.legalPropertyKeyValueArray(keyValues);
 
@@ -66,28 +72,37 @@ public final class TinkerHelper {
         graph.edges.put(edge.id(), edge);
         TinkerHelper.addOutEdge(outVertex, label, edge);
         TinkerHelper.addInEdge(inVertex, label, edge);
+        if (null != graph.writeAheadLog) graph.writeAheadLog.addEdge((TinkerEdge) edge);
         return edge;
 
     }
 
+    /**
+     * Adjacency is updated under the lock of the vertex so that edges may be added to the same vertex from several
+     * threads, as when a graph is read in parallel.
+     */
     protected static void addOutEdge(final TinkerVertex vertex, final String label, final Edge edge) {
-        if (null == vertex.outEdges) vertex.outEdges = new HashMap<>();
-        Set<Edge> edges = vertex.outEdges.get(label);
-        if (null == edges) {
-            edges = new HashSet<>();
-            vertex.outEdges.put(label, edges);
+        synchronized (vertex) {
+            if (null == vertex.outEdges) vertex.outEdges = new TinkerSymbolMap<>(((TinkerGraph) vertex.graph()).symbolTable);
+            Set<Edge> edges = vertex.outEdges.get(label);
+            if (null == edges) {
+                edges = new HashSet<>();
+                vertex.outEdges.put(label, edges);
+            }
+            edges.add(edge);
         }
-        edges.add(edge);
     }
 
     protected static void addInEdge(final TinkerVertex vertex, final String label, final Edge edge) {
-        if (null == vertex.inEdges) vertex.inEdges = new HashMap<>();
-        Set<Edge> edges = vertex.inEdges.get(label);
-        if (null == edges) {
-            edges = new HashSet<>();
-            vertex.inEdges.put(label, edges);
+        synchronized (vertex) {
+            if (null == vertex.inEdges) vertex.inEdges = new TinkerSymbolMap<>(((TinkerGraph) vertex.graph()).symbolTable);
+            Set<Edge> edges = vertex.inEdges.get(label);
+            if (null == edges) {
+                edges = new HashSet<>();
+                vertex.inEdges.put(label, edges);
+            }
+            edges.add(edge);
         }
-        edges.add(edge);
     }
 
     public static List<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final String key, final Object value) {
@@ -98,6 +113,60 @@ public final class TinkerHelper {
         return null == graph.edgeIndex ? Collections.emptyList() : graph.edgeIndex.get(key, value);
     }
 
+    /**
+     * Query an {@link TinkerGraph.IndexType#ORDERED} vertex index for a range of values where a {@code null} bound
+     * is unbounded.
+     */
+    public static List<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final String key,
+                                                      final Object from, final boolean fromInclusive,
+                                                      final Object to, final boolean toInclusive) {
+        return null == graph.vertexIndex ? Collections.emptyList() : graph.vertexIndex.get(key, from, fromInclusive, to, toInclusive);
+    }
+
+    /**
+     * Query an {@link TinkerGraph.IndexType#ORDERED} edge index for a range of values where a {@code null} bound
+     * is unbounded.
+     */
+    public static List<TinkerEdge> queryEdgeIndex(final TinkerGraph graph, final String key,
+                                                  final Object from, final boolean fromInclusive,
+                                                  final Object to, final boolean toInclusive) {
+        return null == graph.edgeIndex ? Collections.emptyList() : graph.edgeIndex.get(key, from, fromInclusive, to, toInclusive);
+    }
+
+    public static long countVertexIndex(final TinkerGraph graph, final String key, final Object value) {
+        return null == graph.vertexIndex ? 0 : graph.vertexIndex.count(key, value);
+    }
+
+    public static long countEdgeIndex(final TinkerGraph graph, final String key, final Object value) {
+        return null == graph.edgeIndex ? 0 : graph.edgeIndex.count(key, value);
+    }
+
+    /**
+     * Query a composite vertex index for the values of its keys, given in the same order as the keys.
+     */
+    public static List<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final TinkerGraph.CompositeIndex compositeIndex,
+                                                      final List<Object> values) {
+        return null == graph.vertexIndex ? Collections.emptyList() : graph.vertexIndex.get(compositeIndex, values);
+    }
+
+    /**
+     * Query a composite edge index for the values of its keys, given in the same order as the keys.
+     */
+    public static List<TinkerEdge> queryEdgeIndex(final TinkerGraph graph, final TinkerGraph.CompositeIndex compositeIndex,
+                                                  final List<Object> values) {
+        return null == graph.edgeIndex ? Collections.emptyList() : graph.edgeIndex.get(compositeIndex, values);
+    }
+
+    public static long countVertexIndex(final TinkerGraph graph, final TinkerGraph.CompositeIndex compositeIndex,
+                                        final List<Object> values) {
+        return null == graph.vertexIndex ? 0 : graph.vertexIndex.count(compositeIndex, values);
+    }
+
+    public static long countEdgeIndex(final TinkerGraph graph, final TinkerGraph.CompositeIndex compositeIndex,
+                                      final List<Object> values) {
+        return null == graph.edgeIndex ? 0 : graph.edgeIndex.count(compositeIndex, values);
+    }
+
     public static boolean inComputerMode(final TinkerGraph graph) {
         return null != graph.graphComputerView;
     }
@@ -114,10 +183,56 @@ public final class TinkerHelper {
         graph.graphComputerView = null;
     }
 
+    public static Object getNextVertexPropertyId(final TinkerGraph graph) {
+        return graph.vertexPropertyIdManager.getNextId(graph);
+    }
+
     public static Map<String, List<VertexProperty>> getProperties(final TinkerVertex vertex) {
+        if (vertex.slot >= 0) {
+            final Map<String, List<VertexProperty>> properties = null == vertex.properties ? new HashMap<>() : new HashMap<>(vertex.properties);
+            vertex.columnProperties().forEach(property -> properties.put(property.key(), Collections.singletonList(property)));
+            return properties;
+        }
         return null == vertex.properties ? Collections.emptyMap() : vertex.properties;
     }
 
+    /**
+     * Gets the type that the key is declared with in the property schema of the graph or {@code null} if it is not
+     * declared.
+     */
+    public static TinkerGraph.PropertyType getPropertyType(final TinkerGraph graph, final String key) {
+        return null == graph.vertexColumns ? null : graph.vertexColumns.getType(key);
+    }
+
+    /**
+     * Determines if the element holds a value for the key in the property columns of the graph, in which case it may
+     * be read without boxing with {@link #getLongColumnValue} or {@link #getDoubleColumnValue}.
+     */
+    public static boolean hasColumnValue(final Element element, final String key) {
+        if (element instanceof TinkerVertex) {
+            final TinkerVertex vertex = (TinkerVertex) element;
+            return vertex.slot >= 0 && ((TinkerGraph) vertex.graph()).vertexColumns.contains(vertex.label, vertex.slot, key);
+        } else if (element instanceof TinkerEdge) {
+            final TinkerEdge edge = (TinkerEdge) element;
+            return edge.slot >= 0 && ((TinkerGraph) edge.graph()).edgeColumns.contains(edge.label, edge.slot, key);
+        }
+        return false;
+    }
+
+    public static long getLongColumnValue(final Element element, final String key) {
+        final TinkerGraph graph = (TinkerGraph) element.graph();
+        return element instanceof TinkerVertex ?
+                graph.vertexColumns.getLong(((TinkerVertex) element).label, ((TinkerVertex) element).slot, key) :
+                graph.edgeColumns.getLong(((TinkerEdge) element).label, ((TinkerEdge) element).slot, key);
+    }
+
+    public static double getDoubleColumnValue(final Element element, final String key) {
+        final TinkerGraph graph = (TinkerGraph) element.graph();
+        return element instanceof TinkerVertex ?
+                graph.vertexColumns.getDouble(((TinkerVertex) element).label, ((TinkerVertex) element).slot, key) :
+                graph.edgeColumns.getDouble(((TinkerEdge) element).label, ((TinkerEdge) element).slot, key);
+    }
+
     public static void autoUpdateIndex(final TinkerEdge edge, final String key, final Object newValue, final Object oldValue) {
         final TinkerGraph graph = (TinkerGraph) edge.graph();
         if (graph.edgeIndex != null)
@@ -145,16 +260,20 @@ public final class TinkerHelper {
     public static void removeIndex(final TinkerVertex vertex, final String key, final Object value) {
         final TinkerGraph graph = (TinkerGraph) vertex.graph();
         if (graph.vertexIndex != null)
-            graph.vertexIndex.remove(key, value, vertex);
+            graph.vertexIndex.autoRemove(key, value, vertex);
     }
 
     public static void removeIndex(final TinkerEdge edge, final String key, final Object value) {
         final TinkerGraph graph = (TinkerGraph) edge.graph();
         if (graph.edgeIndex != null)
-            graph.edgeIndex.remove(key, value, edge);
+            graph.edgeIndex.autoRemove(key, value, edge);
     }
 
     public static Iterator<TinkerEdge> getEdges(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
+        final TinkerGraph graph = (TinkerGraph) vertex.graph();
+        if (null != graph.compactAdjacency)
+            return graph.compactAdjacency.getEdges(vertex, direction, edgeLabels);
+
         final List<Edge> edges = new ArrayList<>();
         if (direction.equals(Direction.OUT) || direction.equals(Direction.BOTH)) {
             if (vertex.outEdges != null) {
@@ -180,6 +299,10 @@ public final class TinkerHelper {
     }
 
     public static Iterator<TinkerVertex> getVertices(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
+        final TinkerGraph graph = (TinkerGraph) vertex.graph();
+        if (null != graph.compactAdjacency)
+            return graph.compactAdjacency.getVertices(vertex, direction, edgeLabels);
+
         final List<Vertex> vertices = new ArrayList<>();
         if (direction.equals(Direction.OUT) || direction.equals(Direction.BOTH)) {
             if (vertex.outEdges != null) {
@@ -23,42 +23,73 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.math.BigDecimal;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
+ * Indexes the elements of a {@link TinkerGraph} by property value. The index may be updated by many threads at once:
+ * the set of elements for a value is only changed while holding one of a fixed number of locks chosen by the key and
+ * value, while lookups never lock. Each element also keeps the entries it is indexed under so that it can be removed
+ * from the index without scanning it. The sets that an element is in are only changed while its entries are locked
+ * so that concurrent updates of the same element cannot leave it in a set that its entries do not record.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 final class TinkerIndex<T extends Element> {
 
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * Orders the values of a {@link TinkerGraph.IndexType#ORDERED} index. Numbers are ordered by their numeric value
+     * regardless of their class, in the same way that {@link org.apache.tinkerpop.gremlin.process.traversal.Compare}
+     * evaluates them, and all other values are grouped by class and then ordered naturally. Values that are not
+     * {@code Comparable} are given an arbitrary but stable position within their class.
+     */
+    static final Comparator<Object> ORDER = (a, b) -> {
+        if (a instanceof Number && b instanceof Number)
+            return compareNumbers((Number) a, (Number) b);
+        else if (a instanceof Number || b instanceof Number)
+            return a instanceof Number ? -1 : 1;
+        else if (!a.getClass().equals(b.getClass()))
+            return a.getClass().getName().compareTo(b.getClass().getName());
+        else if (a instanceof Comparable)
+            return ((Comparable) a).compareTo(b);
+        else if (a.equals(b))
+            return 0;
+        else {
+            final int compare = Integer.compare(a.hashCode(), b.hashCode());
+            return 0 != compare ? compare : Integer.compare(System.identityHashCode(a), System.identityHashCode(b));
+        }
+    };
+
     protected Map<String, Map<Object, Set<T>>> index = new ConcurrentHashMap<>();
     protected final Class<T> indexClass;
-    private final Set<String> indexedKeys = new HashSet<>();
+    private final Map<String, TinkerGraph.IndexType> indexedKeys = new ConcurrentHashMap<>();
+    private final Map<T, Set<Map.Entry<String, Object>>> elementEntries = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final Map<TinkerGraph.CompositeIndex, CompositeEntries> compositeIndexes = new ConcurrentHashMap<>();
     private final TinkerGraph graph;
 
     public TinkerIndex(final TinkerGraph graph, final Class<T> indexClass) {
         this.graph = graph;
         this.indexClass = indexClass;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            this.locks[i] = new Object();
+        }
     }
 
     protected void put(final String key, final Object value, final T element) {
-        Map<Object, Set<T>> keyMap = this.index.get(key);
-        if (keyMap == null) {
-            keyMap = new ConcurrentHashMap<>();
-            this.index.put(key, keyMap);
-        }
-        Set<T> objects = keyMap.get(value);
-        if (null == objects) {
-            objects = new HashSet<>();
-            keyMap.put(value, objects);
-        }
-        objects.add(element);
-
+        this.update(key, null, value, element);
     }
 
     public List<T> get(final String key, final Object value) {
@@ -74,6 +105,44 @@ final class TinkerIndex<T extends Element> {
         }
     }
 
+    /**
+     * Gets the elements with a value for the key that falls between the two bounds where a {@code null} bound is
+     * unbounded. Only values that are comparable to the bounds are returned, meaning that a numeric range will not
+     * include {@code String} values. The key must be indexed as {@link TinkerGraph.IndexType#ORDERED}.
+     */
+    public List<T> get(final String key, final Object from, final boolean fromInclusive,
+                       final Object to, final boolean toInclusive) {
+        final Map<Object, Set<T>> keyMap = this.index.get(key);
+        if (!(keyMap instanceof NavigableMap) || (null == from && null == to))
+            return Collections.emptyList();
+
+        final NavigableMap<Object, Set<T>> range;
+        if (null != from && null != to) {
+            if (!sameOrderGroup(from, to) || ORDER.compare(from, to) > 0) return Collections.emptyList();
+            range = ((NavigableMap<Object, Set<T>>) keyMap).subMap(from, fromInclusive, to, toInclusive);
+        } else if (null != from) {
+            range = ((NavigableMap<Object, Set<T>>) keyMap).tailMap(from, fromInclusive);
+        } else {
+            // walk down from the upper bound to find the smallest value that is comparable to it
+            final NavigableMap<Object, Set<T>> head = ((NavigableMap<Object, Set<T>>) keyMap).headMap(to, toInclusive);
+            Object lowest = null;
+            for (final Object value : head.descendingKeySet()) {
+                if (!sameOrderGroup(value, to)) break;
+                lowest = value;
+            }
+            if (null == lowest) return Collections.emptyList();
+            range = head.tailMap(lowest, true);
+        }
+
+        final Object bound = null == from ? to : from;
+        final List<T> list = new ArrayList<>();
+        for (final Map.Entry<Object, Set<T>> entry : range.entrySet()) {
+            if (!sameOrderGroup(entry.getKey(), bound)) break;
+            list.addAll(entry.getValue());
+        }
+        return list;
+    }
+
     public long count(final String key, final Object value) {
         final Map<Object, Set<T>> keyMap = this.index.get(key);
         if (null == keyMap) {
@@ -88,50 +157,52 @@ final class TinkerIndex<T extends Element> {
     }
 
     public void remove(final String key, final Object value, final T element) {
-        final Map<Object, Set<T>> keyMap = this.index.get(key);
-        if (null != keyMap) {
-            Set<T> objects = keyMap.get(value);
-            if (null != objects) {
-                objects.remove(element);
-                if (objects.size() == 0) {
-                    keyMap.remove(value);
-                }
-            }
-        }
+        this.update(key, value, null, element);
     }
 
     public void removeElement(final T element) {
         if (this.indexClass.isAssignableFrom(element.getClass())) {
-            for (Map<Object, Set<T>> map : index.values()) {
-                for (Set<T> set : map.values()) {
-                    set.remove(element);
+            this.elementEntries.computeIfPresent(element, (e, entries) -> {
+                for (final Map.Entry<String, Object> entry : entries) {
+                    final Map<Object, Set<T>> keyMap = this.index.get(entry.getKey());
+                    if (null != keyMap)
+                        remove(keyMap, entry.getKey(), entry.getValue(), element);
                 }
+                return null;
+            });
+            for (final CompositeEntries compositeEntries : this.compositeIndexes.values()) {
+                compositeEntries.remove(element);
             }
         }
     }
 
     public void autoUpdate(final String key, final Object newValue, final Object oldValue, final T element) {
-        if (this.indexedKeys.contains(key)) {
-            if (oldValue != null)
-                this.remove(key, oldValue, element);
-            this.put(key, newValue, element);
-        }
+        if (this.indexedKeys.containsKey(key))
+            this.update(key, oldValue, newValue, element);
+        this.autoUpdateComposites(key, element);
     }
 
     public void autoRemove(final String key, final Object oldValue, final T element) {
-        if (this.indexedKeys.contains(key))
+        if (this.indexedKeys.containsKey(key))
             this.remove(key, oldValue, element);
+        this.autoUpdateComposites(key, element);
     }
 
-    public void createKeyIndex(final String key) {
+    public void createKeyIndex(final String key, final TinkerGraph.IndexType indexType) {
         if (null == key)
             throw Graph.Exceptions.argumentCanNotBeNull("key");
         if (key.isEmpty())
             throw new IllegalArgumentException("The key for the index cannot be an empty string");
+        if (null == indexType)
+            throw Graph.Exceptions.argumentCanNotBeNull("indexType");
 
-        if (this.indexedKeys.contains(key))
+        if (this.indexedKeys.containsKey(key)) {
+            if (this.indexedKeys.get(key) != indexType)
+                throw new IllegalStateException(String.format("The key %s is already indexed as %s - drop the index before creating it as %s",
+                        key, this.indexedKeys.get(key), indexType));
             return;
-        this.indexedKeys.add(key);
+        }
+        this.indexedKeys.put(key, indexType);
 
         (Vertex.class.isAssignableFrom(this.indexClass) ?
                 this.graph.vertices.values().<T>parallelStream() :
@@ -142,13 +213,229 @@ final class TinkerIndex<T extends Element> {
     }
 
     public void dropKeyIndex(final String key) {
+        this.indexedKeys.remove(key);
         if (this.index.containsKey(key))
             this.index.remove(key).clear();
 
-        this.indexedKeys.remove(key);
+        this.elementEntries.replaceAll((element, entries) -> {
+            entries.removeIf(entry -> entry.getKey().equals(key));
+            return entries;
+        });
+        this.elementEntries.values().removeIf(Set::isEmpty);
     }
 
     public Set<String> getIndexedKeys() {
-        return this.indexedKeys;
+        return this.indexedKeys.keySet();
+    }
+
+    public TinkerGraph.IndexType getIndexType(final String key) {
+        return this.indexedKeys.get(key);
+    }
+
+    /**
+     * Gets the elements whose values for the keys of the composite index are equal to the values given in the same
+     * order as the keys.
+     */
+    public List<T> get(final TinkerGraph.CompositeIndex compositeIndex, final List<Object> values) {
+        final CompositeEntries entries = this.compositeIndexes.get(compositeIndex);
+        final Set<T> set = null == entries ? null : entries.index.get(values);
+        return null == set ? Collections.emptyList() : new ArrayList<>(set);
+    }
+
+    public long count(final TinkerGraph.CompositeIndex compositeIndex, final List<Object> values) {
+        final CompositeEntries entries = this.compositeIndexes.get(compositeIndex);
+        final Set<T> set = null == entries ? null : entries.index.get(values);
+        return null == set ? 0 : set.size();
+    }
+
+    public void createCompositeIndex(final TinkerGraph.CompositeIndex compositeIndex) {
+        if (this.compositeIndexes.containsKey(compositeIndex))
+            return;
+
+        final CompositeEntries entries = new CompositeEntries(compositeIndex);
+        this.compositeIndexes.put(compositeIndex, entries);
+        (Vertex.class.isAssignableFrom(this.indexClass) ?
+                this.graph.vertices.values() :
+                this.graph.edges.values()).forEach(e -> entries.update((T) e));
+    }
+
+    public void dropCompositeIndex(final TinkerGraph.CompositeIndex compositeIndex) {
+        this.compositeIndexes.remove(compositeIndex);
+    }
+
+    public Set<TinkerGraph.CompositeIndex> getCompositeIndexes() {
+        return this.compositeIndexes.keySet();
+    }
+
+    private void autoUpdateComposites(final String key, final T element) {
+        for (final CompositeEntries entries : this.compositeIndexes.values()) {
+            if (entries.compositeIndex.getKeys().contains(key))
+                entries.update(element);
+        }
+    }
+
+    /**
+     * Moves the element from the set for the old value of the key to the set for the new value, where a {@code null}
+     * value is skipped. The sets are changed within the update of the entries of the element, which holds the lock on
+     * those entries, so that the entries and the sets always agree. The element is added to the new set before it is
+     * removed from the old one and is left in place when the value does not change so that lookups do not miss it.
+     */
+    private void update(final String key, final Object oldValue, final Object newValue, final T element) {
+        final Map<Object, Set<T>> keyMap = null == newValue ?
+                this.index.get(key) :
+                this.index.computeIfAbsent(key, k ->
+                        TinkerGraph.IndexType.ORDERED == this.indexedKeys.get(k) ?
+                                new ConcurrentSkipListMap<>(ORDER) : new ConcurrentHashMap<>());
+        final boolean sameValue = null != oldValue && null != newValue &&
+                (keyMap instanceof NavigableMap ? 0 == ORDER.compare(oldValue, newValue) : oldValue.equals(newValue));
+        this.elementEntries.compute(element, (e, entries) -> {
+            final Set<Map.Entry<String, Object>> set = null == entries ? new HashSet<>() : entries;
+            if (null != newValue)
+                add(keyMap, key, newValue, element);
+            if (null != oldValue) {
+                if (null != keyMap && !sameValue)
+                    remove(keyMap, key, oldValue, element);
+                set.remove(new AbstractMap.SimpleImmutableEntry<>(key, oldValue));
+            }
+            if (null != newValue)
+                set.add(new AbstractMap.SimpleImmutableEntry<>(key, newValue));
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * Adds the element to the set for the value, creating the set if it does not exist yet.
+     */
+    private <V> void add(final Map<V, Set<T>> map, final Object key, final V value, final T element) {
+        synchronized (lock(key, value)) {
+            Set<T> objects = map.get(value);
+            if (null == objects) {
+                objects = ConcurrentHashMap.newKeySet();
+                map.put(value, objects);
+            }
+            objects.add(element);
+        }
+    }
+
+    /**
+     * Removes the element from the set for the value, removing the set once it is empty. Holding the same lock as
+     * {@link #add(Map, Object, Object, Object)} ensures that an element is never added to a set that was removed.
+     */
+    private <V> void remove(final Map<V, Set<T>> map, final Object key, final V value, final T element) {
+        synchronized (lock(key, value)) {
+            final Set<T> objects = map.get(value);
+            if (null != objects) {
+                objects.remove(element);
+                if (objects.isEmpty())
+                    map.remove(value);
+            }
+        }
+    }
+
+    /**
+     * Chooses the lock that guards the set of elements for the value. Numbers hash by their numeric value as an
+     * {@link TinkerGraph.IndexType#ORDERED} index treats numbers of different classes but equal value as the same.
+     */
+    private Object lock(final Object key, final Object value) {
+        final int valueHash = value instanceof Number ? Double.hashCode(((Number) value).doubleValue()) : value.hashCode();
+        final int hash = 31 * key.hashCode() + valueHash;
+        return this.locks[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+    }
+
+    /**
+     * Determines if two values are adjacent in the {@link #ORDER}, which is the case when both are numbers or both
+     * are of the same class.
+     */
+    private static boolean sameOrderGroup(final Object a, final Object b) {
+        return (a instanceof Number && b instanceof Number) || a.getClass().equals(b.getClass());
+    }
+
+    private static int compareNumbers(final Number a, final Number b) {
+        if (a.getClass().equals(b.getClass()) && a instanceof Comparable)
+            return ((Comparable) a).compareTo(b);
+        else if (isNaNOrInfinite(a) || isNaNOrInfinite(b))
+            return Double.compare(a.doubleValue(), b.doubleValue());
+        else
+            return new BigDecimal(a.toString()).compareTo(new BigDecimal(b.toString()));
+    }
+
+    private static boolean isNaNOrInfinite(final Number n) {
+        return (n instanceof Double && (((Double) n).isNaN() || ((Double) n).isInfinite())) ||
+                (n instanceof Float && (((Float) n).isNaN() || ((Float) n).isInfinite()));
+    }
+
+    /**
+     * The entries of a {@link TinkerGraph.CompositeIndex} along with the entries held for each element, which allows
+     * an element to be re-indexed or removed without knowing the values it was indexed under.
+     */
+    private final class CompositeEntries {
+        private final TinkerGraph.CompositeIndex compositeIndex;
+        private final Map<List<Object>, Set<T>> index = new ConcurrentHashMap<>();
+        private final Map<T, List<List<Object>>> elements = new ConcurrentHashMap<>();
+
+        private CompositeEntries(final TinkerGraph.CompositeIndex compositeIndex) {
+            this.compositeIndex = compositeIndex;
+        }
+
+        /**
+         * Replaces the entries of the element with those of its current values. The values are read and the sets are
+         * changed while the entries of the element are locked so that concurrent updates of the element are applied
+         * one after the other, and entries that did not change are left in place so that lookups do not miss the
+         * element while it is re-indexed.
+         */
+        private void update(final T element) {
+            this.elements.compute(element, (e, oldEntries) -> {
+                final List<List<Object>> entries = entries(element);
+                for (final List<Object> entry : entries) {
+                    if (null == oldEntries || !oldEntries.contains(entry))
+                        add(this.index, this.compositeIndex, entry, element);
+                }
+                if (null != oldEntries) {
+                    for (final List<Object> entry : oldEntries) {
+                        if (!entries.contains(entry))
+                            TinkerIndex.this.remove(this.index, this.compositeIndex, entry, element);
+                    }
+                }
+                return entries.isEmpty() ? null : entries;
+            });
+        }
+
+        private void remove(final T element) {
+            this.elements.computeIfPresent(element, (e, entries) -> {
+                for (final List<Object> entry : entries) {
+                    TinkerIndex.this.remove(this.index, this.compositeIndex, entry, element);
+                }
+                return null;
+            });
+        }
+
+        /**
+         * Gets the combinations of values that the element is indexed under, of which there are several when a
+         * vertex has multiple properties for an indexed key, and none when the label does not match or a key is
+         * missing.
+         */
+        private List<List<Object>> entries(final T element) {
+            if (null != this.compositeIndex.getLabel() && !this.compositeIndex.getLabel().equals(element.label()))
+                return Collections.emptyList();
+
+            List<List<Object>> entries = Collections.singletonList(Collections.emptyList());
+            for (final String key : this.compositeIndex.getKeys()) {
+                final List<Object> values = new ArrayList<>(1);
+                element.properties(key).forEachRemaining(p -> values.add(p.value()));
+                if (values.isEmpty()) return Collections.emptyList();
+
+                final List<List<Object>> next = new ArrayList<>(entries.size() * values.size());
+                for (final List<Object> entry : entries) {
+                    for (final Object value : values) {
+                        final List<Object> list = new ArrayList<>(entry.size() + 1);
+                        list.addAll(entry);
+                        list.add(value);
+                        next.add(list);
+                    }
+                }
+                entries = next;
+            }
+            return entries;
+        }
     }
 }
@@ -0,0 +1,322 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An element store for {@link TinkerGraph} that keys elements by primitive {@code long} identifiers using open
+ * addressing with linear probing. Identifiers are held in a {@code long[]} and elements in a parallel array so that
+ * no {@code Long} boxes or hash entry objects are retained per element, which makes it a far more compact
+ * alternative to a {@code ConcurrentHashMap} when the {@link TinkerGraph.DefaultIdManager#LONG} is in use.
+ * <p/>
+ * Writes are serialized on the map instance while reads are lock-free against the currently published table. The
+ * slots of a table are atomic arrays, so a reader that observes a value also observes the key that was written before
+ * it, and a reader re-checks the value after reading the key so that a slot being reused for another key is never
+ * mistaken for a match. As with the {@code ConcurrentHashMap} it replaces, iterators are weakly consistent and never
+ * throw a {@code ConcurrentModificationException}, which allows elements to be removed while the graph is being
+ * iterated.
+ */
+final class TinkerLongElementMap<E> extends AbstractMap<Object, E> {
+
+    private static final Object REMOVED = new Object();
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final double LOAD_FACTOR = 0.6d;
+
+    private volatile Table table = new Table(DEFAULT_CAPACITY);
+    private volatile int size = 0;
+
+    /**
+     * The number of slots in the current table that are either occupied or hold a tombstone.
+     */
+    private int used = 0;
+
+    private Collection<E> values;
+    private Set<Map.Entry<Object, E>> entrySet;
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == this.size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return null != get(key);
+    }
+
+    @Override
+    public E get(final Object key) {
+        if (!(key instanceof Long)) return null;
+        final long id = (Long) key;
+        final Table t = this.table;
+        int i = hash(id) & t.mask;
+        Object value;
+        while (null != (value = t.values.get(i))) {
+            if (value != REMOVED && t.keys.get(i) == id && t.values.get(i) == value)
+                return (E) value;
+            i = (i + 1) & t.mask;
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized E put(final Object key, final E value) {
+        if (!(key instanceof Long))
+            throw new IllegalArgumentException(String.format("Expected an identifier of type Long but received %s", null == key ? null : key.getClass()));
+        if (null == value)
+            throw new IllegalArgumentException("The element to store cannot be null");
+
+        if (this.used + 1 > this.table.threshold)
+            rehash();
+
+        final long id = (Long) key;
+        final Table t = this.table;
+        int i = hash(id) & t.mask;
+        int tombstone = -1;
+        Object existing;
+        while (null != (existing = t.values.get(i))) {
+            if (existing == REMOVED) {
+                if (tombstone < 0) tombstone = i;
+            } else if (t.keys.get(i) == id) {
+                t.values.set(i, value);
+                return (E) existing;
+            }
+            i = (i + 1) & t.mask;
+        }
+
+        if (tombstone >= 0)
+            i = tombstone;
+        else
+            this.used++;
+
+        // write the key before the value as readers treat a non-null value as the signal that the slot is live
+        t.keys.set(i, id);
+        t.values.set(i, value);
+        this.size++;
+        return null;
+    }
+
+    @Override
+    public synchronized E remove(final Object key) {
+        if (!(key instanceof Long)) return null;
+        final long id = (Long) key;
+        final Table t = this.table;
+        int i = hash(id) & t.mask;
+        Object value;
+        while (null != (value = t.values.get(i))) {
+            if (value != REMOVED && t.keys.get(i) == id) {
+                // leave a tombstone rather than shifting entries so that in-flight iterators do not skip elements
+                t.values.set(i, REMOVED);
+                this.size--;
+                return (E) value;
+            }
+            i = (i + 1) & t.mask;
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized void clear() {
+        this.table = new Table(DEFAULT_CAPACITY);
+        this.size = 0;
+        this.used = 0;
+    }
+
+    @Override
+    public Collection<E> values() {
+        if (null == this.values) {
+            this.values = new AbstractCollection<E>() {
+                @Override
+                public Iterator<E> iterator() {
+                    return new ValueIterator();
+                }
+
+                @Override
+                public int size() {
+                    return TinkerLongElementMap.this.size;
+                }
+
+                @Override
+                public void clear() {
+                    TinkerLongElementMap.this.clear();
+                }
+            };
+        }
+        return this.values;
+    }
+
+    @Override
+    public Set<Map.Entry<Object, E>> entrySet() {
+        if (null == this.entrySet) {
+            this.entrySet = new AbstractSet<Map.Entry<Object, E>>() {
+                @Override
+                public Iterator<Map.Entry<Object, E>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return TinkerLongElementMap.this.size;
+                }
+
+                @Override
+                public void clear() {
+                    TinkerLongElementMap.this.clear();
+                }
+            };
+        }
+        return this.entrySet;
+    }
+
+    /**
+     * Rebuilds the table dropping all tombstones. The table only doubles in size if the live elements account for
+     * more than half of the occupied slots, otherwise purging the tombstones frees enough room that interleaved
+     * additions and removals do not trigger a rehash on every write.
+     */
+    private void rehash() {
+        final Table old = this.table;
+        final int capacity = this.size + 1 > old.threshold / 2 ? old.values.length() << 1 : old.values.length();
+
+        // the new table is only visible to readers once it is published through the volatile field
+        final Table t = new Table(capacity);
+        for (int j = 0; j < old.values.length(); j++) {
+            final Object value = old.values.get(j);
+            if (null == value || value == REMOVED) continue;
+            int i = hash(old.keys.get(j)) & t.mask;
+            while (null != t.values.get(i)) {
+                i = (i + 1) & t.mask;
+            }
+            t.keys.lazySet(i, old.keys.get(j));
+            t.values.lazySet(i, value);
+        }
+
+        this.used = this.size;
+        this.table = t;
+    }
+
+    private static int hash(final long id) {
+        final long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static final class Table {
+        private final AtomicLongArray keys;
+        private final AtomicReferenceArray<Object> values;
+        private final int mask;
+        private final int threshold;
+
+        private Table(final int capacity) {
+            this.keys = new AtomicLongArray(capacity);
+            this.values = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+            this.threshold = (int) (capacity * LOAD_FACTOR);
+        }
+    }
+
+    /**
+     * Walks the table that was published at the time the iterator was created. Like the iterators of a
+     * {@code ConcurrentHashMap}, the next element is captured as the iterator advances so that it is always returned
+     * even if it is removed before {@link #next()} is called.
+     */
+    private abstract class TableIterator<T> implements Iterator<T> {
+        private final Table t = TinkerLongElementMap.this.table;
+        private int slot = -1;
+        private long nextKey;
+        private Object nextValue;
+        private long currentKey;
+        private boolean canRemove = false;
+
+        private TableIterator() {
+            advance();
+        }
+
+        private void advance() {
+            this.nextValue = null;
+            while (null == this.nextValue && ++this.slot < this.t.values.length()) {
+                final Object value = this.t.values.get(this.slot);
+                if (null != value && value != REMOVED) {
+                    final long key = this.t.keys.get(this.slot);
+                    // skip a slot that was removed (and possibly reused) while its key was being read
+                    if (this.t.values.get(this.slot) == value) {
+                        this.nextKey = key;
+                        this.nextValue = value;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return null != this.nextValue;
+        }
+
+        protected Map.Entry<Long, E> nextEntry() {
+            if (!hasNext()) throw new NoSuchElementException();
+            final Map.Entry<Long, E> entry = new AbstractMap.SimpleImmutableEntry<>(this.nextKey, (E) this.nextValue);
+            this.currentKey = this.nextKey;
+            this.canRemove = true;
+            advance();
+            return entry;
+        }
+
+        protected E nextValue() {
+            if (!hasNext()) throw new NoSuchElementException();
+            final E value = (E) this.nextValue;
+            this.currentKey = this.nextKey;
+            this.canRemove = true;
+            advance();
+            return value;
+        }
+
+        @Override
+        public void remove() {
+            if (!this.canRemove) throw new IllegalStateException();
+            TinkerLongElementMap.this.remove(this.currentKey);
+            this.canRemove = false;
+        }
+    }
+
+    private final class ValueIterator extends TableIterator<E> {
+        @Override
+        public E next() {
+            return nextValue();
+        }
+    }
+
+    private final class EntryIterator extends TableIterator<Map.Entry<Object, E>> {
+        @Override
+        public Map.Entry<Object, E> next() {
+            return (Map.Entry) nextEntry();
+        }
+    }
+}
@@ -76,11 +76,23 @@ public final class TinkerProperty<V> implements Property<V> {
 
     @Override
     public void remove() {
+        TinkerGraphLog.mutate((TinkerGraph) this.element.graph(), this::removeProperty);
+    }
+
+    private void removeProperty() {
         if (this.element instanceof Edge) {
-            ((TinkerEdge) this.element).properties.remove(this.key);
-            TinkerHelper.removeIndex((TinkerEdge) this.element, this.key, this.value);
+            final TinkerEdge edge = (TinkerEdge) this.element;
+            final TinkerGraph graph = (TinkerGraph) edge.graph();
+            if (edge.slot >= 0 && graph.edgeColumns.isDeclared(this.key))
+                graph.edgeColumns.remove(edge.label, edge.slot, this.key);
+            else if (null != edge.properties)
+                edge.properties.remove(this.key);
+            TinkerHelper.removeIndex(edge, this.key, this.value);
+            if (null != graph.writeAheadLog) graph.writeAheadLog.removeEdgeProperty((TinkerEdge) this.element, this.key);
         } else {
             ((TinkerVertexProperty) this.element).properties.remove(this.key);
+            final TinkerGraphLog writeAheadLog = ((TinkerVertexProperty) this.element).writeAheadLog();
+            if (null != writeAheadLog) writeAheadLog.removeMetaProperty((TinkerVertexProperty) this.element, this.key);
         }
     }
 }
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.structure.Property;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the values of the property keys declared in the {@link TinkerGraph#GREMLIN_TINKERGRAPH_PROPERTY_SCHEMA} for
+ * either the vertices or the edges of a graph. Each label has its own set of columns, one per declared key, where
+ * integral values are held in a {@code long[]} and floating point values in a {@code double[]}. Every element that
+ * has a declared key is assigned a slot in the columns of its label, and the slots of removed elements are reused.
+ * <p/>
+ * Columns for vertices also hold the identifier of each vertex property, which must therefore be numeric.
+ * <p/>
+ * Writes are serialized per label while reads are not synchronized, which matches the guarantees of the property
+ * maps that the columns replace.
+ */
+final class TinkerPropertyColumns {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<String, TinkerGraph.PropertyType> schema;
+    private final boolean withIds;
+    private final Map<String, LabelColumns> labels = new ConcurrentHashMap<>();
+
+    TinkerPropertyColumns(final Map<String, TinkerGraph.PropertyType> schema, final boolean withIds) {
+        this.schema = schema;
+        this.withIds = withIds;
+    }
+
+    boolean isDeclared(final String key) {
+        return this.schema.containsKey(key);
+    }
+
+    TinkerGraph.PropertyType getType(final String key) {
+        return this.schema.get(key);
+    }
+
+    /**
+     * Converts a value to the declared type of the key, as only numbers can be held in a column.
+     */
+    Number coerce(final String key, final Object value) {
+        if (!(value instanceof Number))
+            throw Property.Exceptions.dataTypeOfPropertyValueNotSupported(value);
+        final Number number = (Number) value;
+        switch (this.schema.get(key)) {
+            case INTEGER:
+                return number.intValue();
+            case LONG:
+                return number.longValue();
+            case FLOAT:
+                return number.floatValue();
+            default:
+                return number.doubleValue();
+        }
+    }
+
+    /**
+     * Assigns a slot to an element of the label that does not yet have one.
+     */
+    int allocate(final String label) {
+        return this.labels.computeIfAbsent(label, l -> new LabelColumns()).allocate();
+    }
+
+    /**
+     * Clears every column of the slot so that it may be assigned to another element.
+     */
+    void release(final String label, final int slot) {
+        final LabelColumns columns = this.labels.get(label);
+        if (null != columns) columns.release(slot);
+    }
+
+    boolean contains(final String label, final int slot, final String key) {
+        final Column column = column(label, key);
+        return null != column && column.contains(slot);
+    }
+
+    /**
+     * Gets the value of the key as its declared type or {@code null} if the element has no value for it.
+     */
+    Number get(final String label, final int slot, final String key) {
+        final Column column = column(label, key);
+        if (null == column || !column.contains(slot)) return null;
+        switch (column.type) {
+            case INTEGER:
+                return (int) column.longs[slot];
+            case LONG:
+                return column.longs[slot];
+            case FLOAT:
+                return (float) column.doubles[slot];
+            default:
+                return column.doubles[slot];
+        }
+    }
+
+    /**
+     * Gets the value of an integral key without boxing it. The slot must hold a value for the key.
+     */
+    long getLong(final String label, final int slot, final String key) {
+        return column(label, key).longs[slot];
+    }
+
+    /**
+     * Gets the value of a floating point key without boxing it. The slot must hold a value for the key.
+     */
+    double getDouble(final String label, final int slot, final String key) {
+        return column(label, key).doubles[slot];
+    }
+
+    /**
+     * Gets the identifier of the vertex property held for the key. The slot must hold a value for the key.
+     */
+    long getId(final String label, final int slot, final String key) {
+        return column(label, key).ids[slot];
+    }
+
+    /**
+     * Sets the value of the key, which must already be coerced to its declared type.
+     */
+    void set(final String label, final int slot, final String key, final Number value, final long id) {
+        final LabelColumns columns = this.labels.get(label);
+        synchronized (columns) {
+            final Column column = columns.columns.computeIfAbsent(key, k -> new Column(this.schema.get(k), columns.capacity, this.withIds));
+            if (column.type.isFloatingPoint())
+                column.doubles[slot] = value.doubleValue();
+            else
+                column.longs[slot] = value.longValue();
+            if (this.withIds) column.ids[slot] = id;
+            column.present[slot >>> 6] |= 1L << slot;
+        }
+    }
+
+    /**
+     * Removes the value of the key and returns {@code true} if there was one.
+     */
+    boolean remove(final String label, final int slot, final String key) {
+        final LabelColumns columns = this.labels.get(label);
+        if (null == columns) return false;
+        synchronized (columns) {
+            final Column column = columns.columns.get(key);
+            if (null == column || !column.contains(slot)) return false;
+            column.present[slot >>> 6] &= ~(1L << slot);
+            return true;
+        }
+    }
+
+    /**
+     * Gets the declared keys that the element has a value for.
+     */
+    List<String> keys(final String label, final int slot) {
+        final LabelColumns columns = this.labels.get(label);
+        if (null == columns) return Collections.emptyList();
+        final List<String> keys = new ArrayList<>(columns.columns.size());
+        columns.columns.forEach((key, column) -> {
+            if (column.contains(slot)) keys.add(key);
+        });
+        return keys;
+    }
+
+    void clear() {
+        this.labels.clear();
+    }
+
+    private Column column(final String label, final String key) {
+        final LabelColumns columns = this.labels.get(label);
+        return null == columns ? null : columns.columns.get(key);
+    }
+
+    private static final class LabelColumns {
+        private final Map<String, Column> columns = new ConcurrentHashMap<>();
+        private int capacity = DEFAULT_CAPACITY;
+        private int next = 0;
+        private int[] free = new int[0];
+        private int freeCount = 0;
+
+        private synchronized int allocate() {
+            if (this.freeCount > 0)
+                return this.free[--this.freeCount];
+            if (this.next == this.capacity) {
+                this.capacity = this.capacity * 2;
+                this.columns.values().forEach(column -> column.grow(this.capacity));
+            }
+            return this.next++;
+        }
+
+        private synchronized void release(final int slot) {
+            this.columns.values().forEach(column -> column.present[slot >>> 6] &= ~(1L << slot));
+            if (this.freeCount == this.free.length)
+                this.free = Arrays.copyOf(this.free, Math.max(DEFAULT_CAPACITY, this.freeCount * 2));
+            this.free[this.freeCount++] = slot;
+        }
+    }
+
+    private static final class Column {
+        private final TinkerGraph.PropertyType type;
+        private volatile long[] longs;
+        private volatile double[] doubles;
+        private volatile long[] ids;
+        private volatile long[] present;
+
+        private Column(final TinkerGraph.PropertyType type, final int capacity, final boolean withIds) {
+            this.type = type;
+            if (type.isFloatingPoint())
+                this.doubles = new double[capacity];
+            else
+                this.longs = new long[capacity];
+            if (withIds) this.ids = new long[capacity];
+            this.present = new long[(capacity + 63) >>> 6];
+        }
+
+        private boolean contains(final int slot) {
+            final long[] present = this.present;
+            return (slot >>> 6) < present.length && 0 != (present[slot >>> 6] & (1L << slot));
+        }
+
+        private void grow(final int capacity) {
+            if (null != this.longs) this.longs = Arrays.copyOf(this.longs, capacity);
+            if (null != this.doubles) this.doubles = Arrays.copyOf(this.doubles, capacity);
+            if (null != this.ids) this.ids = Arrays.copyOf(this.ids, capacity);
+            this.present = Arrays.copyOf(this.present, (capacity + 63) >>> 6);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A map from property keys or labels to the values held for them by a single element. Keys are stored as symbols
+ * of the graph's {@link TinkerSymbolTable} in an {@code int[]} with the values in a parallel array, so an element
+ * carries no hash table or entry objects. Elements tend to have few keys, so lookups scan the symbols linearly.
+ * <p/>
+ * As with the {@code HashMap} it replaces, the map is not safe for concurrent modification.
+ */
+final class TinkerSymbolMap<V> extends AbstractMap<String, V> {
+
+    private static final int[] EMPTY_SYMBOLS = new int[0];
+    private static final Object[] EMPTY_VALUES = new Object[0];
+
+    private final TinkerSymbolTable symbolTable;
+    private int[] symbols = EMPTY_SYMBOLS;
+    private Object[] values = EMPTY_VALUES;
+    private int size = 0;
+
+    TinkerSymbolMap(final TinkerSymbolTable symbolTable) {
+        this.symbolTable = symbolTable;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == this.size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public V get(final Object key) {
+        final int i = indexOf(key);
+        return i < 0 ? null : (V) this.values[i];
+    }
+
+    @Override
+    public V getOrDefault(final Object key, final V defaultValue) {
+        final int i = indexOf(key);
+        return i < 0 ? defaultValue : (V) this.values[i];
+    }
+
+    @Override
+    public V put(final String key, final V value) {
+        final int symbol = this.symbolTable.symbol(key);
+        for (int i = 0; i < this.size; i++) {
+            if (this.symbols[i] == symbol) {
+                final V old = (V) this.values[i];
+                this.values[i] = value;
+                return old;
+            }
+        }
+
+        if (this.size == this.symbols.length) {
+            final int capacity = 0 == this.size ? 1 : this.size * 2;
+            this.symbols = Arrays.copyOf(this.symbols, capacity);
+            this.values = Arrays.copyOf(this.values, capacity);
+        }
+        this.symbols[this.size] = symbol;
+        this.values[this.size] = value;
+        this.size++;
+        return null;
+    }
+
+    @Override
+    public V remove(final Object key) {
+        final int i = indexOf(key);
+        if (i < 0) return null;
+        final V old = (V) this.values[i];
+        removeAt(i);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        this.symbols = EMPTY_SYMBOLS;
+        this.values = EMPTY_VALUES;
+        this.size = 0;
+    }
+
+    @Override
+    public Set<Map.Entry<String, V>> entrySet() {
+        return new AbstractSet<Map.Entry<String, V>>() {
+            @Override
+            public int size() {
+                return TinkerSymbolMap.this.size;
+            }
+
+            @Override
+            public Iterator<Map.Entry<String, V>> iterator() {
+                return new EntryIterator();
+            }
+        };
+    }
+
+    private int indexOf(final Object key) {
+        if (!(key instanceof String)) return -1;
+        final int symbol = this.symbolTable.lookup((String) key);
+        if (symbol < 0) return -1;
+        for (int i = 0; i < this.size; i++) {
+            if (this.symbols[i] == symbol) return i;
+        }
+        return -1;
+    }
+
+    private void removeAt(final int i) {
+        final int last = --this.size;
+        this.symbols[i] = this.symbols[last];
+        this.values[i] = this.values[last];
+        this.values[last] = null;
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, V>> {
+        private int next = 0;
+        private int current = -1;
+        private int expectedSize = size;
+
+        @Override
+        public boolean hasNext() {
+            return this.next < size;
+        }
+
+        @Override
+        public Map.Entry<String, V> next() {
+            if (this.expectedSize != size) throw new ConcurrentModificationException();
+            if (this.next >= size) throw new NoSuchElementException();
+            this.current = this.next++;
+            return new Entry(this.current);
+        }
+
+        @Override
+        public void remove() {
+            if (this.current < 0) throw new IllegalStateException();
+            if (this.expectedSize != size) throw new ConcurrentModificationException();
+
+            // the last entry is moved into the removed slot so it is visited next
+            removeAt(this.current);
+            this.next = this.current;
+            this.current = -1;
+            this.expectedSize = size;
+        }
+    }
+
+    private final class Entry extends AbstractMap.SimpleEntry<String, V> {
+        private final int index;
+
+        private Entry(final int index) {
+            super(symbolTable.string(symbols[index]), (V) values[index]);
+            this.index = index;
+        }
+
+        @Override
+        public V setValue(final V value) {
+            values[this.index] = value;
+            return super.setValue(value);
+        }
+    }
+}
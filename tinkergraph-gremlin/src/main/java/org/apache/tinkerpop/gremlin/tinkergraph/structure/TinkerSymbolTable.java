@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A graph-wide table that assigns each distinct label and property key a small {@code int} symbol. Elements refer
+ * to the single interned {@code String} of each symbol and key their property maps by symbol, so the same key is
+ * held once per graph rather than once per element.
+ * <p/>
+ * Symbols are never released. Lookups are lock-free while new symbols are assigned under the table's lock.
+ */
+final class TinkerSymbolTable {
+
+    private final Map<String, Integer> symbols = new ConcurrentHashMap<>();
+    private volatile String[] strings = new String[16];
+    private int size = 0;
+
+    /**
+     * Gets the symbol of the string, assigning a new one if the string has not been seen before.
+     */
+    int symbol(final String string) {
+        final Integer symbol = this.symbols.get(string);
+        return null == symbol ? assign(string) : symbol;
+    }
+
+    /**
+     * Gets the symbol of the string or {@code -1} if the string has not been seen before.
+     */
+    int lookup(final String string) {
+        final Integer symbol = this.symbols.get(string);
+        return null == symbol ? -1 : symbol;
+    }
+
+    /**
+     * Gets the string of a symbol that was assigned by this table.
+     */
+    String string(final int symbol) {
+        return this.strings[symbol];
+    }
+
+    /**
+     * Gets the instance of the string that is shared by every element of the graph.
+     */
+    String intern(final String string) {
+        return string(symbol(string));
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    private synchronized int assign(final String string) {
+        final Integer existing = this.symbols.get(string);
+        if (null != existing) return existing;
+
+        // the string is published before the symbol so that anyone who can see the symbol can resolve it
+        if (this.size == this.strings.length)
+            this.strings = Arrays.copyOf(this.strings, this.size * 2);
+        this.strings[this.size] = string;
+        this.symbols.put(string, this.size);
+        return this.size++;
+    }
+}
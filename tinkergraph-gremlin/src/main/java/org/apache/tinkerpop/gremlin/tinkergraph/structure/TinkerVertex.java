@@ -29,7 +29,7 @@ import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -45,10 +45,20 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
     protected Map<String, List<VertexProperty>> properties;
     protected Map<String, Set<Edge>> outEdges;
     protected Map<String, Set<Edge>> inEdges;
+
+    /**
+     * The position of the vertex in the {@link TinkerCompactAdjacency} of a frozen graph.
+     */
+    protected int ordinal = -1;
+
+    /**
+     * The slot of the vertex in the {@link TinkerPropertyColumns} of its label or {@code -1} if it has none.
+     */
+    protected int slot = -1;
     private final TinkerGraph graph;
 
     protected TinkerVertex(final Object id, final String label, final TinkerGraph graph) {
-        super(id, label);
+        super(id, graph.symbolTable.intern(label));
         this.graph = graph;
     }
 
@@ -68,6 +78,8 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
                 return list.get(0);
             else
                 throw Vertex.Exceptions.multiplePropertiesExistForProvidedKey(key);
+        } else if (isDeclared(key)) {
+            return columnProperty(key);
         } else {
             if (this.properties != null && this.properties.containsKey(key)) {
                 final List<VertexProperty> list = (List) this.properties.get(key);
@@ -82,16 +94,38 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
 
     @Override
     public <V> VertexProperty<V> property(final VertexProperty.Cardinality cardinality, final String key, final V value, final Object... keyValues) {
+        return TinkerGraphLog.mutate(this.graph, () -> this.addProperty(cardinality, key, value, keyValues));
+    }
+
+    private <V> VertexProperty<V> addProperty(final VertexProperty.Cardinality cardinality, final String key, final V value, final Object... keyValues) {
         if (this.removed) throw elementAlreadyRemoved(Vertex.class, id);
         ElementHelper.legalPropertyKeyValueArray(keyValues);
         ElementHelper.validateProperty(key, value);
+        if (TinkerHelper.inComputerMode(this.graph))
+            return this.graph.graphComputerView.setProperty(this, cardinality, key, value, keyValues);
         final Optional<Object> optionalId = ElementHelper.getIdValue(keyValues);
+        final boolean declared = isDeclared(key);
+        if (declared && keyValues.length > (optionalId.isPresent() ? 2 : 0))
+            throw VertexProperty.Exceptions.metaPropertiesNotSupported();
+        final Number number = declared ? this.graph.vertexColumns.coerce(key, value) : null;
         final Optional<VertexProperty<V>> optionalVertexProperty = ElementHelper.stageVertexProperty(this, cardinality, key, value, keyValues);
         if (optionalVertexProperty.isPresent()) return optionalVertexProperty.get();
 
-        if (TinkerHelper.inComputerMode(this.graph)) {
-            final VertexProperty<V> vertexProperty = (VertexProperty<V>) this.graph.graphComputerView.addProperty(this, key, value);
-            ElementHelper.attachProperties(vertexProperty, keyValues);
+        if (declared) {
+            // a declared key holds a single value, so another value is only accepted as a replacement
+            if (cardinality != VertexProperty.Cardinality.single && this.property(key).isPresent())
+                throw VertexProperty.Exceptions.multiPropertiesNotSupported();
+            final Object idValue = optionalId.isPresent() ?
+                    graph.vertexPropertyIdManager.convert(optionalId.get()) :
+                    graph.vertexPropertyIdManager.getNextId(graph);
+            if (!(idValue instanceof Number))
+                throw VertexProperty.Exceptions.userSuppliedIdsOfThisTypeNotSupported();
+
+            this.properties(key).forEachRemaining(VertexProperty::remove);
+            setColumnValue(key, number, ((Number) idValue).longValue());
+            final TinkerVertexProperty<V> vertexProperty = new TinkerColumnVertexProperty<>(idValue, this, key, (V) number);
+            TinkerHelper.autoUpdateIndex(this, key, number, null);
+            if (null != this.graph.writeAheadLog) this.graph.writeAheadLog.addVertexProperty(vertexProperty);
             return vertexProperty;
         } else {
             final Object idValue = optionalId.isPresent() ?
@@ -100,11 +134,16 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
 
             final VertexProperty<V> vertexProperty = new TinkerVertexProperty<V>(idValue, this, key, value);
 
-            if (null == this.properties) this.properties = new HashMap<>();
-            final List<VertexProperty> list = this.properties.getOrDefault(key, new ArrayList<>());
+            if (null == this.properties) this.properties = new TinkerSymbolMap<>(this.graph.symbolTable);
+            List<VertexProperty> list = this.properties.get(key);
+            if (null == list) {
+                // most keys hold a single value so the list is sized for one
+                list = new ArrayList<>(1);
+                this.properties.put(key, list);
+            }
             list.add(vertexProperty);
-            this.properties.put(key, list);
             TinkerHelper.autoUpdateIndex(this, key, value, null);
+            if (null != this.graph.writeAheadLog) this.graph.writeAheadLog.addVertexProperty((TinkerVertexProperty) vertexProperty);
             ElementHelper.attachProperties(vertexProperty, keyValues);
             return vertexProperty;
         }
@@ -112,6 +151,11 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
 
     @Override
     public Set<String> keys() {
+        if (this.slot >= 0 && !TinkerHelper.inComputerMode(this.graph)) {
+            final Set<String> keys = new HashSet<>(this.graph.vertexColumns.keys(this.label, this.slot));
+            if (null != this.properties) keys.addAll(this.properties.keySet());
+            return keys;
+        }
         if (null == this.properties) return Collections.emptySet();
         return TinkerHelper.inComputerMode((TinkerGraph) graph()) ?
                 Vertex.super.keys() :
@@ -127,13 +171,23 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
 
     @Override
     public void remove() {
+        TinkerGraphLog.mutate(this.graph, this::removeVertex);
+    }
+
+    private void removeVertex() {
+        if (this.graph.isFrozen()) throw TinkerCompactAdjacency.graphIsFrozen();
         final List<Edge> edges = new ArrayList<>();
         this.edges(Direction.BOTH).forEachRemaining(edges::add);
         edges.stream().filter(edge -> !((TinkerEdge) edge).removed).forEach(Edge::remove);
         this.properties = null;
+        if (this.slot >= 0) {
+            this.graph.vertexColumns.release(this.label, this.slot);
+            this.slot = -1;
+        }
         TinkerHelper.removeElementIndex(this);
         this.graph.vertices.remove(this.id);
         this.removed = true;
+        if (null != this.graph.writeAheadLog) this.graph.writeAheadLog.removeVertex(this);
     }
 
     @Override
@@ -165,7 +219,12 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
         if (this.removed) return Collections.emptyIterator();
         if (TinkerHelper.inComputerMode((TinkerGraph) graph()))
             return (Iterator) ((TinkerGraph) graph()).graphComputerView.getProperties(TinkerVertex.this).stream().filter(p -> ElementHelper.keyExists(p.key(), propertyKeys)).iterator();
-        else {
+        else if (this.slot >= 0) {
+            final List<VertexProperty> properties = columnProperties(propertyKeys);
+            if (null != this.properties)
+                this.properties.entrySet().stream().filter(entry -> ElementHelper.keyExists(entry.getKey(), propertyKeys)).forEach(entry -> properties.addAll(entry.getValue()));
+            return (Iterator) properties.iterator();
+        } else {
             if (null == this.properties) return Collections.emptyIterator();
             if (propertyKeys.length == 1) {
                 final List<VertexProperty> properties = this.properties.getOrDefault(propertyKeys[0], Collections.emptyList());
@@ -180,4 +239,39 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
                 return (Iterator) this.properties.entrySet().stream().filter(entry -> ElementHelper.keyExists(entry.getKey(), propertyKeys)).flatMap(entry -> entry.getValue().stream()).collect(Collectors.toList()).iterator();
         }
     }
+
+    private boolean isDeclared(final String key) {
+        return null != this.graph.vertexColumns && this.graph.vertexColumns.isDeclared(key);
+    }
+
+    /**
+     * Sets the value of a key declared in the property schema without updating indices or the write-ahead log.
+     */
+    void setColumnValue(final String key, final Number value, final long id) {
+        if (this.slot < 0) this.slot = this.graph.vertexColumns.allocate(this.label);
+        this.graph.vertexColumns.set(this.label, this.slot, key, value, id);
+    }
+
+    /**
+     * Gets the vertex properties of the keys declared in the property schema that this vertex has a value for.
+     */
+    List<VertexProperty> columnProperties(final String... propertyKeys) {
+        final List<VertexProperty> properties = new ArrayList<>();
+        if (this.slot >= 0) {
+            for (final String key : this.graph.vertexColumns.keys(this.label, this.slot)) {
+                if (ElementHelper.keyExists(key, propertyKeys)) {
+                    final VertexProperty<?> property = columnProperty(key);
+                    if (property.isPresent()) properties.add(property);
+                }
+            }
+        }
+        return properties;
+    }
+
+    private <V> VertexProperty<V> columnProperty(final String key) {
+        final Number value = this.slot < 0 ? null : this.graph.vertexColumns.get(this.label, this.slot, key);
+        if (null == value) return VertexProperty.empty();
+        final Object id = this.graph.vertexPropertyIdManager.convert(this.graph.vertexColumns.getId(this.label, this.slot, key));
+        return new TinkerColumnVertexProperty<>(id, this, key, (V) value);
+    }
 }
@@ -29,8 +29,8 @@ import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComp
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -52,9 +52,10 @@ public class TinkerVertexProperty<V> extends TinkerElement implements VertexProp
      * with {@link TinkerGraphComputerView}.
      */
     public TinkerVertexProperty(final TinkerVertex vertex, final String key, final V value, final Object... propertyKeyValues) {
-        super(((TinkerGraph) vertex.graph()).vertexPropertyIdManager.getNextId((TinkerGraph) vertex.graph()), key);
+        super(((TinkerGraph) vertex.graph()).vertexPropertyIdManager.getNextId((TinkerGraph) vertex.graph()),
+                ((TinkerGraph) vertex.graph()).symbolTable.intern(key));
         this.vertex = vertex;
-        this.key = key;
+        this.key = this.label;
         this.value = value;
         ElementHelper.legalPropertyKeyValueArray(propertyKeyValues);
         ElementHelper.attachProperties(this, propertyKeyValues);
@@ -65,9 +66,9 @@ public class TinkerVertexProperty<V> extends TinkerElement implements VertexProp
      * can be explicitly set and validated against the expected data type.
      */
     public TinkerVertexProperty(final Object id, final TinkerVertex vertex, final String key, final V value, final Object... propertyKeyValues) {
-        super(id, key);
+        super(id, ((TinkerGraph) vertex.graph()).symbolTable.intern(key));
         this.vertex = vertex;
-        this.key = key;
+        this.key = this.label;
         this.value = value;
         ElementHelper.legalPropertyKeyValueArray(propertyKeyValues);
         ElementHelper.attachProperties(this, propertyKeyValues);
@@ -116,10 +117,17 @@ public class TinkerVertexProperty<V> extends TinkerElement implements VertexProp
 
     @Override
     public <U> Property<U> property(final String key, final U value) {
+        return TinkerGraphLog.mutate((TinkerGraph) this.vertex.graph(), () -> this.setProperty(key, value));
+    }
+
+    private <U> Property<U> setProperty(final String key, final U value) {
         if (this.removed) throw elementAlreadyRemoved(VertexProperty.class, id);
-        final Property<U> property = new TinkerProperty<>(this, key, value);
-        if (this.properties == null) this.properties = new HashMap<>();
+        final TinkerSymbolTable symbolTable = ((TinkerGraph) this.vertex.graph()).symbolTable;
+        final Property<U> property = new TinkerProperty<>(this, symbolTable.intern(key), value);
+        if (this.properties == null) this.properties = new TinkerSymbolMap<>(symbolTable);
         this.properties.put(key, property);
+        final TinkerGraphLog writeAheadLog = writeAheadLog();
+        if (null != writeAheadLog) writeAheadLog.addMetaProperty(this, key, value);
         return property;
     }
 
@@ -128,8 +136,24 @@ public class TinkerVertexProperty<V> extends TinkerElement implements VertexProp
         return this.vertex;
     }
 
+    /**
+     * Gets the write-ahead log of the graph if it has one and this vertex property belongs to the graph, as opposed
+     * to a view of the graph that is being computed on or a vertex property that is not yet attached to its vertex.
+     */
+    TinkerGraphLog writeAheadLog() {
+        final TinkerGraph graph = (TinkerGraph) this.vertex.graph();
+        if (null == graph.writeAheadLog || TinkerHelper.inComputerMode(graph) || null == this.vertex.properties)
+            return null;
+        final List<VertexProperty> vertexProperties = this.vertex.properties.get(this.key);
+        return null != vertexProperties && vertexProperties.contains(this) ? graph.writeAheadLog : null;
+    }
+
     @Override
     public void remove() {
+        TinkerGraphLog.mutate((TinkerGraph) this.vertex.graph(), this::removeVertexProperty);
+    }
+
+    private void removeVertexProperty() {
         if (null != this.vertex.properties && this.vertex.properties.containsKey(this.key)) {
             this.vertex.properties.get(this.key).remove(this);
             if (this.vertex.properties.get(this.key).size() == 0) {
@@ -142,6 +166,9 @@ public class TinkerVertexProperty<V> extends TinkerElement implements VertexProp
                     delete.set(false);
             });
             if (delete.get()) TinkerHelper.removeIndex(this.vertex, this.key, this.value);
+            final TinkerGraph graph = (TinkerGraph) this.vertex.graph();
+            if (null != graph.writeAheadLog && !TinkerHelper.inComputerMode(graph))
+                graph.writeAheadLog.removeVertexProperty(this);
             this.properties = null;
             this.removed = true;
         }
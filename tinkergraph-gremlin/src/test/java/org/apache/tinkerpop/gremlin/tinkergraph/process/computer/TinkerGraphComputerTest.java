@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.clustering.connected.ConnectedComponentVertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.clustering.peerpressure.PeerPressureVertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TinkerGraphComputerTest {
+
+    @Test
+    public void shouldExecuteVertexProgramsAsynchronously() throws Exception {
+        // two components whose vertices only ever join a cluster of their own component
+        final TinkerGraph components = createChains(2, 10);
+        final Graph result = components.compute().configure(TinkerGraphComputer.ASYNCHRONOUS, true)
+                .program(PeerPressureVertexProgram.build().create(components)).submit().get().graph();
+        result.vertices().forEachRemaining(vertex -> {
+            final int cluster = ((Number) vertex.value(PeerPressureVertexProgram.CLUSTER)).intValue();
+            assertEquals((int) vertex.id() / 10, cluster / 10);
+        });
+    }
+
+    @Test
+    public void shouldComputeSamePageRankAsynchronously() throws Exception {
+        final TinkerGraph graph = TinkerGraph.open();
+        final List<Vertex> vertices = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            vertices.add(graph.addVertex(T.id, i));
+        }
+        for (int i = 0; i < 200; i++) {
+            vertices.get(i).addEdge("link", vertices.get((i + 1) % 200));
+            vertices.get(i).addEdge("link", vertices.get((i * i + 3) % 200));
+        }
+        final VertexProgram<?> pageRank = PageRankVertexProgram.build().iterations(60).create(graph);
+        assertTrue(pageRank.getFeatures().supportsAsynchronousExecution());
+        final Map<Object, Double> sync = values(graph.compute().program(pageRank).submit().get(), PageRankVertexProgram.PAGE_RANK);
+        final Map<Object, Double> async = values(graph.compute().configure(TinkerGraphComputer.ASYNCHRONOUS, true).program(pageRank).submit().get(), PageRankVertexProgram.PAGE_RANK);
+        assertEquals(200, async.size());
+        sync.forEach((id, rank) -> assertEquals(rank, async.get(id), 0.000001d));
+    }
+
+    @Test
+    public void shouldComputeSamePeerPressureClustersAsynchronously() throws Exception {
+        for (final boolean distributeVote : new boolean[]{false, true}) {
+            final TinkerGraph graph = TinkerFactory.createModern();
+            final VertexProgram<?> peerPressure = PeerPressureVertexProgram.build().distributeVote(distributeVote).create(graph);
+            assertTrue(peerPressure.getFeatures().supportsAsynchronousExecution());
+            final Map<Object, Object> sync = values(graph.compute().program(peerPressure).submit().get(), PeerPressureVertexProgram.CLUSTER);
+            final Map<Object, Object> async = values(graph.compute().configure(TinkerGraphComputer.ASYNCHRONOUS, true).program(peerPressure).submit().get(), PeerPressureVertexProgram.CLUSTER);
+            assertEquals(sync, async);
+        }
+    }
+
+    @Test
+    public void shouldComputeSameConnectedComponentsAsynchronously() throws Exception {
+        final TinkerGraph graph = createChains(4, 25);
+        final List<Vertex> vertices = IteratorUtils.list(graph.vertices());
+        vertices.sort(Comparator.comparing(vertex -> (Integer) vertex.id()));
+        // the chains are joined in reverse so that the smallest component has to travel the whole joined chain
+        vertices.get(99).addEdge("link", vertices.get(50));
+        vertices.get(24).addEdge("link", vertices.get(75));
+        final VertexProgram<?> components = ConnectedComponentVertexProgram.build().create(graph);
+        assertTrue(components.getFeatures().supportsAsynchronousExecution());
+        final ComputerResult sync = graph.compute().program(components).submit().get();
+        final ComputerResult async = graph.compute().configure(TinkerGraphComputer.ASYNCHRONOUS, true).program(components).submit().get();
+        final Map<Object, String> syncComponents = values(sync, ConnectedComponentVertexProgram.COMPONENT);
+        assertEquals(syncComponents, values(async, ConnectedComponentVertexProgram.COMPONENT));
+        assertEquals(2, new HashSet<>(syncComponents.values()).size());
+        assertTrue(async.memory().getIteration() <= sync.memory().getIteration());
+    }
+
+    @Test
+    public void shouldExecuteProgramsThatDoNotSupportAsynchronousExecutionSynchronously() throws Exception {
+        final TinkerGraph graph = createChains(2, 10);
+        final VertexProgram<?> pageRank = PageRankVertexProgram.build().epsilon(0.0001d).create(graph);
+        assertFalse(pageRank.getFeatures().supportsAsynchronousExecution());
+        final ComputerResult sync = graph.compute().program(pageRank).submit().get();
+        final ComputerResult async = graph.compute().configure(TinkerGraphComputer.ASYNCHRONOUS, true).program(pageRank).submit().get();
+        assertEquals(sync.memory().getIteration(), async.memory().getIteration());
+        assertEquals(values(sync, PageRankVertexProgram.PAGE_RANK), values(async, PageRankVertexProgram.PAGE_RANK));
+    }
+
+    @Test
+    public void shouldExecuteEveryVertexOnceWhenWorkersStealChunks() throws Exception {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex hub = graph.addVertex();
+        for (int i = 0; i < 1000; i++) {
+            final Vertex v = graph.addVertex();
+            v.addEdge("knows", hub);
+            if (i % 10 == 0) v.addEdge("knows", graph.addVertex());
+        }
+
+        final VertexProgram program = PageRankVertexProgram.build().create(graph);
+        final TinkerMemory memory = new TinkerMemory(program, Collections.emptySet());
+        final TinkerWorkerPool workers = new TinkerWorkerPool(graph, new TinkerGraphComputerView(graph, new GraphFilter(), Collections.emptySet()), memory, 4);
+        try {
+            assertTrue(workers.getNumberOfChunks() > 4);
+            workers.setVertexProgram(program);
+            final Map<Object, Integer> executions = new ConcurrentHashMap<>();
+            for (int i = 0; i < 3; i++) {
+                workers.executeVertexProgram((vertices, vertexProgram, workerMemory) ->
+                        vertices.forEachRemaining(v -> executions.merge(v.id(), 1, Integer::sum)));
+            }
+            assertEquals(1101, executions.size());
+            assertTrue(executions.values().stream().allMatch(count -> count == 3));
+            assertEquals(4, memory.getWorkerBusyTimes().length);
+            assertEquals(4, memory.getWorkerIdleTimes().length);
+            assertTrue(Arrays.stream(memory.getWorkerBusyTimes()).allMatch(time -> time > 0));
+        } finally {
+            workers.close();
+        }
+
+        final ComputerResult result = graph.compute().configure(TinkerGraphComputer.WORKER_TIMES, true).program(program).submit().get();
+        final List<Long> busyTimes = result.memory().get(TinkerGraphComputer.WORKER_BUSY_TIMES);
+        final List<Long> idleTimes = result.memory().get(TinkerGraphComputer.WORKER_IDLE_TIMES);
+        assertEquals(busyTimes.size(), idleTimes.size());
+        assertTrue(busyTimes.stream().anyMatch(time -> time > 0));
+        assertTrue(idleTimes.stream().allMatch(time -> time >= 0));
+        assertFalse(graph.compute().program(program).submit().get().memory().exists(TinkerGraphComputer.WORKER_BUSY_TIMES));
+    }
+
+    @Test
+    public void shouldExecuteOnlyTheFrontierOfFrontierDrivenPrograms() throws Exception {
+        final TinkerGraph graph = TinkerGraph.open();
+        Vertex previous = graph.addVertex("name", 0);
+        for (int i = 1; i < 500; i++) {
+            final Vertex v = graph.addVertex("name", i);
+            previous.addEdge("next", v);
+            previous = v;
+        }
+
+        final VertexProgram program = PageRankVertexProgram.build().create(graph);
+        final TinkerMemory memory = new TinkerMemory(program, Collections.emptySet());
+        final TinkerGraphComputerView view = new TinkerGraphComputerView(graph, new GraphFilter(), Collections.emptySet());
+        final TinkerWorkerPool workers = new TinkerWorkerPool(graph, view, memory, 4);
+        try {
+            workers.setVertexProgram(program);
+            final int[] frontier = {0, 7, 8, 100, 499};
+            final Map<Object, Integer> executions = new ConcurrentHashMap<>();
+            workers.executeVertexProgram((vertices, vertexProgram, workerMemory) ->
+                    vertices.forEachRemaining(v -> executions.merge(view.ordinal(v), 1, Integer::sum)), frontier);
+            assertEquals(5, executions.size());
+            assertTrue(Arrays.stream(frontier).allMatch(ordinal -> executions.get(ordinal) == 1));
+            executions.clear();
+            workers.executeVertexProgram((vertices, vertexProgram, workerMemory) ->
+                    vertices.forEachRemaining(v -> executions.merge(v.id(), 1, Integer::sum)), new int[0]);
+            assertTrue(executions.isEmpty());
+        } finally {
+            workers.close();
+        }
+
+        // traversers walk the path one vertex per iteration and pass through a local barrier held at a vertex
+        final GraphTraversalSource g = graph.traversal().withComputer();
+        assertEquals(499, g.V().has("name", 0).repeat(__.out()).times(499).values("name").next());
+        assertEquals(6, g.V().has("name", 0).repeat(__.out()).times(5).aggregate("x").out().values("name").next());
+        assertEquals(5, g.V().has("name", P.lt(5)).out().order().by("name", Order.decr).values("name").next());
+    }
+
+    @Test
+    public void shouldIndexTheMessagesByTheOrdinalsOfTheView() throws Exception {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final Vertex marko = graph.vertices(1).next();
+        final Vertex josh = graph.vertices(4).next();
+        final TinkerGraphComputerView view = new TinkerGraphComputerView(graph, new GraphFilter(), Collections.emptySet());
+        final TinkerWorkerPool workers = new TinkerWorkerPool(graph, view, new TinkerMemory(null, Collections.emptySet()), 1);
+        try {
+            final TinkerMessageBoard<String> messageBoard = new TinkerMessageBoard<>(view, workers.getNumberOfVertices(), false);
+            final Set<Integer> ordinals = new HashSet<>();
+            graph.vertices().forEachRemaining(vertex -> ordinals.add(messageBoard.ordinal(vertex)));
+            assertEquals(new HashSet<>(Arrays.asList(0, 1, 2, 3, 4, 5)), ordinals);
+            // a vertex that is not the one of the graph is resolved by its identifier
+            assertEquals(messageBoard.ordinal(josh), messageBoard.ordinal(DetachedFactory.detach(josh, false)));
+            // the ordinals belong to the view of a computation rather than to the vertices of the graph
+            assertEquals(-1, new TinkerGraphComputerView(graph, new GraphFilter(), Collections.emptySet()).ordinal(josh));
+
+            final MessageScope.Global global = MessageScope.Global.of(josh);
+            messageBoard.sendMessage(global, messageBoard.ordinal(josh), "a", null);
+            messageBoard.sendMessage(global, messageBoard.ordinal(josh), "b", null);
+            messageBoard.sendMessage(global, messageBoard.ordinal(marko), "c", null);
+            messageBoard.sendMessage(global, -1, "d", null);
+            assertTrue(messageBoard.receiveMessages(josh, messageBoard.ordinal(josh)).isEmpty());
+            messageBoard.completeIteration();
+            assertEquals(Arrays.asList("a", "b"), messageBoard.receiveMessages(josh, messageBoard.ordinal(josh)));
+            assertEquals(Collections.singletonList("c"), messageBoard.receiveMessages(marko, messageBoard.ordinal(marko)));
+
+            // a local message is held by its sender and read by the vertices at the other end of the incident edges
+            messageBoard.sendMessage(MessageScope.Local.of(__::outE), messageBoard.ordinal(marko), "e", null);
+            messageBoard.completeIteration();
+            assertEquals(Collections.singletonList("e"), messageBoard.receiveMessages(josh, messageBoard.ordinal(josh)));
+            assertTrue(messageBoard.receiveMessages(marko, messageBoard.ordinal(marko)).isEmpty());
+        } finally {
+            workers.close();
+        }
+    }
+
+    @Test
+    public void shouldListEachVertexOfTheFrontierOnceInOrder() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final TinkerMessageBoard<Object> messageBoard = new TinkerMessageBoard<>(new TinkerGraphComputerView(graph, new GraphFilter(), Collections.emptySet()), 10, false);
+        messageBoard.activate(1);
+        messageBoard.completeIteration();
+        assertNull(messageBoard.getFrontier());
+        messageBoard.trackFrontier();
+        for (final int ordinal : new int[]{7, 3, 7, -1, 10, 0, 3}) {
+            messageBoard.activate(ordinal);
+        }
+        messageBoard.completeIteration();
+        assertArrayEquals(new int[]{0, 3, 7}, messageBoard.getFrontier());
+        messageBoard.completeIteration();
+        assertEquals(0, messageBoard.getFrontier().length);
+        messageBoard.activate(3);
+        messageBoard.completeIteration();
+        assertArrayEquals(new int[]{3}, messageBoard.getFrontier());
+    }
+
+    @Test
+    public void shouldComputeSamePageRankAsynchronouslyOverAnIncidentTraversal() throws Exception {
+        final TinkerGraph graph = createChains(4, 50);
+        final List<Vertex> vertices = IteratorUtils.list(graph.vertices());
+        for (int i = 0; i < vertices.size(); i++) {
+            vertices.get(i).addEdge("link", vertices.get((i * 7 + 3) % vertices.size()), "weight", i % 2);
+        }
+        // an incident traversal of more than a single VertexStep has its receivers walked by pooled clones
+        final VertexProgram<?> pageRank = PageRankVertexProgram.build().iterations(60)
+                .edges(__.outE("link").has("weight", 1).asAdmin()).create(graph);
+        final Map<Object, Double> sync = values(graph.compute().program(pageRank).submit().get(), PageRankVertexProgram.PAGE_RANK);
+        final Map<Object, Double> async = values(graph.compute().configure(TinkerGraphComputer.ASYNCHRONOUS, true).program(pageRank).submit().get(), PageRankVertexProgram.PAGE_RANK);
+        assertEquals(200, async.size());
+        sync.forEach((id, rank) -> assertEquals(rank, async.get(id), 0.000001d));
+    }
+
+    private static TinkerGraph createChains(final int chains, final int length) {
+        final TinkerGraph graph = TinkerGraph.open();
+        final List<Vertex> vertices = new ArrayList<>();
+        for (int i = 0; i < chains * length; i++) {
+            vertices.add(graph.addVertex(T.id, i));
+            if (i % length > 0) vertices.get(i - 1).addEdge("link", vertices.get(i));
+        }
+        return graph;
+    }
+
+    private static <V> Map<Object, V> values(final ComputerResult result, final String key) {
+        final Map<Object, V> values = new HashMap<>();
+        result.graph().vertices().forEachRemaining(vertex -> values.put(vertex.id(), vertex.value(key)));
+        return values;
+    }
+}
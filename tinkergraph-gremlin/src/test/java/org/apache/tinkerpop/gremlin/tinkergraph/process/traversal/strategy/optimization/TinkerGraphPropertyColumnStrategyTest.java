@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optimization;
+
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.map.TinkerPropertyReducingStep;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class TinkerGraphPropertyColumnStrategyTest {
+
+    @Test
+    public void shouldReduceDeclaredPropertiesFromColumns() {
+        final TinkerGraph graph = TinkerGraph.open(schemaConfiguration());
+        TinkerFactory.generateModern(graph);
+        final TinkerGraph plain = TinkerFactory.createModern();
+
+        final List<Function<GraphTraversalSource, GraphTraversal<?, ? extends Number>>> traversals = Arrays.asList(
+                g -> g.V().values("age").sum(),
+                g -> g.V().values("age").mean(),
+                g -> g.V().values("age").min(),
+                g -> g.V().values("age").max(),
+                g -> g.V().both().both().barrier().values("age").sum(),
+                g -> g.V().both().both().barrier().values("age").mean(),
+                g -> g.E().values("weight").sum(),
+                g -> g.E().values("weight").mean(),
+                g -> g.E().values("weight").min(),
+                g -> g.E().values("weight").max(),
+                g -> g.V().hasLabel("software").values("age").sum(),
+                g -> g.V().hasLabel("software").values("age").max());
+        for (final Function<GraphTraversalSource, GraphTraversal<?, ? extends Number>> traversal : traversals) {
+            final GraphTraversal<?, ? extends Number> columns = traversal.apply(graph.traversal());
+            final Number expected = traversal.apply(plain.traversal()).next();
+            assertEquals(expected, columns.next());
+            assertEquals(1, TraversalHelper.getStepsOfClass(TinkerPropertyReducingStep.class, columns.asAdmin()).size());
+        }
+
+        // undeclared keys and keys that are not reduced are left alone
+        assertEquals(0, TraversalHelper.getStepsOfClass(TinkerPropertyReducingStep.class,
+                graph.traversal().V().values("name").count().iterate().asAdmin()).size());
+        assertEquals(Arrays.asList(27, 29, 32, 35), graph.traversal().V().values("age").order().toList());
+    }
+
+    @Test
+    public void shouldMergeBarriersWithTheOperatorOfTheReplacedStep() {
+        final TinkerGraph graph = TinkerGraph.open(schemaConfiguration());
+        TinkerFactory.generateModern(graph);
+        final GraphTraversalSource g = graph.traversal();
+
+        final ReducingBarrierStep<?, Number> marko = barrierOf(g.V().has("name", "marko").values("age").mean());
+        final ReducingBarrierStep<?, Number> others = barrierOf(g.V().has("name", "marko").out().values("age").mean());
+        marko.addBarrier(others.nextBarrier());
+        assertEquals(Double.valueOf((29 + 27 + 32) / 3d), marko.generateFinalResult(marko.nextBarrier()));
+
+        final ReducingBarrierStep<?, Number> empty = barrierOf(g.V().hasLabel("software").values("age").min());
+        assertEquals(Integer.MAX_VALUE, empty.nextBarrier());
+    }
+
+    @Test
+    public void shouldHoldASingleValueForADeclaredKey() {
+        final TinkerGraph graph = TinkerGraph.open(schemaConfiguration());
+        final Vertex v = graph.addVertex("name", "marko", "age", 29);
+        assertEquals(VertexProperty.Cardinality.single, graph.features().vertex().getCardinality("age"));
+
+        v.property("age", 30);
+        assertEquals(Integer.valueOf(30), v.value("age"));
+        for (final VertexProperty.Cardinality cardinality : Arrays.asList(VertexProperty.Cardinality.list, VertexProperty.Cardinality.set)) {
+            try {
+                v.property(cardinality, "age", 31);
+                fail("A declared key should not accept a " + cardinality + " value");
+            } catch (UnsupportedOperationException uoe) {
+                assertEquals(Integer.valueOf(30), v.value("age"));
+            }
+        }
+        // a value that the vertex does not have yet is accepted with any cardinality
+        graph.addVertex("name", "vadas").property(VertexProperty.Cardinality.list, "age", 27);
+        assertEquals(27 + 30, graph.traversal().V().values("age").sum().next().intValue());
+    }
+
+    private static ReducingBarrierStep<?, Number> barrierOf(final GraphTraversal<?, ?> traversal) {
+        traversal.asAdmin().applyStrategies();
+        return TraversalHelper.getFirstStepOfAssignableClass(TinkerPropertyReducingStep.class, traversal.asAdmin()).get();
+    }
+
+    private static Configuration schemaConfiguration() {
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_PROPERTY_SCHEMA, Arrays.asList("age:integer", "weight:double"));
+        return conf;
+    }
+}
@@ -21,10 +21,28 @@ package org.apache.tinkerpop.gremlin.tinkergraph.structure;
 import org.apache.commons.configuration.BaseConfiguration;
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.TestHelper;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
+import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
+import org.apache.tinkerpop.gremlin.jsr223.JavaTranslator;
+import org.apache.tinkerpop.gremlin.process.traversal.Bindings;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.PreparedTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalTemplate;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ParallelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ParallelStrategy;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
@@ -39,8 +57,14 @@ import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONWriter;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.TypeInfo;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoClassResolverV1d0;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoReader;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoVersion;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoWriter;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.VertexTerminator;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputerView;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerMemory;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerWorkerPool;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.sideEffect.TinkerGraphStep;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
 import org.apache.tinkerpop.shaded.kryo.ClassResolver;
@@ -57,19 +81,34 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -300,6 +339,311 @@ public class TinkerGraphTest {
         }, 0.5)).has("oid", "1").count().next());
     }
 
+    @Test
+    public void shouldUseOrderedVertexIndexForRanges() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.ORDERED);
+        assertEquals(TinkerGraph.IndexType.ORDERED, g.getIndexType("age", Vertex.class));
+
+        for (int ix = 0; ix < 100; ix++) {
+            g.addVertex("name", "v" + ix, "age", ix % 2 == 0 ? ix : (long) ix);
+        }
+        g.addVertex("name", "noage");
+        g.addVertex("name", "stringage", "age", "unknown");
+
+        assertEquals(29, countAges(g, P.gt(70)));
+        assertEquals(30, countAges(g, P.gte(70L)));
+        assertEquals(10, countAges(g, P.lt(10.0d)));
+        assertEquals(11, countAges(g, P.lte(10)));
+        assertEquals(10, countAges(g, P.between(30, 40)));
+        assertEquals(9, countAges(g, P.inside(30, 40)));
+        assertEquals(70, countAges(g, P.outside(30.5d, 60)));
+        assertEquals(0, countAges(g, P.between(40, 30)));
+        assertEquals(1, countAges(g, P.eq(50L)));
+
+        // mutations of the key must be reflected in range lookups
+        g.traversal().V().has("age", P.gte(90)).drop().iterate();
+        g.traversal().V().has("name", "v0").property("age", 1000).iterate();
+        assertEquals(1, countAges(g, P.gte(90)));
+        assertEquals(89, countAges(g, P.lt(90)));
+    }
+
+    @Test
+    public void shouldUseOrderedEdgeIndexForRanges() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("weight", Edge.class, TinkerGraph.IndexType.ORDERED);
+
+        final Vertex v = g.addVertex();
+        v.addEdge("friend", v, "oid", "1", "weight", 0.5f);
+        v.addEdge("friend", v, "oid", "2", "weight", 0.6d);
+        v.addEdge("friend", v, "oid", "3", "weight", 1);
+
+        assertEquals(new Long(2), g.traversal().E().has("oid", P.test((t, u) -> {
+            assertTrue(t.equals("2") || t.equals("3"));
+            return true;
+        }, "x")).has("weight", P.gt(0.5d)).count().next());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotChangeIndexTypeWithoutDroppingIndex() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("age", Vertex.class);
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.ORDERED);
+    }
+
+    @Test
+    public void shouldUseLabelScopedCompositeVertexIndex() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex(Vertex.class, "person", "country", "city");
+
+        g.addVertex(T.label, "person", "name", "a", "country", "US", "city", "NYC");
+        g.addVertex(T.label, "person", "name", "b", "country", "US", "city", "LA");
+        g.addVertex(T.label, "company", "name", "c", "country", "US", "city", "NYC");
+        final Vertex d = g.addVertex(T.label, "person", "name", "d", "country", "UK", "city", "NYC");
+        final Vertex e = g.addVertex(T.label, "person", "name", "e", "country", "US");
+
+        assertEquals(Collections.singletonList("a"), personsIn(g, "US", "NYC", "a", "d", "e"));
+
+        d.property("country", "US");
+        e.property(VertexProperty.Cardinality.list, "city", "LA");
+        e.property(VertexProperty.Cardinality.list, "city", "NYC");
+        assertEquals(Arrays.asList("a", "d", "e"), personsIn(g, "US", "NYC", "a", "d", "e"));
+        assertEquals(Arrays.asList("b", "e"), personsIn(g, "US", "LA", "b", "e"));
+
+        d.remove();
+        g.traversal().V(e).properties("city").hasValue("NYC").drop().iterate();
+        assertEquals(Collections.singletonList("a"), personsIn(g, "US", "NYC", "a"));
+        assertEquals(Arrays.asList("b", "e"), personsIn(g, "US", "LA", "b", "e"));
+
+        // the company has the same values but it is not covered by the index so it must not be found by it
+        assertEquals(Collections.singletonList("c"), g.traversal().V().has("country", "US").has("city", "NYC")
+                .hasLabel("company").<String>values("name").toList());
+
+        assertEquals(1, g.getCompositeIndexes(Vertex.class).size());
+        g.dropIndex(Vertex.class, "person", "country", "city");
+        assertEquals(0, g.getCompositeIndexes(Vertex.class).size());
+        assertEquals(Collections.singletonList("a"), personsIn(g, "US", "NYC", "a", "b", "c", "e"));
+    }
+
+    @Test
+    public void shouldUseCompositeEdgeIndex() {
+        final TinkerGraph g = TinkerGraph.open();
+        final Vertex v = g.addVertex();
+        v.addEdge("rated", v, "oid", "1", "stars", 5, "source", "web");
+        v.addEdge("rated", v, "oid", "2", "stars", 5, "source", "app");
+        g.createIndex(Edge.class, null, "stars", "source");
+        v.addEdge("rated", v, "oid", "3", "stars", 5, "source", "web");
+        v.addEdge("rated", v, "oid", "4", "stars", 4, "source", "web");
+
+        assertEquals(Arrays.asList("1", "3"), g.traversal().E().has("oid", P.test((t, u) -> {
+            assertTrue(t.equals("1") || t.equals("3"));
+            return true;
+        }, "x")).has("source", "web").has("stars", 5).<String>values("oid").order().toList());
+    }
+
+    @Test
+    public void shouldUseMostSelectiveIndex() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("country", Vertex.class);
+        g.createIndex(Vertex.class, "person", "city");
+        for (int i = 0; i < 100; i++) {
+            g.addVertex(T.label, "person", "name", "us" + i, "country", "US", "city", "LA");
+        }
+        g.addVertex(T.label, "person", "name", "nyc", "country", "US", "city", "NYC");
+        g.addVertex(T.label, "company", "name", "company", "country", "US", "city", "NYC");
+
+        // the label scoped index on "city" holds a single vertex so it is used in place of the index on "country"
+        assertEquals(Collections.singletonList("nyc"), personsIn(g, "US", "NYC", "nyc"));
+
+        // and when the values are missing from an index nothing is looked up at all
+        assertEquals(0, g.traversal().V().has("name", P.test((t, u) -> {
+            fail("The index should have found no vertices");
+            return true;
+        }, "x")).has("country", "CA").count().next().intValue());
+    }
+
+    @Test
+    public void shouldMaintainIndexesUnderConcurrentUpdates() throws Exception {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("name", Vertex.class);
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.ORDERED);
+        g.createIndex(Vertex.class, "person", "name", "age");
+
+        final int threads = 8;
+        final int verticesPerThread = 2000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < verticesPerThread; i++) {
+                        final Vertex v = g.addVertex(T.label, "person", "name", "n" + (i % 10));
+                        v.property("age", i % 50);
+                        if (i % 2 == 0) v.property("age", i % 50 + 50);
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+
+            final GraphTraversalSource t = g.traversal();
+            assertEquals(threads * verticesPerThread / 10, t.V().has("name", "n3").count().next().intValue());
+            assertEquals(threads * verticesPerThread / 10, t.V().hasLabel("person").has("name", "n2").has("age", P.gte(50)).count().next().intValue());
+            assertEquals(threads * verticesPerThread / 50, t.V().has("age", 3).count().next().intValue());
+            assertEquals(0, t.V().has("age", 53).count().next().intValue());
+            assertEquals(threads * verticesPerThread / 50, t.V().hasLabel("person").has("name", "n2").has("age", 52).count().next().intValue());
+
+            futures.clear();
+            final List<Vertex> vertices = t.V().toList();
+            for (int i = 0; i < threads; i++) {
+                final List<Vertex> partition = vertices.subList(i * vertices.size() / threads, (i + 1) * vertices.size() / threads);
+                futures.add(executor.submit(() -> partition.forEach(Vertex::remove)));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(0, g.vertexIndex.count("name", "n3"));
+        assertTrue(g.vertexIndex.index.get("name").isEmpty());
+        assertTrue(g.vertexIndex.index.get("age").isEmpty());
+        assertEquals(0, g.vertexIndex.count(new TinkerGraph.CompositeIndex("person", "name", "age"), Arrays.asList("n2", 52)));
+    }
+
+    @Test
+    public void shouldNotMissElementsWhileTheyAreReindexed() throws Exception {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("weight", Edge.class);
+        g.createIndex(Edge.class, "rated", "weight", "year");
+        final TinkerGraph.CompositeIndex compositeIndex = new TinkerGraph.CompositeIndex("rated", "weight", "year");
+        final Vertex v = g.addVertex();
+        final Edge e = v.addEdge("rated", v, "weight", 5, "year", 2010);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < 20000; i++) {
+                    e.property("weight", 5);
+                    e.property("year", 2010);
+                }
+            });
+            while (!writer.isDone()) {
+                assertEquals(1, g.edgeIndex.count("weight", 5));
+                assertEquals(1, g.edgeIndex.count(compositeIndex, Arrays.asList(5, 2010)));
+            }
+            writer.get();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotCreateCompositeIndexWithoutKeys() {
+        TinkerGraph.open().createIndex(Vertex.class, "person");
+    }
+
+    /**
+     * Gets the names of the persons in the city and asserts that an index is used by spying on the names that reach
+     * a subsequent filter on "name" - only the names allowed may get there.
+     */
+    private static List<String> personsIn(final TinkerGraph g, final String country, final String city, final String... allowed) {
+        final List<String> names = Arrays.asList(allowed);
+        return g.traversal().V().has("name", P.test((t, u) -> {
+            assertTrue(t + " should not be tested", names.contains(t));
+            return true;
+        }, "x")).hasLabel("person").has("country", country).has("city", city).<String>values("name").order().toList();
+    }
+
+    /**
+     * Counts the vertices matching the predicate on "age" and asserts that the index is used by spying on the
+     * values that reach a subsequent filter on "name" - a vertex without an "age" must never get there.
+     */
+    private static long countAges(final TinkerGraph g, final P<Object> predicate) {
+        final long count = g.traversal().V().has("name", P.test((t, u) -> {
+            assertTrue(!t.equals("noage") && !t.equals("stringage"));
+            return true;
+        }, "x")).has("age", predicate).count().next();
+        assertEquals(g.traversal().V().has("age").toList().stream().filter(v -> {
+            final Object age = v.value("age");
+            return age instanceof Number && predicate.test(age);
+        }).count(), count);
+        return count;
+    }
+
+    @Test
+    public void shouldTraverseFrozenGraph() {
+        final TinkerGraph graph = TinkerFactory.createTheCrew();
+        final GraphTraversalSource g = graph.traversal();
+        final List<Supplier<List<Object>>> traversals = Arrays.asList(
+                () -> g.V().out().id().toList(),
+                () -> g.V().in().id().toList(),
+                () -> g.V().both().id().toList(),
+                () -> g.V().out("develops").id().toList(),
+                () -> g.V().out("develops", "uses", "missing").id().toList(),
+                () -> g.V().in("missing").id().toList(),
+                () -> g.V().outE("uses").id().toList(),
+                () -> g.V().bothE().id().toList(),
+                () -> g.V().out("uses").in("uses").id().toList(),
+                () -> g.V().both("develops").values("name").toList(),
+                () -> g.V().repeat(__.both()).times(2).id().toList());
+
+        final List<List<Object>> expected = new ArrayList<>();
+        traversals.forEach(t -> expected.add(sortedIds(t.get())));
+
+        graph.freeze();
+        assertTrue(graph.isFrozen());
+        for (int ix = 0; ix < traversals.size(); ix++) {
+            assertEquals(expected.get(ix), sortedIds(traversals.get(ix).get()));
+        }
+
+        // computer traversals read adjacency through the same path
+        assertEquals(expected.get(0), sortedIds(graph.traversal().withComputer().V().out().id().toList()));
+
+        graph.clear();
+        assertFalse(graph.isFrozen());
+    }
+
+    @Test
+    public void shouldOnlyAllowPropertyMutationsAndNewVerticesInFrozenGraph() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        graph.freeze();
+
+        final Vertex marko = graph.traversal().V().has("name", "marko").next();
+        final Edge edge = marko.edges(Direction.OUT).next();
+        assertFrozen(() -> marko.addEdge("knows", marko));
+        assertFrozen(marko::remove);
+        assertFrozen(edge::remove);
+
+        marko.property("age", 30);
+        edge.property("weight", 0.1d);
+        assertEquals(30, marko.<Integer>value("age").intValue());
+        assertEquals(0.1d, edge.<Double>value("weight"), 0.0001d);
+
+        final Vertex v = graph.addVertex("name", "stephen");
+        assertFalse(v.edges(Direction.BOTH).hasNext());
+        assertFrozen(() -> v.addEdge("knows", marko));
+        assertEquals(7, IteratorUtils.count(graph.vertices()));
+        assertEquals(6, IteratorUtils.count(graph.edges()));
+    }
+
+    private static void assertFrozen(final Runnable mutation) {
+        try {
+            mutation.run();
+            fail("Graph should be frozen");
+        } catch (IllegalStateException ise) {
+            assertEquals(TinkerCompactAdjacency.graphIsFrozen().getMessage(), ise.getMessage());
+        }
+    }
+
+    private static List<Object> sortedIds(final List<Object> ids) {
+        final List<Object> sorted = new ArrayList<>(ids);
+        sorted.sort(Comparator.comparing(Object::toString));
+        return sorted;
+    }
+
     @Test
     public void shouldSerializeTinkerGraphToGryo() throws Exception {
         final TinkerGraph graph = TinkerFactory.createModern();
@@ -365,6 +709,165 @@ public class TinkerGraphTest {
         }
     }
 
+    @Test
+    public void shouldReadModernGraphInParallel() throws Exception {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        try (final ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            graph.io(IoCore.gryo()).writer().create().writeGraph(out, graph);
+            final TinkerGraph target = TinkerGraph.open();
+            target.io(IoCore.gryo()).reader().parallelism(4).create().readGraph(new ByteArrayInputStream(out.toByteArray()), target);
+            IoTest.assertModernGraph(target, true, false);
+        }
+        try (final ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            graph.io(IoCore.graphson()).writer().create().writeGraph(out, graph);
+            final TinkerGraph target = TinkerGraph.open();
+            target.io(IoCore.graphson()).reader().parallelism(4).create().readGraph(new ByteArrayInputStream(out.toByteArray()), target);
+            IoTest.assertModernGraph(target, true, false);
+        }
+    }
+
+    @Test
+    public void shouldReadLargeGraphInParallel() throws Exception {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Random random = new Random(123456789L);
+        final List<Vertex> vertices = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            vertices.add(graph.addVertex(T.id, (long) i, T.label, "node", "name", "node" + i));
+        }
+        for (int i = 0; i < 5000; i++) {
+            vertices.get(i).addEdge("next", vertices.get((i + 1) % 5000), "weight", (double) i);
+            vertices.get(i).addEdge("random", vertices.get(random.nextInt(5000)));
+        }
+
+        try (final ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            graph.io(IoCore.gryo()).writer().create().writeGraph(out, graph);
+            final TinkerGraph target = TinkerGraph.open();
+            target.io(IoCore.gryo()).reader().parallelism(4).create().readGraph(new ByteArrayInputStream(out.toByteArray()), target);
+            assertLargeGraph(graph, target);
+        }
+        try (final ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            graph.io(IoCore.graphson()).writer().create().writeGraph(out, graph);
+            final TinkerGraph target = TinkerGraph.open();
+            target.io(IoCore.graphson()).reader().parallelism(4).create().readGraph(new ByteArrayInputStream(out.toByteArray()), target);
+            assertLargeGraph(graph, target);
+        }
+    }
+
+    @Test
+    public void shouldReadValuesThatLookLikeTheVertexTerminatorInParallel() throws Exception {
+        // write the terminator twice so that the vertices do not line up with a multiple of the chunk size
+        final Output terminator = new Output(32);
+        final Kryo kryo = GryoMapper.build().create().createMapper();
+        kryo.writeClassAndObject(terminator, VertexTerminator.INSTANCE);
+        kryo.writeClassAndObject(terminator, VertexTerminator.INSTANCE);
+        final byte[] bytes = terminator.toBytes();
+
+        final TinkerGraph graph = TinkerGraph.open();
+        for (int i = 0; i < 3000; i++) {
+            graph.addVertex(T.id, (long) i, "bytes", bytes, "name", "\u00e9t\u00e9 " + i);
+        }
+
+        try (final ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            graph.io(IoCore.gryo()).writer().create().writeGraph(out, graph);
+            final TinkerGraph target = TinkerGraph.open();
+            target.io(IoCore.gryo()).reader().parallelism(4).create().readGraph(new ByteArrayInputStream(out.toByteArray()), target);
+            assertEquals(3000L, IteratorUtils.count(target.vertices()));
+            target.vertices().forEachRemaining(v -> assertTrue(Arrays.equals(bytes, v.value("bytes"))));
+        }
+
+        // graphson has no type for byte arrays
+        graph.vertices().forEachRemaining(v -> v.property("bytes").remove());
+        try (final ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            graph.io(IoCore.graphson()).writer().create().writeGraph(out, graph);
+            final TinkerGraph target = TinkerGraph.open();
+            target.io(IoCore.graphson()).reader().parallelism(4).create().readGraph(new ByteArrayInputStream(out.toByteArray()), target);
+            assertEquals("\u00e9t\u00e9 7", target.vertices(7L).next().value("name"));
+        }
+    }
+
+    private static void assertLargeGraph(final TinkerGraph expected, final TinkerGraph actual) {
+        assertEquals(5000L, IteratorUtils.count(actual.vertices()));
+        assertEquals(10000L, IteratorUtils.count(actual.edges()));
+        expected.vertices().forEachRemaining(v -> {
+            final Vertex t = actual.vertices(v.id()).next();
+            assertEquals(v.<String>value("name"), t.<String>value("name"));
+            assertEquals(IteratorUtils.count(v.edges(Direction.OUT)), IteratorUtils.count(t.edges(Direction.OUT)));
+            assertEquals(IteratorUtils.count(v.edges(Direction.IN)), IteratorUtils.count(t.edges(Direction.IN)));
+            assertEquals(v.edges(Direction.OUT, "next").next().<Double>value("weight"), t.edges(Direction.OUT, "next").next().<Double>value("weight"));
+            assertEquals(v.vertices(Direction.OUT, "next").next().id(), t.vertices(Direction.OUT, "next").next().id());
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotReadWithParallelismLessThanOne() {
+        GryoReader.build().parallelism(0);
+    }
+
+    @Test
+    public void shouldHoldComputeKeysInColumnsOfTheGraphComputerView() throws Exception {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final Graph result = graph.compute().program(PageRankVertexProgram.build().create(graph)).submit().get().graph();
+        final Set<Object> ids = new HashSet<>();
+        result.vertices().forEachRemaining(vertex -> {
+            final VertexProperty<Double> pageRank = vertex.property(PageRankVertexProgram.PAGE_RANK);
+            assertTrue(pageRank.isPresent());
+            assertTrue(pageRank.value() > 0.0d);
+            assertEquals(pageRank.id(), vertex.property(PageRankVertexProgram.PAGE_RANK).id());
+            assertTrue(ids.add(pageRank.id()));
+            assertFalse(vertex.property("gremlin.pageRankVertexProgram.edgeCount").isPresent());
+        });
+        assertEquals(6, ids.size());
+        assertFalse(TinkerHelper.inComputerMode(graph));
+        assertFalse(graph.vertices().next().property(PageRankVertexProgram.PAGE_RANK).isPresent());
+
+        // multiple values and meta-properties of a compute key are kept as vertex properties
+        final Vertex marko = graph.vertices(1).next();
+        final TinkerGraphComputerView view = TinkerHelper.createGraphComputerView(graph, new GraphFilter(), new HashSet<>(Arrays.asList(
+                VertexComputeKey.of("x", false), VertexComputeKey.of("y", true))));
+        final TinkerWorkerPool workers = new TinkerWorkerPool(graph, view, new TinkerMemory(null, Collections.emptySet()), 1);
+        try {
+            marko.property(VertexProperty.Cardinality.single, "x", 1L);
+            marko.property(VertexProperty.Cardinality.list, "x", "a", "acl", "private");
+            marko.property(VertexProperty.Cardinality.set, "x", 1L);
+            marko.property(VertexProperty.Cardinality.single, "y", 0.5d);
+            assertEquals(Arrays.asList(1L, "a"), IteratorUtils.list(marko.values("x")));
+            assertEquals("private", IteratorUtils.<VertexProperty<Object>>list(marko.properties("x")).get(1).value("acl"));
+            assertEquals(0.5d, marko.value("y"), 0.0d);
+            marko.property("y").remove();
+            assertFalse(marko.property("y").isPresent());
+            assertEquals("marko", marko.value("name"));
+        } finally {
+            TinkerHelper.dropGraphComputerView(graph);
+            workers.close();
+        }
+    }
+
+    @Test
+    public void shouldRecomputePageRankIncrementallyFromPersistedRanks() throws Exception {
+        final TinkerGraph graph = TinkerGraph.open();
+        final List<Vertex> vertices = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            vertices.add(graph.addVertex(T.id, i));
+        }
+        for (int i = 0; i < 200; i++) {
+            vertices.get(i).addEdge("link", vertices.get((i + 1) % 200));
+            vertices.get(i).addEdge("link", vertices.get((i * i + 3) % 200));
+        }
+        graph.compute().result(GraphComputer.ResultGraph.ORIGINAL).persist(GraphComputer.Persist.VERTEX_PROPERTIES)
+                .program(PageRankVertexProgram.build().epsilon(0.0000001d).create(graph)).submit().get();
+
+        // a small change to the topology only moves the ranks of the vertices downstream of it
+        vertices.get(10).addEdge("link", vertices.get(150));
+        final ComputerResult incremental = graph.compute().result(GraphComputer.ResultGraph.ORIGINAL).persist(GraphComputer.Persist.VERTEX_PROPERTIES)
+                .program(PageRankVertexProgram.build().epsilon(0.0000001d).incremental().create(graph)).submit().get();
+        final ComputerResult scratch = graph.compute().program(PageRankVertexProgram.build().epsilon(0.0000001d).property("scratch").create(graph)).submit().get();
+        assertTrue(incremental.memory().getIteration() < scratch.memory().getIteration());
+
+        final Graph reference = graph.compute().program(PageRankVertexProgram.build().property("reference").iterations(200).create(graph)).submit().get().graph();
+        reference.vertices().forEachRemaining(vertex ->
+                assertEquals(vertex.<Double>value("reference"), graph.vertices(vertex.id()).next().<Double>value(PageRankVertexProgram.PAGE_RANK), 0.00001d));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void shouldRequireGraphLocationIfFormatIsSet() {
         final Configuration conf = new BaseConfiguration();
@@ -486,6 +989,366 @@ public class TinkerGraphTest {
         reloadedGraph.close();
     }
 
+    @Test
+    public void shouldPersistToSnapshot() {
+        final String graphLocation = TestHelper.makeTestDataDirectory(TinkerGraphTest.class) + "shouldPersistToSnapshot.tgs";
+        final File f = new File(graphLocation);
+        if (f.exists() && f.isFile()) f.delete();
+
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_FORMAT, "snapshot");
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOCATION, graphLocation);
+        final TinkerGraph graph = TinkerGraph.open(conf);
+        TinkerFactory.generateModern(graph);
+        graph.close();
+
+        final TinkerGraph reloadedGraph = TinkerGraph.open(conf);
+        IoTest.assertModernGraph(reloadedGraph, true, false);
+        reloadedGraph.close();
+    }
+
+    @Test
+    public void shouldPersistToSnapshotAndHandleMultiPropertiesAndTypes() {
+        final String graphLocation = TestHelper.makeTestDataDirectory(TinkerGraphTest.class) + "shouldPersistToSnapshotMulti.tgs";
+        final File f = new File(graphLocation);
+        if (f.exists() && f.isFile()) f.delete();
+
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_FORMAT, "snapshot");
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOCATION, graphLocation);
+        final TinkerGraph graph = TinkerGraph.open(conf);
+        TinkerFactory.generateTheCrew(graph);
+        final UUID uuid = UUID.randomUUID();
+        final Vertex v = graph.addVertex(T.id, uuid, T.label, "types", "short", (short) -2, "byte", (byte) 7, "float", 1.5f,
+                "bool", true, "list", Arrays.asList(1, "two"), "unicode", "\u00e9t\u00e9");
+        v.addEdge("self", v, T.id, "self", "map", Collections.singletonMap("k", 1L));
+        graph.close();
+
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_DEFAULT_VERTEX_PROPERTY_CARDINALITY, VertexProperty.Cardinality.list.toString());
+        final TinkerGraph reloadedGraph = TinkerGraph.open(conf);
+        final Vertex types = reloadedGraph.vertices(uuid).next();
+        assertEquals((short) -2, (short) types.value("short"));
+        assertEquals((byte) 7, (byte) types.value("byte"));
+        assertEquals(1.5f, types.<Float>value("float"), 0.0f);
+        assertTrue(types.value("bool"));
+        assertEquals(Arrays.asList(1, "two"), types.value("list"));
+        assertEquals("\u00e9t\u00e9", types.value("unicode"));
+        assertEquals(Collections.singletonMap("k", 1L), types.edges(Direction.OUT, "self").next().value("map"));
+        assertEquals(types, reloadedGraph.edges("self").next().inVertex());
+
+        types.remove();
+        IoTest.assertCrewGraph(reloadedGraph, false);
+        reloadedGraph.close();
+    }
+
+    @Test
+    public void shouldShareLabelsAndKeysAcrossElements() throws Exception {
+        final TinkerGraph source = TinkerFactory.createTheCrew();
+        final ByteArrayOutputStream os = new ByteArrayOutputStream();
+        source.io(IoCore.gryo()).writer().create().writeGraph(os, source);
+
+        // every string read from the stream is a new instance until the graph interns it
+        final TinkerGraph graph = TinkerGraph.open();
+        graph.io(IoCore.gryo()).reader().create().readGraph(new ByteArrayInputStream(os.toByteArray()), graph);
+        final Vertex marko = graph.traversal().V().has("name", "marko").next();
+        final Vertex stephen = graph.traversal().V().has("name", "stephen").next();
+        assertSame(marko.label(), stephen.label());
+        assertSame(marko.property("name").key(), stephen.property("name").key());
+        assertSame(marko.keys().iterator().next(), graph.symbolTable.intern("name"));
+
+        final Edge uses = marko.edges(Direction.OUT, "uses").next();
+        final Edge otherUses = stephen.edges(Direction.OUT, "uses").next();
+        assertSame(uses.label(), otherUses.label());
+        assertSame(uses.property("skill").key(), otherUses.property("skill").key());
+
+        final VertexProperty<?> location = marko.properties("location").next();
+        final VertexProperty<?> otherLocation = stephen.properties("location").next();
+        assertSame(location.key(), otherLocation.key());
+        assertSame(location.property("startTime").key(), otherLocation.property("startTime").key());
+    }
+
+    @Test
+    public void shouldMaintainPropertiesKeyedBySymbol() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex v = graph.addVertex("a", 1, "b", 2, "c", 3);
+        final Edge e = v.addEdge("self", v, "a", 1, "b", 2, "c", 3);
+        final VertexProperty<?> vp = v.property("a");
+        vp.property("x", 1);
+        vp.property("y", 2);
+
+        v.property("b").remove();
+        e.property("a").remove();
+        e.property("c", 4);
+        vp.property("x").remove();
+        assertEquals(new HashSet<>(Arrays.asList("a", "c")), v.keys());
+        assertEquals(new HashSet<>(Arrays.asList("b", "c")), e.keys());
+        assertEquals(Collections.singleton("y"), vp.keys());
+        assertEquals(4, (int) e.value("c"));
+        assertFalse(e.property("unknown").isPresent());
+        assertFalse(v.properties("unknown").hasNext());
+
+        v.property("c").remove();
+        v.property("a").remove();
+        e.properties().forEachRemaining(Property::remove);
+        assertEquals(0, v.keys().size());
+        assertEquals(0, e.keys().size());
+
+        v.property("d", 5);
+        assertEquals(Collections.singleton("d"), v.keys());
+        assertEquals(1, IteratorUtils.count(v.edges(Direction.OUT, "self")));
+    }
+
+    @Test
+    public void shouldHoldDeclaredPropertiesInColumns() throws Exception {
+        final TinkerGraph graph = TinkerGraph.open(schemaConfiguration());
+        TinkerFactory.generateModern(graph);
+        graph.createIndex("age", Vertex.class);
+        final GraphTraversalSource g = graph.traversal();
+
+        final Vertex marko = g.V().has("name", "marko").next();
+        assertEquals(29, (int) marko.value("age"));
+        assertEquals(marko.property("age").id(), marko.property("age").id());
+        assertEquals(new HashSet<>(Arrays.asList("name", "age")), marko.keys());
+        assertEquals(2, IteratorUtils.count(marko.properties()));
+        assertEquals(0.4d, g.E().has("weight", 0.4d).values("weight").next());
+
+        // values are converted to the declared type and a declared key only ever holds one value
+        marko.property(VertexProperty.Cardinality.single, "age", 30L);
+        assertEquals(Integer.valueOf(30), marko.value("age"));
+        assertEquals(1, IteratorUtils.count(marko.properties("age")));
+        assertEquals(marko, g.V().has("age", 30).next());
+        assertFalse(g.V().has("age", 29).hasNext());
+
+        try {
+            marko.property("age", "thirty");
+            fail("A declared key should only accept numbers");
+        } catch (IllegalArgumentException iae) {
+            assertEquals(Integer.valueOf(30), marko.value("age"));
+        }
+        try {
+            marko.property(VertexProperty.Cardinality.single, "age", 31, "since", 2017);
+            fail("A declared key should not accept meta-properties");
+        } catch (UnsupportedOperationException uoe) {
+            assertEquals(Integer.valueOf(30), marko.value("age"));
+        }
+
+        // a vertex property that was replaced does not remove the newer value
+        final VertexProperty<?> age = marko.property("age");
+        marko.property("age", 31);
+        age.remove();
+        assertEquals(Integer.valueOf(31), marko.value("age"));
+        marko.property("age").remove();
+        assertFalse(marko.property("age").isPresent());
+        assertFalse(g.V().has("age", 31).hasNext());
+
+        final Edge e = g.E().has("weight", 0.4d).next();
+        e.property("weight", 1);
+        assertEquals(Double.valueOf(1.0d), e.value("weight"));
+        e.property("weight").remove();
+        assertEquals(Collections.emptySet(), e.keys());
+
+        // slots of removed vertices are reused without carrying their values
+        g.V().has("name", "vadas").drop().iterate();
+        final Vertex v = graph.addVertex(T.label, "person", "name", "stephen");
+        assertFalse(v.property("age").isPresent());
+        v.property("age", 50);
+        assertEquals(32 + 35 + 50, g.V().values("age").sum().next().intValue());
+
+        final ByteArrayOutputStream os = new ByteArrayOutputStream();
+        graph.io(IoCore.gryo()).writer().create().writeGraph(os, graph);
+        final TinkerGraph copy = TinkerGraph.open(schemaConfiguration());
+        copy.io(IoCore.gryo()).reader().create().readGraph(new ByteArrayInputStream(os.toByteArray()), copy);
+        assertEquals(elementState(graph), elementState(copy));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotOpenWithInvalidPropertySchema() {
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_PROPERTY_SCHEMA, "age:string");
+        TinkerGraph.open(conf);
+    }
+
+    private static Configuration schemaConfiguration() {
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_PROPERTY_SCHEMA, Arrays.asList("age:integer", "weight:double"));
+        return conf;
+    }
+
+    @Test
+    public void shouldReplayWriteAheadLogOnOpen() throws Exception {
+        final String graphLocation = TestHelper.makeTestDataDirectory(TinkerGraphTest.class) + "shouldReplayWriteAheadLog.kryo";
+        deleteWithWriteAheadLog(graphLocation);
+
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_FORMAT, "gryo");
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOCATION, graphLocation);
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_WRITE_AHEAD_LOG, true);
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_CHECKPOINT_INTERVAL, 0);
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_DEFAULT_VERTEX_PROPERTY_CARDINALITY, VertexProperty.Cardinality.list.name());
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_VERTEX_ID_MANAGER, TinkerGraph.DefaultIdManager.LONG.name());
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_EDGE_ID_MANAGER, TinkerGraph.DefaultIdManager.LONG.name());
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_VERTEX_PROPERTY_ID_MANAGER, TinkerGraph.DefaultIdManager.LONG.name());
+
+        // the graph is never closed, as if the process had stopped, so only the log holds its mutations
+        final TinkerGraph graph = TinkerGraph.open(conf);
+        TinkerFactory.generateTheCrew(graph);
+        assertFalse(new File(graphLocation).exists());
+        assertWriteAheadLogReplayed(conf, graph);
+
+        // a checkpoint persists the graph so that only later mutations need to be replayed
+        graph.checkpoint();
+        assertTrue(new File(graphLocation).exists());
+        assertEquals(0, new File(graphLocation + ".log").length());
+        final GraphTraversalSource g = graph.traversal();
+        g.V().has("name", "stephen").drop().iterate();
+        g.V().has("name", "marko").properties("location").has("startTime", 1997).property("endTime", 2006).iterate();
+        g.V().has("name", "marko").properties("location").has("startTime", 2004).properties("endTime").drop().iterate();
+        g.V().has("name", "matthias").property(VertexProperty.Cardinality.single, "location", "amsterdam").iterate();
+        g.E().hasLabel("uses").has("skill", 5).property("skill", 6).iterate();
+        g.E().hasLabel("develops").properties("since").drop().iterate();
+        g.V().has("name", "daniel").addE("knows").to(g.V().has("name", "marko").next()).property("since", 2017).iterate();
+        assertWriteAheadLogReplayed(conf, graph);
+
+        // an incomplete mutation at the end of the log is discarded
+        try (final FileOutputStream out = new FileOutputStream(graphLocation + ".log", true)) {
+            out.write(new byte[]{0, 3});
+        }
+        assertWriteAheadLogReplayed(conf, graph);
+
+        // once closed the graph file is complete and the log is removed
+        final TinkerGraph reloadedGraph = TinkerGraph.open(conf);
+        reloadedGraph.close();
+        assertFalse(new File(graphLocation + ".log").exists());
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_WRITE_AHEAD_LOG, false);
+        final TinkerGraph closedGraph = TinkerGraph.open(conf);
+        assertEquals(elementState(graph), elementState(closedGraph));
+        closedGraph.close();
+        deleteWithWriteAheadLog(graphLocation);
+    }
+
+    @Test
+    public void shouldFailReplayOfCorruptWriteAheadLog() throws Exception {
+        final String graphLocation = TestHelper.makeTestDataDirectory(TinkerGraphTest.class) + "shouldFailReplayOfCorruptWriteAheadLog.kryo";
+        deleteWithWriteAheadLog(graphLocation);
+        final Configuration conf = writeAheadLogConfiguration(graphLocation);
+        final TinkerGraph graph = TinkerGraph.open(conf);
+        TinkerFactory.generateModern(graph);
+
+        // a mutation that is followed by others was completely written so a damaged one is not a torn write
+        try (final RandomAccessFile log = new RandomAccessFile(graphLocation + ".log", "rw")) {
+            log.seek(12);
+            final int b = log.read();
+            log.seek(12);
+            log.write(b ^ 0xff);
+        }
+        try {
+            assertWriteAheadLogReplayed(conf, graph);
+            fail("A corrupt mutation before the end of the write-ahead log should fail the replay");
+        } catch (IllegalStateException ise) {
+            assertTrue(ise.getMessage().startsWith("Corrupt mutation at offset 0"));
+        }
+        graph.close();
+        deleteWithWriteAheadLog(graphLocation + ".copy");
+        deleteWithWriteAheadLog(graphLocation);
+    }
+
+    @Test
+    public void shouldCheckpointWhileMutating() throws Exception {
+        final String graphLocation = TestHelper.makeTestDataDirectory(TinkerGraphTest.class) + "shouldCheckpointWhileMutating.kryo";
+        deleteWithWriteAheadLog(graphLocation);
+        final Configuration conf = writeAheadLogConfiguration(graphLocation);
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_WRITE_AHEAD_LOG_SYNC, true);
+        final TinkerGraph graph = TinkerGraph.open(conf);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Future<?> writer = executor.submit(() -> {
+            final Random random = new Random(42);
+            for (int i = 0; i < 300; i++) {
+                final Vertex vertex = graph.addVertex(T.id, i, "name", "v" + i);
+                if (i > 0) vertex.addEdge("next", graph.vertices(random.nextInt(i)).next(), "weight", i);
+                if (i % 7 == 0) graph.vertices(random.nextInt(i + 1)).next().property(VertexProperty.Cardinality.single, "name", "x" + i);
+            }
+        });
+        try {
+            // every checkpoint writes a graph that holds exactly the mutations of the log it replaces
+            while (!writer.isDone()) {
+                graph.checkpoint();
+            }
+            writer.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertWriteAheadLogReplayed(conf, graph);
+        graph.checkpoint();
+        assertWriteAheadLogReplayed(conf, graph);
+        graph.close();
+        deleteWithWriteAheadLog(graphLocation);
+    }
+
+    private static Configuration writeAheadLogConfiguration(final String graphLocation) {
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_FORMAT, "gryo");
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOCATION, graphLocation);
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_WRITE_AHEAD_LOG, true);
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_CHECKPOINT_INTERVAL, 0);
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_VERTEX_ID_MANAGER, TinkerGraph.DefaultIdManager.LONG.name());
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_EDGE_ID_MANAGER, TinkerGraph.DefaultIdManager.LONG.name());
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_VERTEX_PROPERTY_ID_MANAGER, TinkerGraph.DefaultIdManager.LONG.name());
+        return conf;
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotCheckpointWithoutWriteAheadLog() {
+        TinkerGraph.open().checkpoint();
+    }
+
+    private static void assertWriteAheadLogReplayed(final Configuration conf, final TinkerGraph graph) {
+        // a copy of the files is opened so that the open log of the graph is left untouched
+        final String graphLocation = conf.getString(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOCATION);
+        final String copyLocation = graphLocation + ".copy";
+        deleteWithWriteAheadLog(copyLocation);
+        try {
+            if (new File(graphLocation).exists())
+                Files.copy(new File(graphLocation).toPath(), new File(copyLocation).toPath());
+            Files.copy(new File(graphLocation + ".log").toPath(), new File(copyLocation + ".log").toPath());
+        } catch (IOException ioe) {
+            throw new RuntimeException(ioe);
+        }
+
+        final Configuration copy = new BaseConfiguration();
+        conf.getKeys().forEachRemaining(k -> copy.setProperty(k, conf.getProperty(k)));
+        copy.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOCATION, copyLocation);
+        final TinkerGraph replayedGraph = TinkerGraph.open(copy);
+        assertEquals(elementState(graph), elementState(replayedGraph));
+        replayedGraph.close();
+        deleteWithWriteAheadLog(copyLocation);
+    }
+
+    /**
+     * Describes every element of the graph by its identifier, label and properties, including the identifiers and
+     * meta-properties of vertex properties.
+     */
+    private static Map<Object, String> elementState(final TinkerGraph graph) {
+        final Map<Object, String> state = new HashMap<>();
+        graph.vertices().forEachRemaining(v -> {
+            final List<String> properties = new ArrayList<>();
+            v.properties().forEachRemaining(p -> properties.add(p.id() + ":" + p.key() + "=" + p.value() + ":" +
+                    IteratorUtils.list(p.properties()).stream().map(Object::toString).sorted().collect(Collectors.toList())));
+            Collections.sort(properties);
+            state.put("v" + v.id(), v.label() + properties);
+        });
+        graph.edges().forEachRemaining(e -> state.put("e" + e.id(), e.label() + e.outVertex().id() + "->" + e.inVertex().id() +
+                IteratorUtils.list(e.properties()).stream().map(Object::toString).sorted().collect(Collectors.toList())));
+        return state;
+    }
+
+    private static void deleteWithWriteAheadLog(final String graphLocation) {
+        for (final String suffix : Arrays.asList("", ".log", ".log.previous", ".tmp")) {
+            final File f = new File(graphLocation + suffix);
+            if (f.exists()) f.delete();
+        }
+    }
+
     @Test
     public void shouldPersistWithRelativePath() {
         final String graphLocation = TestHelper.convertToRelative(TinkerGraphTest.class,
@@ -649,6 +1512,118 @@ public class TinkerGraphTest {
         }
     }
 
+    @Test
+    public void shouldExecuteTraversalsInParallelWithParallelStrategy() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Random random = new Random(12345l);
+        final List<Vertex> vertices = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            vertices.add(graph.addVertex(T.label, 0 == i % 3 ? "person" : "software", "name", "v" + i, "age", i % 50));
+        }
+        for (int i = 0; i < 5000; i++) {
+            vertices.get(random.nextInt(vertices.size())).addEdge("knows", vertices.get(random.nextInt(vertices.size())), "weight", random.nextDouble());
+        }
+        final GraphTraversalSource parallel = graph.traversal().withStrategies(ParallelStrategy.build().threads(4).create());
+
+        final List<Function<GraphTraversalSource, GraphTraversal<?, ?>>> traversals = Arrays.asList(
+                g -> g.V().out().out().count(),
+                g -> g.V().hasLabel("person").out().groupCount().by(T.label),
+                g -> g.V().out().out().values("age").sum(),
+                g -> g.V().both().group().by("age").by(__.count()),
+                g -> g.V().as("a").out().values("name").order().limit(25),
+                g -> g.V().as("a").out().has("age", P.lt(10)).order().by("name").by(__.select("a").by("name")).select("a").by("name"),
+                g -> g.E().has("weight", P.gt(0.5d)).count(),
+                g -> g.V().values("age").mean(),
+                g -> g.V().has("age", 100).count());
+        for (final Function<GraphTraversalSource, GraphTraversal<?, ?>> traversal : traversals) {
+            final GraphTraversal<?, ?> parallelTraversal = traversal.apply(parallel);
+            assertEquals(traversal.apply(graph.traversal()).toList(), parallelTraversal.toList());
+            assertTrue(parallelTraversal.asAdmin().getStartStep() instanceof ParallelStep);
+        }
+    }
+
+    @Test
+    public void shouldGiveClonesOfParallelTraversalsElementsOfTheirOwn() {
+        final TinkerGraph graph = TinkerGraph.open();
+        for (int i = 0; i < 1000; i++) {
+            graph.addVertex(T.label, "person", "name", "v" + i, "age", i % 50);
+        }
+        final GraphTraversal<Vertex, Long> traversal = graph.traversal().withStrategies(ParallelStrategy.build().threads(4).create()).V().has("age", 10).count();
+        assertEquals(Long.valueOf(20), traversal.next());
+
+        // the graph step of the clone reads its own has containers rather than those of the executed traversal
+        final Traversal.Admin<Vertex, Long> clone = traversal.asAdmin().clone();
+        final TinkerGraphStep<?, ?> graphStep = (TinkerGraphStep<?, ?>) ((ParallelStep<?, ?>) clone.getStartStep()).getParallelTraversal().getStartStep();
+        graphStep.addHasContainer(new HasContainer("name", P.eq("v10")));
+        assertEquals(Long.valueOf(1), clone.next());
+        traversal.asAdmin().reset();
+        assertEquals(Long.valueOf(20), traversal.next());
+    }
+
+    @Test
+    public void shouldInstantiateTraversalTemplateForOtherBindings() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        graph.createIndex("name", Vertex.class);
+        final GraphTraversalSource g = graph.traversal();
+        final Bindings b = Bindings.instance();
+
+        final Bytecode bytecode = TraversalTemplate.prepare(g.V().has("person", "name", b.of("name", "marko")).out().values("name").asAdmin().getBytecode());
+        final Traversal.Admin<?, ?> traversal = JavaTranslator.of(g).translate(bytecode);
+        traversal.applyStrategies();
+        final TraversalTemplate template = TraversalTemplate.of(bytecode, traversal);
+        assertTrue(template.isRebindable());
+        assertEquals(Arrays.asList("vadas", "josh", "lop"), traversal.toList());
+
+        final Bytecode peter = g.V().has("person", "name", b.of("name", "peter")).out().values("name").asAdmin().getBytecode();
+        final Traversal.Admin<?, ?> compiled = JavaTranslator.of(g).translate(peter);
+        compiled.applyStrategies();
+        template.verify(peter, compiled);
+        assertTrue(template.isVerified());
+
+        assertEquals(Collections.singletonList("lop"), template.instantiate(peter, graph).get().toList());
+        assertEquals(Arrays.asList("ripple", "lop"), template.instantiate(
+                g.V().has("person", "name", b.of("name", "josh")).out().values("name").asAdmin().getBytecode(), graph).get().toList());
+        assertEquals(Arrays.asList("vadas", "josh", "lop"), template.instantiate(
+                g.V().has("person", "name", b.of("name", "marko")).out().values("name").asAdmin().getBytecode(), graph).get().toList());
+
+        final Bytecode ids = TraversalTemplate.prepare(g.V(b.of("id", 1)).out().values("name").asAdmin().getBytecode());
+        final Traversal.Admin<?, ?> idTraversal = JavaTranslator.of(g).translate(ids);
+        idTraversal.applyStrategies();
+        final TraversalTemplate idTemplate = TraversalTemplate.of(ids, idTraversal);
+        final Bytecode four = g.V(b.of("id", 4)).out().values("name").asAdmin().getBytecode();
+        final Traversal.Admin<?, ?> compiledFour = JavaTranslator.of(g).translate(four);
+        compiledFour.applyStrategies();
+        idTemplate.verify(four, compiledFour);
+        assertEquals(Collections.singletonList("lop"), idTemplate.instantiate(
+                g.V(b.of("id", 6)).out().values("name").asAdmin().getBytecode(), graph).get().toList());
+    }
+
+    @Test
+    public void shouldExecutePreparedTraversalForOtherBindings() throws Exception {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final GraphTraversalSource g = graph.traversal();
+        final Bindings b = Bindings.instance();
+        final PreparedTraversal<Vertex, Object> prepared = g.prepare(g.V(b.of("id", 1)).out().has("age", P.gt(20)).values("name"));
+        for (final Object id : g.V().id().toList()) {
+            assertEquals(g.V(id).out().has("age", P.gt(20)).values("name").toList(), prepared.toList("id", id));
+        }
+        assertEquals(1, prepared.getPoolSize());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<List<Object>>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                final int id = 1 + i % 6;
+                futures.add(executor.submit(() -> prepared.toList("id", id)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals(g.V(1 + i % 6).out().has("age", P.gt(20)).values("name").toList(), futures.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     public static class CustomClassResolverSupplier implements Supplier<ClassResolver> {
         @Override
         public ClassResolver get() {
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TinkerLongElementMapTest {
+
+    @Test
+    public void shouldPutGetAndRemove() {
+        final Map<Object, String> map = new TinkerLongElementMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put(1L, "a"));
+        assertNull(map.put(0L, "zero"));
+        assertNull(map.put(-1L, "negative"));
+        assertEquals("a", map.put(1L, "b"));
+        assertEquals(3, map.size());
+
+        assertEquals("b", map.get(1L));
+        assertEquals("zero", map.get(0L));
+        assertEquals("negative", map.get(-1L));
+        assertNull(map.get(2L));
+        assertNull(map.get(1));
+        assertNull(map.get("1"));
+
+        assertEquals("b", map.remove(1L));
+        assertNull(map.remove(1L));
+        assertFalse(map.containsKey(1L));
+        assertEquals(2, map.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowNonLongKeys() {
+        new TinkerLongElementMap<String>().put(1, "a");
+    }
+
+    @Test
+    public void shouldGrowAndReuseRemovedSlots() {
+        final Map<Object, Long> map = new TinkerLongElementMap<>();
+        for (long i = 0; i < 100000; i++) {
+            map.put(i, i);
+        }
+        assertEquals(100000, map.size());
+
+        for (long i = 0; i < 100000; i += 2) {
+            map.remove(i);
+        }
+        assertEquals(50000, map.size());
+
+        for (long i = 100000; i < 150000; i++) {
+            map.put(i, i);
+        }
+        assertEquals(100000, map.size());
+
+        for (long i = 0; i < 150000; i++) {
+            if (i < 100000 && i % 2 == 0)
+                assertNull(map.get(i));
+            else
+                assertEquals(Long.valueOf(i), map.get(i));
+        }
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1L));
+    }
+
+    @Test
+    public void shouldRemoveWhileIterating() {
+        final Map<Object, Long> map = new TinkerLongElementMap<>();
+        for (long i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+
+        final Set<Long> seen = new HashSet<>();
+        final Iterator<Long> itty = map.values().iterator();
+        while (itty.hasNext()) {
+            final Long value = itty.next();
+            seen.add(value);
+            map.remove(value);
+        }
+
+        assertEquals(1000, seen.size());
+        assertTrue(map.isEmpty());
+        assertFalse(map.values().iterator().hasNext());
+    }
+
+    @Test
+    public void shouldOnlyReturnMatchingValuesToConcurrentReaders() throws Exception {
+        final Map<Object, Long> map = new TinkerLongElementMap<>();
+        for (long i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+        final AtomicBoolean done = new AtomicBoolean(false);
+        final AtomicReference<String> failure = new AtomicReference<>();
+        final List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < 2; r++) {
+            final Thread reader = new Thread(() -> {
+                final Random random = new Random();
+                while (!done.get() && null == failure.get()) {
+                    final long stable = random.nextInt(1000);
+                    if (!Long.valueOf(stable).equals(map.get(stable)))
+                        failure.set("missed " + stable);
+                    final long churned = 1000 + random.nextInt(1000);
+                    final Long value = map.get(churned);
+                    if (null != value && value != churned)
+                        failure.set("got " + value + " for " + churned);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        // removals leave tombstones that later additions reuse and growth rehashes the table
+        for (int round = 0; round < 200; round++) {
+            for (long i = 1000; i < 2000; i++) {
+                map.put(i, i);
+            }
+            for (long i = 1000; i < 2000; i++) {
+                map.remove(i);
+            }
+        }
+        done.set(true);
+        for (final Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(failure.get());
+        assertEquals(1000, map.size());
+    }
+
+    @Test
+    public void shouldUseLongElementStoreForLongIdManager() {
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_VERTEX_ID_MANAGER, TinkerGraph.DefaultIdManager.LONG.name());
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_EDGE_ID_MANAGER, TinkerGraph.DefaultIdManager.LONG.name());
+        final TinkerGraph graph = TinkerGraph.open(conf);
+        assertTrue(TinkerHelper.getVertices(graph) instanceof TinkerLongElementMap);
+        assertTrue(TinkerHelper.getEdges(graph) instanceof TinkerLongElementMap);
+
+        final GraphTraversalSource g = graph.traversal();
+        for (int i = 0; i < 100; i++) {
+            g.addV().property("i", i).as("a").addV().addE("knows").from("a").iterate();
+        }
+        assertEquals(200, g.V().count().next().intValue());
+        assertEquals(100, g.E().count().next().intValue());
+
+        final Vertex v = g.V().has("i", 50).next();
+        assertEquals(v, g.V(((Long) v.id()).intValue()).next());
+        assertEquals(v, g.V(v.id().toString()).next());
+
+        g.V().drop().iterate();
+        assertEquals(0, g.V().count().next().intValue());
+        assertEquals(0, g.E().count().next().intValue());
+    }
+}